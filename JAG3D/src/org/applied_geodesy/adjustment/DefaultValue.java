@@ -31,11 +31,19 @@ public class DefaultValue {
 	private final static int MAXIMUM_ITERATIONS                 = 10000;
 	private final static int ITERATIONS                         = 50;
 	private final static int PRINCIPAL_COMPONENTS               = 1;
+	private final static int NUMBER_OF_THREADS                  = 1;
 	private final static double ROBUST_ESTIMATION_LIMIT         = 3.5;
 	private final static double CONFIDENCE_LEVEL                = 1.0 - DefaultTestStatisticValue.getProbabilityValue();
 	private final static EstimationType ESTIMATION_TYPE         = EstimationType.L2NORM;
+	private final static NormalEquationSolverType NORMAL_EQUATION_SOLVER = NormalEquationSolverType.DENSE;
+	private final static LinearAlgebraBackendType LINEAR_ALGEBRA_BACKEND = LinearAlgebraBackendType.AUTO;
 	private final static boolean APPLY_VARIANCE_OF_UNIT_WEIGHT  = Boolean.TRUE;
 	private final static boolean EXCLUDE_UNDERDETERMINED_POINTS = Boolean.FALSE;
+	private final static boolean DETERMINISTIC_ASSEMBLY         = Boolean.TRUE;
+	private final static boolean SELECTED_INVERSION             = Boolean.FALSE;
+	private final static boolean WARM_START                     = Boolean.FALSE;
+	private final static boolean REUSE_FACTORIZATION            = Boolean.TRUE;
+	private final static boolean STREAM_RESULTS                 = Boolean.FALSE;
 
 	private final static Properties PROPERTIES = new Properties();
 	
@@ -69,12 +77,30 @@ public class DefaultValue {
 		return value != null ? value : ESTIMATION_TYPE;
 	}
 	
+	public static NormalEquationSolverType getNormalEquationSolverType() {
+		NormalEquationSolverType value = null;
+		try { value = NormalEquationSolverType.valueOf(PROPERTIES.getProperty("NORMAL_EQUATION_SOLVER")); } catch (Exception e) {}
+		return value != null ? value : NORMAL_EQUATION_SOLVER;
+	}
+	
+	public static LinearAlgebraBackendType getLinearAlgebraBackendType() {
+		LinearAlgebraBackendType value = null;
+		try { value = LinearAlgebraBackendType.valueOf(PROPERTIES.getProperty("LINEAR_ALGEBRA_BACKEND")); } catch (Exception e) {}
+		return value != null ? value : LINEAR_ALGEBRA_BACKEND;
+	}
+	
 	public static int getNumberOfPrincipalComponents() {
 		int value = -1;
 		try { value = Integer.parseInt(PROPERTIES.getProperty("PRINCIPAL_COMPONENTS")); } catch (Exception e) {}
 		return value >= 0 ? value : PRINCIPAL_COMPONENTS;
 	}
 	
+	public static int getNumberOfThreads() {
+		int value = -1;
+		try { value = Integer.parseInt(PROPERTIES.getProperty("NUMBER_OF_THREADS")); } catch (Exception e) {}
+		return value > 0 ? value : NUMBER_OF_THREADS;
+	}
+	
 	public static int getNumberOfIterations() {
 		int value = -1;
 		try { value = Integer.parseInt(PROPERTIES.getProperty("ITERATIONS")); } catch (Exception e) {}
@@ -105,6 +131,36 @@ public class DefaultValue {
 		return value;
 	}
 	
+	public static boolean isDeterministicAssembly() {
+		boolean value = DETERMINISTIC_ASSEMBLY;
+		try { value = PROPERTIES.getProperty("DETERMINISTIC_ASSEMBLY") != null && PROPERTIES.getProperty("DETERMINISTIC_ASSEMBLY").equalsIgnoreCase("FALSE") ? Boolean.FALSE : Boolean.TRUE; } catch (Exception e) {}
+		return value;
+	}
+	
+	public static boolean isSelectedInversion() {
+		boolean value = SELECTED_INVERSION;
+		try { value = PROPERTIES.getProperty("SELECTED_INVERSION") != null && !PROPERTIES.getProperty("SELECTED_INVERSION").equalsIgnoreCase("FALSE") ? Boolean.TRUE : Boolean.FALSE; } catch (Exception e) {}
+		return value;
+	}
+	
+	public static boolean isWarmStart() {
+		boolean value = WARM_START;
+		try { value = PROPERTIES.getProperty("WARM_START") != null && !PROPERTIES.getProperty("WARM_START").equalsIgnoreCase("FALSE") ? Boolean.TRUE : Boolean.FALSE; } catch (Exception e) {}
+		return value;
+	}
+	
+	public static boolean isReuseFactorization() {
+		boolean value = REUSE_FACTORIZATION;
+		try { value = PROPERTIES.getProperty("REUSE_FACTORIZATION") != null && PROPERTIES.getProperty("REUSE_FACTORIZATION").equalsIgnoreCase("FALSE") ? Boolean.FALSE : Boolean.TRUE; } catch (Exception e) {}
+		return value;
+	}
+	
+	public static boolean isStreamResults() {
+		boolean value = STREAM_RESULTS;
+		try { value = PROPERTIES.getProperty("STREAM_RESULTS") != null && !PROPERTIES.getProperty("STREAM_RESULTS").equalsIgnoreCase("FALSE") ? Boolean.TRUE : Boolean.FALSE; } catch (Exception e) {}
+		return value;
+	}
+	
 	public static double getConfidenceLevel() {
 		double value = -1;
 		try { value = Double.parseDouble(PROPERTIES.getProperty("CONFIDENCE_LEVEL")); } catch (Exception e) {}
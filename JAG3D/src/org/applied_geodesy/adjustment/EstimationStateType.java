@@ -32,6 +32,7 @@ public enum EstimationStateType {
 	INVERT_NORMAL_EQUATION_MATRIX(0),
 	EXPORT_ADJUSTMENT_RESULTS(0),
 	UNSCENTED_TRANSFORMATION_STEP(0),
+	LOAD_NETWORK_MODEL(0),
 	INTERRUPT(-1),
 	SINGULAR_MATRIX(-2),
 	ROBUST_ESTIMATION_FAILED(-3),
@@ -0,0 +1,135 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.adjustment;
+
+import com.github.fommil.netlib.ARPACK;
+import com.github.fommil.netlib.BLAS;
+import com.github.fommil.netlib.F2jLAPACK;
+import com.github.fommil.netlib.LAPACK;
+
+/**
+ * Legt die Implementierung der Routinen aus BLAS, LAPACK und ARPACK fest, die von MTJ und <code>MathExtension</code> verwendet wird.
+ * 
+ * <ul>
+ * <li><code>NATIVE</code>: systemweit installierte Netlib-Bibliotheken (bzw. die Referenzimplementierung), sofern diese geladen werden koennen, sonst F2J</li>
+ * <li><code>JAVA</code>: F2J fuer BLAS, LAPACK und ARPACK; die Zerlegung bzw. Inversion symmetrischer gepackter Matrizen erfolgt durch <code>PackedLDLSolver</code></li>
+ * <li><code>F2J</code>: ausschliesslich die aus Fortran uebersetzten Routinen (F2J)</li>
+ * <li><code>AUTO</code>: <code>NATIVE</code>, sofern verfuegbar, sonst <code>JAVA</code></li>
+ * </ul>
+ * 
+ * Netlib-java bestimmt die Implementierung einmalig beim ersten Zugriff ueber System-Properties. Die Methode 
+ * <code>initialize()</code> ist daher vor der ersten Matrixoperation aufzurufen, bspw. zu Beginn von <code>main()</code>.
+ * Explizit gesetzte System-Properties (<code>-Dcom.github.fommil.netlib.LAPACK=...</code>) bleiben im Modus 
+ * <code>AUTO</code> bzw. <code>NATIVE</code> unberuehrt.
+ *
+ */
+public final class LinearAlgebraBackend {
+	private final static String NETLIB_PACKAGE = "com.github.fommil.netlib.";
+	private final static String NETLIB_LIBRARIES[] = new String[] { "BLAS", "LAPACK", "ARPACK" };
+	
+	private static LinearAlgebraBackendType requestedBackendType = null;
+	private static LinearAlgebraBackendType activeBackendType = null;
+	
+	private LinearAlgebraBackend() {}
+	
+	/**
+	 * Waehlt das Backend gemaess <code>DefaultValue.getLinearAlgebraBackendType()</code>
+	 */
+	public static void initialize() {
+		initialize(DefaultValue.getLinearAlgebraBackendType());
+	}
+	
+	/**
+	 * Waehlt das Backend <code>backendType</code>. Wurde bereits ein Backend aktiviert, bleibt der Aufruf ohne Wirkung.
+	 * 
+	 * @param backendType
+	 */
+	public static synchronized void initialize(LinearAlgebraBackendType backendType) {
+		if (activeBackendType != null)
+			return;
+
+		requestedBackendType = backendType == null ? LinearAlgebraBackendType.AUTO : backendType;
+
+		for (String library : NETLIB_LIBRARIES) {
+			String key = NETLIB_PACKAGE + library;
+			switch(requestedBackendType) {
+			case JAVA:
+			case F2J:
+				System.setProperty(key, NETLIB_PACKAGE + "F2j" + library);
+				break;
+			default:
+				// Reihenfolge der Kandidaten entspricht der Voreinstellung von netlib-java
+				if (System.getProperty(key) == null)
+					System.setProperty(key, NETLIB_PACKAGE + "NativeSystem" + library + "," + NETLIB_PACKAGE + "NativeRef" + library + "," + NETLIB_PACKAGE + "F2j" + library);
+				break;
+			}
+		}
+	}
+	
+	/**
+	 * Liefert das aktive Backend. Sofern <code>initialize()</code> noch nicht aufgerufen wurde, 
+	 * erfolgt die Initialisierung mit den Voreinstellungen.
+	 * 
+	 * @return backendType
+	 */
+	public static synchronized LinearAlgebraBackendType getBackendType() {
+		if (activeBackendType == null) {
+			if (requestedBackendType == null)
+				initialize();
+
+			boolean isNative = !(LAPACK.getInstance() instanceof F2jLAPACK);
+			switch(requestedBackendType) {
+			case NATIVE:
+				activeBackendType = isNative ? LinearAlgebraBackendType.NATIVE : LinearAlgebraBackendType.F2J;
+				break;
+			case AUTO:
+				activeBackendType = isNative ? LinearAlgebraBackendType.NATIVE : LinearAlgebraBackendType.JAVA;
+				break;
+			default:
+				activeBackendType = requestedBackendType;
+				break;
+			}
+		}
+		return activeBackendType;
+	}
+	
+	/**
+	 * Liefert <code>true</code>, wenn symmetrische gepackte Matrizen mittels <code>PackedLDLSolver</code> zerlegt werden
+	 * @return isJava
+	 */
+	static boolean isJavaFactorization() {
+		return getBackendType() == LinearAlgebraBackendType.JAVA;
+	}
+	
+	/**
+	 * Liefert eine Beschreibung der aktiven Implementierungen, bspw. zur Ausgabe im Protokoll
+	 * 
+	 * @return description
+	 */
+	public static String getDescription() {
+		LinearAlgebraBackendType backendType = getBackendType();
+		return backendType + " (BLAS: " + BLAS.getInstance().getClass().getSimpleName() + 
+				", LAPACK: " + LAPACK.getInstance().getClass().getSimpleName() + 
+				", ARPACK: " + ARPACK.getInstance().getClass().getSimpleName() + 
+				", packed LDL: " + (backendType == LinearAlgebraBackendType.JAVA ? PackedLDLSolver.class.getSimpleName() : LAPACK.getInstance().getClass().getSimpleName()) + ")";
+	}
+}
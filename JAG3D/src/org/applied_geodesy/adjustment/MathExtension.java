@@ -21,8 +21,12 @@
 
 package org.applied_geodesy.adjustment;
 
+import java.util.Arrays;
+
+import org.netlib.util.doubleW;
 import org.netlib.util.intW;
 
+import com.github.fommil.netlib.ARPACK;
 import com.github.fommil.netlib.LAPACK;
 
 import no.uib.cipr.matrix.DenseMatrix;
@@ -239,6 +243,11 @@ public final class MathExtension {
 
 		double[] nd = n.getData();
 		double Nd[] = N.getData();
+		
+		// Zerlegung ohne Pivotisierung in Java; bei verschwindendem Pivotelement erfolgt die Loesung mittels LAPACK
+		if (LinearAlgebraBackend.isJavaFactorization() && PackedLDLSolver.solve(Nd, nd, numRows, invert))
+			return;
+		
 		int[] ipiv = new int[numRows];
 
 		intW info = new intW(0);
@@ -278,6 +287,54 @@ public final class MathExtension {
 		solve(N, n, N.numRows(), invert);
 	}
 
+	/**
+	 * Zerlegt die symmetrische Matrix <code>N = U*D*U'</code> (Bunch-Kaufman), sodass Gleichungssysteme mit verschiedenen
+	 * Absolutgliedvektoren mittels <code>solve(N, ipiv, n)</code> ohne erneute Zerlegung geloest werden koennen. 
+	 * <code>N</code> wird hierbei mit der Zerlegung ueberschrieben.
+	 * 
+	 * @param N
+	 * @return ipiv Pivotisierung der Zerlegung
+	 * @throws MatrixSingularException
+	 * @throws IllegalArgumentException
+	 */
+	public static int[] factorize(UpperSymmPackMatrix N) throws MatrixSingularException, IllegalArgumentException {
+		final String UPLO = "U";
+		int numRows = N.numRows();
+		int[] ipiv = new int[numRows];
+		intW info = new intW(0);
+
+		// http://www.netlib.org/lapack/double/dsptrf.f
+		LAPACK.getInstance().dsptrf(UPLO, numRows, N.getData(), ipiv, info);
+
+		if (info.val > 0)
+			throw new MatrixSingularException();
+		else if (info.val < 0)
+			throw new IllegalArgumentException();
+		
+		return ipiv;
+	}
+	
+	/**
+	 * Loest das Gleichungssystem <code>N * x = n</code> mit Hilfe der Zerlegung aus <code>factorize(N)</code>. Der Vektor n wird 
+	 * hierbei mit dem Loesungsvektor <code>x</code> ueberschrieben, die Zerlegung bleibt unveraendert.
+	 * 
+	 * @param N Zerlegung von N
+	 * @param ipiv Pivotisierung der Zerlegung
+	 * @param n
+	 * @throws IllegalArgumentException
+	 */
+	public static void solve(UpperSymmPackMatrix N, int ipiv[], DenseVector n) throws IllegalArgumentException {
+		final String UPLO = "U";
+		int numRows = N.numRows();
+		intW info = new intW(0);
+
+		// http://www.netlib.org/lapack/double/dsptrs.f
+		LAPACK.getInstance().dsptrs(UPLO, numRows, 1, N.getData(), ipiv, n.getData(), Math.max(1, numRows), info);
+
+		if (info.val < 0)
+			throw new IllegalArgumentException();
+	}
+
 	/**
 	 * Liefert die Inverse einer symmetrischen oberen Dreiecksmatrix mittels <code>N = LDL'</code> Zerlegung. <code>N</code> wird hierbei ueberschrieben.
 	 * 
@@ -299,9 +356,14 @@ public final class MathExtension {
 	 */
 	public static void inv(UpperSymmPackMatrix N, int numRows) throws MatrixSingularException, IllegalArgumentException {
 		final String UPLO = "U";
+		double qd[] = N.getData();
+		
+		// Zerlegung ohne Pivotisierung in Java; bei verschwindendem Pivotelement erfolgt die Inversion mittels LAPACK
+		if (LinearAlgebraBackend.isJavaFactorization() && PackedLDLSolver.inv(qd, numRows))
+			return;
+		
 		int[] ipiv = new int[numRows];
 		intW info = new intW(0);
-		double qd[] = N.getData();
 
 		// http://www.netlib.org/lapack/double/dsptrf.f
 		LAPACK.getInstance().dsptrf(UPLO, numRows, qd, ipiv, info);
@@ -391,6 +453,126 @@ public final class MathExtension {
 		};
 	}
 
+	/**
+	 * Bestimmt die <code>nev</code> groessten Eigenwerte einer symmetrischen oberen Dreiecksmatrix <code>N</code> mit dem 
+	 * implizit neugestarteten Lanczos-Verfahren (ARPACK dsaupd/dseupd). Im Gegensatz zu <code>eig()</code> wird <code>N</code> 
+	 * nicht zerlegt, sondern ausschliesslich in Matrix-Vektor-Produkten verwendet und bleibt somit unveraendert. Durch die Flag 
+	 * <code>n</code> kann die Eigenwert/-vektorbestimmung auf die ersten <code>n</code>-Elemente begrenzt werden. Ist die Anzahl 
+	 * der benoetigten Lanczos-Vektoren nicht deutlich kleiner als <code>n</code>, wird <code>eig()</code> verwendet und <code>N</code> 
+	 * hierbei ueberschrieben.
+	 * 
+	 * Die Rueckgabe entspricht <code>eig()</code>, d.h., die Eigenwerte <code>eval</code> werden in aufsteigender Reihenfolge als 
+	 * UpperSymmBandMatrix gespeichert, die Eigenvektoren <code>evec</code> in einer DenseMatrix.
+	 * 
+	 * @param N
+	 * @param n
+	 * @param nev Anzahl der groessten Eigenwerte
+	 * @param vectors
+	 * @return {eval, evec}
+	 * @throws NotConvergedException
+	 * @throws IllegalArgumentException
+	 */
+	public static Matrix[] eigs(UpperSymmPackMatrix N, int n, int nev, boolean vectors) throws NotConvergedException, IllegalArgumentException {
+		n = n < 0 ? N.numRows() : n;
+		if (nev < 1 || nev > n)
+			throw new IllegalArgumentException("Error, number of eigenvalues must be 1 <= nev <= n: nev = " + nev + ", n = " + n);
+
+		// Anzahl der Lanczos-Vektoren, nev < ncv <= n
+		int ncv = Math.min(n, Math.max(2 * nev + 1, 20));
+		if (2 * ncv > n)
+			return eig(N, n, n - nev + 1, n, vectors);
+
+		final String bmat  = "I";
+		final String which = "LA";
+
+		double Nd[] = N.getData();
+		intW ido = new intW(0);
+		doubleW tol = new doubleW(0.0); // Maschinengenauigkeit
+		double resid[] = new double[n];
+		double v[] = new double[n * ncv];
+		int iparam[] = new int[11];
+		int ipntr[] = new int[11];
+		double workd[] = new double[3 * n];
+		int lworkl = ncv * (ncv + 8);
+		double workl[] = new double[lworkl];
+		intW info = new intW(0);
+
+		iparam[0] = 1;               // exakte Shifts
+		iparam[2] = Math.max(300, n); // max. Anzahl an Iterationen
+		iparam[6] = 1;               // Standardeigenwertproblem N*x = lambda*x
+
+		// Reverse Communication: ARPACK fordert Produkte y = N*x an
+		do {
+			ARPACK.getInstance().dsaupd(ido, bmat, n, which, nev, tol, resid, ncv, v, n, iparam, ipntr, workd, workl, lworkl, info);
+			if (ido.val == -1 || ido.val == 1)
+				symv(Nd, n, workd, ipntr[0] - 1, workd, ipntr[1] - 1);
+		}
+		while (ido.val == -1 || ido.val == 1);
+
+		if (info.val == 1 || info.val == 3)
+			throw new NotConvergedException(NotConvergedException.Reason.Iterations);
+		else if (info.val != 0)
+			throw new IllegalArgumentException("Error, invalid or wrong argument for function call dsaupd() " + info.val + "!");
+
+		boolean select[] = new boolean[ncv];
+		double d[] = new double[nev];
+		double z[] = new double[n * nev];
+		intW nconv = new intW(nev);
+
+		ARPACK.getInstance().dseupd(vectors, "A", select, d, z, n, 0.0, bmat, n, which, nconv, tol.val, resid, ncv, v, n, iparam, ipntr, workd, workl, lworkl, info);
+
+		if (info.val != 0)
+			throw new IllegalArgumentException("Error, invalid or wrong argument for function call dseupd() " + info.val + "!");
+
+		// Anzahl der konvergierten Eigenwerte
+		int m = Math.min(nev, iparam[4]);
+		if (m < 1)
+			throw new NotConvergedException(NotConvergedException.Reason.Iterations);
+
+		// Sortiere aufsteigend analog zu dspevx
+		Integer idx[] = new Integer[m];
+		for (int i = 0; i < m; i++)
+			idx[i] = i;
+		Arrays.sort(idx, (i, j) -> Double.compare(d[i], d[j]));
+
+		UpperSymmBandMatrix eval = new UpperSymmBandMatrix(m, 0);
+		DenseMatrix evec = vectors ? new DenseMatrix(n, m) : new DenseMatrix(0, 0);
+		for (int i = 0; i < m; i++) {
+			eval.set(i, i, d[idx[i]]);
+			if (vectors)
+				System.arraycopy(z, idx[i] * n, evec.getData(), i * n, n);
+		}
+
+		return new Matrix[] {
+				eval, evec
+		};
+	}
+
+	/**
+	 * Bestimmt <code>y = N*x</code> fuer die ersten <code>n</code> Zeilen bzw. Spalten einer symmetrischen oberen Dreiecksmatrix,
+	 * die im gepackten Format vorliegt
+	 * 
+	 * @param Nd
+	 * @param n
+	 * @param x
+	 * @param offsetX
+	 * @param y
+	 * @param offsetY
+	 */
+	private static void symv(double Nd[], int n, double x[], int offsetX, double y[], int offsetY) {
+		Arrays.fill(y, offsetY, offsetY + n, 0.0);
+		for (int j = 0, cj = 0; j < n; cj += ++j) {
+			double xj = x[offsetX + j];
+			double s = Nd[cj + j] * xj;
+			for (int i = 0; i < j; i++) {
+				double nij = Nd[cj + i];
+				s += nij * x[offsetX + i];
+				y[offsetY + i] += xj * nij;
+			}
+			y[offsetY + j] += s;
+		}
+	}
+
 	/** 
 	 * Druckt eine Matrix auf der Konsole aus
 	 * @param M
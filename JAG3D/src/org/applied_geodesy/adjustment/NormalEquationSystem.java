@@ -27,6 +27,7 @@ import no.uib.cipr.matrix.UpperSymmPackMatrix;
 
 public class NormalEquationSystem {
 	private final UpperSymmPackMatrix N;
+	private final UpperSymmSparseMatrix sparseN;
 	private final DenseVector n;
 	private UpperSymmBandMatrix V;
 	
@@ -36,9 +37,17 @@ public class NormalEquationSystem {
 	
 	public NormalEquationSystem(UpperSymmPackMatrix N, DenseVector n, UpperSymmBandMatrix V) {
 		this.N = N;
+		this.sparseN = null;
 		this.n = n;
 		this.V = V;
 	}
+	
+	public NormalEquationSystem(UpperSymmSparseMatrix N, DenseVector n) {
+		this.N = null;
+		this.sparseN = N;
+		this.n = n;
+		this.V = null;
+	}
 	  
 	/**
 	 * Liefert die Normalgleichung 
@@ -50,6 +59,24 @@ public class NormalEquationSystem {
 	public UpperSymmPackMatrix getMatrix() {
 		return this.N;
 	}
+	
+	/**
+	 * Liefert die duenn besetzte Normalgleichung, sofern
+	 * diese nicht vollbesetzt aufgestellt wurde, andernfalls <code>null</code>
+	 * 
+	 * @return N
+	 */
+	public UpperSymmSparseMatrix getSparseMatrix() {
+		return this.sparseN;
+	}
+	
+	/**
+	 * Liefert <code>true</code>, wenn die Normalgleichung duenn besetzt vorliegt
+	 * @return sparse
+	 */
+	public boolean isSparse() {
+		return this.sparseN != null;
+	}
 	 
 	/**
 	 * Liefert den n-Vektor
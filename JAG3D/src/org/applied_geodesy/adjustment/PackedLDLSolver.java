@@ -0,0 +1,267 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.adjustment;
+
+/**
+ * Zerlegung <code>N = U'*D*U</code> einer symmetrischen Matrix, die im gepackten Format der oberen Dreiecksmatrix 
+ * (spaltenweise, vgl. <code>UpperSymmPackMatrix</code>) vorliegt. U ist eine obere Dreiecksmatrix mit Einsen auf der 
+ * Hauptdiagonalen, D eine Diagonalmatrix. 
+ * 
+ * Die Zerlegung erfolgt spaltenorientiert (left-looking) in Bloecken von <code>BLOCK_SIZE</code> Spalten. Die inneren 
+ * Schleifen durchlaufen ausschliesslich zusammenhaengende Abschnitte einer Spalte des gepackten Feldes, sodass die Daten 
+ * einer Spalte fuer alle Spalten des Blocks im Cache verbleiben und die Schleifen vom JIT-Compiler vektorisiert werden koennen.
+ * 
+ * Im Gegensatz zu dsptrf (Bunch-Kaufman) erfolgt keine Pivotisierung. Tritt ein (numerisch) verschwindendes Pivotelement auf, 
+ * bspw. bei einem geraenderten System mit singulaerer Normalgleichungsmatrix, wird die Berechnung abgebrochen. Die Matrix bleibt 
+ * in diesem Fall unveraendert und der Aufrufer kann auf die LAPACK-Routinen zurueckgreifen. Hierzu wird waehrend der Zerlegung 
+ * eine Kopie der Matrix vorgehalten.
+ *
+ */
+final class PackedLDLSolver {
+	private final static int BLOCK_SIZE = 64;
+	private final static double PIVOT_TOLERANCE = 1.0E6 * Constant.EPS;
+	
+	private PackedLDLSolver() {}
+	
+	/**
+	 * Loest das Gleichungssystem <code>N * x = n</code>. Der Vektor n wird hierbei mit dem Loesungsvektor <code>x</code> ueberschrieben. 
+	 * Wenn <code>invert = true</code>, dann wird <code>N</code> mit dessen Inverse ueberschrieben.
+	 * 
+	 * @param N gepackte obere Dreiecksmatrix
+	 * @param n Absolutgliedvektor
+	 * @param numRows Anzahl der zu beruecksichtigenden Zeilen bzw. Spalten
+	 * @param invert
+	 * @return false, wenn die Zerlegung ohne Pivotisierung nicht moeglich ist; <code>N</code> und <code>n</code> bleiben dann unveraendert
+	 */
+	static boolean solve(double N[], double n[], int numRows, boolean invert) {
+		double D[] = factorize(N, numRows);
+		if (D == null)
+			return false;
+		
+		// U'*y = n
+		for (int j = 1; j < numRows; j++)
+			n[j] -= dot(N, index(j), n, 0, j);
+		
+		// z = D^-1 * y
+		for (int j = 0; j < numRows; j++)
+			n[j] /= D[j];
+		
+		// U*x = z
+		for (int j = numRows - 1; j > 0; j--) 
+			axpy(-n[j], N, index(j), n, 0, j);
+		
+		if (invert)
+			invert(N, D, numRows);
+		
+		return true;
+	}
+	
+	/**
+	 * Ueberschreibt <code>N</code> mit dessen Inverse.
+	 * 
+	 * @param N gepackte obere Dreiecksmatrix
+	 * @param numRows Anzahl der zu beruecksichtigenden Zeilen bzw. Spalten
+	 * @return false, wenn die Zerlegung ohne Pivotisierung nicht moeglich ist; <code>N</code> bleibt dann unveraendert
+	 */
+	static boolean inv(double N[], int numRows) {
+		double D[] = factorize(N, numRows);
+		if (D == null)
+			return false;
+		
+		invert(N, D, numRows);
+		return true;
+	}
+	
+	/**
+	 * Zerlegt <code>N = U'*D*U</code>. U wird oberhalb der Hauptdiagonalen in N abgelegt, D auf der Hauptdiagonalen.
+	 * 
+	 * @param N
+	 * @param numRows
+	 * @return D oder <code>null</code>, wenn ein Pivotelement verschwindet
+	 */
+	private static double[] factorize(double N[], int numRows) {
+		double copy[] = new double[index(numRows)];
+		System.arraycopy(N, 0, copy, 0, copy.length);
+
+		double D[] = new double[numRows];
+		for (int jb = 0; jb < numRows; jb += BLOCK_SIZE) {
+			int je = Math.min(jb + BLOCK_SIZE, numRows);
+			
+			for (int i = 0; i < je; i++) {
+				int ci = index(i);
+				
+				// Spalte i enthaelt V(k,i) = D(k)*U(k,i), k < i; bestimme D(i) und U(k,i)
+				if (i >= jb) {
+					double aii = N[ci + i];
+					double d = aii;
+					for (int k = 0; k < i; k++) {
+						double v = N[ci + k];
+						double u = v / D[k];
+						d -= u * v;
+						N[ci + k] = u;
+					}
+
+					if (!(Math.abs(d) > PIVOT_TOLERANCE * Math.abs(aii)) || Double.isInfinite(d)) {
+						System.arraycopy(copy, 0, N, 0, copy.length);
+						return null;
+					}
+					D[i] = d;
+					N[ci + i] = d;
+				}
+				
+				// V(i,j) = A(i,j) - U(0..i-1,i)' * V(0..i-1,j) fuer die Spalten j > i des Blocks
+				for (int j = Math.max(i + 1, jb); j < je; j++) {
+					int cj = index(j);
+					N[cj + i] -= dot(N, ci, N, cj, i);
+				}
+			}
+		}
+		return D;
+	}
+	
+	/**
+	 * Ueberschreibt die Zerlegung <code>N = U'*D*U</code> mit der Inverse <code>inv(N) = inv(U)*inv(D)*inv(U)'</code>. 
+	 * Die Inverse wird, beginnend mit der letzten Zeile, zeilenweise aus der bereits bestimmten Inverse <code>S</code> des 
+	 * nachfolgenden Blocks ermittelt: <code>inv(N)(k,k+1..n) = -u'*S</code> und <code>inv(N)(k,k) = 1/D(k) + u'*S*u</code>, 
+	 * mit <code>u = U(k,k+1..n)</code>. Die Zeilen werden in Bloecken von <code>BLOCK_SIZE</code> Zeilen verarbeitet, sodass 
+	 * die bereits invertierten Spalten je Block nur einmal aus dem Speicher gelesen werden.
+	 * 
+	 * @param N
+	 * @param D
+	 * @param numRows
+	 */
+	private static void invert(double N[], double D[], int numRows) {
+		double u[][] = new double[Math.min(BLOCK_SIZE, numRows)][numRows];
+		double y[][] = new double[Math.min(BLOCK_SIZE, numRows)][numRows];
+		
+		for (int k1 = numRows - 1; k1 >= 0; k1 -= BLOCK_SIZE) {
+			int k0 = Math.max(0, k1 - BLOCK_SIZE + 1);
+			int from = k1 + 1;
+			
+			// u = U(k,k+1..n) fuer alle Zeilen k des Blocks
+			for (int j = k0 + 1; j < numRows; j++) {
+				int cj = index(j);
+				for (int k = k0; k < Math.min(j, k1 + 1); k++) {
+					u[k - k0][j] = N[cj + k];
+					y[k - k0][j] = 0.0;
+				}
+			}
+			
+			// y = S*u fuer den bereits invertierten Teil nach dem Block
+			for (int j = from; j < numRows; j++) {
+				int cj = index(j);
+				for (int k = k0; k <= k1; k++)
+					symv(N, cj, from, j, u[k - k0], y[k - k0]);
+			}
+			
+			// Zeilenweise Inversion innerhalb des Blocks
+			for (int k = k1; k >= k0; k--) {
+				double uk[] = u[k - k0];
+				double yk[] = y[k - k0];
+				
+				// Anteil der bereits invertierten Zeilen des Blocks
+				for (int j = k + 1; j <= k1; j++)
+					symv(N, index(j), k + 1, j, uk, yk);
+
+				if (k < k1) {
+					for (int j = from; j < numRows; j++) {
+						int cj = index(j);
+						double uj = uk[j];
+						double s = 0.0;
+						for (int i = k + 1; i <= k1; i++) {
+							double sij = N[cj + i];
+							s += sij * uk[i];
+							yk[i] += uj * sij;
+						}
+						yk[j] += s;
+					}
+				}
+				
+				double uy = 0.0;
+				for (int j = k + 1; j < numRows; j++) {
+					N[index(j) + k] = -yk[j];
+					uy += uk[j] * yk[j];
+				}
+				N[index(k) + k] = 1.0 / D[k] + uy;
+			}
+		}
+	}
+	
+	/**
+	 * Beitrag der Spalte <code>j</code> (Zeilen <code>from..j</code>) einer symmetrischen, im oberen Dreieck 
+	 * gespeicherten Matrix <code>S</code> zum Produkt <code>y = S*u</code>
+	 */
+	private static void symv(double S[], int cj, int from, int j, double u[], double y[]) {
+		double uj = u[j];
+		double s0 = S[cj + j] * uj, s1 = 0.0;
+		int i = from;
+		for (; i < j - 1; i += 2) {
+			double sij0 = S[cj + i], sij1 = S[cj + i + 1];
+			s0 += sij0 * u[i];
+			s1 += sij1 * u[i + 1];
+			y[i]     += uj * sij0;
+			y[i + 1] += uj * sij1;
+		}
+		for (; i < j; i++) {
+			double sij = S[cj + i];
+			s0 += sij * u[i];
+			y[i] += uj * sij;
+		}
+		y[j] += s0 + s1;
+	}
+	
+	/**
+	 * Index des ersten Elements der Spalte <code>column</code> im gepackten Feld
+	 * @param column
+	 * @return index
+	 */
+	private static int index(int column) {
+		return (int)((long)column * (column + 1) / 2L);
+	}
+	
+	/**
+	 * Skalarprodukt <code>x(offsetX..offsetX+length-1)' * y(offsetY..offsetY+length-1)</code>
+	 */
+	private static double dot(double x[], int offsetX, double y[], int offsetY, int length) {
+		double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		int k = 0;
+		for (; k < length - 3; k += 4) {
+			s0 += x[offsetX + k]     * y[offsetY + k];
+			s1 += x[offsetX + k + 1] * y[offsetY + k + 1];
+			s2 += x[offsetX + k + 2] * y[offsetY + k + 2];
+			s3 += x[offsetX + k + 3] * y[offsetY + k + 3];
+		}
+		for (; k < length; k++)
+			s0 += x[offsetX + k] * y[offsetY + k];
+		return (s0 + s1) + (s2 + s3);
+	}
+	
+	/**
+	 * <code>y(offsetY..offsetY+length-1) += a * x(offsetX..offsetX+length-1)</code>
+	 */
+	private static void axpy(double a, double x[], int offsetX, double y[], int offsetY, int length) {
+		if (a == 0.0)
+			return;
+		for (int k = 0; k < length; k++)
+			y[offsetY + k] += a * x[offsetX + k];
+	}
+}
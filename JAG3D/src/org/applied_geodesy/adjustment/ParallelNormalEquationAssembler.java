@@ -0,0 +1,218 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.adjustment;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.applied_geodesy.util.concurrent.ParallelTaskExecutor;
+
+import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.Matrix;
+import no.uib.cipr.matrix.UpperSymmPackMatrix;
+
+/**
+ * Stellt die Normalgleichung <code>N = A'*P*A</code> und <code>n = A'*P*w</code> parallel auf. Die Elemente
+ * (Beobachtungen, Punkte, ...) werden hierzu in Abschnitte unterteilt und im gemeinsamen Pool des ParallelTaskExecutor verarbeitet.
+ * Jeder Thread summiert in eine eigene Normalgleichung, die abschliessend zur Gesamtnormalgleichung reduziert wird.
+ * Der Speicherbedarf steigt somit um eine Normalgleichung je zusaetzlichem Thread.
+ *
+ * Im deterministischen Modus ist die Aufteilung fest (ein zusammenhaengender Abschnitt je Thread) und die
+ * Reduktion erfolgt in fester Reihenfolge. Bei gleicher Anzahl an Threads ist das Ergebnis somit bitgenau reproduzierbar;
+ * mit einem Thread ist es identisch zur sequentiellen Aufstellung. Andernfalls werden kleinere Abschnitte dynamisch auf
+ * die Threads verteilt, wodurch sich die Summationsreihenfolge (im Rahmen der Rechengenauigkeit) aendern kann.
+ *
+ */
+public class ParallelNormalEquationAssembler extends ParallelTaskExecutor {
+
+	/**
+	 * Summiert die Beitraege der Elemente <code>[fromIndex, toIndex)</code> zur Normalgleichung auf.
+	 */
+	@FunctionalInterface
+	public interface Accumulator {
+		/**
+		 * @param fromIndex erstes Element (inklusive)
+		 * @param toIndex letztes Element (exklusive)
+		 * @param N Normalgleichungsmatrix
+		 * @param n Absolutgliedvektor
+		 * @return false, wenn die Aufstellung abgebrochen wurde
+		 */
+		public boolean accumulate(int fromIndex, int toIndex, Matrix N, DenseVector n);
+	}
+
+	private boolean deterministic = true;
+
+	public ParallelNormalEquationAssembler() {
+		this(DefaultValue.getNumberOfThreads(), DefaultValue.isDeterministicAssembly());
+	}
+
+	public ParallelNormalEquationAssembler(int numberOfThreads, boolean deterministic) {
+		super(numberOfThreads);
+		this.setDeterministic(deterministic);
+	}
+
+	@Override
+	public void setNumberOfThreads(int numberOfThreads) {
+		super.setNumberOfThreads(numberOfThreads > 0 ? numberOfThreads : DefaultValue.getNumberOfThreads());
+	}
+
+	public boolean isDeterministic() {
+		return this.deterministic;
+	}
+
+	public void setDeterministic(boolean deterministic) {
+		this.deterministic = deterministic;
+	}
+
+	/**
+	 * Summiert die Beitraege der Elemente <code>[0, size)</code> zur Normalgleichung <code>N</code> und <code>n</code> auf.
+	 *
+	 * @param size Anzahl der Elemente
+	 * @param N Normalgleichungsmatrix
+	 * @param n Absolutgliedvektor
+	 * @param accumulator
+	 * @return false, wenn die Aufstellung abgebrochen wurde
+	 */
+	public boolean assemble(int size, Matrix N, DenseVector n, Accumulator accumulator) {
+		int numberOfThreads = Math.min(this.getNumberOfThreads(), size);
+
+		if (numberOfThreads <= 1)
+			return accumulator.accumulate(0, size, N, n);
+
+		if (this.deterministic)
+			return this.assembleDeterministic(size, N, n, accumulator, numberOfThreads);
+
+		return this.assembleDynamic(size, N, n, accumulator, numberOfThreads);
+	}
+
+	private boolean assembleDeterministic(int size, Matrix N, DenseVector n, Accumulator accumulator, int numberOfThreads) {
+		Matrix partialN[] = new Matrix[numberOfThreads];
+		DenseVector partialn[] = new DenseVector[numberOfThreads];
+		List<Callable<Boolean>> tasks = new ArrayList<Callable<Boolean>>(numberOfThreads);
+
+		for (int i = 0; i < numberOfThreads; i++) {
+			// der erste Abschnitt wird direkt in N bzw. n summiert
+			partialN[i] = i == 0 ? N : createEmptyMatrix(N);
+			partialn[i] = i == 0 ? n : new DenseVector(n.size());
+
+			final int fromIndex = (int)((long)size * i / numberOfThreads);
+			final int toIndex   = (int)((long)size * (i + 1) / numberOfThreads);
+			final Matrix M      = partialN[i];
+			final DenseVector m = partialn[i];
+			tasks.add(() -> accumulator.accumulate(fromIndex, toIndex, M, m));
+		}
+
+		if (!this.invokeAll(tasks))
+			return false;
+
+		// Reduktion in fester Reihenfolge
+		for (int i = 1; i < numberOfThreads; i++) {
+			add(N, partialN[i]);
+			n.add(partialn[i]);
+		}
+		return true;
+	}
+
+	private boolean assembleDynamic(int size, Matrix N, DenseVector n, Accumulator accumulator, int numberOfThreads) {
+		int numberOfChunks = Math.min(size, CHUNKS_PER_THREAD * numberOfThreads);
+
+		// Teilnormalgleichungen; ein Abschnitt entnimmt eine freie bzw. legt eine neue an und gibt diese anschliessend wieder frei
+		List<Matrix> partialN = new ArrayList<Matrix>(numberOfThreads);
+		List<DenseVector> partialn = new ArrayList<DenseVector>(numberOfThreads);
+		Deque<Integer> idle = new ArrayDeque<Integer>(numberOfThreads);
+		List<Callable<Boolean>> tasks = new ArrayList<Callable<Boolean>>(numberOfChunks);
+
+		partialN.add(N);
+		partialn.add(n);
+		idle.push(0);
+
+		for (int i = 0; i < numberOfChunks; i++) {
+			final int fromIndex = (int)((long)size * i / numberOfChunks);
+			final int toIndex   = (int)((long)size * (i + 1) / numberOfChunks);
+			tasks.add(() -> {
+				int idx = -1;
+				Matrix M = null;
+				DenseVector m = null;
+				synchronized (idle) {
+					if (idle.isEmpty()) {
+						idx = partialN.size();
+						partialN.add(createEmptyMatrix(N));
+						partialn.add(new DenseVector(n.size()));
+					}
+					else
+						idx = idle.pop();
+					M = partialN.get(idx);
+					m = partialn.get(idx);
+				}
+				try {
+					return accumulator.accumulate(fromIndex, toIndex, M, m);
+				}
+				finally {
+					synchronized (idle) {
+						idle.push(idx);
+					}
+				}
+			});
+		}
+
+		if (!this.invokeAll(tasks))
+			return false;
+
+		for (int i = 1; i < partialN.size(); i++) {
+			add(N, partialN.get(i));
+			n.add(partialn.get(i));
+		}
+		return true;
+	}
+
+	private static Matrix createEmptyMatrix(Matrix N) {
+		if (N instanceof UpperSymmPackMatrix)
+			return new UpperSymmPackMatrix(N.numRows());
+		if (N instanceof UpperSymmSparseMatrix)
+			return new UpperSymmSparseMatrix(N.numRows());
+		return N.copy().zero();
+	}
+
+	private static void add(Matrix N, Matrix M) {
+		if (N instanceof UpperSymmPackMatrix && M instanceof UpperSymmPackMatrix) {
+			double dataN[] = ((UpperSymmPackMatrix)N).getData();
+			double dataM[] = ((UpperSymmPackMatrix)M).getData();
+			for (int i = 0; i < dataN.length; i++)
+				dataN[i] += dataM[i];
+		}
+		else if (M instanceof UpperSymmSparseMatrix) {
+			UpperSymmSparseMatrix S = (UpperSymmSparseMatrix)M;
+			for (int column = 0; column < S.numColumns(); column++) {
+				int rows[] = S.getRowIndices(column);
+				double values[] = S.getValues(column);
+				int used = S.getNumberOfNonZeros(column);
+				for (int p = 0; p < used; p++)
+					N.add(rows[p], column, values[p]);
+			}
+		}
+		else
+			N.add(M);
+	}
+}
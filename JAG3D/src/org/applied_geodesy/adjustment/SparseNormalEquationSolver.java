@@ -0,0 +1,699 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.adjustment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import no.uib.cipr.matrix.DenseMatrix;
+import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.MatrixSingularException;
+import no.uib.cipr.matrix.UpperSymmPackMatrix;
+
+/**
+ * Loest die (geraenderte) Normalgleichung
+ * 
+ * <pre>
+ * N = A'*P*A  R'     n = A'*P*w
+ *     R       0          r
+ * </pre>
+ * 
+ * mittels duenn besetzter <code>LDL'</code>-Zerlegung von <code>A'*P*A</code>. Die Zeilen und Spalten werden 
+ * hierzu mit einem Minimum-Degree-Verfahren umsortiert, um den Fill-In zu reduzieren. Die symbolische Analyse 
+ * (Umsortierung, Eliminationsbaum, Besetzungsstruktur von L) wird zwischengespeichert und wiederverwendet, 
+ * solange sich die Besetzungsstruktur der Normalgleichung nicht aendert.
+ * 
+ * Bei freien Netzen ist <code>A'*P*A</code> singulaer. Waehrend der Zerlegung werden Pivotelemente, die
+ * (relativ) Null sind, erkannt und durch das urspruengliche Hauptdiagonalelement ersetzt, d.h., es wird die 
+ * regularisierte Matrix <code>N<sub>f</sub> = A'*P*A + E*E'</code> zerlegt. Die Raenderung durch die Bedingungen 
+ * <code>R</code> und die Regularisierung <code>E</code> werden anschliessend ueber das (kleine) Schur-Komplement 
+ * 
+ * <pre>
+ * B = [R'  -E],  S = [0 0; 0 I] - B'*N<sub>f</sub><sup>-1</sup>*B
+ * </pre> 
+ * 
+ * beruecksichtigt, sodass sich exakt die Loesung und die Inverse der geraenderten Normalgleichung ergeben.
+ * 
+ * Neben der vollstaendigen Inversen koennen mittels Takahashi-Rekursion auch nur die Elemente der Inversen bestimmt 
+ * werden, die in der Besetzungsstruktur der Normalgleichung liegen (selektive Inversion). Der Speicherbedarf 
+ * entspricht dann in etwa dem des Faktors L.
+ *
+ */
+public class SparseNormalEquationSolver {
+	private final static double PIVOT_TOLERANCE = 1.0E-10;
+
+	private int size = -1;
+	// Besetzungsstruktur der vollstaendigen (symmetrischen) Matrix A'*P*A im CSC-Format
+	private int colPtr[], rowIdx[];
+	private double values[];
+
+	// Symbolische Analyse
+	private int perm[], pinv[], parent[], Lp[];
+
+	// Numerische Zerlegung
+	private int Lnz[], Li[];
+	private double Lx[], D[];
+	private double regularization[];
+	private int numberOfRegularizedParameters = 0;
+
+	// Raenderung der letzten Loesung: W = Nf^-1 * B, W*S^-1 und S^-1
+	private DenseMatrix W, WinvS;
+	private UpperSymmPackMatrix invS;
+	private int numberOfConstraints = 0;
+
+	/**
+	 * Loest das Gleichungssystem <code>N * x = n</code>. Der Vektor n wird hierbei mit dem Loesungsvektor <code>x</code> ueberschrieben. 
+	 * Wenn <code>invert = true</code>, wird die Kofaktormatrix (Inverse der geraenderten Normalgleichung) als vollbesetzte Matrix zurueckgegeben,
+	 * andernfalls <code>null</code>.
+	 * 
+	 * @param N Normalgleichung
+	 * @param n Absolutgliedvektor
+	 * @param numberOfConstraints Anzahl der Bedingungen <code>R</code> am Ende der Normalgleichung
+	 * @param invert
+	 * @return Qxx
+	 * @throws MatrixSingularException
+	 * @throws IllegalArgumentException
+	 */
+	public UpperSymmPackMatrix solve(UpperSymmSparseMatrix N, DenseVector n, int numberOfConstraints, boolean invert) throws MatrixSingularException, IllegalArgumentException {
+		int numRows = N.numRows();
+		int u = numRows - numberOfConstraints;
+		if (numberOfConstraints < 0 || u < 0 || n.size() != numRows)
+			throw new IllegalArgumentException("Error, invalid dimension of normal equation system! " + numRows + " vs. " + n.size() + " and " + numberOfConstraints);
+
+		this.analyse(N, u);
+		this.factorize();
+
+		// Indizes der regularisierten Unbekannten (Nullpivots)
+		int f = this.numberOfRegularizedParameters;
+		int regularizedColumns[] = new int[f];
+		for (int k = 0, j = 0; k < u; k++) {
+			if (this.regularization[k] > 0)
+				regularizedColumns[j++] = this.perm[k];
+		}
+
+		// B = [R' -E] und W = Nf^-1 * B
+		int m = numberOfConstraints + f;
+		DenseMatrix B = new DenseMatrix(u, m);
+		for (int j = 0; j < numberOfConstraints; j++) {
+			int rows[] = N.getRowIndices(u + j);
+			double vals[] = N.getValues(u + j);
+			int used = N.getNumberOfNonZeros(u + j);
+			for (int p = 0; p < used; p++) {
+				if (rows[p] < u)
+					B.set(rows[p], j, vals[p]);
+			}
+		}
+		for (int j = 0; j < f; j++) {
+			int col = regularizedColumns[j];
+			B.set(col, numberOfConstraints + j, -Math.sqrt(this.regularization[this.pinv[col]]));
+		}
+
+		DenseMatrix W = new DenseMatrix(u, m);
+		double column[] = new double[u];
+		for (int j = 0; j < m; j++) {
+			for (int i = 0; i < u; i++)
+				column[i] = B.get(i, j);
+			double w[] = this.solve(column);
+			for (int i = 0; i < u; i++)
+				W.set(i, j, w[i]);
+		}
+
+		// S = C - B'*W, mit C = [0 0; 0 I]
+		UpperSymmPackMatrix invS = new UpperSymmPackMatrix(m);
+		for (int i = 0; i < m; i++) {
+			for (int j = i; j < m; j++) {
+				double sij = i == j && i >= numberOfConstraints ? 1.0 : 0.0;
+				for (int k = 0; k < u; k++)
+					sij -= B.get(k, i) * W.get(k, j);
+				invS.set(i, j, sij);
+			}
+		}
+		if (m > 0)
+			MathExtension.inv(invS);
+
+		DenseMatrix WinvS = new DenseMatrix(u, m);
+		if (m > 0)
+			W.mult(invS, WinvS);
+
+		this.W     = W;
+		this.WinvS = WinvS;
+		this.invS  = invS;
+		this.numberOfConstraints = numberOfConstraints;
+
+		// x0 = Nf^-1 * n, y = S^-1 * ([r; 0] - B'*x0), x = x0 - W*y
+		double nd[] = n.getData();
+		double x[] = this.solve(nd);
+		double rhs[] = new double[m];
+		for (int j = 0; j < m; j++) {
+			rhs[j] = j < numberOfConstraints ? nd[u + j] : 0.0;
+			for (int i = 0; i < u; i++)
+				rhs[j] -= B.get(i, j) * x[i];
+		}
+		double y[] = new double[m];
+		for (int i = 0; i < m; i++) {
+			for (int j = 0; j < m; j++)
+				y[i] += invS.get(i, j) * rhs[j];
+		}
+		for (int i = 0; i < u; i++) {
+			for (int j = 0; j < m; j++)
+				x[i] -= W.get(i, j) * y[j];
+		}
+
+		System.arraycopy(x, 0, nd, 0, u);
+		System.arraycopy(y, 0, nd, u, numberOfConstraints);
+
+		if (!invert)
+			return null;
+
+		// Qxx = Nf^-1 + W*S^-1*W'
+		UpperSymmPackMatrix Qxx = new UpperSymmPackMatrix(numRows);
+		double e[] = new double[u];
+		for (int j = 0; j < u; j++) {
+			Arrays.fill(e, 0.0);
+			e[j] = 1.0;
+			double q[] = this.solve(e);
+			for (int i = 0; i <= j; i++)
+				Qxx.set(i, j, q[i]);
+		}
+
+		if (m > 0) {
+			for (int j = 0; j < u; j++) {
+				for (int i = 0; i <= j; i++) {
+					double qij = Qxx.get(i, j);
+					for (int l = 0; l < m; l++)
+						qij += WinvS.get(i, l) * W.get(j, l);
+					Qxx.set(i, j, qij);
+				}
+			}
+
+			// Rand der Inversen: [Qxx -W*S^-1; -S^-1*W' S^-1]
+			for (int j = 0; j < numberOfConstraints; j++) {
+				for (int i = 0; i < u; i++)
+					Qxx.set(i, u + j, -WinvS.get(i, j));
+				for (int i = 0; i <= j; i++)
+					Qxx.set(u + i, u + j, invS.get(i, j));
+			}
+		}
+		return Qxx;
+	}
+
+	/**
+	 * Loest das Gleichungssystem <code>N * x = n</code> und bestimmt die Elemente der Kofaktormatrix, die in der Besetzungsstruktur
+	 * von <code>N</code> liegen (inkl. Hauptdiagonale). Der Vektor n wird hierbei mit dem Loesungsvektor <code>x</code> ueberschrieben.
+	 * Die Elemente der Inversen <code>Z = N<sub>f</sub><sup>-1</sup></code> werden mittels Takahashi-Rekursion
+	 * 
+	 * <pre>
+	 * Z(i,j) = -sum_k L(k,j) * Z(k,i),  i > j
+	 * Z(j,j) = 1/D(j) - sum_k L(k,j) * Z(k,j)
+	 * </pre>
+	 * 
+	 * fuer <code>k</code> aus der Besetzung der Spalte <code>j</code> von <code>L</code> spaltenweise von hinten bestimmt. Hierbei 
+	 * werden ausschliesslich Elemente innerhalb der Besetzungsstruktur von <code>L</code> benoetigt. Anschliessend wird die Raenderung
+	 * <code>W*S<sup>-1</sup>*W'</code> addiert. Die Spalten der Bedingungen <code>R</code> werden vollstaendig besetzt. Alle Elemente 
+	 * ausserhalb der Besetzungsstruktur sind <em>nicht</em> bestimmt und werden als Null geliefert.
+	 * 
+	 * @param N Normalgleichung
+	 * @param n Absolutgliedvektor
+	 * @param numberOfConstraints Anzahl der Bedingungen <code>R</code> am Ende der Normalgleichung
+	 * @return Qxx (selektiv)
+	 * @throws MatrixSingularException
+	 * @throws IllegalArgumentException
+	 */
+	public UpperSymmSparseMatrix solveSelectedInverse(UpperSymmSparseMatrix N, DenseVector n, int numberOfConstraints) throws MatrixSingularException, IllegalArgumentException {
+		this.solve(N, n, numberOfConstraints, false);
+
+		int u = this.size;
+		int numRows = N.numRows();
+		int m = this.invS.numRows();
+
+		// Elemente der Inversen in der Struktur von L (permutierte Reihenfolge)
+		double Zx[] = new double[this.Lp[u]];
+		double Zd[] = new double[u];
+		for (int j = u - 1; j >= 0; j--) {
+			int p1 = this.Lp[j];
+			int p2 = p1 + this.Lnz[j];
+			for (int p = p1; p < p2; p++) {
+				int i = this.Li[p];
+				double zij = 0.0;
+				for (int q = p1; q < p2; q++) {
+					int k = this.Li[q];
+					double zki = k == i ? Zd[i] : k < i ? Zx[this.indexOf(i, k)] : Zx[this.indexOf(k, i)];
+					zij -= this.Lx[q] * zki;
+				}
+				Zx[p] = zij;
+			}
+			double zjj = 1.0 / this.D[j];
+			for (int p = p1; p < p2; p++)
+				zjj -= this.Lx[p] * Zx[p];
+			Zd[j] = zjj;
+		}
+
+		// Qxx = Nf^-1 + W*S^-1*W' in der Struktur von N
+		UpperSymmSparseMatrix Qxx = new UpperSymmSparseMatrix(numRows);
+		for (int c = 0; c < u; c++) {
+			int rows[] = N.getRowIndices(c);
+			int used = N.getNumberOfNonZeros(c);
+			boolean hasDiagonal = used > 0 && rows[used - 1] == c;
+			for (int p = 0; p <= used; p++) {
+				if (p == used && hasDiagonal)
+					break;
+				int r = p == used ? c : rows[p];
+				int i = this.pinv[r];
+				int j = this.pinv[c];
+				double qrc = i == j ? Zd[i] : Zx[this.indexOf(Math.max(i, j), Math.min(i, j))];
+				for (int l = 0; l < m; l++)
+					qrc += this.WinvS.get(r, l) * this.W.get(c, l);
+				Qxx.set(r, c, qrc);
+			}
+		}
+
+		// Rand der Inversen: [Qxx -W*S^-1; -S^-1*W' S^-1]
+		for (int j = 0; j < numberOfConstraints; j++) {
+			for (int i = 0; i < u; i++)
+				Qxx.set(i, u + j, -this.WinvS.get(i, j));
+			for (int i = 0; i <= j; i++)
+				Qxx.set(u + i, u + j, this.invS.get(i, j));
+		}
+		return Qxx;
+	}
+
+	/**
+	 * Loest das Gleichungssystem <code>N * x = n</code> mit der Zerlegung und der Raenderung der letzten Loesung, bspw. fuer 
+	 * Iterationen mit festgehaltener Normalgleichungsmatrix. Der Vektor n wird hierbei mit dem Loesungsvektor <code>x</code> 
+	 * ueberschrieben. Wegen <code>B'*x0 = W'*n</code> wird die Raenderung <code>B</code> selbst nicht benoetigt.
+	 * 
+	 * @param n Absolutgliedvektor
+	 * @throws IllegalArgumentException
+	 */
+	public void solve(DenseVector n) throws IllegalArgumentException {
+		if (this.W == null)
+			throw new IllegalArgumentException("Error, normal equation system is not factorized!");
+		
+		int u = this.size;
+		int m = this.W.numColumns();
+		int numberOfConstraints = this.numberOfConstraints;
+		if (n.size() != u + numberOfConstraints)
+			throw new IllegalArgumentException("Error, invalid dimension of normal equation system! " + (u + numberOfConstraints) + " vs. " + n.size());
+
+		// x0 = Nf^-1 * n, y = S^-1 * ([r; 0] - W'*n), x = x0 - W*y
+		double nd[] = n.getData();
+		double x[] = this.solve(nd);
+		double rhs[] = new double[m];
+		for (int j = 0; j < m; j++) {
+			rhs[j] = j < numberOfConstraints ? nd[u + j] : 0.0;
+			for (int i = 0; i < u; i++)
+				rhs[j] -= this.W.get(i, j) * nd[i];
+		}
+		double y[] = new double[m];
+		for (int i = 0; i < m; i++) {
+			for (int j = 0; j < m; j++)
+				y[i] += this.invS.get(i, j) * rhs[j];
+		}
+		for (int i = 0; i < u; i++) {
+			for (int j = 0; j < m; j++)
+				x[i] -= this.W.get(i, j) * y[j];
+		}
+
+		System.arraycopy(x, 0, nd, 0, u);
+		System.arraycopy(y, 0, nd, u, numberOfConstraints);
+	}
+
+	/**
+	 * Liefert das Produkt <code>Qxx * b</code> des Unbekanntenanteils der Kofaktormatrix der letzten Loesung, ohne 
+	 * dass <code>Qxx</code> explizit vorliegen muss. 
+	 * 
+	 * @param b Vektor der Laenge <code>u</code> (wird nicht ueberschrieben)
+	 * @return Qxx * b
+	 */
+	public double[] multiplyCofactorMatrix(double b[]) {
+		int u = this.size;
+		int m = this.W.numColumns();
+		double x[] = this.solve(b);
+		for (int l = 0; l < m; l++) {
+			double wb = 0.0;
+			for (int i = 0; i < u; i++)
+				wb += this.W.get(i, l) * b[i];
+			if (wb == 0.0)
+				continue;
+			for (int i = 0; i < u; i++)
+				x[i] += this.WinvS.get(i, l) * wb;
+		}
+		return x;
+	}
+
+	/**
+	 * Liefert die Anzahl der Unbekannten, die aufgrund eines Nullpivots bei der letzten Zerlegung regularisiert wurden
+	 * @return numberOfRegularizedParameters
+	 */
+	public int getNumberOfRegularizedParameters() {
+		return this.numberOfRegularizedParameters;
+	}
+
+	/**
+	 * Liefert die Anzahl der Nicht-Null-Elemente des Faktors L der letzten Zerlegung
+	 * @return nnz(L)
+	 */
+	public int getNumberOfNonZerosInFactor() {
+		return this.Lp == null ? 0 : this.Lp[this.size];
+	}
+
+	/**
+	 * Ueberfuehrt die obere Dreiecksmatrix von <code>A'*P*A</code> in eine vollstaendige CSC-Struktur und 
+	 * fuehrt die symbolische Analyse durch, sofern sich die Besetzungsstruktur geaendert hat.
+	 * 
+	 * @param N
+	 * @param u Anzahl der Unbekannten
+	 */
+	private void analyse(UpperSymmSparseMatrix N, int u) {
+		int count[] = new int[u + 1];
+		for (int c = 0; c < u; c++) {
+			int rows[] = N.getRowIndices(c);
+			int used = N.getNumberOfNonZeros(c);
+			boolean hasDiagonal = false;
+			for (int p = 0; p < used; p++) {
+				int r = rows[p];
+				count[c]++;
+				if (r != c)
+					count[r]++;
+				else
+					hasDiagonal = true;
+			}
+			if (!hasDiagonal)
+				count[c]++;
+		}
+
+		int colPtr[] = new int[u + 1];
+		for (int c = 0; c < u; c++)
+			colPtr[c + 1] = colPtr[c] + count[c];
+
+		int next[]   = Arrays.copyOf(colPtr, u);
+		int rowIdx[] = new int[colPtr[u]];
+		double values[] = new double[colPtr[u]];
+		for (int c = 0; c < u; c++) {
+			int rows[] = N.getRowIndices(c);
+			double vals[] = N.getValues(c);
+			int used = N.getNumberOfNonZeros(c);
+			boolean hasDiagonal = used > 0 && rows[used - 1] == c;
+			for (int p = 0; p < used; p++) {
+				int r = rows[p];
+				rowIdx[next[c]] = r;
+				values[next[c]++] = vals[p];
+				if (r != c) {
+					rowIdx[next[r]] = c;
+					values[next[r]++] = vals[p];
+				}
+			}
+			if (!hasDiagonal)
+				rowIdx[next[c]++] = c;
+		}
+
+		boolean isAnalysed = this.size == u && Arrays.equals(this.colPtr, colPtr) && Arrays.equals(this.rowIdx, rowIdx);
+
+		this.size   = u;
+		this.colPtr = colPtr;
+		this.rowIdx = rowIdx;
+		this.values = values;
+
+		if (isAnalysed)
+			return;
+
+		this.perm = this.minimumDegreeOrdering();
+		this.pinv = new int[u];
+		for (int k = 0; k < u; k++)
+			this.pinv[this.perm[k]] = k;
+
+		// Eliminationsbaum und Anzahl der Elemente je Spalte in L bestimmen
+		this.parent = new int[u];
+		this.Lnz    = new int[u];
+		int flag[]  = new int[u];
+		for (int k = 0; k < u; k++) {
+			this.parent[k] = -1;
+			flag[k] = k;
+			this.Lnz[k] = 0;
+			int kk = this.perm[k];
+			for (int p = this.colPtr[kk]; p < this.colPtr[kk + 1]; p++) {
+				int i = this.pinv[this.rowIdx[p]];
+				if (i < k) {
+					for (; flag[i] != k; i = this.parent[i]) {
+						if (this.parent[i] == -1) 
+							this.parent[i] = k;
+						this.Lnz[i]++;
+						flag[i] = k;
+					}
+				}
+			}
+		}
+
+		this.Lp = new int[u + 1];
+		for (int k = 0; k < u; k++)
+			this.Lp[k + 1] = this.Lp[k] + this.Lnz[k];
+
+		this.Li = new int[this.Lp[u]];
+		this.Lx = new double[this.Lp[u]];
+		this.D  = new double[u];
+		this.regularization = new double[u];
+	}
+
+	/**
+	 * Numerische <code>LDL'</code>-Zerlegung (zeilenweise, "up-looking"). Pivotelemente, die relativ zum 
+	 * urspruenglichen Hauptdiagonalelement verschwinden, werden um dieses Hauptdiagonalelement erhoeht.
+	 */
+	private void factorize() {
+		int u = this.size;
+		double Y[]   = new double[u];
+		int pattern[] = new int[u];
+		int flag[]    = new int[u];
+		this.numberOfRegularizedParameters = 0;
+
+		for (int k = 0; k < u; k++) {
+			Y[k] = 0.0;
+			int top = u;
+			flag[k] = k;
+			this.Lnz[k] = 0;
+			this.regularization[k] = 0.0;
+			int kk = this.perm[k];
+			double diagonal = 0.0;
+			for (int p = this.colPtr[kk]; p < this.colPtr[kk + 1]; p++) {
+				int i = this.pinv[this.rowIdx[p]];
+				if (i > k)
+					continue;
+				if (i == k)
+					diagonal = this.values[p];
+				Y[i] += this.values[p];
+				int len = 0;
+				for (; flag[i] != k; i = this.parent[i]) {
+					pattern[len++] = i;
+					flag[i] = k;
+				}
+				while (len > 0) 
+					pattern[--top] = pattern[--len];
+			}
+
+			this.D[k] = Y[k];
+			Y[k] = 0.0;
+			for (; top < u; top++) {
+				int i = pattern[top];
+				double yi = Y[i];
+				Y[i] = 0.0;
+				int p2 = this.Lp[i] + this.Lnz[i];
+				for (int p = this.Lp[i]; p < p2; p++) 
+					Y[this.Li[p]] -= this.Lx[p] * yi;
+				double lki = yi / this.D[i];
+				this.D[k] -= lki * yi;
+				this.Li[p2] = k;
+				this.Lx[p2] = lki;
+				this.Lnz[i]++;
+			}
+
+			// Nullpivot - Regularisierung durch das urspruengliche Hauptdiagonalelement
+			if (!(this.D[k] > PIVOT_TOLERANCE * Math.abs(diagonal))) {
+				this.regularization[k] = Math.abs(diagonal) > 0 ? Math.abs(diagonal) : 1.0;
+				this.D[k] += this.regularization[k];
+				this.numberOfRegularizedParameters++;
+			}
+		}
+	}
+
+	/**
+	 * Loest <code>N<sub>f</sub> * x = b</code> mit Hilfe der Zerlegung.
+	 * @param b rechte Seite (wird nicht ueberschrieben)
+	 * @return x
+	 */
+	private double[] solve(double b[]) {
+		int u = this.size;
+		double x[] = new double[u];
+		for (int k = 0; k < u; k++)
+			x[k] = b[this.perm[k]];
+
+		// Vorwaertseinsetzen; verschwindende Elemente (duenn besetzte rechte Seite) liefern keinen Beitrag
+		for (int j = 0; j < u; j++) {
+			double xj = x[j];
+			if (xj == 0.0)
+				continue;
+			for (int p = this.Lp[j]; p < this.Lp[j] + this.Lnz[j]; p++)
+				x[this.Li[p]] -= this.Lx[p] * xj;
+		}
+
+		for (int j = 0; j < u; j++)
+			x[j] /= this.D[j];
+
+		for (int j = u - 1; j >= 0; j--) {
+			for (int p = this.Lp[j]; p < this.Lp[j] + this.Lnz[j]; p++)
+				x[j] -= this.Lx[p] * x[this.Li[p]];
+		}
+
+		double y[] = new double[u];
+		for (int k = 0; k < u; k++)
+			y[this.perm[k]] = x[k];
+		return y;
+	}
+
+	/**
+	 * Minimum-Degree-Umsortierung der vollstaendigen CSC-Struktur. Aufeinanderfolgende Spalten mit identischer Besetzung 
+	 * (bspw. die Koordinatenkomponenten eines Punktes) werden zu einem Knoten zusammengefasst und gemeinsam eliminiert;
+	 * der Grad eines Knotens ergibt sich aus der Anzahl der Spalten aller Nachbarknoten.
+	 * @return perm
+	 */
+	private int[] minimumDegreeOrdering() {
+		int u = this.size;
+		// Spalten mit identischer Besetzung zu Knoten zusammenfassen
+		int nodeOfColumn[] = new int[u];
+		List<Integer> nodeStart = new ArrayList<Integer>();
+		for (int c = 0; c < u; c++) {
+			if (c > 0 && this.hasEqualPattern(c - 1, c))
+				nodeOfColumn[c] = nodeOfColumn[c - 1];
+			else {
+				nodeOfColumn[c] = nodeStart.size();
+				nodeStart.add(c);
+			}
+		}
+		int numberOfNodes = nodeStart.size();
+		int weight[] = new int[numberOfNodes];
+		for (int c = 0; c < u; c++)
+			weight[nodeOfColumn[c]]++;
+
+		// Adjazenz der Knoten (sortiert, ohne Duplikate)
+		int adjacency[][] = new int[numberOfNodes][];
+		int marker[] = new int[numberOfNodes];
+		Arrays.fill(marker, -1);
+		int buffer[] = new int[numberOfNodes];
+		for (int v = 0; v < numberOfNodes; v++) {
+			int len = 0;
+			int start = nodeStart.get(v);
+			for (int c = start; c < start + weight[v]; c++) {
+				for (int p = this.colPtr[c]; p < this.colPtr[c + 1]; p++) {
+					int w = nodeOfColumn[this.rowIdx[p]];
+					if (w != v && marker[w] != v) {
+						marker[w] = v;
+						buffer[len++] = w;
+					}
+				}
+			}
+			adjacency[v] = Arrays.copyOf(buffer, len);
+			Arrays.sort(adjacency[v]);
+		}
+
+		int degree[] = new int[numberOfNodes];
+		PriorityQueue<long[]> queue = new PriorityQueue<long[]>(Math.max(1, numberOfNodes), (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+		for (int v = 0; v < numberOfNodes; v++) {
+			for (int w : adjacency[v])
+				degree[v] += weight[w];
+			queue.add(new long[] {degree[v], v});
+		}
+
+		boolean eliminated[] = new boolean[numberOfNodes];
+		int perm[] = new int[u];
+		int k = 0;
+		Arrays.fill(marker, -1);
+		while (!queue.isEmpty()) {
+			long entry[] = queue.poll();
+			int v = (int)entry[1];
+			if (eliminated[v] || entry[0] != degree[v])
+				continue;
+
+			eliminated[v] = true;
+			int start = nodeStart.get(v);
+			for (int c = start; c < start + weight[v]; c++)
+				perm[k++] = c;
+
+			// Nachbarn von v bilden nach der Elimination eine Clique
+			int neighbours[] = adjacency[v];
+			adjacency[v] = null;
+			for (int w : neighbours) {
+				int len = 0;
+				marker[w] = v;
+				for (int x : adjacency[w]) {
+					if (x != v && marker[x] != v) {
+						marker[x] = v;
+						buffer[len++] = x;
+					}
+				}
+				for (int x : neighbours) {
+					if (marker[x] != v) {
+						marker[x] = v;
+						buffer[len++] = x;
+					}
+				}
+				for (int i = 0; i < len; i++)
+					marker[buffer[i]] = -1;
+				marker[w] = -1;
+
+				adjacency[w] = Arrays.copyOf(buffer, len);
+				int deg = 0;
+				for (int x : adjacency[w])
+					deg += weight[x];
+				degree[w] = deg;
+				queue.add(new long[] {deg, w});
+			}
+			for (int w : neighbours)
+				marker[w] = -1;
+		}
+		return perm;
+	}
+
+	/**
+	 * Liefert die Position des Elements <code>L(row, column)</code>, <code>row &gt; column</code>, in <code>Li</code> bzw. <code>Lx</code>
+	 * @param row
+	 * @param column
+	 * @return idx
+	 */
+	private int indexOf(int row, int column) {
+		int idx = Arrays.binarySearch(this.Li, this.Lp[column], this.Lp[column] + this.Lnz[column], row);
+		if (idx < 0)
+			throw new IllegalStateException("Error, element (" + row + ", " + column + ") is not part of the factor structure!");
+		return idx;
+	}
+
+	private boolean hasEqualPattern(int c1, int c2) {
+		int len1 = this.colPtr[c1 + 1] - this.colPtr[c1];
+		int len2 = this.colPtr[c2 + 1] - this.colPtr[c2];
+		if (len1 != len2)
+			return false;
+		for (int p = 0; p < len1; p++) {
+			if (this.rowIdx[this.colPtr[c1] + p] != this.rowIdx[this.colPtr[c2] + p])
+				return false;
+		}
+		return true;
+	}
+}
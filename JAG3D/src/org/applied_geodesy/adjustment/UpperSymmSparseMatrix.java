@@ -0,0 +1,155 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.adjustment;
+
+import java.util.Arrays;
+
+import no.uib.cipr.matrix.AbstractMatrix;
+import no.uib.cipr.matrix.Matrix;
+
+/**
+ * Duenn besetzte symmetrische Matrix, bei der - analog zur <code>UpperSymmPackMatrix</code> - 
+ * nur die obere Dreiecksmatrix spaltenweise gespeichert wird. Je Spalte werden die Zeilenindizes 
+ * aufsteigend sortiert vorgehalten, sodass die Struktur beim Aufstellen der Normalgleichung 
+ * inkrementell wachsen kann. Lesende Zugriffe auf die untere Dreiecksmatrix werden auf das 
+ * symmetrische Element umgeleitet; schreibende Zugriffe auf die untere Dreiecksmatrix werden 
+ * - wie bei der <code>UpperSymmPackMatrix</code> - ignoriert.
+ *
+ */
+public class UpperSymmSparseMatrix extends AbstractMatrix {
+	private final static int INITIAL_COLUMN_SIZE = 8;
+	private int rowIndex[][];
+	private double values[][];
+	private int used[];
+
+	public UpperSymmSparseMatrix(int size) {
+		super(size, size);
+		this.rowIndex = new int[size][];
+		this.values   = new double[size][];
+		this.used     = new int[size];
+	}
+
+	@Override
+	public double get(int row, int column) {
+		int r = Math.min(row, column);
+		int c = Math.max(row, column);
+		int idx = this.indexOf(r, c);
+		return idx < 0 ? 0.0 : this.values[c][idx];
+	}
+
+	@Override
+	public void set(int row, int column, double value) {
+		if (column >= row) {
+			int idx = this.getOrCreateIndex(row, column);
+			this.values[column][idx] = value;
+		}
+	}
+
+	@Override
+	public void add(int row, int column, double value) {
+		if (column >= row) {
+			int idx = this.getOrCreateIndex(row, column);
+			this.values[column][idx] += value;
+		}
+	}
+
+	@Override
+	public Matrix zero() {
+		for (int c = 0; c < this.numColumns; c++)
+			if (this.values[c] != null)
+				Arrays.fill(this.values[c], 0, this.used[c], 0.0);
+		return this;
+	}
+
+	/**
+	 * Liefert die Anzahl der gespeicherten Elemente der oberen Dreiecksmatrix
+	 * @return nnz
+	 */
+	public int getNumberOfNonZeros() {
+		int nnz = 0;
+		for (int c = 0; c < this.numColumns; c++)
+			nnz += this.used[c];
+		return nnz;
+	}
+
+	/**
+	 * Liefert die Anzahl der gespeicherten Elemente in der Spalte <code>column</code> der oberen Dreiecksmatrix
+	 * @param column
+	 * @return used
+	 */
+	public int getNumberOfNonZeros(int column) {
+		return this.used[column];
+	}
+
+	/**
+	 * Liefert die (aufsteigend sortierten) Zeilenindizes der Spalte <code>column</code>. Es sind nur
+	 * die ersten <code>getNumberOfNonZeros(column)</code> Elemente gueltig.
+	 * @param column
+	 * @return rows
+	 */
+	public int[] getRowIndices(int column) {
+		return this.rowIndex[column];
+	}
+
+	/**
+	 * Liefert die Werte der Spalte <code>column</code>. Es sind nur
+	 * die ersten <code>getNumberOfNonZeros(column)</code> Elemente gueltig.
+	 * @param column
+	 * @return values
+	 */
+	public double[] getValues(int column) {
+		return this.values[column];
+	}
+
+	private int indexOf(int row, int column) {
+		if (this.rowIndex[column] == null)
+			return -1;
+		int idx = Arrays.binarySearch(this.rowIndex[column], 0, this.used[column], row);
+		return idx < 0 ? -1 : idx;
+	}
+
+	private int getOrCreateIndex(int row, int column) {
+		this.check(row, column);
+		if (this.rowIndex[column] == null) {
+			this.rowIndex[column] = new int[INITIAL_COLUMN_SIZE];
+			this.values[column]   = new double[INITIAL_COLUMN_SIZE];
+		}
+
+		int idx = Arrays.binarySearch(this.rowIndex[column], 0, this.used[column], row);
+		if (idx >= 0)
+			return idx;
+
+		idx = -(idx + 1);
+		int length = this.used[column];
+		if (length == this.rowIndex[column].length) {
+			int capacity = length + (length >> 1) + 1;
+			this.rowIndex[column] = Arrays.copyOf(this.rowIndex[column], capacity);
+			this.values[column]   = Arrays.copyOf(this.values[column], capacity);
+		}
+		System.arraycopy(this.rowIndex[column], idx, this.rowIndex[column], idx + 1, length - idx);
+		System.arraycopy(this.values[column],   idx, this.values[column],   idx + 1, length - idx);
+		this.rowIndex[column][idx] = row;
+		this.values[column][idx]   = 0.0;
+		this.used[column]++;
+		return idx;
+	}
+}
@@ -29,6 +29,7 @@ import java.nio.file.Paths;
 import java.util.logging.LogManager;
 
 import org.applied_geodesy.adjustment.EstimationStateType;
+import org.applied_geodesy.adjustment.LinearAlgebraBackend;
 import org.applied_geodesy.adjustment.network.NetworkAdjustment;
 import org.applied_geodesy.adjustment.network.sql.SQLAdjustmentManager;
 import org.applied_geodesy.util.sql.HSQLDB;
@@ -73,8 +74,13 @@ public class OpenAdjustmentCMD {
 			if (!isOpen)
 				this.dataBase.open();
 
+			if (this.displayState)
+				System.out.println("Linear algebra backend: " + LinearAlgebraBackend.getDescription());
+
 			SQLAdjustmentManager adjustmentManager = new SQLAdjustmentManager(this.dataBase);
+			adjustmentManager.addPropertyChangeListener(this.adjustmentStateListener);
 			NetworkAdjustment adjustment = adjustmentManager.getNetworkAdjustment();
+			adjustmentManager.removePropertyChangeListener(this.adjustmentStateListener);
 
 			adjustment.addPropertyChangeListener(this.adjustmentStateListener);
 			returnType = adjustment.estimateModel();
@@ -100,9 +106,7 @@ public class OpenAdjustmentCMD {
 	
 	public static void main(String[] args)  {
 		try {
-			System.setProperty("com.github.fommil.netlib.BLAS",   "com.github.fommil.netlib.F2jBLAS");
-			System.setProperty("com.github.fommil.netlib.LAPACK", "com.github.fommil.netlib.F2jLAPACK");
-			System.setProperty("com.github.fommil.netlib.ARPACK", "com.github.fommil.netlib.F2jARPACK");
+			LinearAlgebraBackend.initialize();
 
 			System.setProperty("hsqldb.reconfig_logging", "false");
 
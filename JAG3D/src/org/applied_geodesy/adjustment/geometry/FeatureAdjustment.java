@@ -35,6 +35,7 @@ import org.applied_geodesy.adjustment.EstimationStateType;
 import org.applied_geodesy.adjustment.EstimationType;
 import org.applied_geodesy.adjustment.MathExtension;
 import org.applied_geodesy.adjustment.NormalEquationSystem;
+import org.applied_geodesy.adjustment.ParallelNormalEquationAssembler;
 import org.applied_geodesy.adjustment.UnscentedTransformationParameter;
 import org.applied_geodesy.adjustment.geometry.FeatureEvent.FeatureEventType;
 import org.applied_geodesy.adjustment.geometry.parameter.ProcessingType;
@@ -75,6 +76,7 @@ public class FeatureAdjustment {
 	private List<GeometricPrimitive> geometricPrimitives = new ArrayList<GeometricPrimitive>();
 	
 	private List<FeaturePoint> points = new ArrayList<FeaturePoint>();
+	private ParallelNormalEquationAssembler normalEquationAssembler = new ParallelNormalEquationAssembler();
 	
 	private EstimationStateType currentEstimationStatus = EstimationStateType.BUSY;
 	private EstimationType estimationType = EstimationType.L2NORM;
@@ -605,9 +607,76 @@ public class FeatureAdjustment {
 		UpperSymmBandMatrix V = this.preconditioning ? new UpperSymmBandMatrix(nou + nor, 0) : null;
 		DenseVector n = new DenseVector(nou + nor);
 
-		for (FeaturePoint point : this.points) {
+		if (!this.normalEquationAssembler.assemble(this.points.size(), N, n, this::addPointsToNormalEquation))
+			return null;
+
+		for (Restriction restriction : this.restrictions) {
 			if (this.interrupt)
 				return null;
+			
+			// set parameter restrictions behind the model equations
+			restriction.transposedJacobianElements(N);
+			double misclosure = restriction.getMisclosure();
+			this.maxAbsRestriction = Math.max(Math.abs(misclosure), this.maxAbsRestriction);
+			n.set(restriction.getRow(), -misclosure);
+		}
+		
+		if (this.deriveFirstAdaptedDampingValue) {
+			double maxElement = 0;
+			for (UnknownParameter unknownParameter : this.parameters) {
+				int column = unknownParameter.getColumn();
+				if (column < 0)
+					continue;
+				maxElement = Math.max(maxElement, N.get(column, column));
+			}
+			// derive first damping value for LMA
+			this.adaptedDampingValue = this.dampingValue * maxElement;
+			this.deriveFirstAdaptedDampingValue = false;
+		}
+		
+		if (this.adaptedDampingValue > 0) {
+			for (UnknownParameter unknownParameter : this.parameters) {
+				int column = unknownParameter.getColumn();
+				if (column < 0)
+					continue;
+				//N.add(column, column, this.adaptedDampingValue * N.get(column, column));
+				N.add(column, column, this.adaptedDampingValue);
+			}
+		}
+		
+		if (this.preconditioning) {
+			// Pre-conditioning == Just the square root of the main diagonal of AT*P*A
+			for (int column = 0; column < N.numColumns(); column++) {
+				if (this.interrupt)
+					return null;
+				
+				double value = N.get(column, column);
+				V.set(column, column, value > Constant.EPS ? 1.0 / Math.sqrt(value) : 1.0);
+			}
+		}
+		if (this.estimationType == EstimationType.SIMULATION)
+			n.zero();
+
+		return new NormalEquationSystem(N, n, V);
+	}
+	
+	/**
+	 * Adds the contributions of the points [fromIndex, toIndex) to the normal equation. In case of a
+	 * multi-threaded assembly, this method is called concurrently for disjoint ranges with separate normal equations.
+	 * @param fromIndex
+	 * @param toIndex
+	 * @param N
+	 * @param n
+	 * @return false, if the assembly was interrupted
+	 */
+	private boolean addPointsToNormalEquation(int fromIndex, int toIndex, Matrix N, DenseVector n) {
+		int nou = this.numberOfUnknownParameters;
+
+		for (int i = fromIndex; i < toIndex; i++) {
+			if (this.interrupt)
+				return false;
+			
+			FeaturePoint point = this.points.get(i);
 
 			int nog = point.getNumberOfGeomtries();
 			int dim = point.getDimension();
@@ -647,7 +716,7 @@ public class FeatureAdjustment {
 			// AT P A and AT P w
 			for (int rowJxT = 0; rowJxT < this.parameters.size(); rowJxT++) {
 				if (this.interrupt)
-					return null;
+					return false;
 				
 				int rowN = this.parameters.get(rowJxT).getColumn();
 				if (rowN < 0)
@@ -670,55 +739,7 @@ public class FeatureAdjustment {
 				}
 			}
 		}
-
-		for (Restriction restriction : this.restrictions) {
-			if (this.interrupt)
-				return null;
-			
-			// set parameter restrictions behind the model equations
-			restriction.transposedJacobianElements(N);
-			double misclosure = restriction.getMisclosure();
-			this.maxAbsRestriction = Math.max(Math.abs(misclosure), this.maxAbsRestriction);
-			n.set(restriction.getRow(), -misclosure);
-		}
-		
-		if (this.deriveFirstAdaptedDampingValue) {
-			double maxElement = 0;
-			for (UnknownParameter unknownParameter : this.parameters) {
-				int column = unknownParameter.getColumn();
-				if (column < 0)
-					continue;
-				maxElement = Math.max(maxElement, N.get(column, column));
-			}
-			// derive first damping value for LMA
-			this.adaptedDampingValue = this.dampingValue * maxElement;
-			this.deriveFirstAdaptedDampingValue = false;
-		}
-		
-		if (this.adaptedDampingValue > 0) {
-			for (UnknownParameter unknownParameter : this.parameters) {
-				int column = unknownParameter.getColumn();
-				if (column < 0)
-					continue;
-				//N.add(column, column, this.adaptedDampingValue * N.get(column, column));
-				N.add(column, column, this.adaptedDampingValue);
-			}
-		}
-		
-		if (this.preconditioning) {
-			// Pre-conditioning == Just the square root of the main diagonal of AT*P*A
-			for (int column = 0; column < N.numColumns(); column++) {
-				if (this.interrupt)
-					return null;
-				
-				double value = N.get(column, column);
-				V.set(column, column, value > Constant.EPS ? 1.0 / Math.sqrt(value) : 1.0);
-			}
-		}
-		if (this.estimationType == EstimationType.SIMULATION)
-			n.zero();
-
-		return new NormalEquationSystem(N, n, V);
+		return true;
 	}
 	
 	private void applyPrecondition(NormalEquationSystem neq) {
@@ -1516,6 +1537,38 @@ public class FeatureAdjustment {
 			throw new IllegalArgumentException("Error, unsupported estimation type " + estimationType + "!");
 	}
 	
+	/**
+	 * Returns the number of threads used to build the normal equation
+	 * @return number of threads
+	 */
+	public int getNumberOfThreads() {
+		return this.normalEquationAssembler.getNumberOfThreads();
+	}
+	
+	/**
+	 * Sets the number of threads used to build the normal equation
+	 * @param numberOfThreads
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		this.normalEquationAssembler.setNumberOfThreads(numberOfThreads);
+	}
+	
+	/**
+	 * Returns true, if the normal equation is reproducible bit-for-bit in case of multi-threaded assembly
+	 * @return deterministic assembly
+	 */
+	public boolean isDeterministicAssembly() {
+		return this.normalEquationAssembler.isDeterministic();
+	}
+	
+	/**
+	 * Specifies whether the normal equation is reproducible bit-for-bit in case of multi-threaded assembly
+	 * @param deterministicAssembly
+	 */
+	public void setDeterministicAssembly(boolean deterministicAssembly) {
+		this.normalEquationAssembler.setDeterministic(deterministicAssembly);
+	}
+	
 	/**
 	 * Liefert den Skalierungsparameter alpha der UT,
 	 * der den Abstand der Sigma-Punkte um den Mittelwert
@@ -25,6 +25,7 @@ import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -39,8 +40,12 @@ import org.applied_geodesy.adjustment.DefaultValue;
 import org.applied_geodesy.adjustment.EstimationStateType;
 import org.applied_geodesy.adjustment.EstimationType;
 import org.applied_geodesy.adjustment.MathExtension;
+import org.applied_geodesy.adjustment.NormalEquationSolverType;
 import org.applied_geodesy.adjustment.NormalEquationSystem;
+import org.applied_geodesy.adjustment.ParallelNormalEquationAssembler;
+import org.applied_geodesy.adjustment.SparseNormalEquationSolver;
 import org.applied_geodesy.adjustment.UnscentedTransformationParameter;
+import org.applied_geodesy.adjustment.UpperSymmSparseMatrix;
 import org.applied_geodesy.adjustment.network.congruence.CongruenceAnalysisGroup;
 import org.applied_geodesy.adjustment.network.congruence.CongruenceAnalysisPointPair;
 import org.applied_geodesy.adjustment.network.congruence.strain.CoordinateComponent;
@@ -92,7 +97,6 @@ import no.uib.cipr.matrix.NotConvergedException;
 import no.uib.cipr.matrix.UpperSymmBandMatrix;
 import no.uib.cipr.matrix.UpperSymmPackMatrix;
 import no.uib.cipr.matrix.Vector;
-import no.uib.cipr.matrix.sparse.SparseVector;
 
 public class NetworkAdjustment implements Runnable {
 	private Map<Observation, Double> adaptedObservationUncertainties = new LinkedHashMap<Observation, Double>();
@@ -101,8 +105,18 @@ public class NetworkAdjustment implements Runnable {
 	private final PropertyChangeSupport change = new PropertyChangeSupport(this);
 	private boolean calculateStochasticParameters = false;
 	private static double SQRT_EPS = Math.sqrt(Constant.EPS);
+	// 2 x 3 Koordinaten, 4 Lotabweichungen, Orientierung, Massstab, Additionskonstante, Refraktion und 3 Rotationen
+	private final static int MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION = 17;
 	private EstimationType estimationType = EstimationType.L2NORM;
-	private UpperSymmPackMatrix Qxx = null;
+	private NormalEquationSolverType normalEquationSolverType = DefaultValue.getNormalEquationSolverType();
+	private SparseNormalEquationSolver sparseNormalEquationSolver = null;
+	private ParallelNormalEquationAssembler normalEquationAssembler = new ParallelNormalEquationAssembler();
+	private boolean selectedInversion = DefaultValue.isSelectedInversion();
+	private boolean reuseFactorization = DefaultValue.isReuseFactorization();
+	// Zerlegung der (dicht besetzten) Normalgleichung, die fuer die Sigma-Punkte der UT wiederverwendet wird
+	private UpperSymmPackMatrix factorizedNormalEquationMatrix = null;
+	private int factorizedNormalEquationPivots[] = null;
+	private Matrix Qxx = null;
 	private SphericalDeflectionModel sphericalDeflectionModel = null;
 	
 	private int maximalNumberOfIterations        = DefaultValue.getMaximumNumberOfIterations(),
@@ -170,10 +184,11 @@ public class NetworkAdjustment implements Runnable {
 	 * Zusaetzlich werden die Normalgleichung und der Absolutgliedvektor in-situ ueberschrieben, 
 	 * sodass N == Qxx (wenn invert == true) und n == dx am Ende ist.
 	 * 
-	 * @param N NEG-Matrix
-	 * @param n neg-Vektor
+	 * @param neq Normalgleichungssystem
 	 */
-	private void estimateFactorsForOutherAccracy(UpperSymmPackMatrix N, DenseVector n) {
+	private void estimateFactorsForOutherAccracy(NormalEquationSystem neq) {
+		Matrix N = neq.isSparse() ? neq.getSparseMatrix() : neq.getMatrix();
+		
 		// Indexzuordnung Submatrix vs. Gesamtmatrix
 		Map<Integer, Integer> idxAddParamGlobal2LocalInQxx = new LinkedHashMap<Integer, Integer>();
 		Map<Integer, Integer> idxPointGlobal2LocalInQxx = new LinkedHashMap<Integer, Integer>();
@@ -222,7 +237,7 @@ public class NetworkAdjustment implements Runnable {
 			}
 		}
 		
-		Matrix QzzNzx = new DenseMatrix(idxAddParamLocal2GlobalInQxx.size(), idxPointLocal2GlobalInQxx.size());
+		double QzzNzx[][] = new double[idxAddParamLocal2GlobalInQxx.size()][idxPointLocal2GlobalInQxx.size()];
 		try {
 			MathExtension.inv(Qzz);
 			for (int k=0; k<idxAddParamLocal2GlobalInQxx.size(); k++) {
@@ -231,7 +246,7 @@ public class NetworkAdjustment implements Runnable {
 					for (int i=0; i<idxAddParamLocal2GlobalInQxx.size(); i++) {
 						int idx = idxAddParamLocal2GlobalInQxx.get(i);
 						double qzznzx = Qzz.get(k, i) * N.get(idx, colM);
-						QzzNzx.add(k, j, qzznzx);
+						QzzNzx[k][j] += qzznzx;
 					}
 				}
 			}
@@ -241,9 +256,10 @@ public class NetworkAdjustment implements Runnable {
 		}
 
 		// In-Situ Invertierung der NGL: N <-- Qxx, n <-- dx 
-		MathExtension.solve(N, n, true);
-		this.Qxx = N;
+		this.Qxx = this.solveNormalEquation(neq, true);
 	
+		// Beobachtungen bzw. GNSS-Basislinien, die jeweils gemeinsam ausgewertet werden
+		List<Observation> observations = new ArrayList<Observation>(this.projectObservations.size());
 		Set<Integer> gnssObsIds = new LinkedHashSet<Integer>();
 		for (int i=0; i<this.projectObservations.size(); i++) {
 			Observation obs = this.projectObservations.get(i);
@@ -254,171 +270,181 @@ public class NetworkAdjustment implements Runnable {
 			if (isGNSS)
 				gnssObsIds.add(obs.getId());
 
-			List<Observation> observations = null;
-			if (isGNSS)
-				observations = ((GNSSBaseline)obs).getBaselineComponents();
-			else {
-				observations = new ArrayList<Observation>(1);
-				observations.add(obs);
-			}
-
-			int numOfObs = observations.size();
-			Matrix aRedu = new DenseMatrix(numOfObs, idxPointLocal2GlobalInQxx.size());
-			Matrix aQxx  = new DenseMatrix(numOfObs, idxPointLocal2GlobalInQxx.size());
-			Matrix aAdd  = new DenseMatrix(numOfObs, idxAddParamLocal2GlobalInQxx.size());
-			double weights[] = new double[numOfObs];
+			observations.add(obs);
+		}
+		
+		int idxPointLocal2Global[] = new int[idxPointLocal2GlobalInQxx.size()];
+		for (int j=0; j<idxPointLocal2Global.length; j++)
+			idxPointLocal2Global[j] = idxPointLocal2GlobalInQxx.get(j);
+		
+		// Die Beobachtungen werden abschnittsweise parallel ausgewertet; die Puffer gelten je Abschnitt.
+		// Die Faktoren der GNSS-Basislinien werden anschliessend in fester Reihenfolge uebernommen.
+		Matrix factorsEP[] = new Matrix[observations.size()];
+		Matrix factorsEF[] = new Matrix[observations.size()];
+		boolean completed = this.normalEquationAssembler.execute(observations.size(), (fromIndex, toIndex) -> {
+			double elements[] = new double[Observation.NUMBER_OF_JACOBI_ELEMENTS];
+			int cols[]        = new int[MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+			double aRow[]     = new double[MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+			double aQxx[][]   = new double[3][idxPointLocal2Global.length];
 			
-			for (int d=0; d<numOfObs; d++) {
-				Observation observation = observations.get(d);
-				
-				// Gewicht der Beobachtung
-				weights[d] = 1.0/observation.getStdApriori()/observation.getStdApriori();
-				
-				// Bestimme Zeile aus dem Produkt: A'*Qxx
-				for (int column=0; column < QzzNzx.numColumns(); column++)
-					aQxx.set(d, column, this.getAQxxElement(observation, idxPointLocal2GlobalInQxx.get(column), true));
-
-				// X-Lotabweichung des Standpunktes
-				int col = observation.getStartPoint().getVerticalDeflectionX().getColInJacobiMatrix();
-				if (col >= 0 && idxAddParamGlobal2LocalInQxx.containsKey(col)) {
-					col = idxAddParamGlobal2LocalInQxx.get(col);
-					aAdd.set(d, col, observation.diffVerticalDeflectionXs());
-				}
-				// Y-Lotabweichung des Standpunktes
-				col = observation.getStartPoint().getVerticalDeflectionY().getColInJacobiMatrix();
-				if (col >= 0 && idxAddParamGlobal2LocalInQxx.containsKey(col)) {
-					col = idxAddParamGlobal2LocalInQxx.get(col);
-					aAdd.set(d, col, observation.diffVerticalDeflectionYs());
-				}
-				// X-Lotabweichung des Zielpunktes
-				col = observation.getEndPoint().getVerticalDeflectionX().getColInJacobiMatrix();
-				if (col >= 0 && idxAddParamGlobal2LocalInQxx.containsKey(col)) {
-					col = idxAddParamGlobal2LocalInQxx.get(col);
-					aAdd.set(d, col, observation.diffVerticalDeflectionXe());
-				}
-				// Y-Lotabweichung des Zielpunktes
-				col = observation.getEndPoint().getVerticalDeflectionY().getColInJacobiMatrix();
-				if (col >= 0 && idxAddParamGlobal2LocalInQxx.containsKey(col)) {
-					col = idxAddParamGlobal2LocalInQxx.get(col);
-					aAdd.set(d, col, observation.diffVerticalDeflectionYe());
-				}
-				
-				// Orientierung					
-				col = observation.getColInJacobiMatrixFromOrientation();
-				if (col >= 0 && idxAddParamGlobal2LocalInQxx.containsKey(col)) {
-					col = idxAddParamGlobal2LocalInQxx.get(col);
-					aAdd.set(d, col, observation.diffOri());
-				}
-				
-				// Massstab
-				col = observation.getColInJacobiMatrixFromScale();
-				if (col >= 0 && idxAddParamGlobal2LocalInQxx.containsKey(col)) {
-					col = idxAddParamGlobal2LocalInQxx.get(col);
-					aAdd.set(d, col, observation.diffScale());
-				}
-				
-				// Additionskonstante
-				col = observation.getColInJacobiMatrixFromAdd();
-				if (col >= 0 && idxAddParamGlobal2LocalInQxx.containsKey(col)) {
-					col = idxAddParamGlobal2LocalInQxx.get(col);
-					aAdd.set(d, col, observation.diffAdd());
-				}
-				
-				// Refraktion
-				col = observation.getColInJacobiMatrixFromRefCoeff();
-				if (col >= 0 && idxAddParamGlobal2LocalInQxx.containsKey(col)) {
-					col = idxAddParamGlobal2LocalInQxx.get(col);
-					aAdd.set(d, col, observation.diffRefCoeff());
-				}
+			for (int i=fromIndex; i<toIndex; i++) {
+				if (this.interrupt)
+					return false;
 				
-				// Rotation X
-				col = observation.getColInJacobiMatrixFromRotationX();
-				if (col >= 0 && idxAddParamGlobal2LocalInQxx.containsKey(col)) {
-					col = idxAddParamGlobal2LocalInQxx.get(col);
-					aAdd.set(d, col, observation.diffRotX());
-				}
+				Observation obs = observations.get(i);
+				Matrix factors[] = this.estimateFactorsForOutherAccracy(obs, idxPointGlobal2LocalInQxx, idxAddParamGlobal2LocalInQxx, idxPointLocal2Global, Qzz, QzzNzx, elements, cols, aRow, aQxx);
 				
-				// Rotation Y
-				col = observation.getColInJacobiMatrixFromRotationY();
-				if (col >= 0 && idxAddParamGlobal2LocalInQxx.containsKey(col)) {
-					col = idxAddParamGlobal2LocalInQxx.get(col);
-					aAdd.set(d, col, observation.diffRotY());
+				if (obs.getObservationType() == ObservationType.GNSS1D || obs.getObservationType() == ObservationType.GNSS2D || obs.getObservationType() == ObservationType.GNSS3D) {
+					factorsEP[i] = factors[0];
+					factorsEF[i] = factors[1];
 				}
-				
-				// Rotation Z
-				col = observation.getColInJacobiMatrixFromRotationZ();
-				if (col >= 0 && idxAddParamGlobal2LocalInQxx.containsKey(col)) {
-					col = idxAddParamGlobal2LocalInQxx.get(col);
-					aAdd.set(d, col, observation.diffRotZ());
+				else {
+					// Geschaetzte Modellstoerung ist noch nicht bestimmt
+					// Sodass hier zunachst nur der Faktor A'QxxArPi
+					// zwischengespeichert wird
+					obs.setInfluenceOnPointPosition(factors[0].get(0, 0));
+					obs.setInfluenceOnNetworkDistortion(factors[1].get(0, 0));
 				}
 			}
+			return true;
+		});
+		
+		if (!completed)
+			return;
+		
+		for (int i=0; i<observations.size(); i++) {
+			if (factorsEP[i] != null) {
+				this.ATQxxBP_GNSS_EP.put(observations.get(i).getId(), factorsEP[i]);
+				this.PAzTQzzAzP_GNSS_EF.put(observations.get(i).getId(), factorsEF[i]);
+			}
+		}
+	}
+	
+	/**
+	 * Bestimmt die Vor-Faktoren A'*Qxx*B*P (EP) und P*Az'*Qzz*Az*P (EF*SP) einer Beobachtung bzw. einer GNSS-Basislinie 
+	 * aus den duenn besetzten Jacobi-Zeilen. Die um die Zusatzunbekannten reduzierte Designmatrix B = Ax - Az*Qzz*Nzx wird 
+	 * nicht aufgestellt; es werden nur die Zeilen von Qzz*Nzx gelesen, die zu nicht verschwindenden Elementen von Az gehoeren.
+	 * Die Methode veraendert keine gemeinsamen Daten und kann somit fuer verschiedene Beobachtungen parallel aufgerufen 
+	 * werden; die Puffer <code>elements</code>, <code>cols</code>, <code>aRow</code> und <code>aQxx</code> sind je Thread bereitzustellen.
+	 * 
+	 * @param observation
+	 * @param idxPointGlobal2LocalInQxx Spalte der Punktkoordinate in Qxx (global) auf Spalte in Qzz*Nzx (lokal)
+	 * @param idxAddParamGlobal2LocalInQxx Spalte des Zusatzparameters in Qxx (global) auf Zeile in Qzz (lokal)
+	 * @param idxPointLocal2GlobalInQxx Spalte in Qzz*Nzx (lokal) auf Spalte der Punktkoordinate in Qxx (global)
+	 * @param Qzz
+	 * @param QzzNzx Zeilen von Qzz*Nzx
+	 * @param elements Puffer der Laenge <code>Observation.NUMBER_OF_JACOBI_ELEMENTS</code>
+	 * @param cols Puffer der Laenge <code>MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION</code>
+	 * @param aRow Puffer der Laenge <code>MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION</code>
+	 * @param aQxx Puffer mit drei Zeilen der Laenge <code>idxPointLocal2GlobalInQxx.length</code>
+	 * @return {A'*Qxx*B*P, P*Az'*Qzz*Az*P}
+	 */
+	private Matrix[] estimateFactorsForOutherAccracy(Observation observation, Map<Integer, Integer> idxPointGlobal2LocalInQxx, Map<Integer, Integer> idxAddParamGlobal2LocalInQxx, int idxPointLocal2GlobalInQxx[], Matrix Qzz, double QzzNzx[][], double elements[], int cols[], double aRow[], double aQxx[][]) {
+		boolean isGNSS = observation.getObservationType() == ObservationType.GNSS1D || observation.getObservationType() == ObservationType.GNSS2D || observation.getObservationType() == ObservationType.GNSS3D;
+		List<Observation> observations = null;
+		if (isGNSS)
+			observations = ((GNSSBaseline)observation).getBaselineComponents();
+		else {
+			observations = new ArrayList<Observation>(1);
+			observations.add(observation);
+		}
+
+		int numOfObs = observations.size();
+		int numberOfPointParameters = idxPointLocal2GlobalInQxx.length;
+		
+		// Jacobi-Zeilen getrennt nach Punktkoordinaten (Spalte in Qzz*Nzx) und Zusatzparametern (Spalte in Qzz)
+		int numberOfPointElements[] = new int[numOfObs];
+		int numberOfAddElements[]   = new int[numOfObs];
+		int pointCols[][] = new int[numOfObs][MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+		int addCols[][]   = new int[numOfObs][MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+		double aPoint[][] = new double[numOfObs][MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+		double aAdd[][]   = new double[numOfObs][MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+		double weights[]  = new double[numOfObs];
+		
+		for (int d=0; d<numOfObs; d++) {
+			Observation obs = observations.get(d);
 			
-			// Bestimme um Zusatzunbekannte reduzierten Anteil der Designmatrix A
-			aAdd.mult(QzzNzx, aRedu);
-			aRedu = aRedu.scale(-1.0);
+			// Gewicht der Beobachtung
+			weights[d] = 1.0/obs.getStdApriori()/obs.getStdApriori();
 			
-			for (int d=0; d<numOfObs; d++) {
-				Observation observation = observations.get(d);
-				
-				int col = observation.getStartPoint().getColInJacobiMatrix();
-				int dim = observation.getStartPoint().getDimension();
-				
-				// Startpunkt
-				if (col >= 0 && idxPointGlobal2LocalInQxx.containsKey(col)) {
-					col = idxPointGlobal2LocalInQxx.get(col);
-					if (dim != 1) {
-						aRedu.add(d, col++, observation.diffXs());
-						aRedu.add(d, col++, observation.diffYs());
-					}
-					if (dim != 2) {
-						aRedu.add(d, col++, observation.diffZs());
-					}
+			int numberOfElements = this.getJacobiRow(obs, elements, cols, aRow);
+			for (int j=0; j<numberOfElements; j++) {
+				Integer col = idxPointGlobal2LocalInQxx.get(cols[j]);
+				if (col != null) {
+					pointCols[d][numberOfPointElements[d]] = col;
+					aPoint[d][numberOfPointElements[d]++]  = aRow[j];
+					continue;
 				}
-
-				col = observation.getEndPoint().getColInJacobiMatrix();
-				dim = observation.getEndPoint().getDimension();
-
-				// Zielpunkt
-				if (col >= 0 && idxPointGlobal2LocalInQxx.containsKey(col)) {
-					col = idxPointGlobal2LocalInQxx.get(col);
-					if (dim != 1) {
-						aRedu.add(d, col++, observation.diffXe());
-						aRedu.add(d, col++, observation.diffYe());
-					}
-					if (dim != 2) {
-						aRedu.add(d, col++, observation.diffZe());
-					}
+				col = idxAddParamGlobal2LocalInQxx.get(cols[j]);
+				if (col != null) {
+					addCols[d][numberOfAddElements[d]] = col;
+					aAdd[d][numberOfAddElements[d]++]  = aRow[j];
 				}
 			}
-
-			Matrix AzTQzz = new DenseMatrix(aAdd.numRows(), Qzz.numColumns());
-			aAdd.mult(Qzz, AzTQzz);
-			Matrix PAzTQzzAzP = new UpperSymmPackMatrix(aAdd.numRows());
-			AzTQzz.transBmult(aAdd, PAzTQzzAzP);
-			AzTQzz = null;
-
-			Matrix ATQxxBP = new DenseMatrix(numOfObs,numOfObs);
-			aQxx.transBmult(aRedu, ATQxxBP);
-			
-			for (int r=0; r<numOfObs; r++) {
-				for (int c=0; c<numOfObs; c++) {
-					ATQxxBP.set(r,c,  weights[r] * ATQxxBP.get(r,c));
-					PAzTQzzAzP.set(r,c, weights[c] * weights[r] * PAzTQzzAzP.get(r,c));
+		}
+		
+		// Bestimme Zeile aus dem Produkt: A'*Qxx (nur Punktkoordinaten)
+		for (int d=0; d<numOfObs; d++) {
+			double aqxx[] = aQxx[d];
+			if (this.Qxx instanceof UpperSymmSparseMatrix) {
+				// Qxx liegt nur selektiv vor, die Zeile wird ueber die Zerlegung der Normalgleichung bestimmt
+				double a[] = new double[this.numberOfUnknownParameters];
+				for (int k=0; k<numberOfPointElements[d]; k++)
+					a[idxPointLocal2GlobalInQxx[pointCols[d][k]]] = aPoint[d][k];
+				double qa[] = this.sparseNormalEquationSolver.multiplyCofactorMatrix(a);
+				for (int j=0; j<numberOfPointParameters; j++)
+					aqxx[j] = qa[idxPointLocal2GlobalInQxx[j]];
+			}
+			else {
+				Arrays.fill(aqxx, 0, numberOfPointParameters, 0.0);
+				for (int k=0; k<numberOfPointElements[d]; k++) {
+					double a = aPoint[d][k];
+					int row = idxPointLocal2GlobalInQxx[pointCols[d][k]];
+					for (int j=0; j<numberOfPointParameters; j++)
+						aqxx[j] += a * this.Qxx.get(row, idxPointLocal2GlobalInQxx[j]);
 				}
 			}
-			
-			if (isGNSS) {			
-				this.ATQxxBP_GNSS_EP.put(obs.getId(), ATQxxBP);
-				this.PAzTQzzAzP_GNSS_EF.put(obs.getId(), PAzTQzzAzP);
+		}
+		
+		// A'*Qxx*B*P mit B = Ax - Az*Qzz*Nzx
+		Matrix ATQxxBP = new DenseMatrix(numOfObs,numOfObs);
+		for (int r=0; r<numOfObs; r++) {
+			double aqxx[] = aQxx[r];
+			for (int c=0; c<numOfObs; c++) {
+				double aqxxb = 0.0;
+				for (int k=0; k<numberOfPointElements[c]; k++)
+					aqxxb += aqxx[pointCols[c][k]] * aPoint[c][k];
+				
+				for (int k=0; k<numberOfAddElements[c]; k++) {
+					double qzznzx[] = QzzNzx[addCols[c][k]];
+					double aqxxqzznzx = 0.0;
+					for (int j=0; j<numberOfPointParameters; j++)
+						aqxxqzznzx += aqxx[j] * qzznzx[j];
+					aqxxb -= aAdd[c][k] * aqxxqzznzx;
+				}
+				ATQxxBP.set(r, c, weights[r] * aqxxb);
 			}
-			else {
-				// Geschaetzte Modellstoerung ist noch nicht bestimmt
-				// Sodass hier zunachst nur der Faktor A'QxxArPi
-				// zwischengespeichert wird
-				obs.setInfluenceOnPointPosition(ATQxxBP.get(0, 0));
-				obs.setInfluenceOnNetworkDistortion(PAzTQzzAzP.get(0, 0));
+		}
+		
+		// Az*Qzz*Az'
+		Matrix PAzTQzzAzP = new UpperSymmPackMatrix(numOfObs);
+		for (int r=0; r<numOfObs; r++) {
+			for (int c=r; c<numOfObs; c++) {
+				double azqzzaz = 0.0;
+				for (int k=0; k<numberOfAddElements[r]; k++) 
+					for (int l=0; l<numberOfAddElements[c]; l++) 
+						azqzzaz += aAdd[r][k] * Qzz.get(addCols[r][k], addCols[c][l]) * aAdd[c][l];
+				PAzTQzzAzP.set(r, c, azqzzaz);
+			}
+		}
+		
+		for (int r=0; r<numOfObs; r++) {
+			for (int c=0; c<numOfObs; c++) {
+				PAzTQzzAzP.set(r,c, weights[c] * weights[r] * PAzTQzzAzP.get(r,c));
 			}
 		}
+		
+		return new Matrix[] {ATQxxBP, PAzTQzzAzP};
 	}
 
 	/**
@@ -1041,6 +1067,32 @@ public class NetworkAdjustment implements Runnable {
 	 * wird durch den Kofaktor ueberschrieben.!!!  
 	 */
 	public void addSubRedundanceAndCofactor(Observation observation) {
+		double elements[] = new double[Observation.NUMBER_OF_JACOBI_ELEMENTS];
+		int cols[]        = new int[MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+		double aRow[]     = new double[MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+		
+		double rr = this.addSubRedundanceAndCofactor(observation, elements, cols, aRow);
+
+		if (rr > SQRT_EPS)
+			this.numberOfHypotesis++;
+
+		this.degreeOfFreedom += rr;
+	}
+	
+	/**
+	 * Bestimmt Q_ll(a-post), Qvv und R einer Beobachtung bzw. einer GNSS-Basislinie aus den duenn besetzten 
+	 * Jacobi-Zeilen. Es werden ausschliesslich die Elemente von Qxx gelesen, die zu nicht verschwindenden 
+	 * Elementen der Jacobi-Zeilen gehoeren. Die Methode veraendert nur die uebergebene(n) Beobachtung(en) und 
+	 * kann somit fuer verschiedene Beobachtungen parallel aufgerufen werden; die Puffer <code>elements</code>, 
+	 * <code>cols</code> und <code>aRow</code> sind je Thread bereitzustellen.
+	 * 
+	 * @param observation
+	 * @param elements Puffer der Laenge <code>Observation.NUMBER_OF_JACOBI_ELEMENTS</code>
+	 * @param cols Puffer der Laenge <code>MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION</code>
+	 * @param aRow Puffer der Laenge <code>MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION</code>
+	 * @return Redundanzanteil der Beobachtung bzw. Basislinie
+	 */
+	private double addSubRedundanceAndCofactor(Observation observation, double elements[], int cols[], double aRow[]) {
 		boolean isGNSS = observation.getObservationType() == ObservationType.GNSS1D || observation.getObservationType() == ObservationType.GNSS2D || observation.getObservationType() == ObservationType.GNSS3D;
 		List<Observation> observations = null;
 		if (isGNSS)
@@ -1051,97 +1103,21 @@ public class NetworkAdjustment implements Runnable {
 		}
 		
 		int dim = observations.size();
-		Matrix aRows = new DenseMatrix(dim, this.numberOfUnknownParameters);
 		
-		// Punkte der Beobachtung
-		Point startPoint = observation.getStartPoint();
-		Point endPoint   = observation.getEndPoint();
-		
-		// Hole Indizes in Jacobi-Matrix und speichere in Liste
-		Set<Integer> colums = new LinkedHashSet<Integer>(15);
+		// Jacobi-Zeilen der Beobachtung(en) kompakt bzgl. der gemeinsamen Spalten colums in der Jacobi-Matrix
+		int numberOfColumns = 0;
+		int colums[] = new int[dim * MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+		double aRows[][] = new double[dim][colums.length];
 		
 		for (int row=0; row<dim; row++) {
-			Observation obs = observations.get(row);
-			int colASp = startPoint.getColInJacobiMatrix();
-			int colAEp = endPoint.getColInJacobiMatrix();
-			
-			if (colASp >= 0) {
-				if (startPoint.getDimension() != 1) {
-					colums.add(colASp);
-					aRows.set(row, colASp++, obs.diffXs());
-					colums.add(colASp);
-					aRows.set(row, colASp++, obs.diffYs());
-				}
-			
-				if (startPoint.getDimension() != 2) {
-					colums.add(colASp);
-					aRows.set(row, colASp, obs.diffZs());
-				}
-			}
-			if (colAEp >= 0) {
-				if (endPoint.getDimension() != 1) {
-					colums.add(colAEp);
-					aRows.set(row, colAEp++, obs.diffXe());
-					colums.add(colAEp);
-					aRows.set(row, colAEp++, obs.diffYe());
-				}
-			
-				if (endPoint.getDimension() != 2) {
-					colums.add(colAEp);
-					aRows.set(row, colAEp, obs.diffZe());
-				}
-			}			
-			// mgl. Zusatzparameter
-			if (obs.getStartPoint().getVerticalDeflectionX().getColInJacobiMatrix() >= 0) {
-				colums.add(obs.getStartPoint().getVerticalDeflectionX().getColInJacobiMatrix());
-				aRows.set(row, obs.getStartPoint().getVerticalDeflectionX().getColInJacobiMatrix(), obs.diffVerticalDeflectionXs());
-			}
-			if (obs.getStartPoint().getVerticalDeflectionY().getColInJacobiMatrix() >= 0) {
-				colums.add(obs.getStartPoint().getVerticalDeflectionY().getColInJacobiMatrix());
-				aRows.set(row, obs.getStartPoint().getVerticalDeflectionY().getColInJacobiMatrix(), obs.diffVerticalDeflectionYs());
-			}
-			if (obs.getEndPoint().getVerticalDeflectionX().getColInJacobiMatrix() >= 0) {
-				colums.add(obs.getEndPoint().getVerticalDeflectionX().getColInJacobiMatrix());
-				aRows.set(row, obs.getEndPoint().getVerticalDeflectionX().getColInJacobiMatrix(), obs.diffVerticalDeflectionXe());
-			}
-			if (obs.getEndPoint().getVerticalDeflectionY().getColInJacobiMatrix() >= 0) {
-				colums.add(obs.getEndPoint().getVerticalDeflectionY().getColInJacobiMatrix());
-				aRows.set(row, obs.getEndPoint().getVerticalDeflectionY().getColInJacobiMatrix(), obs.diffVerticalDeflectionYe());
-			}
-			
-			if (obs.getColInJacobiMatrixFromOrientation() >= 0) {
-				colums.add(obs.getColInJacobiMatrixFromOrientation());
-				aRows.set(row, obs.getColInJacobiMatrixFromOrientation(), obs.diffOri());
-			}
-				
-			if (obs.getColInJacobiMatrixFromAdd() >= 0) {
-				colums.add(obs.getColInJacobiMatrixFromAdd());
-				aRows.set(row, obs.getColInJacobiMatrixFromAdd(), obs.diffAdd());
-			}
-				
-			if (obs.getColInJacobiMatrixFromScale() >= 0) {
-				colums.add(obs.getColInJacobiMatrixFromScale());
-				aRows.set(row, obs.getColInJacobiMatrixFromScale(), obs.diffScale());
-			}
-				
-			if (obs.getColInJacobiMatrixFromRefCoeff() >= 0) {
-				colums.add(obs.getColInJacobiMatrixFromRefCoeff());
-				aRows.set(row, obs.getColInJacobiMatrixFromRefCoeff(), obs.diffRefCoeff());
-			}
-			
-			if (obs.getColInJacobiMatrixFromRotationX() >= 0) {
-				colums.add(obs.getColInJacobiMatrixFromRotationX());
-				aRows.set(row, obs.getColInJacobiMatrixFromRotationX(), obs.diffRotX());
-			}
-			
-			if (obs.getColInJacobiMatrixFromRotationY() >= 0) {
-				colums.add(obs.getColInJacobiMatrixFromRotationY());
-				aRows.set(row, obs.getColInJacobiMatrixFromRotationY(), obs.diffRotY());
-			}
-			
-			if (obs.getColInJacobiMatrixFromRotationZ() >= 0) {
-				colums.add(obs.getColInJacobiMatrixFromRotationZ());
-				aRows.set(row, obs.getColInJacobiMatrixFromRotationZ(), obs.diffRotZ());
+			int numberOfElements = this.getJacobiRow(observations.get(row), elements, cols, aRow);
+			for (int j=0; j<numberOfElements; j++) {
+				int k = 0;
+				while (k < numberOfColumns && colums[k] != cols[j])
+					k++;
+				if (k == numberOfColumns)
+					colums[numberOfColumns++] = cols[j];
+				aRows[row][k] = aRow[j];
 			}
 		}
 		
@@ -1149,25 +1125,28 @@ public class NetworkAdjustment implements Runnable {
 		
 		// Bestimme Qvv
 		
-		// Berechne A*Qxx und Q*Qxx*A'
+		// Berechne A*Qxx und A*Qxx*A'
+		double aqxx[] = new double[numberOfColumns];
 		for (int dc=0; dc<dim; dc++) {
-			for (Integer col : colums) {
-//			for (int c=0; c<colums.size(); c++) {
-//				int col = colums.get(c);
-				double aqxx = 0.0;
-				for (Integer row : colums) {
-//				for (int r=0; r<colums.size(); r++) {
-//					int row = colums.get(r);
-					aqxx += aRows.get(dc, row) * this.Qxx.get(row, col);
-				}
-				
-				for (int dr=0; dr<dim; dr++) {
-					subR.set(dr, dc, subR.get(dr, dc) + aqxx * aRows.get(dr, col));
-				}
+			Arrays.fill(aqxx, 0.0);
+			for (int j=0; j<numberOfColumns; j++) {
+				double a = aRows[dc][j];
+				// Verschwindende Elemente liefern keinen Beitrag, die zugehoerige Zeile in Qxx wird uebersprungen
+				if (a == 0.0)
+					continue;
+				int row = colums[j];
+				for (int k=0; k<numberOfColumns; k++)
+					aqxx[k] += a * this.Qxx.get(row, colums[k]);
+			}
+			
+			// subR == Q_ll; Drehe Vorzeichen, da Q_vv = Qll - Q_ll --> Mit Qll als Diagonalmatrix entspricht Q_vv = -Q_ll fuer i != j
+			for (int dr=0; dr<dim; dr++) {
+				double q_ll = 0.0;
+				for (int k=0; k<numberOfColumns; k++)
+					q_ll += aqxx[k] * aRows[dr][k];
+				subR.set(dr, dc, -q_ll);
 			}
 		}
-		// subRP == Q_ll; Drehe Vorzeichen, da Q_vv = Qll - Q_ll --> Mit Qll als Diagonalmatrix entspricht Q_vv = -Q_ll fuer i != j
-		subR = subR.scale(-1.0);
 		
 		// Berechne R = Qvv*P
 		double rr = 0;
@@ -1211,10 +1190,7 @@ public class NetworkAdjustment implements Runnable {
 		if (isGNSS) 
 			((GNSSBaseline)observation).setBaselineRedundancyMatrix(subR);
 		
-		if (rr > SQRT_EPS)
-			this.numberOfHypotesis++;
-
-		this.degreeOfFreedom += rr;
+		return rr;
 	}
 	
 	private void estimateRobustWeights() {
@@ -1408,12 +1384,191 @@ public class NetworkAdjustment implements Runnable {
 		}
 	}
 				
+	/**
+	 * Bestimmt die Zeile der Jacobi-Matrix A der Beobachtung <code>observation</code>. In <code>cols</code> werden die Spalten der 
+	 * unbekannten Parameter und in <code>aRow</code> die zugehoerigen partiellen Ableitungen gespeichert. Die Puffer muessen
+	 * mind. MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION Elemente umfassen. Der Puffer <code>elements</code> enthaelt anschliessend
+	 * alle partiellen Ableitungen sowie den Widerspruch der Beobachtung (vgl. Observation#getJacobiElements()).
+	 * 
+	 * @param observation
+	 * @param elements Puffer mit mind. Observation.NUMBER_OF_JACOBI_ELEMENTS Elementen
+	 * @param cols Spalten der Unbekannten in A
+	 * @param aRow partielle Ableitungen
+	 * @return Anzahl der belegten Elemente
+	 */
+	private int getJacobiRow(Observation observation, double elements[], int cols[], double aRow[]) {
+		int numberOfElements = 0;
+		observation.getJacobiElements(elements);
+		
+		// Startpunkt
+		Point startPoint = observation.getStartPoint();
+		int col = startPoint.getColInJacobiMatrix();
+		int dim = startPoint.getDimension();
+		if (col >= 0) {
+			if (dim != 1) {
+				cols[numberOfElements]   = col++;
+				aRow[numberOfElements++] = elements[Observation.DIFF_XS];
+				cols[numberOfElements]   = col++;
+				aRow[numberOfElements++] = elements[Observation.DIFF_YS];
+			}
+			if (dim != 2) {
+				cols[numberOfElements]   = col;
+				aRow[numberOfElements++] = elements[Observation.DIFF_ZS];
+			}
+		}
+		
+		// Zielpunkt
+		Point endPoint = observation.getEndPoint();
+		col = endPoint.getColInJacobiMatrix();
+		dim = endPoint.getDimension();
+		if (col >= 0) {
+			if (dim != 1) {
+				cols[numberOfElements]   = col++;
+				aRow[numberOfElements++] = elements[Observation.DIFF_XE];
+				cols[numberOfElements]   = col++;
+				aRow[numberOfElements++] = elements[Observation.DIFF_YE];
+			}
+			if (dim != 2) {
+				cols[numberOfElements]   = col;
+				aRow[numberOfElements++] = elements[Observation.DIFF_ZE];
+			}
+		}
+		
+		// X-Lotabweichung des Standpunktes
+		col = startPoint.getVerticalDeflectionX().getColInJacobiMatrix();
+		if (col >= 0) {
+			cols[numberOfElements]   = col;
+			aRow[numberOfElements++] = elements[Observation.DIFF_VERTICAL_DEFLECTION_XS];
+		}
+		// Y-Lotabweichung des Standpunktes
+		col = startPoint.getVerticalDeflectionY().getColInJacobiMatrix();
+		if (col >= 0) {
+			cols[numberOfElements]   = col;
+			aRow[numberOfElements++] = elements[Observation.DIFF_VERTICAL_DEFLECTION_YS];
+		}
+		// X-Lotabweichung des Zielpunktes
+		col = endPoint.getVerticalDeflectionX().getColInJacobiMatrix();
+		if (col >= 0) {
+			cols[numberOfElements]   = col;
+			aRow[numberOfElements++] = elements[Observation.DIFF_VERTICAL_DEFLECTION_XE];
+		}
+		// Y-Lotabweichung des Zielpunktes
+		col = endPoint.getVerticalDeflectionY().getColInJacobiMatrix();
+		if (col >= 0) {
+			cols[numberOfElements]   = col;
+			aRow[numberOfElements++] = elements[Observation.DIFF_VERTICAL_DEFLECTION_YE];
+		}
+		// Orientierung
+		col = observation.getColInJacobiMatrixFromOrientation();
+		if (col >= 0) {
+			cols[numberOfElements]   = col;
+			aRow[numberOfElements++] = elements[Observation.DIFF_ORIENTATION];
+		}
+		// Massstab
+		col = observation.getColInJacobiMatrixFromScale();
+		if (col >= 0) {
+			cols[numberOfElements]   = col;
+			aRow[numberOfElements++] = elements[Observation.DIFF_SCALE];
+		}
+		// Additionskonstante
+		col = observation.getColInJacobiMatrixFromAdd();
+		if (col >= 0) {
+			cols[numberOfElements]   = col;
+			aRow[numberOfElements++] = elements[Observation.DIFF_ADD];
+		}
+		// Refraktion
+		col = observation.getColInJacobiMatrixFromRefCoeff();
+		if (col >= 0) {
+			cols[numberOfElements]   = col;
+			aRow[numberOfElements++] = elements[Observation.DIFF_REFRACTION_COEFFICIENT];
+		}
+		// Rotation X
+		col = observation.getColInJacobiMatrixFromRotationX();
+		if (col >= 0) {
+			cols[numberOfElements]   = col;
+			aRow[numberOfElements++] = elements[Observation.DIFF_ROTATION_X];
+		}
+		// Rotation Y
+		col = observation.getColInJacobiMatrixFromRotationY();
+		if (col >= 0) {
+			cols[numberOfElements]   = col;
+			aRow[numberOfElements++] = elements[Observation.DIFF_ROTATION_Y];
+		}
+		// Rotation Z
+		col = observation.getColInJacobiMatrixFromRotationZ();
+		if (col >= 0) {
+			cols[numberOfElements]   = col;
+			aRow[numberOfElements++] = elements[Observation.DIFF_ROTATION_Z];
+		}
+		
+		return numberOfElements;
+	}
+	
+	/**
+	 * Traegt die Beitraege der Beobachtungen <code>[fromIndex, toIndex)</code> in die Normalgleichung ein.
+	 * Die Methode wird ggf. parallel fuer disjunkte Abschnitte mit jeweils eigener Normalgleichung aufgerufen.
+	 * 
+	 * @param fromIndex
+	 * @param toIndex
+	 * @param N
+	 * @param n
+	 * @return false, wenn die Berechnung abgebrochen wurde
+	 */
+	private boolean addObservationsToNormalEquation(int fromIndex, int toIndex, Matrix N, DenseVector n) {
+		// Jacobi-Zeile der aktuellen Beobachtung; Puffer werden fuer alle Beobachtungen des Abschnitts wiederverwendet
+		int cols[]   = new int[MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+		double aRow[] = new double[MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+		double elements[] = new double[Observation.NUMBER_OF_JACOBI_ELEMENTS];
+		
+		for (int i=fromIndex; i<toIndex; i++) {
+			if (this.interrupt)
+				return false;
+			
+			Observation observation = this.projectObservations.get(i);
+			int numberOfElements = this.getJacobiRow(observation, elements, cols, aRow);
+			
+			double p = 1.0 / (observation.getStdApriori() * observation.getStdApriori());
+			double w = elements[Observation.MISCLOSURE];
+			
+			for (int j=0; j<numberOfElements; j++) {
+				int colAT = cols[j];
+				double atp = aRow[j] * p;
+				// Absolutgliedvektor bestimmen
+				n.add(colAT, atp * w);
+				// Hauptdiagonalelement aT*p*a
+				N.add(colAT, colAT, atp * aRow[j]);
+				// Berechnung von N = ATP*A (obere Dreiecksmatrix)
+				for (int k=j+1; k<numberOfElements; k++) {
+					int colA = cols[k];
+					if (colAT < colA)
+						N.add(colAT, colA, atp * aRow[k]);
+					else
+						N.add(colA, colAT, atp * aRow[k]);
+				}
+			}
+		}
+		return true;
+	}
+	
 	/**
 	 * erzeugt die Normalgleichungsmatrix N = A<sup>T</sup>PA <em>direkt</em>, d.h. ohne
 	 * das explizite Aufstellen von A und P
 	 * return NEQ
 	 */
 	public NormalEquationSystem createNormalEquation() {
+		return this.createNormalEquation(this.normalEquationSolverType == NormalEquationSolverType.SPARSE);
+	}
+	
+	/**
+	 * erzeugt die Normalgleichungsmatrix N = A<sup>T</sup>PA <em>direkt</em>, d.h. ohne
+	 * das explizite Aufstellen von A und P. Ist <code>sparse = true</code>, wird die Normalgleichung
+	 * duenn besetzt aufgestellt. Bei einer Kongruenzanalyse im freien Netz (Strain-Parameter) wird 
+	 * stets die vollbesetzte Normalgleichung verwendet.
+	 * 
+	 * @param sparse
+	 * return NEQ
+	 */
+	private NormalEquationSystem createNormalEquation(boolean sparse) {
 		int numberOfStrainEquations  = 0; // Anzahl der zusaetzlichen Bedingungsgleichungen zur bestimmung der Strain-Parameter 
 
 		if (this.freeNetwork && this.congruenceAnalysis) {
@@ -1430,231 +1585,18 @@ public class NetworkAdjustment implements Runnable {
 			}
 		}
 		
-		UpperSymmPackMatrix N = new UpperSymmPackMatrix( this.numberOfUnknownParameters + this.rankDefect.getDefect() + numberOfStrainEquations);
+		sparse = sparse && numberOfStrainEquations == 0;
+		int size = this.numberOfUnknownParameters + this.rankDefect.getDefect() + numberOfStrainEquations;
+		Matrix N = sparse ? new UpperSymmSparseMatrix(size) : new UpperSymmPackMatrix(size);
 		DenseVector n = new DenseVector( N.numRows() );
 		
 		if (this.estimationType == EstimationType.L1NORM) {
 			this.estimateRobustWeights();
 		}
 		
-		for (int u=0; u<this.unknownParameters.size(); u++) {
-			if (this.interrupt)
-				return null;
-			
-			UnknownParameter unknownParameterAT = this.unknownParameters.get(u);
-			ObservationGroup observationGroupAT = unknownParameterAT.getObservations();
-			int dimAT = 1;
-			switch (unknownParameterAT.getParameterType()) {
-			case POINT2D:
-				dimAT = 2;
-				break;
-			case POINT3D:
-				dimAT = 3;
-				break;
-			default:
-				dimAT = 1;
-				break;
-			}
-			for (int i=0; i<dimAT; i++) {
-				int colAT = unknownParameterAT.getColInJacobiMatrix() + i;
-				Vector aTp = new SparseVector(this.numberOfObservations, observationGroupAT.size());
-				for (int j=0; j<observationGroupAT.size(); j++) {
-					Observation observationAT = observationGroupAT.get(j);
-					int rowAT = observationAT.getRowInJacobiMatrix();
-					double at = 0.0;
-
-					// Berechnet AT*P
-					if (unknownParameterAT.getParameterType() == ParameterType.POINT1D) {
-						Point p = (Point)unknownParameterAT;
-						if (p.equals(observationAT.getStartPoint())) 
-							at = observationAT.diffZs();
-						else if (p.equals(observationAT.getEndPoint())) 
-							at = observationAT.diffZe();
-					}
-					else if (unknownParameterAT.getParameterType() == ParameterType.POINT2D) {
-						Point p = (Point)unknownParameterAT;
-						if (p.equals(observationAT.getStartPoint())) {
-							if (i==0)
-								at = observationAT.diffXs();
-							else if (i==1)
-								at = observationAT.diffYs();
-						}
-						else if (p.equals(observationAT.getEndPoint())) {
-							if (i==0)
-								at = observationAT.diffXe();
-							else if (i==1)
-								at = observationAT.diffYe();
-						}
-					}
-					else if (unknownParameterAT.getParameterType() == ParameterType.POINT3D) {
-						Point p = (Point)unknownParameterAT;
-						if (p.equals(observationAT.getStartPoint())) {
-							if (i==0)
-								at = observationAT.diffXs();
-							else if (i==1)
-								at = observationAT.diffYs();
-							else if (i==2)
-								at = observationAT.diffZs();
-						}
-						else if (p.equals(observationAT.getEndPoint())) {
-							if (i==0)
-								at = observationAT.diffXe();
-							else if (i==1)
-								at = observationAT.diffYe();
-							else if (i==2)
-								at = observationAT.diffZe();
-						}
-					}
-
-					else if (unknownParameterAT.getParameterType() == ParameterType.VERTICAL_DEFLECTION_X) {
-						VerticalDeflectionX deflection = (VerticalDeflectionX)unknownParameterAT;
-						Point p = deflection.getPoint();
-						if (p.equals(observationAT.getStartPoint()))
-							at = observationAT.diffVerticalDeflectionXs();
-						else if (p.equals(observationAT.getEndPoint()))
-							at = observationAT.diffVerticalDeflectionXe();
-					}
-					else if (unknownParameterAT.getParameterType() == ParameterType.VERTICAL_DEFLECTION_Y) {
-						VerticalDeflectionY deflection = (VerticalDeflectionY)unknownParameterAT;
-						Point p = deflection.getPoint();
-						if (p.equals(observationAT.getStartPoint()))
-							at = observationAT.diffVerticalDeflectionYs();
-						else if (p.equals(observationAT.getEndPoint()))
-							at = observationAT.diffVerticalDeflectionYe();
-					}
-					else if (unknownParameterAT.getParameterType() == ParameterType.ORIENTATION)
-						at = observationAT.diffOri();
-					else if (unknownParameterAT.getParameterType() == ParameterType.ZERO_POINT_OFFSET)
-						at = observationAT.diffAdd();
-					else if (unknownParameterAT.getParameterType() == ParameterType.SCALE) 
-						at = observationAT.diffScale();
-					else if (unknownParameterAT.getParameterType() == ParameterType.REFRACTION_INDEX)
-						at = observationAT.diffRefCoeff();
-					else if (unknownParameterAT.getParameterType() == ParameterType.ROTATION_X)
-						at = observationAT.diffRotX();
-					else if (unknownParameterAT.getParameterType() == ParameterType.ROTATION_Y)
-						at = observationAT.diffRotY();
-					else if (unknownParameterAT.getParameterType() == ParameterType.ROTATION_Z)
-						at = observationAT.diffRotZ();
-
-					// Zeile aT*p bestimmen
-					double atp = at / (observationAT.getStdApriori() * observationAT.getStdApriori());
-					aTp.set(rowAT, atp);
-					// Absolutgliedvektor bestimmen
-					n.add(colAT, atp * observationAT.getObservationalError());
-					// Hauptdiagonalelement aT*p*a
-					N.add(colAT, colAT, atp * at);
-				}
-
-				for (int uu=u; uu<this.unknownParameters.size(); uu++) {
-					UnknownParameter unknownParameterA = this.unknownParameters.get(uu);
-					ObservationGroup observationGroupA = unknownParameterA.getObservations();
-
-					int dimA = 1;
-					switch (unknownParameterA.getParameterType()) {
-					case POINT2D:
-						dimA = 2;
-						break;
-					case POINT3D:
-						dimA = 3;
-						break;
-					default:
-						dimA = 1;
-						break;
-					}
-					for (int ii=uu==u?i+1:0; ii<dimA; ii++) {
-						int colA = unknownParameterA.getColInJacobiMatrix() + ii;
-
-						for (int jj=0; jj<observationGroupA.size(); jj++) {
-							Observation observationA = observationGroupA.get(jj);
-							int rowA = observationA.getRowInJacobiMatrix();
-							// skip zero multiplications
-							if (aTp.get(rowA) == 0)
-								continue;
-							
-							double a = 0.0;
-							// Berechnte Normalgleichung N=AT*P*A
-							if (unknownParameterA.getParameterType() == ParameterType.POINT1D) {
-								Point p = (Point)unknownParameterA;
-								
-								if (p.equals(observationA.getStartPoint())) 
-									a = observationA.diffZs();
-								else if (p.equals(observationA.getEndPoint())) 
-									a = observationA.diffZe();
-							}
-							else if (unknownParameterA.getParameterType() == ParameterType.POINT2D) {
-								Point p = (Point)unknownParameterA;
-								if (p.equals(observationA.getStartPoint())) {
-									if (ii==0)
-										a = observationA.diffXs();
-									else if (ii==1)
-										a = observationA.diffYs();
-
-								}
-								else if (p.equals(observationA.getEndPoint())) {
-									if (ii==0)
-										a = observationA.diffXe();
-									else if (ii==1)
-										a = observationA.diffYe();
-								}
-							}
-							else if (unknownParameterA.getParameterType() == ParameterType.POINT3D) {
-								Point p = (Point)unknownParameterA;
-								if (p.equals(observationA.getStartPoint())) {
-									if (ii==0)
-										a = observationA.diffXs();
-									else if (ii==1)
-										a = observationA.diffYs();
-									else if (ii==2)
-										a = observationA.diffZs();
-								}
-								else if (p.equals(observationA.getEndPoint())) {
-									if (ii==0)
-										a = observationA.diffXe();
-									else if (ii==1)
-										a = observationA.diffYe();
-									else if (ii==2)
-										a = observationA.diffZe();
-								}
-							}
-
-							else if (unknownParameterA.getParameterType() == ParameterType.VERTICAL_DEFLECTION_X) {
-								VerticalDeflectionX deflection = (VerticalDeflectionX)unknownParameterA;
-								Point p = deflection.getPoint();
-								if (p.equals(observationA.getStartPoint()))
-									a = observationA.diffVerticalDeflectionXs();
-								else if (p.equals(observationA.getEndPoint()))
-									a = observationA.diffVerticalDeflectionXe();
-							}
-							else if (unknownParameterA.getParameterType() == ParameterType.VERTICAL_DEFLECTION_Y) {
-								VerticalDeflectionY deflection = (VerticalDeflectionY)unknownParameterA;
-								Point p = deflection.getPoint();
-								if (p.equals(observationA.getStartPoint()))
-									a = observationA.diffVerticalDeflectionYs();
-								else if (p.equals(observationA.getEndPoint()))
-									a = observationA.diffVerticalDeflectionYe();
-							}
-							else if (unknownParameterA.getParameterType() == ParameterType.ORIENTATION)
-								a = observationA.diffOri();
-							else if (unknownParameterA.getParameterType() == ParameterType.ZERO_POINT_OFFSET)
-								a = observationA.diffAdd();
-							else if (unknownParameterA.getParameterType() == ParameterType.SCALE)
-								a = observationA.diffScale();
-							else if (unknownParameterA.getParameterType() == ParameterType.REFRACTION_INDEX)
-								a = observationA.diffRefCoeff();
-							else if (unknownParameterA.getParameterType() == ParameterType.ROTATION_X)
-								a = observationA.diffRotX();
-							else if (unknownParameterA.getParameterType() == ParameterType.ROTATION_Y)
-								a = observationA.diffRotY();
-							else if (unknownParameterA.getParameterType() == ParameterType.ROTATION_Z)
-								a = observationA.diffRotZ();
-							// Berechnung von N = ATP*A 
-							N.add(colAT, colA, aTp.get(rowA)*a);
-						}
-					}
-				}
-			}
-		}
+		// Jede Beobachtung wird genau einmal besucht und das dyadische Produkt a'*p*a direkt in N bzw. a'*p*w in n eingetragen
+		if (!this.normalEquationAssembler.assemble(this.projectObservations.size(), N, n, this::addObservationsToNormalEquation))
+			return null;
 
 		// Fuege stochastische Lotabweichungen hinzu
 		if (this.pointsWithStochasticDeflection != null && !this.pointsWithStochasticDeflection.isEmpty()) {
@@ -2008,7 +1950,165 @@ public class NetworkAdjustment implements Runnable {
 		if (this.estimationType == EstimationType.SIMULATION)
 			n.zero();
 		
-		return new NormalEquationSystem(N, n);
+		if (sparse) {
+			// Besetzungsstruktur um die bei der selektiven Inversion benoetigten Elemente erweitern
+			if (this.isSelectedInversionApplicable())
+				this.addSelectedInversionPattern((UpperSymmSparseMatrix)N);
+			return new NormalEquationSystem((UpperSymmSparseMatrix)N, n);
+		}
+		return new NormalEquationSystem((UpperSymmPackMatrix)N, n);
+	}
+	
+	/**
+	 * Prueft, ob die Kofaktormatrix selektiv bestimmt werden kann. Dies ist nur beim duenn besetzten Loeser moeglich und
+	 * nur dann, wenn keine Auswertung die vollstaendige Kofaktormatrix benoetigt (Unscented Transformation, Hauptkomponentenanalyse, 
+	 * Export der Kovarianzmatrix sowie Kongruenzanalyse im freien Netz).
+	 * @return applicable
+	 */
+	private boolean isSelectedInversionApplicable() {
+		return this.selectedInversion && 
+				this.normalEquationSolverType == NormalEquationSolverType.SPARSE &&
+				this.estimationType != EstimationType.MODIFIED_UNSCENTED_TRANSFORMATION &&
+				this.estimationType != EstimationType.SPHERICAL_SIMPLEX_UNSCENTED_TRANSFORMATION &&
+				this.numberOfPrincipalComponents == 0 &&
+				this.adjustmentResultWriter == null &&
+				!(this.congruenceAnalysis && this.freeNetwork);
+	}
+	
+	/**
+	 * Ergaenzt die Besetzungsstruktur der Normalgleichung um die Elemente, die bei der selektiven Inversion zusaetzlich zu 
+	 * A'*P*A benoetigt werden. Dies sind die Kreuzelemente der Komponenten einer GNSS-Basislinie, die Elemente zwischen allen 
+	 * Unbekannten der Beobachtungen eines Festpunktes bzw. einer festen Lotabweichung (Ausreissertest) sowie die Elemente 
+	 * zwischen den Punkten eines Verschiebungsvektors (Deformationsanalyse). Die Elemente werden mit Null belegt, sodass
+	 * sich die Normalgleichung nicht aendert. 
+	 * @param N
+	 */
+	private void addSelectedInversionPattern(UpperSymmSparseMatrix N) {
+		int cols[]   = new int[MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+		double aRow[] = new double[MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+		double elements[] = new double[Observation.NUMBER_OF_JACOBI_ELEMENTS];
+		
+		// GNSS-Basislinien
+		Set<Integer> gnssObsIds = new LinkedHashSet<Integer>();
+		for (int i=0; i<this.projectObservations.size(); i++) {
+			Observation observation = this.projectObservations.get(i);
+			boolean isGNSS = observation.getObservationType() == ObservationType.GNSS1D || observation.getObservationType() == ObservationType.GNSS2D || observation.getObservationType() == ObservationType.GNSS3D;
+			if (!isGNSS || gnssObsIds.contains(observation.getId()))
+				continue;
+			gnssObsIds.add(observation.getId());
+			
+			Set<Integer> columns = new LinkedHashSet<Integer>();
+			for (Observation component : ((GNSSBaseline)observation).getBaselineComponents()) {
+				int numberOfElements = this.getJacobiRow(component, elements, cols, aRow);
+				for (int j=0; j<numberOfElements; j++)
+					columns.add(cols[j]);
+			}
+			addStructuralBlock(N, columns);
+		}
+		
+		// Festpunkte und feste Lotabweichungen
+		List<Point> points = new ArrayList<Point>(this.referencePoints);
+		points.addAll(this.pointsWithReferenceDeflection);
+		for (Point point : points) {
+			ObservationGroup observations = point.getObservations();
+			Set<Integer> columns = new LinkedHashSet<Integer>();
+			for (int i=0; i<observations.size(); i++) {
+				int numberOfElements = this.getJacobiRow(observations.get(i), elements, cols, aRow);
+				for (int j=0; j<numberOfElements; j++)
+					columns.add(cols[j]);
+			}
+			addStructuralBlock(N, columns);
+		}
+		
+		// Verschiebungsvektoren der Deformationsanalyse
+		for (CongruenceAnalysisGroup tieGroup : this.congruenceAnalysisGroup) {
+			for (boolean flag : new boolean[] {false, true}) {
+				for (int tieIdx=0; tieIdx < tieGroup.size(flag); tieIdx++) {
+					CongruenceAnalysisPointPair tie = tieGroup.get(tieIdx, flag);
+					Set<Integer> columns = new LinkedHashSet<Integer>();
+					for (Point point : new Point[] {tie.getStartPoint(), tie.getEndPoint()}) {
+						int col = point.getColInJacobiMatrix();
+						for (int d=0; col >= 0 && d<point.getDimension(); d++)
+							columns.add(col + d);
+					}
+					addStructuralBlock(N, columns);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Traegt alle Elemente des (symmetrischen) Blocks der Spalten <code>columns</code> in die Besetzungsstruktur von <code>N</code> ein
+	 * @param N
+	 * @param columns
+	 */
+	private static void addStructuralBlock(UpperSymmSparseMatrix N, Set<Integer> columns) {
+		for (int row : columns) {
+			for (int column : columns) {
+				if (row <= column)
+					N.add(row, column, 0.0);
+			}
+		}
+	}
+	
+	/**
+	 * Loest das Normalgleichungssystem <code>N * x = n</code>. Der Vektor n wird hierbei mit dem Loesungsvektor <code>x</code> ueberschrieben.
+	 * Wenn <code>invert = true</code>, wird die Inverse von <code>N</code> zurueckgegeben, andernfalls <code>null</code>. Im Fall 
+	 * einer vollbesetzten Normalgleichung wird <code>N</code> hierbei in-situ ueberschrieben.
+	 * 
+	 * Ist die selektive Inversion aktiviert und anwendbar, werden nur die Elemente der Inversen innerhalb der Besetzungsstruktur 
+	 * von <code>N</code> bestimmt.
+	 * 
+	 * @param neq Normalgleichungssystem
+	 * @param invert
+	 * @return Qxx
+	 * @throws MatrixSingularException
+	 * @throws IllegalArgumentException
+	 */
+	private Matrix solveNormalEquation(NormalEquationSystem neq, boolean invert) throws MatrixSingularException, IllegalArgumentException {
+		if (neq.isSparse()) {
+			if (this.sparseNormalEquationSolver == null)
+				this.sparseNormalEquationSolver = new SparseNormalEquationSolver();
+			int numberOfConstraints = neq.getSparseMatrix().numRows() - this.numberOfUnknownParameters;
+			if (invert && this.isSelectedInversionApplicable())
+				return this.sparseNormalEquationSolver.solveSelectedInverse(neq.getSparseMatrix(), neq.getVector(), numberOfConstraints);
+			return this.sparseNormalEquationSolver.solve(neq.getSparseMatrix(), neq.getVector(), numberOfConstraints, invert);
+		}
+		
+		UpperSymmPackMatrix N = neq.getMatrix();
+		MathExtension.solve(N, neq.getVector(), invert);
+		return invert ? N : null;
+	}
+	
+	/**
+	 * Loest die Normalgleichung innerhalb der Sigma-Punkt-Schritte der UT. Ist <code>reuseFactorization = true</code>, wird die Zerlegung 
+	 * einer vorherigen Iteration genutzt und lediglich der Absolutgliedvektor aktualisiert (vereinfachtes Gauss-Newton-Verfahren). 
+	 * Da sich die Sigma-Punkte nur geringfuegig voneinander unterscheiden, aendert sich die Normalgleichungsmatrix kaum; der Fixpunkt 
+	 * der Iteration ist unveraendert. Andernfalls wird die Normalgleichung neu zerlegt und die Zerlegung vorgehalten.
+	 * 
+	 * @param neq
+	 * @param reuseFactorization
+	 * @throws MatrixSingularException
+	 * @throws IllegalArgumentException
+	 */
+	private void solveNormalEquationWithRetainedFactorization(NormalEquationSystem neq, boolean reuseFactorization) throws MatrixSingularException, IllegalArgumentException {
+		if (neq.isSparse()) {
+			// die Zerlegung wird von SparseNormalEquationSolver vorgehalten
+			if (reuseFactorization && this.sparseNormalEquationSolver != null)
+				this.sparseNormalEquationSolver.solve(neq.getVector());
+			else
+				this.solveNormalEquation(neq, false);
+			return;
+		}
+		
+		DenseVector n = neq.getVector();
+		if (!reuseFactorization || this.factorizedNormalEquationMatrix == null || this.factorizedNormalEquationMatrix.numRows() != n.size()) {
+			UpperSymmPackMatrix N = neq.getMatrix();
+			this.factorizedNormalEquationMatrix = null;
+			this.factorizedNormalEquationPivots = MathExtension.factorize(N);
+			this.factorizedNormalEquationMatrix = N;
+		}
+		MathExtension.solve(this.factorizedNormalEquationMatrix, this.factorizedNormalEquationPivots, n);
 	}
 	
 	/**
@@ -2110,6 +2210,11 @@ public class NetworkAdjustment implements Runnable {
 	
 			Vector SigmaUT = null, xUT = null, vUT = null;
 			Matrix solutionVectors = null;
+			
+			// Zerlegung der Normalgleichung fuer die Iterationen der Sigma-Punkte vorhalten
+			boolean retainFactorization = applyUnscentedTransformation && this.reuseFactorization && numberOfEstimationSteps > 1;
+			boolean reuseFactorization = false;
+			double lastMaxDx = Double.MAX_VALUE;
 
 			if (applyUnscentedTransformation) {
 				xUT = new DenseVector(this.numberOfUnknownParameters);
@@ -2138,6 +2243,8 @@ public class NetworkAdjustment implements Runnable {
 				isEstimated = false;
 				estimateCompleteModel = false;
 				isConverge = true;
+				reuseFactorization = retainFactorization && estimationStep > 0;
+				lastMaxDx = Double.MAX_VALUE;
 				
 				if (applyUnscentedTransformation) {
 					this.currentEstimationStatus = EstimationStateType.UNSCENTED_TRANSFORMATION_STEP;
@@ -2188,9 +2295,7 @@ public class NetworkAdjustment implements Runnable {
 						this.interrupt = false;
 						return this.currentEstimationStatus;
 					}
-					DenseVector n = neq.getVector();
-					UpperSymmPackMatrix N = neq.getMatrix();
-					Vector dx = n;
+					Vector dx = neq.getVector();
 
 					estimateCompleteModel = isEstimated;				
 					try {
@@ -2204,19 +2309,21 @@ public class NetworkAdjustment implements Runnable {
 								this.currentEstimationStatus = EstimationStateType.INVERT_NORMAL_EQUATION_MATRIX;
 								this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
 							}
-							this.estimateFactorsForOutherAccracy(N, n);
+							this.estimateFactorsForOutherAccracy(neq);
 
 							if (this.calculateStochasticParameters) {
 								this.currentEstimationStatus = EstimationStateType.ESTIAMTE_STOCHASTIC_PARAMETERS;
 								this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
 							}
 						}
+						else if (retainFactorization)
+							// Loese Nx=n mit (ggf. vorgehaltener) Zerlegung und ueberschreibe n durch die Loesung x
+							this.solveNormalEquationWithRetainedFactorization(neq, reuseFactorization);
 						else
 							// Loese Nx=n und ueberschreibe n durch die Loesung x
-							MathExtension.solve(N, n, false);
+							this.solveNormalEquation(neq, false);
 						
-						n = null;
-						N = null;
+						neq = null;
 					}
 					catch (MatrixSingularException | MatrixNotSPDException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
 						e.printStackTrace();
@@ -2292,9 +2399,15 @@ public class NetworkAdjustment implements Runnable {
 						this.currentMaxAbsDx = this.maxDx;
 					else
 						this.maxDx = this.currentMaxAbsDx;
+					
+					// Konvergiert die Iteration mit der vorgehaltenen Zerlegung nur langsam, wird die Normalgleichung neu zerlegt
+					reuseFactorization = retainFactorization && estimationStep > 0 && (isEstimated || this.maxDx < 0.1 * lastMaxDx);
+					lastMaxDx = this.maxDx;
 				}
 				while (!estimateCompleteModel);
 			}
+			this.factorizedNormalEquationMatrix = null;
+			this.factorizedNormalEquationPivots = null;
 			
 			// Exportiere CoVar (sofern aktiviert), da diese danach ueberschrieben wird
 			try {
@@ -3908,6 +4021,8 @@ public class NetworkAdjustment implements Runnable {
 	}
 	
 	private void addSubRedundanceAndCofactor2Observations() {
+		// Beobachtungen bzw. GNSS-Basislinien, die jeweils gemeinsam ausgewertet werden
+		List<Observation> observations = new ArrayList<Observation>(this.numberOfObservations);
 		Set<Integer> gnssObsIds = new LinkedHashSet<Integer>();
 		for (int i=0; i<this.numberOfObservations; i++) {
 			Observation observation = this.projectObservations.get(i);
@@ -3919,7 +4034,34 @@ public class NetworkAdjustment implements Runnable {
 			if (isGNSS)
 				gnssObsIds.add(observation.getId());
 
-			this.addSubRedundanceAndCofactor( observation );
+			observations.add(observation);
+		}
+		
+		// Die Beobachtungen werden abschnittsweise parallel ausgewertet; die Puffer gelten je Abschnitt
+		double redundancies[] = new double[observations.size()];
+		boolean completed = this.normalEquationAssembler.execute(observations.size(), (fromIndex, toIndex) -> {
+			double elements[] = new double[Observation.NUMBER_OF_JACOBI_ELEMENTS];
+			int cols[]        = new int[MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+			double aRow[]     = new double[MAXIMUM_NUMBER_OF_PARAMETERS_PER_OBSERVATION];
+			
+			for (int i=fromIndex; i<toIndex; i++) {
+				if (this.interrupt)
+					return false;
+				redundancies[i] = this.addSubRedundanceAndCofactor(observations.get(i), elements, cols, aRow);
+			}
+			return true;
+		});
+		
+		if (!completed)
+			return;
+		
+		// Summation in fester Reihenfolge, sodass die Gesamtredundanz unabhaengig von der Anzahl der Threads ist
+		for (int i=0; i<redundancies.length; i++) {
+			double rr = redundancies[i];
+			if (rr > SQRT_EPS)
+				this.numberOfHypotesis++;
+
+			this.degreeOfFreedom += rr;
 		}
 	}
 	
@@ -4441,7 +4583,7 @@ public class NetworkAdjustment implements Runnable {
 					maxDefect = 7;
 				maxDefect = Math.min(maxDefect, this.numberOfUnknownParameters); 
 				// Der Index ist Eins-Index-basierend, d.h., der kleinste Eigenwert hat den Index Eins und der groesste ist am Index n!
-				NormalEquationSystem neq = this.createNormalEquation();
+				NormalEquationSystem neq = this.createNormalEquation(false);
 				UpperSymmPackMatrix N = neq.getMatrix();
 
 				Matrix eig[] = MathExtension.eig(N, this.numberOfUnknownParameters, 1, maxDefect, false);
@@ -5083,6 +5225,88 @@ public class NetworkAdjustment implements Runnable {
 		this.estimationType = estimationType;
 	}
 	
+	/**
+	 * Liefert das Verfahren zum Loesen der Normalgleichung
+	 * @return normalEquationSolverType
+	 */
+	public NormalEquationSolverType getNormalEquationSolverType() {
+		return this.normalEquationSolverType;
+	}
+	
+	/**
+	 * Legt das Verfahren zum Loesen der Normalgleichung fest
+	 * @param normalEquationSolverType
+	 */
+	public void setNormalEquationSolverType(NormalEquationSolverType normalEquationSolverType) {
+		this.normalEquationSolverType = normalEquationSolverType == null ? DefaultValue.getNormalEquationSolverType() : normalEquationSolverType;
+	}
+	
+	/**
+	 * Liefert die Anzahl der Threads beim Aufstellen der Normalgleichung
+	 * @return numberOfThreads
+	 */
+	public int getNumberOfThreads() {
+		return this.normalEquationAssembler.getNumberOfThreads();
+	}
+	
+	/**
+	 * Legt die Anzahl der Threads beim Aufstellen der Normalgleichung fest
+	 * @param numberOfThreads
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		this.normalEquationAssembler.setNumberOfThreads(numberOfThreads);
+	}
+	
+	/**
+	 * Liefert true, wenn die Normalgleichung bei paralleler Aufstellung bitgenau reproduzierbar bestimmt wird
+	 * @return deterministicAssembly
+	 */
+	public boolean isDeterministicAssembly() {
+		return this.normalEquationAssembler.isDeterministic();
+	}
+	
+	/**
+	 * Legt fest, ob die Normalgleichung bei paralleler Aufstellung bitgenau reproduzierbar bestimmt wird
+	 * @param deterministicAssembly
+	 */
+	public void setDeterministicAssembly(boolean deterministicAssembly) {
+		this.normalEquationAssembler.setDeterministic(deterministicAssembly);
+	}
+	
+	/**
+	 * Liefert true, wenn die Kofaktormatrix beim duenn besetzten Loeser nur selektiv bestimmt werden soll
+	 * @return selectedInversion
+	 */
+	public boolean isSelectedInversion() {
+		return this.selectedInversion;
+	}
+	
+	/**
+	 * Legt fest, ob die Kofaktormatrix beim duenn besetzten Loeser nur selektiv, d.h. innerhalb der Besetzungsstruktur der Normalgleichung, 
+	 * bestimmt werden soll. Die Option wird ignoriert, wenn eine Auswertung die vollstaendige Kofaktormatrix benoetigt.
+	 * @param selectedInversion
+	 */
+	public void setSelectedInversion(boolean selectedInversion) {
+		this.selectedInversion = selectedInversion;
+	}
+	
+	/**
+	 * Liefert true, wenn bei der UT die Zerlegung der Normalgleichung fuer die Iterationen der Sigma-Punkte wiederverwendet wird
+	 * @return reuseFactorization
+	 */
+	public boolean isReuseFactorization() {
+		return this.reuseFactorization;
+	}
+	
+	/**
+	 * Legt fest, ob bei der UT die Zerlegung der Normalgleichung fuer die Iterationen der Sigma-Punkte wiederverwendet werden soll. 
+	 * Die Normalgleichung wird nur dann neu zerlegt, wenn die Iteration mit der vorgehaltenen Zerlegung nicht hinreichend konvergiert.
+	 * @param reuseFactorization
+	 */
+	public void setReuseFactorization(boolean reuseFactorization) {
+		this.reuseFactorization = reuseFactorization;
+	}
+	
 	/**
 	 * Beruecksichtigung des geschaetzten Varianzfaktors zur Skallierung der Kovarianzmatrix
 	 * @param applyAposterioriVarianceOfUnitWeight
@@ -5458,9 +5682,17 @@ public class NetworkAdjustment implements Runnable {
 			double sigma2apost = this.getVarianceFactorAposteriori();
 			int n = this.unknownParameters.columnsOfPoints();
 
-			if (this.Qxx != null && n > 0 && numberOfComponents > 0) {				
-				// Der Index ist Eins-Index-basierend, d.h., der kleinste Eigenwert hat den Index Eins und der groesste ist am Index n!
-				Matrix evalEvec[] = MathExtension.eig(this.Qxx, n, Math.max(n - numberOfComponents + 1, 1), n, true);
+			if (this.Qxx instanceof UpperSymmPackMatrix && n > 0 && numberOfComponents > 0) {				
+				UpperSymmPackMatrix Qxx = (UpperSymmPackMatrix)this.Qxx;
+				Matrix evalEvec[] = null;
+				try {
+					// Lanczos-Verfahren; es werden nur Matrix-Vektor-Produkte mit Qxx gebildet 
+					evalEvec = MathExtension.eigs(Qxx, n, Math.min(numberOfComponents, n), true);
+				}
+				catch (NotConvergedException nce) {
+					// Der Index ist Eins-Index-basierend, d.h., der kleinste Eigenwert hat den Index Eins und der groesste ist am Index n!
+					evalEvec = MathExtension.eig(Qxx, n, Math.max(n - numberOfComponents + 1, 1), n, true);
+				}
 				Matrix eval = (UpperSymmBandMatrix)evalEvec[0];
 				Matrix evec = (DenseMatrix)evalEvec[1];
 				// Anzahl der tatsaechlich bestimmten Komponenten
@@ -5545,5 +5777,7 @@ public class NetworkAdjustment implements Runnable {
 		this.Qxx = null;
 		this.ATQxxBP_GNSS_EP = null;
 		this.PAzTQzzAzP_GNSS_EF = null;
+		this.factorizedNormalEquationMatrix = null;
+		this.factorizedNormalEquationPivots = null;
 	}
 }
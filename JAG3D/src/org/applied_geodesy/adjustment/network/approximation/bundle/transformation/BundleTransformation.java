@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.applied_geodesy.adjustment.Constant;
+import org.applied_geodesy.adjustment.DefaultValue;
 import org.applied_geodesy.adjustment.EstimationStateType;
 import org.applied_geodesy.adjustment.MathExtension;
 import org.applied_geodesy.adjustment.NormalEquationSystem;
@@ -39,6 +40,7 @@ import org.applied_geodesy.adjustment.network.approximation.bundle.point.Point;
 import org.applied_geodesy.adjustment.network.approximation.bundle.point.Point1D;
 import org.applied_geodesy.adjustment.network.approximation.bundle.point.Point2D;
 import org.applied_geodesy.adjustment.network.approximation.bundle.point.Point3D;
+import org.applied_geodesy.util.concurrent.ParallelTaskExecutor;
 
 import no.uib.cipr.matrix.DenseVector;
 import no.uib.cipr.matrix.MatrixNotSPDException;
@@ -49,6 +51,8 @@ import no.uib.cipr.matrix.Vector;
 public abstract class BundleTransformation {
 	private final PropertyChangeSupport change = new PropertyChangeSupport(this);
 	public final static double SQRT_EPS = 1.0E-5;
+	// Mindestanzahl an Systemen, ab der die paarweise Suche identischer Punkte parallelisiert wird
+	private final static int MIN_PARALLEL_SYSTEMS = 64;
 	private Map<String, Integer> pointInSystemsCounter = new LinkedHashMap<String, Integer>();
 	private Set<String> outliers = new HashSet<String>();
 	private EstimationStateType currentEstimationStatus = EstimationStateType.BUSY;
@@ -93,17 +97,36 @@ public abstract class BundleTransformation {
 	private void initSystems(List<PointBundle> sourceSystems) {
 		PointBundle bundle1 = null, bundle2 = null;
 		int numIdentPoints = 0;
-		for (int i=0; i<sourceSystems.size(); i++) {
-			PointBundle b1 = sourceSystems.get(i);
-
-			for (int j=i+1; j<sourceSystems.size(); j++) {
-				PointBundle b2 = sourceSystems.get(j);
-				Transformation t = this.getSimpleTransformationModel(b1, b2);
-
-				if (t != null && t.numberOfIdenticalPoints() >= t.numberOfRequiredPoints() && t.numberOfIdenticalPoints() >= numIdentPoints) {
-					numIdentPoints = t.numberOfIdenticalPoints();
-					bundle1 = b1;
-					bundle2 = b2;
+		int numberOfSystems = sourceSystems.size();
+		if (numberOfSystems > 1) {
+			final int numberOfRequiredPoints = this.getSimpleTransformationModel(sourceSystems.get(0), sourceSystems.get(1)).numberOfRequiredPoints();
+			// Je System i wird das System j > i mit den meisten identischen Punkten gesucht. Bei Gleichstand
+			// gewinnt (wie bei der sequentiellen Suche) die zuletzt gefundene Kombination.
+			final int identPartners[] = new int[numberOfSystems];
+			final int identCounters[] = new int[numberOfSystems];
+			execute(numberOfSystems, (fromIndex, toIndex) -> {
+				for (int i=fromIndex; i<toIndex; i++) {
+					PointBundle b1 = sourceSystems.get(i);
+					int partner = -1, counter = 0;
+					for (int j=i+1; j<numberOfSystems; j++) {
+						int numIdents = numberOfIdenticalPoints(b1, sourceSystems.get(j));
+						if (numIdents >= numberOfRequiredPoints && numIdents >= counter) {
+							counter = numIdents;
+							partner = j;
+						}
+					}
+					identPartners[i] = partner;
+					identCounters[i] = counter;
+				}
+				return true;
+			});
+
+			// Zusammenfuehren in fester Reihenfolge
+			for (int i=0; i<numberOfSystems; i++) {
+				if (identPartners[i] >= 0 && identCounters[i] >= numIdentPoints) {
+					numIdentPoints = identCounters[i];
+					bundle1 = sourceSystems.get(i);
+					bundle2 = sourceSystems.get(identPartners[i]);
 				}
 			}
 		}
@@ -181,24 +204,35 @@ public abstract class BundleTransformation {
 			PointBundle maxSRC = null;
 			PointBundle maxTRG = null;
 			numberOfIdenticalPoints = 0;
-			for (int i=0; i<pointSystems.size(); i++) {
-				PointBundle bundleOne = pointSystems.get(i);
-				
-				for (int j=i+1; j<pointSystems.size(); j++) {
-					int numIdents = 0;
-					PointBundle bundleTwo = pointSystems.get(j);
-					// Zaehle die identischen Punkte
-					for (int o=0; o<bundleOne.size(); o++) {
-						Point pOne = bundleOne.get(o);
-						Point pTwo = bundleTwo.get(pOne.getName());
-						if (pTwo != null)
-							numIdents++;
-					}					
-					if (numIdents > numberOfIdenticalPoints) {
-						maxSRC = bundleOne;
-						maxTRG = bundleTwo;
-						numberOfIdenticalPoints = numIdents;
+			
+			// Je System i wird das erste System j > i mit den meisten identischen Punkten gesucht
+			final int numberOfSystems = pointSystems.size();
+			final int identPartners[] = new int[numberOfSystems];
+			final int identCounters[] = new int[numberOfSystems];
+			execute(numberOfSystems, (fromIndex, toIndex) -> {
+				for (int i=fromIndex; i<toIndex; i++) {
+					PointBundle bundleOne = pointSystems.get(i);
+					int partner = -1, counter = 0;
+					for (int j=i+1; j<numberOfSystems; j++) {
+						// Zaehle die identischen Punkte
+						int numIdents = numberOfIdenticalPoints(bundleOne, pointSystems.get(j));
+						if (numIdents > counter) {
+							counter = numIdents;
+							partner = j;
+						}
 					}
+					identPartners[i] = partner;
+					identCounters[i] = counter;
+				}
+				return true;
+			});
+			
+			// Zusammenfuehren in fester Reihenfolge
+			for (int i=0; i<numberOfSystems; i++) {
+				if (identPartners[i] >= 0 && identCounters[i] > numberOfIdenticalPoints) {
+					maxSRC = pointSystems.get(i);
+					maxTRG = pointSystems.get(identPartners[i]);
+					numberOfIdenticalPoints = identCounters[i];
 				}
 			}
 			if (maxSRC != null && maxTRG != null) {
@@ -228,7 +262,7 @@ public abstract class BundleTransformation {
 					trans.setFixedParameter(TransformationParameterType.SCALE, !maxSRC.isIntersection() && !maxTRG.isIntersection());
 
 					// Transformierte per L2Norm und pruefe, ob Ausreisser drin sind, wenn ja fuehre LMS-Bestimmung durch
-					if (trans.transformL2Norm() && trans.getOmega() <= this.threshold*Math.sqrt(BundleTransformation.SQRT_EPS) || trans.transformLMS()) {
+					if (trans.transformL2Norm() && trans.getOmega() <= this.threshold*Math.sqrt(BundleTransformation.SQRT_EPS) || trans.transformLMS(this.getLMSThreshold())) {
 						for (int o=0; o<maxSRC.size(); o++) {
 							Point src = maxSRC.get(o);
 							Point trg = maxTRG.get(src.getName());
@@ -262,7 +296,7 @@ public abstract class BundleTransformation {
 		if (trans != null && trans.numberOfIdenticalPoints() >= trans.numberOfRequiredPoints()) {
 			trans.setFixedParameter(TransformationParameterType.SCALE, !maxScrSystem.isIntersection() && !this.targetSystem.isIntersection());
 			// Transformierte per L2Norm und pruefe, ob Ausreißer drin sind, wenn ja fuehre LMS-Bestimmung durch
-			if (trans.transformL2Norm() && trans.getOmega() <= this.threshold*Math.sqrt(BundleTransformation.SQRT_EPS) || trans.transformLMS()) {
+			if (trans.transformL2Norm() && trans.getOmega() <= this.threshold*Math.sqrt(BundleTransformation.SQRT_EPS) || trans.transformLMS(this.getLMSThreshold())) {
 				for (int o=0; o<maxScrSystem.size(); o++) {
 					Point src = maxScrSystem.get(o);
 					Point trg = this.targetSystem.get(src.getName());
@@ -329,7 +363,7 @@ public abstract class BundleTransformation {
 		// Halte Massstab fest auf m=1 bei Naeherungswertbestimmung
 		trans.setFixedParameter(TransformationParameterType.SCALE, !sourceSystem.isIntersection() && !this.targetSystem.isIntersection());
 		// Transformierte per L2Norm und pruefe, ob Ausreißer drin sind, wenn ja fuehre LMS-Bestimmung durch
-		if (trans.transformL2Norm() && trans.getOmega() <= this.threshold*Math.sqrt(BundleTransformation.SQRT_EPS) || trans.transformLMS()) {
+		if (trans.transformL2Norm() && trans.getOmega() <= this.threshold*Math.sqrt(BundleTransformation.SQRT_EPS) || trans.transformLMS(this.getLMSThreshold())) {
 			this.omega = Math.max(this.omega, trans.getOmega());
 			sourceSystem.setTransformationParameterSet(trans.getTransformationParameterSet());
 						
@@ -609,6 +643,33 @@ public abstract class BundleTransformation {
 		}
 	}
 
+	/**
+	 * Liefert die Schranke, ab der die LMS-Suche vorzeitig beendet wird. Es wird die erste Loesung 
+	 * akzeptiert, die die Ausreissergrenze der L2-Loesung einhaelt. Da die Teilmengen stets in 
+	 * derselben Reihenfolge durchsucht werden, ist das Ergebnis unabhaengig von der Anzahl der Threads.
+	 * 
+	 * @return threshold
+	 */
+	private double getLMSThreshold() {
+		return this.threshold*Math.sqrt(BundleTransformation.SQRT_EPS);
+	}
+	
+	private static int numberOfIdenticalPoints(PointBundle bundleOne, PointBundle bundleTwo) {
+		int numIdents = 0;
+		for (int o=0; o<bundleOne.size(); o++) {
+			if (bundleTwo.contains(bundleOne.get(o).getName()))
+				numIdents++;
+		}
+		return numIdents;
+	}
+	
+	private static boolean execute(int size, ParallelTaskExecutor.Task task) {
+		if (size < MIN_PARALLEL_SYSTEMS)
+			return task.execute(0, size);
+		// die Anzahl der Threads wird bei jedem Aufruf gelesen; der Pool wird von allen Executoren geteilt
+		return new ParallelTaskExecutor(DefaultValue.getNumberOfThreads()).execute(size, task);
+	}
+
 	public List<PointBundle> getExcludedSystems() {
 		return this.excludedSystems;
 	}
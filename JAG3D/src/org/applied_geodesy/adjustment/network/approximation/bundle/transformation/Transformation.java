@@ -30,6 +30,13 @@ public interface Transformation {
 
 	public boolean transformLMS();
 
+	/**
+	 * Robuste Schaetzung (LMS), die vorzeitig beendet wird, sobald der Median der Residuen <code>threshold</code> nicht ueberschreitet
+	 * @param threshold
+	 * @return true, wenn die Transformation erfolgreich war
+	 */
+	public boolean transformLMS(double threshold);
+
 	public double getOmega();
 
 	public void setFixedParameter(TransformationParameterType type, boolean fixed);
@@ -57,9 +57,14 @@ public class Transformation1D implements Transformation {
 	}
 
 	public boolean transformLMS() {
+		return this.transformLMS(0.0);
+	}
+
+	@Override
+	public boolean transformLMS(double threshold) {
 		TransformationParameterSet transParameter = null;
 		double omega = Double.MAX_VALUE;
-		for (int i=0; i<this.numberOfIdenticalPoints(); i++) {
+		for (int i=0; i<this.numberOfIdenticalPoints() && omega > threshold; i++) {
 			Point pS1 = this.source.get(i);
 			Point pT1 = this.target.get(pS1.getName());
 			if (this.fixedParameters.get(TransformationParameterType.SCALE)) {
@@ -79,7 +84,7 @@ public class Transformation1D implements Transformation {
 				}
 			}
 			else {
-				for (int j=i+1; j<this.numberOfIdenticalPoints(); j++) {
+				for (int j=i+1; j<this.numberOfIdenticalPoints() && omega > threshold; j++) {
 					Point pS2 = this.source.get(j);
 					Point pT2 = this.target.get(pS2.getName());
 
@@ -198,16 +203,12 @@ public class Transformation1D implements Transformation {
 
 			this.pointsToTransform.addPoint( tempPS );
 
-			for (int j=0; j<target.size(); j++){
-				Point pT = target.get(j);
-
-				// Suche identische Punkte
-				if (pS.getName().equals(pT.getName())) {
-					Point tempPT = new Point1D(pT.getName(), pT.getZ());
-					this.source.addPoint( tempPS );
-					this.target.addPoint( tempPT );
-					break;
-				}
+			// Suche identische Punkte
+			Point pT = target.get(pS.getName());
+			if (pT != null) {
+				Point tempPT = new Point1D(pT.getName(), pT.getZ());
+				this.source.addPoint( tempPS );
+				this.target.addPoint( tempPT );
 			}
 		}
 	}
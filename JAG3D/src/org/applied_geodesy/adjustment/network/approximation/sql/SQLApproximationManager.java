@@ -35,7 +35,9 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
+import org.applied_geodesy.adjustment.DefaultValue;
 import org.applied_geodesy.adjustment.EstimationStateType;
 import org.applied_geodesy.adjustment.MathExtension;
 import org.applied_geodesy.adjustment.network.ObservationType;
@@ -50,9 +52,12 @@ import org.applied_geodesy.adjustment.network.approximation.bundle.point.Point;
 import org.applied_geodesy.adjustment.network.approximation.bundle.point.Point1D;
 import org.applied_geodesy.adjustment.network.approximation.bundle.point.Point2D;
 import org.applied_geodesy.jag3d.ui.table.row.TerrestrialObservationRow;
+import org.applied_geodesy.util.concurrent.ParallelTaskExecutor;
 import org.applied_geodesy.util.sql.DataBase;
 
 public class SQLApproximationManager implements PropertyChangeListener {
+	// Festpunkt B wird bei der Bildung der Vorwaertsschnitte tmp. auf 10/20 gesetzt
+	private final static int FORWARD_INTERSECTION_OFFSET_X = 10, FORWARD_INTERSECTION_OFFSET_Y = 20;
 	private final PropertyChangeSupport change = new PropertyChangeSupport(this);
 	private final DataBase dataBase;
 	private boolean estimateDatumPoints = false;
@@ -68,6 +73,7 @@ public class SQLApproximationManager implements PropertyChangeListener {
 	private EstimationStateType estimationStatus1D = EstimationStateType.ERROR_FREE_ESTIMATION;
 	private EstimationStateType estimationStatus2D = EstimationStateType.ERROR_FREE_ESTIMATION;
 	private AutomatedApproximationAdjustment approximationAdjustment = null;
+	private TerrestrialObservationIndex observationIndex = null;
 	
 	public SQLApproximationManager(DataBase dataBase) {
 		if (dataBase == null || !dataBase.isOpen())
@@ -110,6 +116,17 @@ public class SQLApproximationManager implements PropertyChangeListener {
 
 		this.clearAll();
 		
+		// Lade alle Beobachtungen einmalig, um wiederholte Abfragen je Punkt zu vermeiden
+		this.observationIndex = new TerrestrialObservationIndex(this.dataBase);
+		try {
+			this.estimateApproximationValues(threshold);
+		}
+		finally {
+			this.observationIndex = null;
+		}
+	}
+	
+	private void estimateApproximationValues(double threshold) throws SQLException {
 		// Suche alle Fest- und Anschlusspunkte,
 		// da diese bereits als Zielsystem genutzt
 		// werden - eine Berechnung dieser Punkte
@@ -338,21 +355,7 @@ public class SQLApproximationManager implements PropertyChangeListener {
 			}
 
 			// Fuege Systeme hinzu, die per Vorwaertsschnitt entstehen
-			for (Map.Entry<String, Set<String>> directionLink : this.directionLinks.entrySet()) {
-				String fixPointIdA = directionLink.getKey();
-				Point fixPointA = pointMap.get(fixPointIdA);
-				for (String fixPointIdB : directionLink.getValue()) {
-					if (this.directionLinks.containsKey(fixPointIdB) && this.directionLinks.get(fixPointIdB).contains(fixPointIdA)) {
-						// Suche nach Vorwaertsschnitten
-						//System.out.println(fixPointIdA+"  "+fixPointIdB);
-						Point fixPointB = pointMap.get(fixPointIdB);
-						this.addForwardIntersectionCombinations(fixPointA, fixPointB);
-					}
-				}
-				// Entferne die abgearbeiteten Verknüpfungen um Rückverlinkungen zu unterbinden.
-				directionLink.getValue().clear();
-				fixPointA.joinBundles();
-			}
+			this.addForwardIntersectionSystems(pointMap);
 			this.directionLinks.clear();
 		}
 		
@@ -797,25 +800,19 @@ public class SQLApproximationManager implements PropertyChangeListener {
 	}
 
 	private Point2D getForwardIntersectionPoint(String newPointId, PointBundle bundle) throws SQLException {
-		String sql = "SELECT DISTINCT \"start_point_name\", \"group_id\" FROM \"ObservationApriori\" AS \"o1\" " +
-				"JOIN \"ObservationGroup\" AS \"g1\" ON \"g1\".\"id\" = \"o1\".\"group_id\" AND \"g1\".\"enable\" = TRUE " +
-				"JOIN \"PointApriori\" ON \"PointApriori\".\"name\" = \"o1\".\"start_point_name\" AND \"PointApriori\".\"enable\" = TRUE " +
-				"JOIN \"PointGroup\" ON \"PointApriori\".\"group_id\" = \"PointGroup\".\"id\" AND \"PointGroup\".\"enable\" = TRUE " +
-				"WHERE \"o1\".\"enable\" = TRUE AND \"g1\".\"type\" = ? AND \"o1\".\"end_point_name\" = ?";
-
 		// Gruppen ID als Index
 		List<Integer> groups = new ArrayList<Integer>();
 		// Gruppen ID als Index mit zugehoerigem Endpunkt und Messung
 		Map<Integer, TerrestrialObservationRow> directionSets = new LinkedHashMap<Integer, TerrestrialObservationRow>();
 		// Ermittel gemeinsame Startpunkte von N
-		PreparedStatement statement = this.dataBase.getPreparedStatement(sql);
-		statement.setInt(1, ObservationType.DIRECTION.getId());
-		statement.setString(2, newPointId);
+		Set<String> stationGroups = new HashSet<String>();
+		for (TerrestrialObservationRow observation : this.observationIndex.getIncomingObservations(newPointId, ObservationType.DIRECTION)) {
+			int groupId = observation.getGroupId();
+			String startPointName = observation.getStartPointName();
 
-		ResultSet result = statement.executeQuery();
-		while (result.next()) {
-			int groupId = result.getInt("group_id");
-			String startPointName = result.getString("start_point_name");
+			// Jede Kombination aus Standpunkt und Gruppe nur einmal auswerten
+			if (!stationGroups.add(groupId + "\0" + startPointName))
+				continue;
 
 			// Wenn der Standpunkt unbekannt ist, ignoriere diesen
 			if (!bundle.contains(startPointName))
@@ -859,6 +856,63 @@ public class SQLApproximationManager implements PropertyChangeListener {
 		return (Point2D)this.getMedianPoint(points);
 	}
 
+	/**
+	 * Erzeugt die Sub-Systeme aller beidseitig per Richtungen verknuepften Standpunkte. Die Vorwaertsschnitte
+	 * der einzelnen Kombinationen sind voneinander unabhaengig und werden (ggf. parallel) vorab berechnet.
+	 * Das Hinzufuegen der Sub-Systeme erfolgt anschliessend in der Reihenfolge der Verknuepfungen, sodass das
+	 * Ergebnis unabhaengig von der Anzahl der Threads ist.
+	 * 
+	 * @param pointMap
+	 * @throws SQLException
+	 */
+	private void addForwardIntersectionSystems(Map<String, Point> pointMap) throws SQLException {
+		List<Point[]> combinations = new ArrayList<Point[]>();
+		List<Integer> numberOfCombinations = new ArrayList<Integer>(this.directionLinks.size());
+		Set<String> processedPointNames = new HashSet<String>();
+		for (Map.Entry<String, Set<String>> directionLink : this.directionLinks.entrySet()) {
+			String fixPointIdA = directionLink.getKey();
+			Point fixPointA = pointMap.get(fixPointIdA);
+			int counter = 0;
+			for (String fixPointIdB : directionLink.getValue()) {
+				// Abgearbeitete Verknuepfungen werden ignoriert, um Rueckverlinkungen zu unterbinden.
+				if (!processedPointNames.contains(fixPointIdB) && this.directionLinks.containsKey(fixPointIdB) && this.directionLinks.get(fixPointIdB).contains(fixPointIdA)) {
+					combinations.add(new Point[] {fixPointA, pointMap.get(fixPointIdB)});
+					counter++;
+				}
+			}
+			processedPointNames.add(fixPointIdA);
+			numberOfCombinations.add(counter);
+		}
+
+		// Suche nach Vorwaertsschnitten
+		final List<Map<String, Point2D>> forwardIntersections = new ArrayList<Map<String, Point2D>>(Collections.nCopies(combinations.size(), Collections.<String, Point2D>emptyMap()));
+		new ParallelTaskExecutor(DefaultValue.getNumberOfThreads()).execute(combinations.size(), (fromIndex, toIndex) -> {
+			for (int i=fromIndex; i<toIndex; i++) {
+				if (this.interrupt)
+					return false;
+				Point[] combination = combinations.get(i);
+				forwardIntersections.set(i, this.getForwardIntersections(combination[0].getName(), combination[1].getName()));
+			}
+			return true;
+		});
+
+		if (this.interrupt)
+			return;
+
+		int idx = 0, k = 0;
+		for (Map.Entry<String, Set<String>> directionLink : this.directionLinks.entrySet()) {
+			Point fixPointA = pointMap.get(directionLink.getKey());
+			int counter = numberOfCombinations.get(idx++);
+			for (int i=0; i<counter; i++, k++) {
+				Point[] combination = combinations.get(k);
+				this.addForwardIntersectionCombinations(combination[0], combination[1], forwardIntersections.get(k));
+			}
+			// Entferne die abgearbeiteten Verknuepfungen um Rueckverlinkungen zu unterbinden.
+			directionLink.getValue().clear();
+			fixPointA.joinBundles();
+		}
+	}
+
 	/**
 	 * Erzeugt Sub-Systeme, die per Vorwaertsschnitt entstehen. Berechnet den Neupunkt.
 	 * Benoetigt die beiden Festpunkte. Der Festpunkt B wird tmp. auf 10/20 gesetzt, sodass
@@ -867,11 +921,10 @@ public class SQLApproximationManager implements PropertyChangeListener {
 	 * 
 	 * @param fixPointA
 	 * @param fixPointB
+	 * @param intersectionPoints Vorwaertsschnitte im tmp. System, vgl. getForwardIntersections()
 	 */
-	private void addForwardIntersectionCombinations(Point referencePointA, Point referencePointB) throws SQLException {
-		int offsetX = 10, offsetY = 20;
-
-		ForwardIntersectionSet forwardIntersections = new ForwardIntersectionSet();
+	private void addForwardIntersectionCombinations(Point referencePointA, Point referencePointB, Map<String, Point2D> intersectionPoints) {
+		int offsetX = FORWARD_INTERSECTION_OFFSET_X, offsetY = FORWARD_INTERSECTION_OFFSET_Y;
 
 		String referencePointNameA = referencePointA.getName();  
 		String referencePointNameB = referencePointB.getName();
@@ -879,89 +932,63 @@ public class SQLApproximationManager implements PropertyChangeListener {
 		Point2D tmpReferencePointA = new Point2D(referencePointNameA, 0, 0);
 		Point2D tmpReferencePointB = new Point2D(referencePointNameB, offsetX, offsetY);
 
-		// SQL gemeinsame Endpunkte von A und B
-		String sqlPoint = "SELECT DISTINCT \"end_point_name\" FROM \"ObservationApriori\" AS \"o1\" " +
-				"JOIN \"PointApriori\" AS \"pa1\" ON \"o1\".\"end_point_name\" = \"pa1\".\"name\" AND \"pa1\".\"enable\" = TRUE " +
-				"JOIN \"PointGroup\" AS \"pg1\" ON \"pa1\".\"group_id\" = \"pg1\".\"id\" AND \"pg1\".\"enable\" = TRUE " +
-				"JOIN \"ObservationApriori\" AS \"o2\" ON \"o1\".\"end_point_name\" = \"o2\".\"end_point_name\" AND \"o1\".\"start_point_name\" != \"o2\".\"start_point_name\" " +
-				"JOIN \"ObservationGroup\" AS \"g1\" ON \"g1\".\"id\" = \"o1\".\"group_id\" AND \"g1\".\"enable\" = TRUE " +
-				"JOIN \"ObservationGroup\" AS \"g2\" ON \"g2\".\"id\" = \"o2\".\"group_id\" AND \"g1\".\"type\" = \"g2\".\"type\" AND \"g2\".\"enable\" = TRUE " +
-				"WHERE \"g1\".\"type\" = ? AND \"o1\".\"start_point_name\" = ? AND  \"o2\".\"start_point_name\" = ?  AND \"o1\".\"enable\" = TRUE AND \"o2\".\"enable\" = TRUE"; 
-
-		// SQL Richtungen von A nach B und <EndPunkt>
-		String sqlObservation = "SELECT \"group_id\", \"end_point_name\", \"value_0\" FROM \"ObservationApriori\" " +
-				"JOIN \"ObservationGroup\" ON \"ObservationGroup\".\"id\" = \"ObservationApriori\".\"group_id\" AND \"ObservationGroup\".\"enable\" = TRUE AND \"ObservationGroup\".\"type\" = ? " +
-				"WHERE \"enable\" = TRUE AND \"start_point_name\" = ? AND \"end_point_name\" IN (?, ?) " +
-				"ORDER BY \"group_id\", \"end_point_name\", \"id\"";
-
-		Set<String> identEndPoints = new LinkedHashSet<String>();
-
-		// Ermittel gemeinsame Endpunkte von A und B und speichere in identEndPoints
-		PreparedStatement statement = this.dataBase.getPreparedStatement(sqlPoint);
-		statement.setInt(1, ObservationType.DIRECTION.getId());
-		statement.setString(2, referencePointNameA);
-		statement.setString(3, referencePointNameB);
-
-		ResultSet result = statement.executeQuery();
-		while (result.next()) {
-			String pointName = result.getString("end_point_name");
+		List<Point2D> identEndPoints = new ArrayList<Point2D>(intersectionPoints.size());
+
+		// Beruecksichtige nur Endpunkte, die noch nicht in beiden Systemen enthalten sind
+		for (Map.Entry<String, Point2D> intersectionPoint : intersectionPoints.entrySet()) {
+			String pointName = intersectionPoint.getKey();
 			if (!referencePointA.containsPointInBundle(pointName) || !referencePointB.containsPointInBundle(pointName))
-				identEndPoints.add(pointName);
+				identEndPoints.add(intersectionPoint.getValue());
 		}
 
-		statement = this.dataBase.getPreparedStatement(sqlObservation);
-		statement.setInt(1, ObservationType.DIRECTION.getId());
+		for (Point2D intersectionPoint : identEndPoints) {
+			referencePointA.addBundle(true);
+			PointBundle bundle = referencePointA.getCurrentBundle();
+			bundle.addPoint( intersectionPoint );
+			bundle.addPoint( tmpReferencePointB );
 
-		for (String pointName : identEndPoints) {
-			statement.setString(4, pointName);
+			referencePointB.addBundle(true);
+			bundle = referencePointB.getCurrentBundle();
+			bundle.addPoint( new Point2D(intersectionPoint.getName(), intersectionPoint.getX() - offsetX, intersectionPoint.getY() - offsetY));
+			bundle.addPoint( new Point2D(tmpReferencePointA.getName(), tmpReferencePointA.getX() - offsetX, tmpReferencePointA.getY() - offsetY));
+		}
+	}
+
+	/**
+	 * Berechnet die Vorwaertsschnitte aller gemeinsamen Endpunkte von A und B im tmp. System (A = 0/0, B = 10/20).
+	 * Die Methode greift nur lesend auf die Beobachtungen zu und kann daher parallel aufgerufen werden.
+	 * 
+	 * @param referencePointNameA
+	 * @param referencePointNameB
+	 * @return intersectionPoints
+	 */
+	private Map<String, Point2D> getForwardIntersections(String referencePointNameA, String referencePointNameB) {
+		Map<String, Point2D> intersectionPoints = new LinkedHashMap<String, Point2D>();
+		ForwardIntersectionSet forwardIntersections = new ForwardIntersectionSet();
 
-			Map<Integer, ArrayList<TerrestrialObservationRow>> observationsA = new LinkedHashMap<Integer, ArrayList<TerrestrialObservationRow>>();
-			Map<Integer, ArrayList<TerrestrialObservationRow>> observationsB = new LinkedHashMap<Integer, ArrayList<TerrestrialObservationRow>>();
+		Point2D tmpReferencePointA = new Point2D(referencePointNameA, 0, 0);
+		Point2D tmpReferencePointB = new Point2D(referencePointNameB, FORWARD_INTERSECTION_OFFSET_X, FORWARD_INTERSECTION_OFFSET_Y);
 
-			// Ermittle Richtungen von A nach B und identEndPoints-Punkten
-			statement.setString(2, referencePointNameA);
-			statement.setString(3, referencePointNameB);
-			result = statement.executeQuery();
-			while (result.next()) {
-				int groupId = result.getInt("group_id");
-				String endPointName = result.getString("end_point_name");
-				double value = result.getDouble("value_0");
-
-				if (!observationsA.containsKey(groupId))
-					observationsA.put(groupId, new ArrayList<TerrestrialObservationRow>());
-
-				TerrestrialObservationRow obs = new TerrestrialObservationRow();
-				obs.setStartPointName(referencePointNameA);
-				obs.setEndPointName(endPointName);
-				obs.setValueApriori(value);
-
-				observationsA.get(groupId).add(obs);
-			}
+		// Ermittel gemeinsame Endpunkte von A und B
+		Set<String> identEndPoints = this.observationIndex.getCommonEndPointNames(referencePointNameA, referencePointNameB, ObservationType.DIRECTION);
+		
+		if (identEndPoints.isEmpty())
+			return intersectionPoints;
 
+		// Richtungssaetze von A und B, aufsteigend nach der Gruppen ID
+		Map<Integer, List<TerrestrialObservationRow>> directionSetsA = new TreeMap<Integer, List<TerrestrialObservationRow>>(this.observationIndex.getObservations(referencePointNameA, null, ObservationType.DIRECTION, -1));
+		Map<Integer, List<TerrestrialObservationRow>> directionSetsB = new TreeMap<Integer, List<TerrestrialObservationRow>>(this.observationIndex.getObservations(referencePointNameB, null, ObservationType.DIRECTION, -1));
+
+		for (String pointName : identEndPoints) {
+			// Ermittle Richtungen von A nach B und identEndPoints-Punkten
+			Map<Integer, List<TerrestrialObservationRow>> observationsA = this.filterDirectionSets(directionSetsA, referencePointNameB, pointName);
 			// Ermittle Richtungen von B nach A und identEndPoints-Punkten
-			statement.setString(2, referencePointNameB);
-			statement.setString(3, referencePointNameA);
-			result = statement.executeQuery();
-			while (result.next()) {
-				int groupId = result.getInt("group_id");
-				String endPointName = result.getString("end_point_name");
-				double value = result.getDouble("value_0");
-
-				if (!observationsB.containsKey(groupId))
-					observationsB.put(groupId, new ArrayList<TerrestrialObservationRow>());
-
-				TerrestrialObservationRow obs = new TerrestrialObservationRow();
-				obs.setStartPointName(referencePointNameB);
-				obs.setEndPointName(endPointName);
-				obs.setValueApriori(value);
-
-				observationsB.get(groupId).add(obs);
-			}
+			Map<Integer, List<TerrestrialObservationRow>> observationsB = this.filterDirectionSets(directionSetsB, referencePointNameA, pointName);
 
 			// erzeuge ein Vorwaertsschnitt-Obj
 			Map<Integer, Map<String, Double>> medianObsA = new LinkedHashMap<Integer, Map<String, Double>>();
 			Map<Integer, Map<String, Double>> medianObsB = new LinkedHashMap<Integer, Map<String, Double>>();
-			for ( Map.Entry<Integer, ArrayList<TerrestrialObservationRow>> groupObsA : observationsA.entrySet() ) {
+			for ( Map.Entry<Integer, List<TerrestrialObservationRow>> groupObsA : observationsA.entrySet() ) {
 				int groupId = groupObsA.getKey();
 				List<TerrestrialObservationRow> obsA = groupObsA.getValue();
 				Map<String, Double> median = this.getMedianDirections(obsA);
@@ -969,7 +996,7 @@ public class SQLApproximationManager implements PropertyChangeListener {
 					medianObsA.put(groupId, median);
 			}
 
-			for ( Map.Entry<Integer, ArrayList<TerrestrialObservationRow>> groupObsB : observationsB.entrySet() ) {
+			for ( Map.Entry<Integer, List<TerrestrialObservationRow>> groupObsB : observationsB.entrySet() ) {
 				int groupId = groupObsB.getKey();
 				List<TerrestrialObservationRow> obsB = groupObsB.getValue();
 				Map<String, Double> median = this.getMedianDirections(obsB);
@@ -991,23 +1018,36 @@ public class SQLApproximationManager implements PropertyChangeListener {
 
 		Map<String, ForwardIntersectionEntry> forwardIntersectionMap = forwardIntersections.getForwardIntersectionsByFixPoints(tmpReferencePointA, tmpReferencePointB);
 		if (forwardIntersectionMap != null) {
-			for ( ForwardIntersectionEntry forwardIntersection : forwardIntersectionMap.values() ) {
-				Point2D intersectionPoint = forwardIntersection.adjust();
-
-				referencePointA.addBundle(true);
-				PointBundle bundle = referencePointA.getCurrentBundle();
-				bundle.addPoint( intersectionPoint );
-				bundle.addPoint( tmpReferencePointB );
-
-				referencePointB.addBundle(true);
-				bundle = referencePointB.getCurrentBundle();
-				bundle.addPoint( new Point2D(intersectionPoint.getName(), intersectionPoint.getX() - offsetX, intersectionPoint.getY() - offsetY));
-				bundle.addPoint( new Point2D(tmpReferencePointA.getName(), tmpReferencePointA.getX() - offsetX, tmpReferencePointA.getY() - offsetY));
-			}
+			for ( Map.Entry<String, ForwardIntersectionEntry> forwardIntersection : forwardIntersectionMap.entrySet() )
+				intersectionPoints.put(forwardIntersection.getKey(), forwardIntersection.getValue().adjust());
 		}
+		return intersectionPoints;
 	}
 
 
+	/**
+	 * Reduziert die Richtungssaetze auf die Beobachtungen zu den beiden Zielpunkten
+	 * 
+	 * @param directionSets
+	 * @param endPointNameA
+	 * @param endPointNameB
+	 * @return filtered direction sets
+	 */
+	private Map<Integer, List<TerrestrialObservationRow>> filterDirectionSets(Map<Integer, List<TerrestrialObservationRow>> directionSets, String endPointNameA, String endPointNameB) {
+		Map<Integer, List<TerrestrialObservationRow>> filteredDirectionSets = new LinkedHashMap<Integer, List<TerrestrialObservationRow>>();
+		for (Map.Entry<Integer, List<TerrestrialObservationRow>> directionSet : directionSets.entrySet()) {
+			List<TerrestrialObservationRow> directions = new ArrayList<TerrestrialObservationRow>();
+			for (TerrestrialObservationRow direction : directionSet.getValue()) {
+				String endPointName = direction.getEndPointName();
+				if (endPointName.equals(endPointNameA) || endPointName.equals(endPointNameB))
+					directions.add(direction);
+			}
+			if (!directions.isEmpty())
+				filteredDirectionSets.put(directionSet.getKey(), directions);
+		}
+		return filteredDirectionSets;
+	}
+
 	/**
 	 * Liefert die Beobachtungen mit beruecksichtigung der Gruppen. Sinnvoll bspw. bei Richtungen, da hier die 
 	 * Saetze eine Orientierung haben. Die Reihenfolge Start-/Zielpunkt wird bei Strecken und Hoehenunterschieden 
@@ -1019,116 +1059,7 @@ public class SQLApproximationManager implements PropertyChangeListener {
 	 * @return observations
 	 */
 	private Map<Integer, List<TerrestrialObservationRow>> getObservations(String startPointName, String endPointName, ObservationType type, int groupId) throws SQLException {
-		Map<Integer, List<TerrestrialObservationRow>> observations = new LinkedHashMap<Integer, List<TerrestrialObservationRow>>();
-		boolean isAngle = type == ObservationType.DIRECTION || type == ObservationType.ZENITH_ANGLE;
-		String sqlFormatObs[] = new String[isAngle ? 1 : 2]; 
-
-		sqlFormatObs[0] = "SELECT " +
-				"\"ObservationApriori\".\"end_point_name\" AS \"end_point_name\", " +
-				"\"ObservationApriori\".\"group_id\" AS \"group_id\", " +
-
-				"\"ObservationApriori\".\"id\" AS \"id\", " +
-
-				"\"ObservationApriori\".\"instrument_height\" AS \"instrument_height\", " +
-				"\"ObservationApriori\".\"reflector_height\" AS \"reflector_height\", " +
-
-				"\"ObservationApriori\".\"value_0\" AS \"value_0\" " +
-
-				"FROM \"ObservationApriori\" INNER JOIN \"ObservationGroup\" ON " +
-				"\"ObservationGroup\".\"id\" = \"ObservationApriori\".\"group_id\" AND " +
-				"\"ObservationGroup\".\"type\" = ? AND " +
-				"\"ObservationApriori\".\"start_point_name\" = ? AND " +
-				(endPointName!=null?"\"ObservationApriori\".\"end_point_name\" = ? AND ":"") +
-				(groupId>=0?"\"ObservationApriori\".\"group_id\" = ? AND ":"") +
-				"\"ObservationApriori\".\"enable\" = TRUE AND " +
-				"\"ObservationGroup\".\"enable\" = TRUE " +
-
-				"INNER JOIN \"PointApriori\" AS \"ps\" " +
-				"ON \"ObservationApriori\".\"start_point_name\" = \"ps\".\"name\" AND \"ps\".\"enable\" = TRUE " +
-				"INNER JOIN \"PointApriori\" AS \"pe\" " +
-				"ON \"ObservationApriori\".\"end_point_name\" = \"pe\".\"name\" AND \"pe\".\"enable\" = TRUE " +
-
-				"INNER JOIN \"PointGroup\" AS \"gs\" " +
-				"ON \"ps\".\"group_id\" = \"gs\".\"id\" AND \"gs\".\"enable\" = TRUE " +
-				"INNER JOIN \"PointGroup\" AS \"ge\" " +
-				"ON \"pe\".\"group_id\" = \"ge\".\"id\" AND \"ge\".\"enable\" = TRUE " +						
-
-				"ORDER BY \"ObservationApriori\".\"id\" ASC"; 
-
-		// Abstaende (Strecken und Hoehenunterschiede) werden im Hin- und Rueckweg ausgelesen,
-		// beim Nivellement wird der Wert negiert --> -dH
-		// SQL ist identisch mit o.g.; vertauscht jedoch Start- und Zielpunkt; 
-		if (!isAngle) {
-			sqlFormatObs[1] = "SELECT " +
-					"\"ObservationApriori\".\"start_point_name\" AS \"end_point_name\", " +
-					"\"ObservationApriori\".\"group_id\" AS \"group_id\", " +
-
-					"\"ObservationApriori\".\"id\" AS \"id\", " +
-
-					"\"ObservationApriori\".\"instrument_height\" AS \"reflector_height\", " +
-					"\"ObservationApriori\".\"reflector_height\" AS \"instrument_height\", " +
-
-					(type == ObservationType.LEVELING?"-":"") + "\"ObservationApriori\".\"value_0\" AS \"value_0\" " +
-
-					"FROM \"ObservationApriori\" INNER JOIN \"ObservationGroup\" ON " +
-					"\"ObservationGroup\".\"id\" = \"ObservationApriori\".\"group_id\" AND " +
-					"\"ObservationGroup\".\"type\" = ? AND " +
-					"\"ObservationApriori\".\"end_point_name\" = ? AND " +
-					(endPointName!=null?"\"ObservationApriori\".\"start_point_name\" = ? AND ":"") +
-					(groupId>=0?"\"ObservationApriori\".\"group_id\" = ? AND ":"") +
-					"\"ObservationApriori\".\"enable\" = TRUE AND " +
-					"\"ObservationGroup\".\"enable\" = TRUE " +
-
-					"INNER JOIN \"PointApriori\" AS \"ps\" " +
-					"ON \"ObservationApriori\".\"start_point_name\" = \"ps\".\"name\" AND \"ps\".\"enable\" = TRUE " +
-					"INNER JOIN \"PointApriori\" AS \"pe\" " +
-					"ON \"ObservationApriori\".\"end_point_name\" = \"pe\".\"name\" AND \"pe\".\"enable\" = TRUE " +
-
-					"INNER JOIN \"PointGroup\" AS \"gs\" " +
-					"ON \"ps\".\"group_id\" = \"gs\".\"id\" AND \"gs\".\"enable\" = TRUE " +
-					"INNER JOIN \"PointGroup\" AS \"ge\" " +
-					"ON \"pe\".\"group_id\" = \"ge\".\"id\" AND \"ge\".\"enable\" = TRUE " +						
-
-					"ORDER BY \"ObservationApriori\".\"id\" ASC";
-		}
-
-		PreparedStatement statementPointObservations = null;
-		for (String sqlFormatOb : sqlFormatObs) {
-			int col = 1;
-			statementPointObservations = this.dataBase.getPreparedStatement(sqlFormatOb);
-			statementPointObservations.setInt(col++, type.getId());
-			statementPointObservations.setString(col++, startPointName);
-			if (endPointName != null)
-				statementPointObservations.setString(col++, endPointName);
-			if (groupId >= 0)
-				statementPointObservations.setInt(col++, groupId);
-
-			ResultSet obsSet = statementPointObservations.executeQuery();
-			while (obsSet.next()) {
-				endPointName = obsSet.getString("end_point_name");
-				int group_id = obsSet.getInt("group_id");
-				double value = obsSet.getDouble("value_0");
-				double ih = obsSet.getDouble("instrument_height");
-				double th = obsSet.getDouble("reflector_height");
-
-				TerrestrialObservationRow obs = new TerrestrialObservationRow();
-				obs.setStartPointName(startPointName);
-				obs.setEndPointName(endPointName);
-				obs.setInstrumentHeight(ih);
-				obs.setReflectorHeight(th);
-				obs.setValueApriori(value);
-
-				if (observations.containsKey(group_id)) {
-					observations.get(group_id).add(obs);
-				}
-				else {
-					List<TerrestrialObservationRow> obsList = new ArrayList<TerrestrialObservationRow>();
-					obsList.add(obs);
-					observations.put(group_id, obsList);
-				}
-			}
-		}
-		return observations;
+		return this.observationIndex.getObservations(startPointName, endPointName, type, groupId);
 	}
 
 	/**
@@ -1141,90 +1072,7 @@ public class SQLApproximationManager implements PropertyChangeListener {
 	 * @return observations
 	 */
 	private List<TerrestrialObservationRow> getTerrestrialObservationsIgnoreGroups(String startPointName, ObservationType type) throws SQLException {
-		List<TerrestrialObservationRow> observations = new ArrayList<TerrestrialObservationRow>();
-
-		String sqlFormatObs = "SELECT " +
-				"\"ObservationApriori\".\"end_point_name\" AS \"end_point_name\", " +
-				"\"ObservationApriori\".\"group_id\" AS \"group_id\", " +
-
-				"\"ObservationApriori\".\"instrument_height\" AS \"instrument_height\", " +
-				"\"ObservationApriori\".\"reflector_height\" AS \"reflector_height\", " +
-
-				"\"ObservationApriori\".\"value_0\" AS \"value_0\" " +
-
-				"FROM \"ObservationApriori\" JOIN \"ObservationGroup\" ON " +
-				"\"ObservationGroup\".\"id\" = \"ObservationApriori\".\"group_id\" AND " +
-				"\"ObservationGroup\".\"type\" = ? AND " +
-				"\"ObservationApriori\".\"start_point_name\" = ? AND " +
-				"\"ObservationApriori\".\"enable\" = TRUE AND " +
-				"\"ObservationGroup\".\"enable\" = TRUE " +
-
-				"JOIN \"PointApriori\" AS \"ps\" " +
-				"ON \"ObservationApriori\".\"start_point_name\" = \"ps\".\"name\" AND \"ps\".\"enable\" = TRUE " +
-				"JOIN \"PointApriori\" AS \"pe\" " +
-				"ON \"ObservationApriori\".\"end_point_name\" = \"pe\".\"name\" AND \"pe\".\"enable\" = TRUE " +
-
-				"JOIN \"PointGroup\" AS \"gs\" " +
-				"ON \"ps\".\"group_id\" = \"gs\".\"id\" AND \"gs\".\"enable\" = TRUE " +
-				"JOIN \"PointGroup\" AS \"ge\" " +
-				"ON \"pe\".\"group_id\" = \"ge\".\"id\" AND \"ge\".\"enable\" = TRUE";
-
-		// Abstaende (Strecken und Hoehenunterschiede) werden im Hin- und Rueckweg ausgelesen,
-		// beim Nivellement wird der Wert negiert --> -dH
-		// Fuer Zenitwinkel wird die Gegenvisur bestimmt --> z = 200 - zHin
-		// SQL ist identisch mit o.g.; vertauscht jedoch Start- und Zielpunkt; 
-		if (type != ObservationType.DIRECTION) {
-			sqlFormatObs += " UNION ALL SELECT " +
-					"\"ObservationApriori\".\"start_point_name\" AS \"end_point_name\", " +
-					"\"ObservationApriori\".\"group_id\" AS \"group_id\", " +
-
-					"\"ObservationApriori\".\"instrument_height\" AS \"reflector_height\", " +
-					"\"ObservationApriori\".\"reflector_height\" AS \"instrument_height\", " +
-
-					(type == ObservationType.LEVELING ? "-" : type == ObservationType.ZENITH_ANGLE ? "PI()-" : "") + "\"ObservationApriori\".\"value_0\" AS \"value_0\" " +
-
-					"FROM \"ObservationApriori\" JOIN \"ObservationGroup\" ON " +
-					"\"ObservationGroup\".\"id\" = \"ObservationApriori\".\"group_id\" AND " +
-					"\"ObservationGroup\".\"type\" = ? AND " +
-					"\"ObservationApriori\".\"end_point_name\" = ? AND " +
-					"\"ObservationApriori\".\"enable\" = TRUE AND " +
-					"\"ObservationGroup\".\"enable\" = TRUE " +
-
-					"JOIN \"PointApriori\" AS \"ps\" " +
-					"ON \"ObservationApriori\".\"start_point_name\" = \"ps\".\"name\" AND \"ps\".\"enable\" = TRUE " +
-					"JOIN \"PointApriori\" AS \"pe\" " +
-					"ON \"ObservationApriori\".\"end_point_name\" = \"pe\".\"name\" AND \"pe\".\"enable\" = TRUE " +
-
-					"JOIN \"PointGroup\" AS \"gs\" " +
-					"ON \"ps\".\"group_id\" = \"gs\".\"id\" AND \"gs\".\"enable\" = TRUE " +
-					"JOIN \"PointGroup\" AS \"ge\" " +
-					"ON \"pe\".\"group_id\" = \"ge\".\"id\" AND \"ge\".\"enable\" = TRUE";
-		}
-
-		PreparedStatement statementPointObservations = null;
-		statementPointObservations = this.dataBase.getPreparedStatement(sqlFormatObs);				
-		statementPointObservations.setInt(1, type.getId());
-		statementPointObservations.setString(2, startPointName);
-		if (type != ObservationType.DIRECTION) {
-			statementPointObservations.setInt(3, type.getId());
-			statementPointObservations.setString(4, startPointName);
-		}
-
-		ResultSet obsSet = statementPointObservations.executeQuery();
-		while (obsSet.next()) {
-			String endPointName = obsSet.getString("end_point_name");
-			double value = obsSet.getDouble("value_0");
-			double ih = obsSet.getDouble("instrument_height");
-			double th = obsSet.getDouble("reflector_height");
-			TerrestrialObservationRow obs = new TerrestrialObservationRow();
-			obs.setStartPointName(startPointName);
-			obs.setEndPointName(endPointName);
-			obs.setInstrumentHeight(ih);
-			obs.setReflectorHeight(th);
-			obs.setValueApriori(value);
-			observations.add(obs);
-		}
-		return observations;
+		return this.observationIndex.getTerrestrialObservationsIgnoreGroups(startPointName, type);
 	}
 
 	private List<String> getPointNames(int dim, boolean stationsOnly) throws SQLException {
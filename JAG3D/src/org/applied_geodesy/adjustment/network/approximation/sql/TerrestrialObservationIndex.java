@@ -0,0 +1,341 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.adjustment.network.approximation.sql;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.applied_geodesy.adjustment.network.ObservationType;
+import org.applied_geodesy.jag3d.ui.table.row.TerrestrialObservationRow;
+import org.applied_geodesy.util.sql.DataBase;
+
+/**
+ * Haelt alle aktivierten terrestrischen Beobachtungen, die fuer die Naeherungswertbestimmung
+ * benoetigt werden, im Speicher vor. Die Beobachtungen werden einmalig gelesen und spaltenweise in
+ * primitiven Feldern abgelegt. Fuer jeden Beobachtungstyp existiert eine Adjazenzliste, die je Punkt
+ * die abgehenden und ankommenden Beobachtungen (aufsteigend nach der ID) referenziert. Die Abfragen
+ * des SQLApproximationManager erfolgen somit ohne weiteren Datenbankzugriff.
+ */
+class TerrestrialObservationIndex {
+	private static final int FETCH_SIZE = 10000;
+	private static final ObservationType OBSERVATION_TYPES[] = new ObservationType[] {
+			ObservationType.LEVELING,
+			ObservationType.DIRECTION,
+			ObservationType.HORIZONTAL_DISTANCE,
+			ObservationType.SLOPE_DISTANCE,
+			ObservationType.ZENITH_ANGLE
+	};
+
+	/**
+	 * Adjazenzliste im CSR-Format; die Beobachtungen des Punktes i liegen in rows[offsets[i]] bis rows[offsets[i+1]-1]
+	 */
+	private static class Adjacency {
+		private final int offsets[], rows[];
+
+		private Adjacency(int offsets[], int rows[]) {
+			this.offsets = offsets;
+			this.rows = rows;
+		}
+	}
+
+	private final Map<String, Integer> pointIndices = new HashMap<String, Integer>();
+	private final List<String> pointNames = new ArrayList<String>();
+	private final BitSet enabledPoints = new BitSet();
+	private final Map<ObservationType, Adjacency> outgoingObservations = new HashMap<ObservationType, Adjacency>(OBSERVATION_TYPES.length);
+	private final Map<ObservationType, Adjacency> incomingObservations = new HashMap<ObservationType, Adjacency>(OBSERVATION_TYPES.length);
+
+	private int size = 0;
+	private int groupIds[]       = new int[0];
+	private int types[]          = new int[0];
+	private int startPoints[]    = new int[0];
+	private int endPoints[]      = new int[0];
+	private double instrumentHeights[] = new double[0];
+	private double reflectorHeights[]  = new double[0];
+	private double values[]            = new double[0];
+
+	TerrestrialObservationIndex(DataBase dataBase) throws SQLException {
+		this.loadEnabledPoints(dataBase);
+		this.loadObservations(dataBase);
+		for (ObservationType type : OBSERVATION_TYPES) {
+			this.outgoingObservations.put(type, this.createAdjacency(type, this.startPoints));
+			this.incomingObservations.put(type, this.createAdjacency(type, this.endPoints));
+		}
+	}
+
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Liefert die terr. Beobachtungen *ohne* Beruecksichtigung der Gruppen. Abstaende und Zenitwinkel werden
+	 * zusaetzlich im Rueckweg beruecksichtigt, vgl. SQLApproximationManager.
+	 *
+	 * @param startPointName
+	 * @param type
+	 * @return observations
+	 */
+	List<TerrestrialObservationRow> getTerrestrialObservationsIgnoreGroups(String startPointName, ObservationType type) {
+		List<TerrestrialObservationRow> observations = new ArrayList<TerrestrialObservationRow>();
+		Integer pointIndex = this.pointIndices.get(startPointName);
+		if (pointIndex == null || !this.enabledPoints.get(pointIndex))
+			return observations;
+
+		Adjacency adjacency = this.outgoingObservations.get(type);
+		for (int k = adjacency.offsets[pointIndex]; k < adjacency.offsets[pointIndex + 1]; k++) {
+			int row = adjacency.rows[k];
+			if (this.enabledPoints.get(this.endPoints[row]))
+				observations.add(this.createObservation(row, false));
+		}
+
+		if (type != ObservationType.DIRECTION) {
+			adjacency = this.incomingObservations.get(type);
+			for (int k = adjacency.offsets[pointIndex]; k < adjacency.offsets[pointIndex + 1]; k++) {
+				int row = adjacency.rows[k];
+				if (this.enabledPoints.get(this.startPoints[row]))
+					observations.add(this.createObservation(row, true));
+			}
+		}
+		return observations;
+	}
+
+	/**
+	 * Liefert die Beobachtungen mit Beruecksichtigung der Gruppen. Die Reihenfolge Start-/Zielpunkt wird bei
+	 * Strecken und Hoehenunterschieden nicht beachtet, vgl. SQLApproximationManager.
+	 *
+	 * @param startPointName
+	 * @param endPointName
+	 * @param type
+	 * @param groupId
+	 * @return observations
+	 */
+	Map<Integer, List<TerrestrialObservationRow>> getObservations(String startPointName, String endPointName, ObservationType type, int groupId) {
+		Map<Integer, List<TerrestrialObservationRow>> observations = new LinkedHashMap<Integer, List<TerrestrialObservationRow>>();
+		Integer pointIndex = this.pointIndices.get(startPointName);
+		if (pointIndex == null || !this.enabledPoints.get(pointIndex))
+			return observations;
+
+		int endPointIndex = -1;
+		if (endPointName != null) {
+			Integer index = this.pointIndices.get(endPointName);
+			if (index == null)
+				return observations;
+			endPointIndex = index;
+		}
+
+		boolean isAngle = type == ObservationType.DIRECTION || type == ObservationType.ZENITH_ANGLE;
+
+		for (int i = 0; i < (isAngle ? 1 : 2); i++) {
+			boolean reverse = i > 0;
+			Adjacency adjacency = reverse ? this.incomingObservations.get(type) : this.outgoingObservations.get(type);
+			int oppositePoints[] = reverse ? this.startPoints : this.endPoints;
+
+			for (int k = adjacency.offsets[pointIndex]; k < adjacency.offsets[pointIndex + 1]; k++) {
+				int row = adjacency.rows[k];
+				int oppositePoint = oppositePoints[row];
+				if (!this.enabledPoints.get(oppositePoint) || endPointIndex >= 0 && oppositePoint != endPointIndex || groupId >= 0 && this.groupIds[row] != groupId)
+					continue;
+
+				TerrestrialObservationRow obs = this.createObservation(row, reverse);
+				List<TerrestrialObservationRow> obsList = observations.get(this.groupIds[row]);
+				if (obsList == null) {
+					obsList = new ArrayList<TerrestrialObservationRow>();
+					observations.put(this.groupIds[row], obsList);
+				}
+				obsList.add(obs);
+			}
+		}
+		return observations;
+	}
+
+	/**
+	 * Liefert alle Beobachtungen, die im Punkt <code>endPointName</code> enden und deren Standpunkt aktiviert ist.
+	 * Die Gruppen-ID ist in der Beobachtung gesetzt.
+	 *
+	 * @param endPointName
+	 * @param type
+	 * @return observations
+	 */
+	List<TerrestrialObservationRow> getIncomingObservations(String endPointName, ObservationType type) {
+		List<TerrestrialObservationRow> observations = new ArrayList<TerrestrialObservationRow>();
+		Integer pointIndex = this.pointIndices.get(endPointName);
+		if (pointIndex == null)
+			return observations;
+
+		Adjacency adjacency = this.incomingObservations.get(type);
+		for (int k = adjacency.offsets[pointIndex]; k < adjacency.offsets[pointIndex + 1]; k++) {
+			int row = adjacency.rows[k];
+			if (this.enabledPoints.get(this.startPoints[row]))
+				observations.add(this.createObservation(row, false));
+		}
+		return observations;
+	}
+
+	/**
+	 * Liefert die (aktivierten) Zielpunkte, die sowohl vom Standpunkt A als auch vom Standpunkt B beobachtet wurden
+	 *
+	 * @param startPointNameA
+	 * @param startPointNameB
+	 * @param type
+	 * @return endPointNames
+	 */
+	Set<String> getCommonEndPointNames(String startPointNameA, String startPointNameB, ObservationType type) {
+		Set<String> endPointNames = new LinkedHashSet<String>();
+		Integer pointIndexA = this.pointIndices.get(startPointNameA);
+		Integer pointIndexB = this.pointIndices.get(startPointNameB);
+		if (pointIndexA == null || pointIndexB == null || pointIndexA.intValue() == pointIndexB.intValue())
+			return endPointNames;
+
+		Adjacency adjacency = this.outgoingObservations.get(type);
+
+		BitSet endPointsB = new BitSet();
+		for (int k = adjacency.offsets[pointIndexB]; k < adjacency.offsets[pointIndexB + 1]; k++)
+			endPointsB.set(this.endPoints[adjacency.rows[k]]);
+
+		for (int k = adjacency.offsets[pointIndexA]; k < adjacency.offsets[pointIndexA + 1]; k++) {
+			int endPoint = this.endPoints[adjacency.rows[k]];
+			if (endPointsB.get(endPoint) && this.enabledPoints.get(endPoint))
+				endPointNames.add(this.pointNames.get(endPoint));
+		}
+		return endPointNames;
+	}
+
+	private TerrestrialObservationRow createObservation(int row, boolean reverse) {
+		ObservationType type = ObservationType.getEnumByValue(this.types[row]);
+		double value = this.values[row];
+
+		// Abstaende (Strecken und Hoehenunterschiede) werden im Hin- und Rueckweg genutzt,
+		// beim Nivellement wird der Wert negiert --> -dH
+		// Fuer Zenitwinkel wird die Gegenvisur bestimmt --> z = 200 - zHin
+		if (reverse && type == ObservationType.LEVELING)
+			value = -value;
+		else if (reverse && type == ObservationType.ZENITH_ANGLE)
+			value = Math.PI - value;
+
+		TerrestrialObservationRow obs = new TerrestrialObservationRow();
+		obs.setGroupId(this.groupIds[row]);
+		obs.setStartPointName(this.pointNames.get(reverse ? this.endPoints[row] : this.startPoints[row]));
+		obs.setEndPointName(this.pointNames.get(reverse ? this.startPoints[row] : this.endPoints[row]));
+		obs.setInstrumentHeight(reverse ? this.reflectorHeights[row] : this.instrumentHeights[row]);
+		obs.setReflectorHeight(reverse ? this.instrumentHeights[row] : this.reflectorHeights[row]);
+		obs.setValueApriori(value);
+		return obs;
+	}
+
+	private void loadEnabledPoints(DataBase dataBase) throws SQLException {
+		String sql = "SELECT \"name\" FROM \"PointApriori\" " +
+				"JOIN \"PointGroup\" ON \"PointApriori\".\"group_id\" = \"PointGroup\".\"id\" " +
+				"WHERE \"PointGroup\".\"enable\" = TRUE AND \"PointApriori\".\"enable\" = TRUE";
+
+		PreparedStatement statement = dataBase.getPreparedStatement(sql);
+		statement.setFetchSize(FETCH_SIZE);
+		ResultSet pointSet = statement.executeQuery();
+		while (pointSet.next())
+			this.enabledPoints.set(this.getPointIndex(pointSet.getString("name")));
+		pointSet.close();
+	}
+
+	private void loadObservations(DataBase dataBase) throws SQLException {
+		String sql = "SELECT " +
+				"\"ObservationApriori\".\"group_id\", \"ObservationGroup\".\"type\", " +
+				"\"ObservationApriori\".\"start_point_name\", \"ObservationApriori\".\"end_point_name\", " +
+				"\"ObservationApriori\".\"instrument_height\", \"ObservationApriori\".\"reflector_height\", " +
+				"\"ObservationApriori\".\"value_0\" " +
+				"FROM \"ObservationApriori\" " +
+				"JOIN \"ObservationGroup\" ON \"ObservationGroup\".\"id\" = \"ObservationApriori\".\"group_id\" AND \"ObservationGroup\".\"enable\" = TRUE " +
+				"WHERE \"ObservationApriori\".\"enable\" = TRUE AND \"ObservationGroup\".\"type\" IN (?,?,?,?,?) " +
+				"ORDER BY \"ObservationApriori\".\"id\" ASC";
+
+		PreparedStatement statement = dataBase.getPreparedStatement(sql);
+		for (int i = 0; i < OBSERVATION_TYPES.length; i++)
+			statement.setInt(i + 1, OBSERVATION_TYPES[i].getId());
+		statement.setFetchSize(FETCH_SIZE);
+
+		ResultSet observationSet = statement.executeQuery();
+		while (observationSet.next()) {
+			if (this.size == this.values.length)
+				this.ensureCapacity(Math.max(1024, 2 * this.size));
+
+			int row = this.size++;
+			this.groupIds[row]          = observationSet.getInt("group_id");
+			this.types[row]             = observationSet.getInt("type");
+			this.startPoints[row]       = this.getPointIndex(observationSet.getString("start_point_name"));
+			this.endPoints[row]         = this.getPointIndex(observationSet.getString("end_point_name"));
+			this.instrumentHeights[row] = observationSet.getDouble("instrument_height");
+			this.reflectorHeights[row]  = observationSet.getDouble("reflector_height");
+			this.values[row]            = observationSet.getDouble("value_0");
+		}
+		observationSet.close();
+	}
+
+	private Adjacency createAdjacency(ObservationType type, int points[]) {
+		int typeId = type.getId();
+		int numberOfPoints = this.pointNames.size();
+		int offsets[] = new int[numberOfPoints + 1];
+
+		for (int row = 0; row < this.size; row++) {
+			if (this.types[row] == typeId)
+				offsets[points[row] + 1]++;
+		}
+
+		for (int i = 0; i < numberOfPoints; i++)
+			offsets[i + 1] += offsets[i];
+
+		int rows[] = new int[offsets[numberOfPoints]];
+		int position[] = Arrays.copyOf(offsets, numberOfPoints);
+		// Zeilen liegen aufsteigend nach der ID vor, sodass die Reihenfolge erhalten bleibt
+		for (int row = 0; row < this.size; row++) {
+			if (this.types[row] == typeId)
+				rows[position[points[row]]++] = row;
+		}
+		return new Adjacency(offsets, rows);
+	}
+
+	private int getPointIndex(String pointName) {
+		Integer index = this.pointIndices.get(pointName);
+		if (index == null) {
+			index = this.pointNames.size();
+			this.pointIndices.put(pointName, index);
+			this.pointNames.add(pointName);
+		}
+		return index;
+	}
+
+	private void ensureCapacity(int capacity) {
+		this.groupIds          = Arrays.copyOf(this.groupIds, capacity);
+		this.types             = Arrays.copyOf(this.types, capacity);
+		this.startPoints       = Arrays.copyOf(this.startPoints, capacity);
+		this.endPoints         = Arrays.copyOf(this.endPoints, capacity);
+		this.instrumentHeights = Arrays.copyOf(this.instrumentHeights, capacity);
+		this.reflectorHeights  = Arrays.copyOf(this.reflectorHeights, capacity);
+		this.values            = Arrays.copyOf(this.values, capacity);
+	}
+}
@@ -362,6 +362,83 @@ public class Direction extends Observation {
 		return th*crxe*(v*Math.cos(rye - rys) + u*Math.sin(rye - rys)*srxs)/distSqr2D;
 	}
 	
+	@Override
+	public void getJacobiElements(double elements[]) {
+		double xs = this.getStartPoint().getX();
+		double ys = this.getStartPoint().getY();
+		double zs = this.getStartPoint().getZ();
+		
+		double xe = this.getEndPoint().getX();
+		double ye = this.getEndPoint().getY();
+		double ze = this.getEndPoint().getZ();
+		
+		double ih = this.getStartPointHeight();
+		double th = this.getEndPointHeight();
+		
+		double rxs = this.getStartPoint().getVerticalDeflectionX().getValue();
+		double rys = this.getStartPoint().getVerticalDeflectionY().getValue();
+		
+		double rxe = this.getEndPoint().getVerticalDeflectionX().getValue();
+		double rye = this.getEndPoint().getVerticalDeflectionY().getValue();
+		
+		if (this.getReductions().getProjectionType() == ProjectionType.LOCAL_ELLIPSOIDAL) {
+			rxs += this.getStartPoint().getSphericalDeflectionParameter().getSphericalDeflectionX();
+			rys += this.getStartPoint().getSphericalDeflectionParameter().getSphericalDeflectionY();
+
+			rxe += this.getEndPoint().getSphericalDeflectionParameter().getSphericalDeflectionX();
+			rye += this.getEndPoint().getSphericalDeflectionParameter().getSphericalDeflectionY();
+		}
+		
+		double srxs = Math.sin(rxs);
+		double srys = Math.sin(rys);
+		double crxs = Math.cos(rxs);
+		double crys = Math.cos(rys);
+		
+		double crxe = Math.cos(rxe);
+		double crye = Math.cos(rye);
+		double srye = Math.sin(rye);
+		double srxe = Math.sin(rxe);
+		
+		double srrs = Math.sin(rye - rys);
+		double crrs = Math.cos(rye - rys);
+		
+		double u = crys*(xe - xs) + srys*(ze - zs) - th*srrs*crxe;
+		double v = crxs*(ye - ys) - th*(crxe*crye*crys*srxs - crxs*srxe + crxe*srxs*srye*srys) - crys*srxs*(ze - zs) + srxs*srys*(xe - xs);
+		double w = th*(srxe*srxs + crxe*crxs*crye*crys + crxe*crxs*srye*srys) - ih + srxs*(ye - ys) + crxs*crys*(ze - zs) - crxs*srys*(xe - xs);
+		
+		double distSqr2D = u*u + v*v;
+		
+		if (distSqr2D == 0.0) {
+			for (int i = DIFF_XS; i <= DIFF_VERTICAL_DEFLECTION_YE; i++)
+				elements[i] = 0.0;
+		}
+		else {
+			elements[DIFF_XS] = (crxs*(crys*ye - crys*ys + crys*srxe*th) - srxs*(ze - zs + crxe*crye*th))/distSqr2D;
+			elements[DIFF_YS] = -(u*crxs)/distSqr2D;
+			elements[DIFF_ZS] = (crxs*(srys*(ye - ys) + srxe*srys*th) - srxs*(xs - xe + crxe*srye*th))/distSqr2D;
+			
+			elements[DIFF_VERTICAL_DEFLECTION_XS] = -(w + ih)*u/distSqr2D;
+			elements[DIFF_VERTICAL_DEFLECTION_YS] = (srxs*u*u - v*(crys*(ze - zs) - srys*(xe - xs)) - th*v*crrs*crxe)/distSqr2D;
+			elements[DIFF_VERTICAL_DEFLECTION_XE] = (th*(u*(crxe*crxs + crye*crys*srxe*srxs + srxe*srxs*srye*srys) - v*srrs*srxe))/distSqr2D;
+			elements[DIFF_VERTICAL_DEFLECTION_YE] = th*crxe*(v*crrs + u*srrs*srxs)/distSqr2D;
+		}
+		
+		elements[DIFF_XE] = -elements[DIFF_XS];
+		elements[DIFF_YE] = -elements[DIFF_YS];
+		elements[DIFF_ZE] = -elements[DIFF_ZS];
+		
+		elements[DIFF_ORIENTATION]            = this.diffOri();
+		elements[DIFF_SCALE]                  = this.diffScale();
+		elements[DIFF_ADD]                    = this.diffAdd();
+		elements[DIFF_REFRACTION_COEFFICIENT] = this.diffRefCoeff();
+		elements[DIFF_ROTATION_X]             = this.diffRotX();
+		elements[DIFF_ROTATION_Y]             = this.diffRotY();
+		elements[DIFF_ROTATION_Z]             = this.diffRotZ();
+		
+		double ori = this.orientation.getValue();
+		elements[MISCLOSURE] = this.getObservationalError(MathExtension.MOD(Math.atan2(v, u) - ori, 2.0*Math.PI));
+	}
+
 	@Override
 	public double diffOri() {
 		return -1.0;
@@ -377,9 +454,11 @@ public class Direction extends Observation {
 
 	@Override
 	public double getObservationalError() {
+		return this.getObservationalError(this.getValueAposteriori());
+	}
+	
+	private double getObservationalError(double calDir) {
 		Reduction reductions = this.getReductions();
-		
-		double calDir = this.getValueAposteriori();
 	    double obsDir = this.getValueApriori();
 
 	    // Richtungsreduktion
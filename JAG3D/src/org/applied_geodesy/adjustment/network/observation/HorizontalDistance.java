@@ -370,6 +370,85 @@ public class HorizontalDistance extends Observation {
 		return -th*crxe*(u*Math.cos(rye - rys) - v*Math.sin(rye - rys)*srxs)/dist2D;
 	}
 
+	@Override
+	public void getJacobiElements(double elements[]) {
+		double xs = this.getStartPoint().getX();
+		double ys = this.getStartPoint().getY();
+		double zs = this.getStartPoint().getZ();
+		
+		double xe = this.getEndPoint().getX();
+		double ye = this.getEndPoint().getY();
+		double ze = this.getEndPoint().getZ();
+
+		double ih = this.getStartPointHeight();
+		double th = this.getEndPointHeight();
+		
+		double rxs = this.getStartPoint().getVerticalDeflectionX().getValue();
+		double rys = this.getStartPoint().getVerticalDeflectionY().getValue();
+		
+		double rxe = this.getEndPoint().getVerticalDeflectionX().getValue();
+		double rye = this.getEndPoint().getVerticalDeflectionY().getValue();
+		
+		if (this.getReductions().getProjectionType() == ProjectionType.LOCAL_ELLIPSOIDAL) {
+			rxs += this.getStartPoint().getSphericalDeflectionParameter().getSphericalDeflectionX();
+			rys += this.getStartPoint().getSphericalDeflectionParameter().getSphericalDeflectionY();
+
+			rxe += this.getEndPoint().getSphericalDeflectionParameter().getSphericalDeflectionX();
+			rye += this.getEndPoint().getSphericalDeflectionParameter().getSphericalDeflectionY();
+		}
+		
+		double srxs = Math.sin(rxs);
+		double srys = Math.sin(rys);
+		double crxs = Math.cos(rxs);
+		double crys = Math.cos(rys);
+		
+		double crxe = Math.cos(rxe);
+		double crye = Math.cos(rye);
+		double srye = Math.sin(rye);
+		double srxe = Math.sin(rxe);
+		
+		double srrs = Math.sin(rye - rys);
+		double crrs = Math.cos(rye - rys);
+		
+		double u = crys*(xe - xs) + srys*(ze - zs) - th*srrs*crxe;
+		double v = crxs*(ye - ys) - th*(crxe*crye*crys*srxs - crxs*srxe + crxe*srxs*srye*srys) - crys*srxs*(ze - zs) + srxs*srys*(xe - xs);
+		double w = th*(srxe*srxs + crxe*crxs*crye*crys + crxe*crxs*srye*srys) - ih + srxs*(ye - ys) + crxs*crys*(ze - zs) - crxs*srys*(xe - xs);
+		
+		double scale = this.scale.getValue();
+		double add   = this.add.getValue();
+		double sH    = Math.hypot(u, v);
+		double dist2D = scale * sH;
+		
+		if (dist2D == 0.0) {
+			for (int i = DIFF_XS; i <= DIFF_VERTICAL_DEFLECTION_YE; i++)
+				elements[i] = 0.0;
+		}
+		else {
+			elements[DIFF_XS] = -(crys*u + srxs*srys*v)/dist2D;
+			elements[DIFF_YS] = -(crxs*v)/dist2D;
+			elements[DIFF_ZS] = -(srys*u - crys*srxs*v)/dist2D;
+			
+			elements[DIFF_VERTICAL_DEFLECTION_XS] = -(v*(w+ih))/dist2D;
+			elements[DIFF_VERTICAL_DEFLECTION_YS] = (u*(crys*(ze - zs) - srys*(xe - xs) + th*crrs*crxe) + v*srxs*u)/dist2D;
+			elements[DIFF_VERTICAL_DEFLECTION_XE] = (th*v*(crxe*crxs + crye*crys*srxe*srxs + srxe*srxs*srye*srys) + th*u*srrs*srxe)/dist2D;
+			elements[DIFF_VERTICAL_DEFLECTION_YE] = -th*crxe*(u*crrs - v*srrs*srxs)/dist2D;
+		}
+		
+		elements[DIFF_XE] = -elements[DIFF_XS];
+		elements[DIFF_YE] = -elements[DIFF_YS];
+		elements[DIFF_ZE] = -elements[DIFF_ZS];
+		
+		elements[DIFF_ORIENTATION]            = this.diffOri();
+		elements[DIFF_SCALE]                  = (-sH + add) / Math.pow(scale, 2);
+		elements[DIFF_ADD]                    = -1.0/scale;
+		elements[DIFF_REFRACTION_COEFFICIENT] = this.diffRefCoeff();
+		elements[DIFF_ROTATION_X]             = this.diffRotX();
+		elements[DIFF_ROTATION_Y]             = this.diffRotY();
+		elements[DIFF_ROTATION_Z]             = this.diffRotZ();
+		
+		elements[MISCLOSURE] = this.getObservationalError(1.0/scale * (sH - add));
+	}
+
 	@Override
 	public double diffAdd() {
 	    return -1.0/this.scale.getValue();
@@ -393,7 +472,10 @@ public class HorizontalDistance extends Observation {
 
 	@Override
 	public double getObservationalError() {
-		double calDist = this.getValueAposteriori();
+		return this.getObservationalError(this.getValueAposteriori());
+	}
+	
+	private double getObservationalError(double calDist) {
 		double obsDist = this.getValueApriori();
 		
 		Reduction reductions = this.getReductions();
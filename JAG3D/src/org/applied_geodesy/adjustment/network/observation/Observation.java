@@ -118,6 +118,29 @@ public abstract class Observation {
 	// Grenzwert fuer Null
 	private final static double ZERO = Math.sqrt(Constant.EPS);
 	
+	// Positionen der partiellen Ableitungen und des Widerspruchs im Puffer von getJacobiElements()
+	public final static int DIFF_XS                     =  0,
+							DIFF_YS                     =  1,
+							DIFF_ZS                     =  2,
+							DIFF_XE                     =  3,
+							DIFF_YE                     =  4,
+							DIFF_ZE                     =  5,
+							DIFF_VERTICAL_DEFLECTION_XS =  6,
+							DIFF_VERTICAL_DEFLECTION_YS =  7,
+							DIFF_VERTICAL_DEFLECTION_XE =  8,
+							DIFF_VERTICAL_DEFLECTION_YE =  9,
+							DIFF_ORIENTATION            = 10,
+							DIFF_SCALE                  = 11,
+							DIFF_ADD                    = 12,
+							DIFF_REFRACTION_COEFFICIENT = 13,
+							DIFF_ROTATION_X             = 14,
+							DIFF_ROTATION_Y             = 15,
+							DIFF_ROTATION_Z             = 16,
+							MISCLOSURE                  = 17;
+	
+	// Mindestgroesse des Puffers von getJacobiElements()
+	public final static int NUMBER_OF_JACOBI_ELEMENTS = 18;
+	
 	//Beobachtungsgruppe (erste)
 	private ObservationGroup observationGroup = null;
 	
@@ -448,6 +471,40 @@ public abstract class Observation {
 	    return 0.0;
 	}
 
+	/**
+	 * Bestimmt alle partiellen Ableitungen der Beobachtung nach den Unbekannten sowie den Widerspruch 
+	 * <code>getObservationalError()</code> in einem Aufruf. Die Werte werden an den Positionen <code>DIFF_XS</code>, ..., 
+	 * <code>MISCLOSURE</code> im Puffer <code>elements</code> abgelegt, der mind. <code>NUMBER_OF_JACOBI_ELEMENTS</code> 
+	 * Elemente umfassen muss. Unterklassen ueberschreiben diese Methode, um die gemeinsamen Terme (Winkelfunktionen 
+	 * der Lotabweichungen, Koordinatendifferenzen) nur einmal zu bestimmen.
+	 * 
+	 * @param elements Puffer fuer die partiellen Ableitungen und den Widerspruch
+	 */
+	public void getJacobiElements(double elements[]) {
+		elements[DIFF_XS] = this.diffXs();
+		elements[DIFF_YS] = this.diffYs();
+		elements[DIFF_ZS] = this.diffZs();
+		
+		elements[DIFF_XE] = this.diffXe();
+		elements[DIFF_YE] = this.diffYe();
+		elements[DIFF_ZE] = this.diffZe();
+		
+		elements[DIFF_VERTICAL_DEFLECTION_XS] = this.diffVerticalDeflectionXs();
+		elements[DIFF_VERTICAL_DEFLECTION_YS] = this.diffVerticalDeflectionYs();
+		elements[DIFF_VERTICAL_DEFLECTION_XE] = this.diffVerticalDeflectionXe();
+		elements[DIFF_VERTICAL_DEFLECTION_YE] = this.diffVerticalDeflectionYe();
+		
+		elements[DIFF_ORIENTATION]            = this.diffOri();
+		elements[DIFF_SCALE]                  = this.diffScale();
+		elements[DIFF_ADD]                    = this.diffAdd();
+		elements[DIFF_REFRACTION_COEFFICIENT] = this.diffRefCoeff();
+		elements[DIFF_ROTATION_X]             = this.diffRotX();
+		elements[DIFF_ROTATION_Y]             = this.diffRotY();
+		elements[DIFF_ROTATION_Z]             = this.diffRotZ();
+		
+		elements[MISCLOSURE] = this.getObservationalError();
+	}
+
 	public int getRowInJacobiMatrix() {
 		return this.rowInJacobiMatrix;
 	}
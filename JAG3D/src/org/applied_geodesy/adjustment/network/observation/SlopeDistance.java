@@ -376,6 +376,85 @@ public class SlopeDistance extends Observation {
 		return -th*crxe*(crye*(xe - xs) + srye*(ze - zs) - ih*Math.sin(rye - rys)*crxs) / dist3D;
 	}
 
+	@Override
+	public void getJacobiElements(double elements[]) {
+		double xs = this.getStartPoint().getX();
+		double ys = this.getStartPoint().getY();
+		double zs = this.getStartPoint().getZ();
+		
+		double xe = this.getEndPoint().getX();
+		double ye = this.getEndPoint().getY();
+		double ze = this.getEndPoint().getZ();
+		
+		double ih = this.getStartPointHeight();
+		double th = this.getEndPointHeight();
+		
+		double rxs = this.getStartPoint().getVerticalDeflectionX().getValue();
+		double rys = this.getStartPoint().getVerticalDeflectionY().getValue();
+		
+		double rxe = this.getEndPoint().getVerticalDeflectionX().getValue();
+		double rye = this.getEndPoint().getVerticalDeflectionY().getValue();
+		
+		if (this.getReductions().getProjectionType() == ProjectionType.LOCAL_ELLIPSOIDAL) {
+			rxs += this.getStartPoint().getSphericalDeflectionParameter().getSphericalDeflectionX();
+			rys += this.getStartPoint().getSphericalDeflectionParameter().getSphericalDeflectionY();
+
+			rxe += this.getEndPoint().getSphericalDeflectionParameter().getSphericalDeflectionX();
+			rye += this.getEndPoint().getSphericalDeflectionParameter().getSphericalDeflectionY();
+		}
+		
+		double srxs = Math.sin(rxs);
+		double srys = Math.sin(rys);
+		double crxs = Math.cos(rxs);
+		double crys = Math.cos(rys);
+		
+		double crxe = Math.cos(rxe);
+		double crye = Math.cos(rye);
+		double srye = Math.sin(rye);
+		double srxe = Math.sin(rxe);
+		
+		double srrs = Math.sin(rye - rys);
+		double crrs = Math.cos(rye - rys);
+		
+		double u = crys*(xe - xs) + srys*(ze - zs) - th*srrs*crxe;
+		double v = crxs*(ye - ys) - th*(crxe*crye*crys*srxs - crxs*srxe + crxe*srxs*srye*srys) - crys*srxs*(ze - zs) + srxs*srys*(xe - xs);
+		double w = th*(srxe*srxs + crxe*crxs*crye*crys + crxe*crxs*srye*srys) - ih + srxs*(ye - ys) + crxs*crys*(ze - zs) - crxs*srys*(xe - xs);
+		
+		double scale = this.scale.getValue();
+		double add   = this.add.getValue();
+		double sR    = Math.sqrt(u*u + v*v + w*w);
+		double dist3D = scale * sR;
+		
+		if (dist3D == 0.0) {
+			for (int i = DIFF_XS; i <= DIFF_VERTICAL_DEFLECTION_YE; i++)
+				elements[i] = 0.0;
+		}
+		else {
+			elements[DIFF_XS] = -(xe - xs + ih*crxs*srys - th*crxe*srye) / dist3D;
+			elements[DIFF_YS] = -(ye - ys - ih*srxs + th*srxe) / dist3D;
+			elements[DIFF_ZS] = -(ze - zs - ih*crxs*crys + th*crxe*crye) / dist3D;
+			
+			elements[DIFF_VERTICAL_DEFLECTION_XS] = -ih*v / dist3D;
+			elements[DIFF_VERTICAL_DEFLECTION_YS] = ih*crxs*u / dist3D;
+			elements[DIFF_VERTICAL_DEFLECTION_XE] = th*(crxe*(ye - ys) + ih*(crxs*crye*crys*srxe - crxe*srxs + crxs*srxe*srye*srys) - crye*srxe*(ze - zs) + srxe*srye*(xe - xs)) / dist3D;
+			elements[DIFF_VERTICAL_DEFLECTION_YE] = -th*crxe*(crye*(xe - xs) + srye*(ze - zs) - ih*srrs*crxs) / dist3D;
+		}
+		
+		elements[DIFF_XE] = -elements[DIFF_XS];
+		elements[DIFF_YE] = -elements[DIFF_YS];
+		elements[DIFF_ZE] = -elements[DIFF_ZS];
+		
+		elements[DIFF_ORIENTATION]            = this.diffOri();
+		elements[DIFF_SCALE]                  = (-sR + add) / Math.pow(scale, 2);
+		elements[DIFF_ADD]                    = -1.0/scale;
+		elements[DIFF_REFRACTION_COEFFICIENT] = this.diffRefCoeff();
+		elements[DIFF_ROTATION_X]             = this.diffRotX();
+		elements[DIFF_ROTATION_Y]             = this.diffRotY();
+		elements[DIFF_ROTATION_Z]             = this.diffRotZ();
+		
+		elements[MISCLOSURE] = this.getValueApriori() - 1.0/scale * (sR - add);
+	}
+
 	@Override
 	public double diffAdd() {
 	    return -1.0/this.scale.getValue();
@@ -386,7 +386,7 @@ public class ZenithAngle extends Observation {
 	}
 
 	@Override
-	public double getValueAposteriori() {
+	public void getJacobiElements(double elements[]) {
 		Reduction reductions = this.getReductions();
 		double R = reductions.getEarthRadius();
 		
@@ -425,14 +425,102 @@ public class ZenithAngle extends Observation {
 		double srye = Math.sin(rye);
 		double srxe = Math.sin(rxe);
 		
+		double srrs = Math.sin(rye - rys);
+		double crrs = Math.cos(rye - rys);
+		
+		double u = crys*(xe - xs) + srys*(ze - zs) - th*srrs*crxe;
+		double v = crxs*(ye - ys) - th*(crxe*crye*crys*srxs - crxs*srxe + crxe*srxs*srye*srys) - crys*srxs*(ze - zs) + srxs*srys*(xe - xs);
+		double w = th*(srxe*srxs + crxe*crxs*crye*crys + crxe*crxs*srye*srys) - ih + srxs*(ye - ys) + crxs*crys*(ze - zs) - crxs*srys*(xe - xs);
+		
+		double dist2D = Math.hypot(u, v);
+		double dist2D_times_distSqr3D = dist2D * (u*u + v*v + w*w);
+		
+		if (dist2D_times_distSqr3D == 0) {
+			for (int i = DIFF_XS; i <= DIFF_VERTICAL_DEFLECTION_YE; i++)
+				elements[i] = 0.0;
+		}
+		else {
+			double tmp11 = crys*(xe - xs) + srys*(ze - zs) - th*crxe*crys*srye + th*crxe*crye*srys;
+			double tmp21 = crys*(ze - zs) - srys*(xe - xs) + th*crxe*crye*crys + th*crxe*srye*srys;
+			double tmp12 = th*(crxs*crye*crys*srxe - crxe*srxs + crxs*srxe*srye*srys);
+			double tmp22 = th*(crxe*crxs + crye*crys*srxe*srxs + srxe*srxs*srye*srys);
+			
+			elements[DIFF_XS] = -(v*(crxs*srys*v + w*srxs*srys) + u*(crxs*srys*u + w*crys)) / dist2D_times_distSqr3D;
+			elements[DIFF_YS] = -(v*(crxs*w - srxs*v) - srxs*u*u) / dist2D_times_distSqr3D;
+			elements[DIFF_ZS] = (v*(crxs*crys*v + w*crys*srxs) + u*(crxs*crys*u - w*srys)) / dist2D_times_distSqr3D;
+			
+			elements[DIFF_VERTICAL_DEFLECTION_XS] = -v*(u*u + v*v + w*w + w*ih) / dist2D_times_distSqr3D;
+			elements[DIFF_VERTICAL_DEFLECTION_YS] = (tmp11*crxs*(u*u + v*v) + w*(tmp11*srxs*v + tmp21*u)) / dist2D_times_distSqr3D;
+			elements[DIFF_VERTICAL_DEFLECTION_XE] = (w*(tmp22*v + th*u*srrs*srxe) + tmp12*(u*u + v*v)) / dist2D_times_distSqr3D;
+			elements[DIFF_VERTICAL_DEFLECTION_YE] = ((th*crxe*(srrs*crxs*(u*u + v*v) - w*(crrs*u - srrs*srxs*v)))) / dist2D_times_distSqr3D;
+		}
+		
+		elements[DIFF_XE] = -elements[DIFF_XS];
+		elements[DIFF_YE] = -elements[DIFF_YS];
+		elements[DIFF_ZE] = -elements[DIFF_ZS];
+		
+		elements[DIFF_ORIENTATION]            = this.diffOri();
+		elements[DIFF_SCALE]                  = this.diffScale();
+		elements[DIFF_ADD]                    = this.diffAdd();
+		elements[DIFF_REFRACTION_COEFFICIENT] = -dist2D/(2.0 * R);
+		elements[DIFF_ROTATION_X]             = this.diffRotX();
+		elements[DIFF_ROTATION_Y]             = this.diffRotY();
+		elements[DIFF_ROTATION_Z]             = this.diffRotZ();
+		
+		elements[MISCLOSURE] = this.getObservationalError(this.getValueAposteriori(dist2D, w));
+	}
+
+	@Override
+	public double getValueAposteriori() {
+		double xs = this.getStartPoint().getX();
+		double ys = this.getStartPoint().getY();
+		double zs = this.getStartPoint().getZ();
+		
+		double xe = this.getEndPoint().getX();
+		double ye = this.getEndPoint().getY();
+		double ze = this.getEndPoint().getZ();
+		
+		double ih = this.getStartPointHeight();
+		double th = this.getEndPointHeight();
+		
+		double rxs = this.getStartPoint().getVerticalDeflectionX().getValue();
+		double rys = this.getStartPoint().getVerticalDeflectionY().getValue();
+		
+		double rxe = this.getEndPoint().getVerticalDeflectionX().getValue();
+		double rye = this.getEndPoint().getVerticalDeflectionY().getValue();
+		
+		if (this.getReductions().getProjectionType() == ProjectionType.LOCAL_ELLIPSOIDAL) {
+			rxs += this.getStartPoint().getSphericalDeflectionParameter().getSphericalDeflectionX();
+			rys += this.getStartPoint().getSphericalDeflectionParameter().getSphericalDeflectionY();
+
+			rxe += this.getEndPoint().getSphericalDeflectionParameter().getSphericalDeflectionX();
+			rye += this.getEndPoint().getSphericalDeflectionParameter().getSphericalDeflectionY();
+		}
+		
+		double srxs = Math.sin(rxs);
+		double srys = Math.sin(rys);
+		double crxs = Math.cos(rxs);
+		double crys = Math.cos(rys);
+		
+		double crxe = Math.cos(rxe);
+		double crye = Math.cos(rye);
+		double srye = Math.sin(rye);
+		double srxe = Math.sin(rxe);
+		
 		double u = crys*(xe - xs) + srys*(ze - zs) - th*Math.sin(rye - rys)*crxe;
 		double v = crxs*(ye - ys) - th*(crxe*crye*crys*srxs - crxs*srxe + crxe*srxs*srye*srys) - crys*srxs*(ze - zs) + srxs*srys*(xe - xs);
 		double w = th*(srxe*srxs + crxe*crxs*crye*crys + crxe*crxs*srye*srys) - ih + srxs*(ye - ys) + crxs*crys*(ze - zs) - crxs*srys*(xe - xs);
 		
+		return this.getValueAposteriori(Math.hypot(u, v), w);
+	}
+	
+	private double getValueAposteriori(double dist2D, double w) {
+		Reduction reductions = this.getReductions();
+		double R = reductions.getEarthRadius();
+		
 		// Rueger 1996, S. 109, Gl. 8.26
 		// kDeltaH = (1-k) * dist2D * dist2D / (2*R)
 		// Bogenformel: (1-k) * dist2D / (2*R)
-		double dist2D = Math.hypot(u, v);
 		double corr = dist2D/(2.0 * R);
 		
 		double k = this.refractionCoefficient.getValue();
@@ -446,7 +534,10 @@ public class ZenithAngle extends Observation {
 
 	@Override
 	public double getObservationalError() {
-		double calAngle = this.getValueAposteriori();
+		return this.getObservationalError(this.getValueAposteriori());
+	}
+	
+	private double getObservationalError(double calAngle) {
 		double obsAngle = this.getValueApriori();
 				
 		// Reduziere auf Lage 1
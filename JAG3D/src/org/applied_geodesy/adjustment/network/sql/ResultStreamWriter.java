@@ -0,0 +1,157 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+
+package org.applied_geodesy.adjustment.network.sql;
+
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Schreibt Ergebnisse in einem Hintergrund-Thread in die Datenbank, waehrend die Ausgleichung 
+ * (bspw. Export oder Hauptkomponentenanalyse) fortgesetzt wird. Die Aufgaben werden in einer 
+ * begrenzten Warteschlange abgelegt und in der Reihenfolge ihres Eingangs abgearbeitet. Tritt ein 
+ * Fehler auf, werden alle nachfolgenden Aufgaben verworfen; der Fehler wird beim naechsten Aufruf 
+ * von <code>submit()</code> bzw. <code>close()</code> weitergereicht.
+ *
+ */
+class ResultStreamWriter {
+	/**
+	 * Aufgabe, die im Hintergrund-Thread ausgefuehrt wird
+	 */
+	@FunctionalInterface
+	interface Task {
+		public void write() throws SQLException;
+	}
+	
+	private final static int QUEUE_CAPACITY = 16;
+	private final static Task END_OF_STREAM = () -> {};
+	private final BlockingQueue<Task> queue = new ArrayBlockingQueue<Task>(QUEUE_CAPACITY);
+	private final Thread thread;
+	private volatile Throwable error = null;
+	private boolean closed = false;
+	
+	ResultStreamWriter() {
+		this.thread = new Thread(this::process, this.getClass().getSimpleName());
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+	
+	/**
+	 * Reiht eine Aufgabe in die Warteschlange ein. Ist diese voll, wird gewartet, bis der Hintergrund-Thread 
+	 * wieder Aufgaben entnommen hat.
+	 * 
+	 * @param task
+	 * @throws SQLException
+	 */
+	void submit(Task task) throws SQLException {
+		this.checkError();
+		if (this.closed)
+			throw new IllegalStateException("Error, result stream is already closed!");
+		this.put(task);
+	}
+	
+	/**
+	 * Wartet auf die Abarbeitung aller Aufgaben und beendet den Hintergrund-Thread
+	 * 
+	 * @throws SQLException
+	 */
+	void close() throws SQLException {
+		if (!this.closed) {
+			this.closed = true;
+			this.put(END_OF_STREAM);
+		}
+		this.join();
+		this.checkError();
+	}
+	
+	/**
+	 * Verwirft alle noch nicht bearbeiteten Aufgaben und wartet auf das Ende der aktuellen Aufgabe
+	 */
+	void cancel() {
+		this.closed = true;
+		this.queue.clear();
+		this.queue.offer(END_OF_STREAM);
+		this.join();
+	}
+	
+	private void process() {
+		try {
+			while (true) {
+				Task task = this.queue.take();
+				if (task == END_OF_STREAM)
+					break;
+				task.write();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (Throwable t) {
+			this.error = t;
+			this.queue.clear();
+			// Verbleibende Aufgaben verwerfen, bis das Ende signalisiert wird
+			while (true) {
+				try {
+					if (this.queue.take() == END_OF_STREAM)
+						break;
+				} 
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		}
+	}
+	
+	private void put(Task task) throws SQLException {
+		try {
+			this.queue.put(task);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException(e);
+		}
+	}
+	
+	private void join() {
+		try {
+			this.thread.join();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	private void checkError() throws SQLException {
+		Throwable t = this.error;
+		if (t == null)
+			return;
+		if (t instanceof SQLException)
+			throw (SQLException)t;
+		if (t instanceof RuntimeException)
+			throw (RuntimeException)t;
+		if (t instanceof Error)
+			throw (Error)t;
+		throw new SQLException(t);
+	}
+}
@@ -21,6 +21,8 @@
 
 package org.applied_geodesy.adjustment.network.sql;
 
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -34,8 +36,11 @@ import java.util.Map;
 import java.util.Set;
 
 import org.applied_geodesy.adjustment.Constant;
+import org.applied_geodesy.adjustment.DefaultValue;
+import org.applied_geodesy.adjustment.EstimationStateType;
 import org.applied_geodesy.adjustment.EstimationType;
 import org.applied_geodesy.adjustment.MathExtension;
+import org.applied_geodesy.adjustment.NormalEquationSolverType;
 import org.applied_geodesy.adjustment.network.DefaultAverageThreshold;
 import org.applied_geodesy.adjustment.network.DefaultUncertainty;
 import org.applied_geodesy.adjustment.network.DefectType;
@@ -109,7 +114,10 @@ import org.applied_geodesy.version.jag3d.Version;
 import org.applied_geodesy.version.VersionType;
 
 public class SQLAdjustmentManager {
+	private final static int BATCH_SIZE = 10000;
+	private final static int FETCH_SIZE = 10000;
 	private final DataBase dataBase;
+	private final PropertyChangeSupport change = new PropertyChangeSupport(this);
 
 	private Map<String, Point> completePoints    = new LinkedHashMap<String, Point>();
 	private Map<String, Point> completeNewPoints = new LinkedHashMap<String, Point>();
@@ -126,6 +134,9 @@ public class SQLAdjustmentManager {
 	private Reduction reductions = new Reduction();
 
 	private NetworkAdjustment networkAdjustment = null;
+	
+	private ResultStreamWriter resultStreamWriter = null;
+	private PropertyChangeListener resultStreamListener = null;
 
 	private EstimationType estimationType = null;
 	
@@ -164,6 +175,9 @@ public class SQLAdjustmentManager {
 	public NetworkAdjustment getNetworkAdjustment() throws SQLException, DatabaseVersionMismatchException, IllegalProjectionPropertyException {
 		this.clear();
 		
+		long startTime = System.currentTimeMillis();
+		this.change.firePropertyChange(EstimationStateType.LOAD_NETWORK_MODEL.name(), false, true);
+		
 		this.setDataBaseSchema();
 		this.checkDatabaseVersion();
 		this.setReductionDefinition();
@@ -177,17 +191,22 @@ public class SQLAdjustmentManager {
 		if (testStatisticDefinition != null)
 			this.networkAdjustment.setTestStatisticDefinition(testStatisticDefinition);
 
-		Map<String,Point> newPoints   = this.getPointsByType( PointType.NEW_POINT );
-		Map<String,Point> datumPoints = this.getPointsByType( PointType.DATUM_POINT );
+		Map<PointType, Map<String,Point>> pointsByType = this.getPointsByType();
+		Map<String,Point> newPoints   = pointsByType.get( PointType.NEW_POINT );
+		Map<String,Point> datumPoints = pointsByType.get( PointType.DATUM_POINT );
 
 		Map<String,Point> stochasticPoints = new LinkedHashMap<String,Point>(0);
 		Map<String,Point> referencePoints  = new LinkedHashMap<String,Point>(0);
+		this.addPoints(newPoints);
+		this.addPoints(datumPoints);
 		this.completeNewPoints.putAll(newPoints);
 
 		this.freeNetwork = datumPoints != null && !datumPoints.isEmpty();
 		if (!this.freeNetwork) {
-			stochasticPoints = this.getPointsByType( PointType.STOCHASTIC_POINT );
-			referencePoints  = this.getPointsByType( PointType.REFERENCE_POINT );
+			stochasticPoints = pointsByType.get( PointType.STOCHASTIC_POINT );
+			referencePoints  = pointsByType.get( PointType.REFERENCE_POINT );
+			this.addPoints(stochasticPoints);
+			this.addPoints(referencePoints);
 		}
 		
 		// add vertical deflection to points (if any)
@@ -297,13 +316,90 @@ public class SQLAdjustmentManager {
 					this.removePoint(point);
 			}
 		}
+		// Nutze die Loesung der letzten Ausgleichung als Naeherungswerte
+		if (this.estimationType != EstimationType.SIMULATION && DefaultValue.isWarmStart())
+			this.applyPreviousSolution();
+		
 		// Auszugleichende Zusatzparameter
 		for ( AdditionalUnknownParameter parameter : this.additionalParametersToBeEstimated.values() ) 
 			this.networkAdjustment.addAdditionalUnknownParameter( parameter );
+		
+		// Dauer des Ladens des Modells [ms]
+		this.change.firePropertyChange(EstimationStateType.LOAD_NETWORK_MODEL.name(), null, System.currentTimeMillis() - startTime);
+		
+		// Speichere Ergebnisse bereits waehrend der abschliessenden Schritte der Ausgleichung
+		if (DefaultValue.isStreamResults()) {
+			this.resultStreamListener = evt -> this.startResultStream(evt.getPropertyName());
+			this.networkAdjustment.addPropertyChangeListener(this.resultStreamListener);
+		}
 
 		return networkAdjustment;
 	}
 	
+	/**
+	 * Uebernimmt die Ergebnisse der letzten Ausgleichung (sofern vorhanden) als Naeherungswerte fuer Neupunkte, stochastische
+	 * Anschlusspunkte, Lotabweichungen und Zusatzparameter. Nach kleineren Aenderungen (bspw. dem Deaktivieren einzelner Beobachtungen)
+	 * liegen diese Werte nahe an der neuen Loesung, sodass die Iteration nach wenigen Schritten konvergiert. Die Naeherungswerte der 
+	 * Datumspunkte bleiben unveraendert, da sie die Lagerung des freien Netzes festlegen.
+	 * 
+	 * @throws SQLException
+	 */
+	private void applyPreviousSolution() throws SQLException {
+		String sql = "SELECT \"PointApriori\".\"name\", \"dimension\", \"PointAposteriori\".\"y\", \"PointAposteriori\".\"x\", \"PointAposteriori\".\"z\" "
+				+ "FROM \"PointAposteriori\" "
+				+ "JOIN \"PointApriori\" ON \"PointAposteriori\".\"id\" = \"PointApriori\".\"id\" "
+				+ "JOIN \"PointGroup\" ON \"PointApriori\".\"group_id\" = \"PointGroup\".\"id\" "
+				+ "WHERE \"PointGroup\".\"type\" IN (?, ?)";
+		
+		int idx = 1;
+		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
+		stmt.setInt(idx++, PointType.NEW_POINT.getId());
+		stmt.setInt(idx++, PointType.STOCHASTIC_POINT.getId());
+		
+		ResultSet rs = stmt.executeQuery();
+		while (rs.next()) {
+			Point point = this.completePoints.get(rs.getString("name"));
+			int dimension = rs.getInt("dimension");
+			if (point == null || point.getDimension() != dimension)
+				continue;
+			
+			if (dimension != 1) {
+				point.setY(rs.getDouble("y"));
+				point.setX(rs.getDouble("x"));
+			}
+			if (dimension != 2)
+				point.setZ(rs.getDouble("z"));
+		}
+		
+		sql = "SELECT \"VerticalDeflectionApriori\".\"name\", \"VerticalDeflectionAposteriori\".\"y\", \"VerticalDeflectionAposteriori\".\"x\" "
+				+ "FROM \"VerticalDeflectionAposteriori\" "
+				+ "JOIN \"VerticalDeflectionApriori\" ON \"VerticalDeflectionAposteriori\".\"id\" = \"VerticalDeflectionApriori\".\"id\"";
+		
+		stmt = this.dataBase.getPreparedStatement(sql);
+		rs = stmt.executeQuery();
+		while (rs.next()) {
+			String name = rs.getString("name");
+			Point point = this.completePointsWithUnknownDeflections.get(name);
+			if (point == null)
+				point = this.completePointsWithStochasticDeflections.get(name);
+			if (point == null)
+				continue;
+			
+			point.getVerticalDeflectionY().setValue(rs.getDouble("y"));
+			point.getVerticalDeflectionX().setValue(rs.getDouble("x"));
+		}
+		
+		sql = "SELECT \"id\", \"value\" FROM \"AdditionalParameterAposteriori\"";
+		
+		stmt = this.dataBase.getPreparedStatement(sql);
+		rs = stmt.executeQuery();
+		while (rs.next()) {
+			AdditionalUnknownParameter parameter = this.additionalParametersToBeEstimated.get(rs.getInt("id"));
+			if (parameter != null)
+				parameter.setValue(rs.getDouble("value"));
+		}
+	}
+	
 	private void removePoint(Point point) {
 		this.completePoints.remove(point.getName());
 		this.completeNewPoints.remove(point.getName());
@@ -329,6 +425,8 @@ public class SQLAdjustmentManager {
 		this.reductions.getPrincipalPoint().setCoordinates(0, 0, 0,  0, 0, 0);
 		this.reductions.clear();
 
+		this.closeResultStream();
+		
 		if (this.networkAdjustment != null) {
 			this.networkAdjustment.clearMatrices();
 			this.networkAdjustment = null;
@@ -441,7 +539,7 @@ public class SQLAdjustmentManager {
 				+ "\"type\", \"number_of_iterations\", \"robust_estimation_limit\", "
 				+ "\"number_of_principal_components\", \"apply_variance_of_unit_weight\", "
 				+ "\"estimate_direction_set_orientation_approximation\", "
-				+ "\"congruence_analysis\", \"confidence_level\", "
+				+ "\"congruence_analysis\", \"confidence_level\", \"normal_equation_solver\", "
 				+ "\"scaling\", \"damping\", \"weight_zero\" "
 				+ "FROM \"AdjustmentDefinition\" "
 				+ "JOIN \"UnscentedTransformation\" "
@@ -460,6 +558,7 @@ public class SQLAdjustmentManager {
 			this.congruenceAnalysis               = rs.getBoolean("congruence_analysis");
 			boolean applyVarianceOfUnitWeight     = rs.getBoolean("apply_variance_of_unit_weight");
 			double confidenceLevel                = rs.getDouble("confidence_level");
+			NormalEquationSolverType solverType   = NormalEquationSolverType.getEnumByValue(rs.getInt("normal_equation_solver"));
 			
 			double scalingUT = rs.getDouble("scaling");
 			double dampingUT = rs.getDouble("damping");
@@ -474,6 +573,7 @@ public class SQLAdjustmentManager {
 			adjustment.setRobustEstimationLimit(robustEstimationLimit);
 			adjustment.setNumberOfPrincipalComponents(numberOfPrincipalComponents);
 			adjustment.setEstimationType(this.estimationType);
+			adjustment.setNormalEquationSolverType(solverType);
 			adjustment.setCongruenceAnalysis(this.congruenceAnalysis);
 			adjustment.setApplyAposterioriVarianceOfUnitWeight(applyVarianceOfUnitWeight);
 			adjustment.setConfidenceRegionDefinition(new TestStatisticDefinition(TestStatisticType.NONE, 1.0 - confidenceLevel));
@@ -539,18 +639,28 @@ public class SQLAdjustmentManager {
 		}
 	}
 
-	private Map<String, Point> getPointsByType(PointType type) throws SQLException {
+	/**
+	 * Liefert die Punkte aller Punkttypen, die mit einer Abfrage geladen werden. Ist ein Punktname mehrfach vorhanden, 
+	 * wird der Punkt nur dem ersten Typ in der Reihenfolge Neupunkt, Datumspunkt, stochastischer Punkt, Festpunkt zugeordnet.
+	 * 
+	 * @return Punkte je Punkttyp
+	 * @throws SQLException
+	 */
+	private Map<PointType, Map<String, Point>> getPointsByType() throws SQLException {
 
-		String sql = "SELECT \"name\", \"y0\", \"x0\", \"z0\", \"dimension\", "
+		String sql = "SELECT \"name\", \"y0\", \"x0\", \"z0\", \"dimension\", \"PointGroup\".\"type\", "
 				+ "IFNULL(CASEWHEN( \"sigma_y0\" > 0, \"sigma_y0\", (SELECT \"value\" FROM \"PointGroupUncertainty\" WHERE \"group_id\" = \"PointApriori\".\"group_id\" AND \"type\" = ?)), ?) AS \"sigma_y0\", "
 				+ "IFNULL(CASEWHEN( \"sigma_x0\" > 0, \"sigma_x0\", (SELECT \"value\" FROM \"PointGroupUncertainty\" WHERE \"group_id\" = \"PointApriori\".\"group_id\" AND \"type\" = ?)), ?) AS \"sigma_x0\", "
 				+ "IFNULL(CASEWHEN( \"sigma_z0\" > 0, \"sigma_z0\", (SELECT \"value\" FROM \"PointGroupUncertainty\" WHERE \"group_id\" = \"PointApriori\".\"group_id\" AND \"type\" = ?)), ?) AS \"sigma_z0\"  "
 				+ "FROM \"PointApriori\" "
 				+ "JOIN \"PointGroup\" ON \"PointApriori\".\"group_id\" = \"PointGroup\".\"id\" "
-				+ "WHERE \"type\" = ? AND \"PointGroup\".\"enable\" = TRUE AND \"PointApriori\".\"enable\" = TRUE "
-				+ "ORDER BY \"dimension\" ASC, \"PointGroup\".\"id\" ASC, \"PointApriori\".\"id\" ASC";
+				+ "WHERE \"PointGroup\".\"enable\" = TRUE AND \"PointApriori\".\"enable\" = TRUE "
+				+ "ORDER BY \"PointGroup\".\"type\" DESC, \"dimension\" ASC, \"PointGroup\".\"id\" ASC, \"PointApriori\".\"id\" ASC";
 
-		Map<String, Point> points = new LinkedHashMap<String,Point>();
+		Map<PointType, Map<String, Point>> pointsByType = new LinkedHashMap<PointType, Map<String, Point>>();
+		for (PointType type : PointType.values())
+			pointsByType.put(type, new LinkedHashMap<String,Point>());
+		Set<String> pointNames = new HashSet<String>();
 
 		int idx = 1;
 		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
@@ -563,11 +673,14 @@ public class SQLAdjustmentManager {
 
 		stmt.setInt(idx++, PointGroupUncertaintyType.COMPONENT_Z.getId());
 		stmt.setDouble(idx++, DefaultUncertainty.getUncertaintyZ());
-
-		stmt.setInt(idx++, type.getId());
+		stmt.setFetchSize(FETCH_SIZE);
 
 		ResultSet rs = stmt.executeQuery();
 		while (rs.next()) {
+			PointType type = PointType.getEnumByValue(rs.getInt("type"));
+			if (type == null)
+				continue;
+			
 			String name = rs.getString("name");
 			int dimension = rs.getInt("dimension");
 
@@ -587,31 +700,33 @@ public class SQLAdjustmentManager {
 				break;
 			case 2:
 				point = new Point2D(name, x0, y0, z0, sigmaX0, sigmaY0);
-				
-				
-				this.pure1DNetwork = false;
-				if (y0 < 1100000 || y0 > 59800000 )
-					this.applicableHorizontalProjection = false;
 				break;
 			case 3:
 				point = new Point3D(name, x0, y0, z0, sigmaX0, sigmaY0, sigmaZ0);
-
-				this.pure1DNetwork = false;
-				if (y0 < 1100000 || y0 > 59800000 )
-					this.applicableHorizontalProjection = false;
 				break;
 			}
-			if (point != null && !this.completePoints.containsKey(point.getName())) {
+			if (point != null && pointNames.add(point.getName())) {
 				if (this.estimationType == EstimationType.SIMULATION) {
 					point.setX(point.getX0());
 					point.setY(point.getY0());
 					point.setZ(point.getZ0());
 				}
-				points.put(point.getName(), point);
-				this.completePoints.put(point.getName(), point);
+				pointsByType.get(type).put(point.getName(), point);
 			}
 		}
-		return points;
+		return pointsByType;
+	}
+	
+	private void addPoints(Map<String, Point> points) {
+		for (Point point : points.values()) {
+			int dimension = point.getDimension();
+			if (dimension != 1) {
+				this.pure1DNetwork = false;
+				if (point.getY0() < 1100000 || point.getY0() > 59800000 )
+					this.applicableHorizontalProjection = false;
+			}
+			this.completePoints.put(point.getName(), point);
+		}
 	}
 	
 	private void addVerticalDeflections() throws SQLException {
@@ -675,7 +790,7 @@ public class SQLAdjustmentManager {
 
 
 	private List<ObservationGroup> getObservationGroups() throws SQLException {
-		List<ObservationGroup> observationGroups = new ArrayList<ObservationGroup>();
+		Map<Integer, ObservationGroup> observationGroups = new LinkedHashMap<Integer, ObservationGroup>();
 
 		String sql = "SELECT \"id\", \"type\", \"reference_epoch\", "
 				+ "\"UncertaintyZP\".\"value\"   AS \"sigma_0_zero_point\", "
@@ -702,7 +817,6 @@ public class SQLAdjustmentManager {
 			if (type == null)
 				continue;
 
-			boolean containsSpatialObservations = false;
 			int groupId = rs.getInt("id");
 			Epoch epoch = rs.getBoolean("reference_epoch") ? Epoch.REFERENCE : Epoch.CONTROL;
 
@@ -726,9 +840,6 @@ public class SQLAdjustmentManager {
 					sigmaDistance = DefaultUncertainty.getUncertaintyLevelingDistanceDependent();
 
 				group = new DeltaZGroup(groupId, sigmaZeroPointOffset, sigmaSquareRootDistance, sigmaDistance, epoch);
-
-				this.addAdditionalGroupParameters(group);
-				this.addTerrestrialObservations(group);
 				break;
 
 			case DIRECTION:
@@ -747,13 +858,8 @@ public class SQLAdjustmentManager {
 
 				if (type == ObservationType.DIRECTION)
 					group = new DirectionGroup(groupId, sigmaZeroPointOffset, sigmaSquareRootDistance, sigmaDistance, epoch); 
-				else {
+				else
 					group = new ZenithAngleGroup(groupId, sigmaZeroPointOffset, sigmaSquareRootDistance, sigmaDistance, epoch);
-					containsSpatialObservations = true;
-				}
-
-				this.addAdditionalGroupParameters(group);
-				this.addTerrestrialObservations(group);
 				break;
 
 			case HORIZONTAL_DISTANCE:
@@ -772,13 +878,8 @@ public class SQLAdjustmentManager {
 
 				if (type == ObservationType.HORIZONTAL_DISTANCE)
 					group = new HorizontalDistanceGroup(groupId, sigmaZeroPointOffset, sigmaSquareRootDistance, sigmaDistance, epoch); 
-				else {
+				else
 					group = new SlopeDistanceGroup(groupId, sigmaZeroPointOffset, sigmaSquareRootDistance, sigmaDistance, epoch);
-					containsSpatialObservations = true;
-				}
-
-				this.addAdditionalGroupParameters(group);
-				this.addTerrestrialObservations(group);		
 				break;
 
 			case GNSS1D:
@@ -802,35 +903,47 @@ public class SQLAdjustmentManager {
 					group = new GNSSBaseline2DGroup(groupId, sigmaZeroPointOffset, sigmaSquareRootDistance, sigmaDistance, epoch);
 				else
 					group = new GNSSBaseline3DGroup(groupId, sigmaZeroPointOffset, sigmaSquareRootDistance, sigmaDistance, epoch);
-
-				this.addAdditionalGroupParameters(group);
-				this.addGNSSObservations(group);
 				break;
 			}
 
-			if (group != null && !group.isEmpty()) {
-				observationGroups.add(group);
-				if (containsSpatialObservations)
+			if (group != null)
+				observationGroups.put(groupId, group);
+		}
+		
+		// Zusatzparameter und Beobachtungen werden fuer alle Gruppen in jeweils einer Abfrage geladen und den Gruppen zugeordnet;
+		// die Zusatzparameter muessen hierbei vor den Beobachtungen vorliegen
+		this.addAdditionalGroupParameters(observationGroups);
+		this.addTerrestrialObservations(observationGroups);
+		this.addGNSSObservations(observationGroups);
+
+		List<ObservationGroup> nonEmptyObservationGroups = new ArrayList<ObservationGroup>(observationGroups.size());
+		for (ObservationGroup group : observationGroups.values()) {
+			if (!group.isEmpty()) {
+				nonEmptyObservationGroups.add(group);
+				if (group instanceof ZenithAngleGroup || group instanceof SlopeDistanceGroup)
 					this.containsSpatialObservations = true;
 			}
 		}
 
-		return observationGroups;
+		return nonEmptyObservationGroups;
 	}
 
-	private void addTerrestrialObservations(ObservationGroup observationGroup) throws SQLException {
-		String sql = "SELECT \"id\", \"start_point_name\", \"end_point_name\", \"instrument_height\", \"reflector_height\", \"value_0\", \"sigma_0\", \"distance_0\" "
+	private void addTerrestrialObservations(Map<Integer, ObservationGroup> observationGroups) throws SQLException {
+		String sql = "SELECT \"ObservationApriori\".\"id\", \"group_id\", \"start_point_name\", \"end_point_name\", \"instrument_height\", \"reflector_height\", \"value_0\", \"sigma_0\", \"distance_0\" "
 				+ "FROM \"ObservationApriori\" "
-				+ "WHERE \"group_id\" = ? AND \"enable\" = TRUE "
-				+ "ORDER BY \"id\" ASC";
+				+ "JOIN \"ObservationGroup\" ON \"ObservationApriori\".\"group_id\" = \"ObservationGroup\".\"id\" "
+				+ "WHERE \"ObservationGroup\".\"enable\" = TRUE AND \"ObservationApriori\".\"enable\" = TRUE "
+				+ "ORDER BY \"ObservationGroup\".\"type\" ASC, \"ObservationGroup\".\"id\" ASC, \"ObservationApriori\".\"id\" ASC";
 
-		int idx = 1;
 		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
-		stmt.setInt(idx++, observationGroup.getId());
+		stmt.setFetchSize(FETCH_SIZE);
 
 		ResultSet rs = stmt.executeQuery();
 
 		while (rs.next()) {
+			ObservationGroup observationGroup = observationGroups.get(rs.getInt("group_id"));
+			if (observationGroup == null)
+				continue;
 
 			int id = rs.getInt("id");
 
@@ -878,19 +991,22 @@ public class SQLAdjustmentManager {
 		}
 	}
 
-	private void addGNSSObservations(ObservationGroup observationGroup) throws SQLException {
-		String sql = "SELECT \"id\", \"start_point_name\", \"end_point_name\", \"y0\", \"x0\", \"z0\", \"sigma_y0\", \"sigma_x0\", \"sigma_z0\" "
+	private void addGNSSObservations(Map<Integer, ObservationGroup> observationGroups) throws SQLException {
+		String sql = "SELECT \"GNSSObservationApriori\".\"id\", \"group_id\", \"start_point_name\", \"end_point_name\", \"y0\", \"x0\", \"z0\", \"sigma_y0\", \"sigma_x0\", \"sigma_z0\" "
 				+ "FROM \"GNSSObservationApriori\" "
-				+ "WHERE \"group_id\" = ? AND \"enable\" = TRUE "
-				+ "ORDER BY \"id\" ASC";
+				+ "JOIN \"ObservationGroup\" ON \"GNSSObservationApriori\".\"group_id\" = \"ObservationGroup\".\"id\" "
+				+ "WHERE \"ObservationGroup\".\"enable\" = TRUE AND \"GNSSObservationApriori\".\"enable\" = TRUE "
+				+ "ORDER BY \"ObservationGroup\".\"type\" ASC, \"ObservationGroup\".\"id\" ASC, \"GNSSObservationApriori\".\"id\" ASC";
 
-		int idx = 1;
 		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
-		stmt.setInt(idx++, observationGroup.getId());
+		stmt.setFetchSize(FETCH_SIZE);
 
 		ResultSet rs = stmt.executeQuery();
 
 		while (rs.next()) {
+			ObservationGroup observationGroup = observationGroups.get(rs.getInt("group_id"));
+			if (observationGroup == null)
+				continue;
 
 			int id = rs.getInt("id");
 
@@ -954,16 +1070,22 @@ public class SQLAdjustmentManager {
 		}
 	}
 
-	private void addAdditionalGroupParameters(ObservationGroup observationGroup) throws SQLException {
-		String sql = "SELECT \"id\", \"type\", \"value_0\", \"enable\" "
-				+ "FROM \"AdditionalParameterApriori\" WHERE \"group_id\" = ? "
-				+ "ORDER BY \"id\" ASC";
+	private void addAdditionalGroupParameters(Map<Integer, ObservationGroup> observationGroups) throws SQLException {
+		String sql = "SELECT \"AdditionalParameterApriori\".\"id\", \"group_id\", \"AdditionalParameterApriori\".\"type\", \"value_0\", \"AdditionalParameterApriori\".\"enable\" "
+				+ "FROM \"AdditionalParameterApriori\" "
+				+ "JOIN \"ObservationGroup\" ON \"AdditionalParameterApriori\".\"group_id\" = \"ObservationGroup\".\"id\" "
+				+ "WHERE \"ObservationGroup\".\"enable\" = TRUE "
+				+ "ORDER BY \"ObservationGroup\".\"type\" ASC, \"ObservationGroup\".\"id\" ASC, \"AdditionalParameterApriori\".\"id\" ASC";
 
 		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
-		stmt.setInt(1, observationGroup.getId());
+		stmt.setFetchSize(FETCH_SIZE);
 		// additionalParametersToBeEstimated
 		ResultSet rs = stmt.executeQuery();
 		while (rs.next()) {
+			ObservationGroup observationGroup = observationGroups.get(rs.getInt("group_id"));
+			if (observationGroup == null)
+				continue;
+			
 			ParameterType type = ParameterType.getEnumByValue(rs.getInt("type"));
 
 			int id         = rs.getInt("id");
@@ -1156,22 +1278,43 @@ public class SQLAdjustmentManager {
 		}
 	}
 
+	public void addPropertyChangeListener(PropertyChangeListener listener) {
+		this.change.addPropertyChangeListener(listener);
+	}
+
+	public void removePropertyChangeListener(PropertyChangeListener listener) {
+		this.change.removePropertyChangeListener(listener);
+	}
+
 	/** SAVE RESULTS **/
 
 	public void saveResults() throws SQLException {
 		try {
 			if (this.networkAdjustment != null) {
-				// Tabelle fuer Daten nach der AGL leeren
-				this.clearAposterioriTables();
+				// Qxx wird zum Speichern nicht benoetigt
+				this.networkAdjustment.clearMatrices();
+				
+				boolean isStreamed = this.resultStreamWriter != null;
+				if (isStreamed) {
+					// Warte auf die im Hintergrund gespeicherten Ergebnisse
+					this.resultStreamWriter.close();
+				}
+				else {
+					// Tabelle fuer Daten nach der AGL leeren
+					this.clearAposterioriTables();
+				}
 
 				this.savePoints();
-				this.saveVerticalDeflections();
+				
+				if (!isStreamed) {
+					this.saveVerticalDeflections();
 
-				this.saveObservations();
-				this.saveAdditionalParameters();
+					this.saveObservations();
+					this.saveAdditionalParameters();
 
-				this.saveCongruenceAnalysisPointPair();
-				this.saveStrainParameters();
+					this.saveCongruenceAnalysisPointPair();
+					this.saveStrainParameters();
+				}
 
 				this.savePrincipalComponentAnalysis(this.networkAdjustment.getPrincipalComponents());
 				this.saveRankDefect(this.networkAdjustment.getRankDefect());
@@ -1180,6 +1323,12 @@ public class SQLAdjustmentManager {
 				this.saveVarianceComponents(this.networkAdjustment.getVarianceComponents());
 				
 				this.saveVersion();
+				
+				if (isStreamed) {
+					this.dataBase.commit();
+					this.dataBase.setAutoCommit(true);
+					this.resultStreamWriter = null;
+				}
 			}
 		}
 		finally {
@@ -1187,6 +1336,67 @@ public class SQLAdjustmentManager {
 		}
 	}
 	
+	/**
+	 * Startet das Speichern der Ergebnisse im Hintergrund, sobald die Ausgleichung mit dem Export 
+	 * bzw. der Hauptkomponentenanalyse beginnt. Zu diesem Zeitpunkt sind die Ergebnisse der Beobachtungen, 
+	 * Lotabweichungen, Zusatzparameter und Deformationsanalyse abschliessend bestimmt. Die Punkte werden 
+	 * erst in <code>saveResults()</code> gespeichert, da die Hauptkomponentenanalyse deren Ergebnisse ergaenzt. 
+	 * Alle Tabellen werden innerhalb einer Transaktion geschrieben, die erst in <code>saveResults()</code> 
+	 * abgeschlossen wird. Wird die Ausgleichung abgebrochen, bleiben die vorherigen Ergebnisse erhalten.
+	 * 
+	 * @param stateName Name des aktuellen Zustands der Ausgleichung
+	 */
+	private void startResultStream(String stateName) {
+		if (this.resultStreamWriter != null || 
+				!(stateName.equals(EstimationStateType.EXPORT_ADJUSTMENT_RESULTS.name()) || stateName.equals(EstimationStateType.PRINCIPAL_COMPONENT_ANALYSIS.name())))
+			return;
+		
+		try {
+			this.resultStreamWriter = new ResultStreamWriter();
+			this.resultStreamWriter.submit(() -> {
+				this.dataBase.setAutoCommit(false);
+				this.clearAposterioriTables();
+			});
+			this.resultStreamWriter.submit(this::saveVerticalDeflections);
+			this.resultStreamWriter.submit(this::saveObservations);
+			this.resultStreamWriter.submit(this::saveAdditionalParameters);
+			this.resultStreamWriter.submit(this::saveCongruenceAnalysisPointPair);
+			this.resultStreamWriter.submit(this::saveStrainParameters);
+		}
+		catch (SQLException e) {
+			// Fehler wird beim Abschluss in saveResults() erneut ausgeloest
+			e.printStackTrace();
+		}
+	}
+	
+	/**
+	 * Beendet das Speichern im Hintergrund; nicht abgeschlossene Transaktionen werden zurueckgesetzt
+	 */
+	private void closeResultStream() {
+		if (this.networkAdjustment != null && this.resultStreamListener != null)
+			this.networkAdjustment.removePropertyChangeListener(this.resultStreamListener);
+		this.resultStreamListener = null;
+		
+		if (this.resultStreamWriter != null) {
+			this.resultStreamWriter.cancel();
+			this.resultStreamWriter = null;
+			try {
+				this.dataBase.rollback();
+			}
+			catch (SQLException e) {
+				e.printStackTrace();
+			}
+			finally {
+				try {
+					this.dataBase.setAutoCommit(true);
+				}
+				catch (SQLException e) {
+					e.printStackTrace();
+				}
+			}
+		}
+	}
+	
 	private void saveVersion() throws SQLException {
 		String sql = "UPDATE \"Version\" SET \"version\" = ? WHERE \"type\" = ?";
 		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
@@ -1213,6 +1423,7 @@ public class SQLAdjustmentManager {
 
 	private void savePoints() throws SQLException {
 		boolean hasBatch = false;
+		int batchSize = 0;
 
 		String sql = "INSERT INTO \"PointAposteriori\" (" 
 				+ "\"id\",\"y\",\"x\",\"z\"," 
@@ -1233,6 +1444,7 @@ public class SQLAdjustmentManager {
 				+ "(SELECT \"id\" FROM \"PointApriori\" WHERE \"name\" = ?), "
 				+ "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
+		boolean isTransaction = !this.dataBase.isAutoCommit();
 		try {
 			this.dataBase.setAutoCommit(false);
 			PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
@@ -1312,17 +1524,24 @@ public class SQLAdjustmentManager {
 
 				stmt.addBatch();
 				hasBatch = true;
+				// Batch abschnittsweise ausfuehren, um den Speicherbedarf zu begrenzen
+				if (++batchSize % BATCH_SIZE == 0) {
+					stmt.executeLargeBatch();
+					hasBatch = false;
+				}
 			}
 			if (hasBatch)
 				stmt.executeLargeBatch();
 		}
 		finally {
-			this.dataBase.setAutoCommit(true);
+			if (!isTransaction)
+				this.dataBase.setAutoCommit(true);
 		}
 	}
 
 	private void saveVerticalDeflections() throws SQLException {
 		boolean hasBatch = false;
+		int batchSize = 0;
 		String sql = "INSERT INTO \"VerticalDeflectionAposteriori\" ("
 				+ "\"id\",\"y\",\"x\"," 
 				+ "\"sigma_y0\",\"sigma_x0\"," 
@@ -1337,6 +1556,7 @@ public class SQLAdjustmentManager {
 				+ "(SELECT \"id\" FROM \"VerticalDeflectionApriori\" WHERE \"name\" = ?), " 
 				+ "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)";
 
+		boolean isTransaction = !this.dataBase.isAutoCommit();
 		try {
 			this.dataBase.setAutoCommit(false);
 			PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
@@ -1398,21 +1618,26 @@ public class SQLAdjustmentManager {
 				stmt.setInt(idx++, Math.min(point.getVerticalDeflectionX().getColInJacobiMatrix(), point.getVerticalDeflectionY().getColInJacobiMatrix()));
 
 				stmt.addBatch();
-
 				hasBatch = true;
-				
+				// Batch abschnittsweise ausfuehren, um den Speicherbedarf zu begrenzen
+				if (++batchSize % BATCH_SIZE == 0) {
+					stmt.executeLargeBatch();
+					hasBatch = false;
+				}
 			}
 			if (hasBatch)
 				stmt.executeLargeBatch();
 		}
 		finally {
-			this.dataBase.setAutoCommit(true);
+			if (!isTransaction)
+				this.dataBase.setAutoCommit(true);
 		}
 	}
 
 
 	private void saveObservations() throws SQLException {
 		boolean hasBatch = false;
+		int batchSize = 0;
 		String sqlTerObs = "INSERT INTO \"ObservationAposteriori\" ("
 				+ "\"id\", \"value\", "
 				+ "\"sigma_0\", \"sigma\", "
@@ -1439,6 +1664,7 @@ public class SQLAdjustmentManager {
 				+ "\"omega\", \"p_prio\", \"p_post\", \"t_prio\", \"t_post\", \"significant\") "
 				+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ? ,? ,?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"; 
 
+		boolean isTransaction = !this.dataBase.isAutoCommit();
 		try {
 			this.dataBase.setAutoCommit(false);
 			Set<Integer> gnssObservationIds = new LinkedHashSet<Integer>();
@@ -1566,13 +1792,19 @@ public class SQLAdjustmentManager {
 					}
 					stmt.addBatch();
 					hasBatch = true;
+					// Batch abschnittsweise ausfuehren, um den Speicherbedarf zu begrenzen
+					if (++batchSize % BATCH_SIZE == 0) {
+						stmt.executeLargeBatch();
+						hasBatch = false;
+					}
 				}
 				if (hasBatch)
 					stmt.executeLargeBatch();
 			}
 		}
 		finally {
-			this.dataBase.setAutoCommit(true);
+			if (!isTransaction)
+				this.dataBase.setAutoCommit(true);
 		}
 	}
 
@@ -1582,6 +1814,7 @@ public class SQLAdjustmentManager {
 				+ "\"id\",\"value\",\"sigma\",\"confidence\",\"gross_error\",\"minimal_detectable_bias\",\"p_prio\",\"p_post\",\"t_prio\",\"t_post\",\"significant\""
 				+ ") VALUES (?,?,?,?,?,?,?,?,?,?,?)";
 
+		boolean isTransaction = !this.dataBase.isAutoCommit();
 		try {
 			this.dataBase.setAutoCommit(false);
 
@@ -1632,7 +1865,8 @@ public class SQLAdjustmentManager {
 				stmt.executeLargeBatch();
 		}
 		finally {
-			this.dataBase.setAutoCommit(true);
+			if (!isTransaction)
+				this.dataBase.setAutoCommit(true);
 		}
 	}
 
@@ -1643,6 +1877,7 @@ public class SQLAdjustmentManager {
 				+ "\"d1\", \"d2\", \"probability_value\", \"power_of_test\", \"quantile\", \"non_centrality_parameter\", \"p_value\""
 				+ ") VALUES (?,?,?,?,?,?,?)";
 
+		boolean isTransaction = !this.dataBase.isAutoCommit();
 		try {
 			this.dataBase.setAutoCommit(false);
 
@@ -1672,7 +1907,8 @@ public class SQLAdjustmentManager {
 
 		}
 		finally {
-			this.dataBase.setAutoCommit(true);
+			if (!isTransaction)
+				this.dataBase.setAutoCommit(true);
 		}
 	}
 	
@@ -1683,6 +1919,7 @@ public class SQLAdjustmentManager {
 				+ "\"number_of_trials\", \"success_probability\", \"probability_value\", \"lower_tail_quantile\", \"upper_tail_quantile\" "
 				+ ") VALUES (?,?,?,?,?)";
 
+		boolean isTransaction = !this.dataBase.isAutoCommit();
 		try {
 			this.dataBase.setAutoCommit(false);
 
@@ -1706,7 +1943,8 @@ public class SQLAdjustmentManager {
 
 		}
 		finally {
-			this.dataBase.setAutoCommit(true);
+			if (!isTransaction)
+				this.dataBase.setAutoCommit(true);
 		}
 	}
 
@@ -1717,6 +1955,7 @@ public class SQLAdjustmentManager {
 				+ "\"type\", \"redundancy\", \"omega\", \"sigma2apost\", \"number_of_observations\", \"number_of_effective_observations\", \"number_of_negative_residuals\" "
 				+ ") VALUES (?,?,?,?,?,?,?)";
 
+		boolean isTransaction = !this.dataBase.isAutoCommit();
 		try {
 			this.dataBase.setAutoCommit(false);
 			PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
@@ -1737,7 +1976,8 @@ public class SQLAdjustmentManager {
 				stmt.executeLargeBatch();
 		}
 		finally {
-			this.dataBase.setAutoCommit(true);
+			if (!isTransaction)
+				this.dataBase.setAutoCommit(true);
 		}
 	}
 
@@ -1751,6 +1991,7 @@ public class SQLAdjustmentManager {
 				+ "\"index\", \"value\", \"ratio\""
 				+ ") VALUES (?,?,?)";
 
+		boolean isTransaction = !this.dataBase.isAutoCommit();
 		try {
 			double traceCxx = this.networkAdjustment.getTraceOfCovarianceMatrixOfPoints();
 			this.dataBase.setAutoCommit(false);
@@ -1774,7 +2015,8 @@ public class SQLAdjustmentManager {
 				stmt.executeLargeBatch();
 		}
 		finally {
-			this.dataBase.setAutoCommit(true);
+			if (!isTransaction)
+				this.dataBase.setAutoCommit(true);
 		}
 	}
 
@@ -1813,6 +2055,7 @@ public class SQLAdjustmentManager {
 	
 	private void saveCongruenceAnalysisPointPair() throws SQLException {
 		boolean hasBatch = false;
+		int batchSize = 0;
 
 		String sql = "INSERT INTO \"CongruenceAnalysisPointPairAposteriori\" ("
 				+ "\"id\",\"y\",\"x\",\"z\", "
@@ -1826,6 +2069,7 @@ public class SQLAdjustmentManager {
 				+ "\"t_prio\",\"t_post\",\"significant\""
 				+ ") VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)";
 
+		boolean isTransaction = !this.dataBase.isAutoCommit();
 		try {
 			this.dataBase.setAutoCommit(false);
 			PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
@@ -1878,6 +2122,11 @@ public class SQLAdjustmentManager {
 
 						stmt.addBatch();
 						hasBatch = true;
+						// Batch abschnittsweise ausfuehren, um den Speicherbedarf zu begrenzen
+						if (++batchSize % BATCH_SIZE == 0) {
+							stmt.executeLargeBatch();
+							hasBatch = false;
+						}
 					}
 				}
 			}
@@ -1885,7 +2134,8 @@ public class SQLAdjustmentManager {
 				stmt.executeLargeBatch();
 		}
 		finally {
-			this.dataBase.setAutoCommit(true);
+			if (!isTransaction)
+				this.dataBase.setAutoCommit(true);
 		}
 	}
 
@@ -1900,6 +2150,7 @@ public class SQLAdjustmentManager {
 				+ "\"t_prio\",\"t_post\",\"significant\""
 				+ ") VALUES (?,?,?,?,?,?,?,?,?,?,?,?)";
 
+		boolean isTransaction = !this.dataBase.isAutoCommit();
 		try {
 			this.dataBase.setAutoCommit(false);
 			PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
@@ -1980,7 +2231,8 @@ public class SQLAdjustmentManager {
 				stmt.executeLargeBatch();
 		}
 		finally {
-			this.dataBase.setAutoCommit(true);
+			if (!isTransaction)
+				this.dataBase.setAutoCommit(true);
 		}
 	}
 	
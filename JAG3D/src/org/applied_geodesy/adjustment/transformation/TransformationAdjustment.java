@@ -35,6 +35,7 @@ import org.applied_geodesy.adjustment.EstimationStateType;
 import org.applied_geodesy.adjustment.EstimationType;
 import org.applied_geodesy.adjustment.MathExtension;
 import org.applied_geodesy.adjustment.NormalEquationSystem;
+import org.applied_geodesy.adjustment.ParallelNormalEquationAssembler;
 import org.applied_geodesy.adjustment.statistic.BaardaMethodTestStatistic;
 import org.applied_geodesy.adjustment.statistic.SidakTestStatistic;
 import org.applied_geodesy.adjustment.statistic.TestStatistic;
@@ -89,6 +90,7 @@ public class TransformationAdjustment {
 	
 	private Transformation transformation;
 	private List<HomologousFramePositionPair> homologousPointPairs = new ArrayList<HomologousFramePositionPair>();
+	private ParallelNormalEquationAssembler normalEquationAssembler = new ParallelNormalEquationAssembler();
 	
 	private List<UnknownParameter> parameters = new ArrayList<UnknownParameter>();
 	private List<Restriction> restrictions    = new ArrayList<Restriction>();
@@ -1140,11 +1142,77 @@ public class TransformationAdjustment {
 		UpperSymmBandMatrix V = this.preconditioning ? new UpperSymmBandMatrix(nou + nor, 0) : null;
 		DenseVector n = new DenseVector(nou + nor);
 
-		int dim = this.transformationEquations.getTransformationType().getDimension();
-		for (HomologousFramePositionPair homologousPointPair : this.homologousPointPairs) {
+		if (!this.normalEquationAssembler.assemble(this.homologousPointPairs.size(), N, n, this::addHomologousPointPairsToNormalEquation))
+			return null;
+
+		for (Restriction restriction : this.restrictions) {
 			if (this.interrupt.isInterrupted())
 				return null;
 			
+			// set parameter restrictions behind the model equations
+			restriction.transposedJacobianElements(N);
+			double misclosure = restriction.getMisclosure();
+			this.maxAbsRestriction = Math.max(Math.abs(misclosure), this.maxAbsRestriction);
+			n.set(restriction.getRow(), -misclosure);
+		}
+		
+		if (this.deriveFirstAdaptedDampingValue) {
+			double maxElement = 0;
+			for (UnknownParameter unknownParameter : this.parameters) {
+				int column = unknownParameter.getColumn();
+				if (column < 0)
+					continue;
+				maxElement = Math.max(maxElement, N.get(column, column));
+			}
+			// derive first damping value for LMA
+			this.adaptedDampingValue = this.dampingValue * maxElement;
+			this.deriveFirstAdaptedDampingValue = false;
+		}
+		
+		if (this.adaptedDampingValue > 0) {
+			for (UnknownParameter unknownParameter : this.parameters) {
+				int column = unknownParameter.getColumn();
+				if (column < 0)
+					continue;
+				//N.add(column, column, this.adaptedDampingValue * N.get(column, column));
+				N.add(column, column, this.adaptedDampingValue);
+			}
+		}
+		
+		if (this.preconditioning) {
+			// Pre-conditioning == Just the square root of the main diagonal of AT*P*A
+			for (int column = 0; column < N.numColumns(); column++) {
+				if (this.interrupt.isInterrupted())
+					return null;
+				
+				double value = N.get(column, column);
+				V.set(column, column, value > Constant.EPS ? 1.0 / Math.sqrt(value) : 1.0);
+			}
+		}
+		if (this.estimationType == EstimationType.SIMULATION)
+			n.zero();
+
+		return new NormalEquationSystem(N, n, V);
+	}
+	
+	/**
+	 * Adds the contributions of the homologous point pairs [fromIndex, toIndex) to the normal equation. In case of a
+	 * multi-threaded assembly, this method is called concurrently for disjoint ranges with separate normal equations.
+	 * @param fromIndex
+	 * @param toIndex
+	 * @param N
+	 * @param n
+	 * @return false, if the assembly was interrupted
+	 */
+	private boolean addHomologousPointPairsToNormalEquation(int fromIndex, int toIndex, Matrix N, DenseVector n) {
+		int nou = this.numberOfUnknownParameters;
+		int dim = this.transformationEquations.getTransformationType().getDimension();
+		for (int i = fromIndex; i < toIndex; i++) {
+			if (this.interrupt.isInterrupted())
+				return false;
+			
+			HomologousFramePositionPair homologousPointPair = this.homologousPointPairs.get(i);
+			
 			// Derive Jacobians A, B and vector of misclosures
 			Matrix Jx = new DenseMatrix(dim, nou);
 			Matrix JvSrc = new DenseMatrix(dim, dim);
@@ -1155,7 +1223,7 @@ public class TransformationAdjustment {
 			boolean isSourcePoint = true;
 			for (HomologousFramePosition point : homologousPointPair) {
 				if (this.interrupt.isInterrupted())
-					return null;
+					return false;
 				
 				Matrix Jv = isSourcePoint ? JvSrc : JvTrg;
 				isSourcePoint = false;
@@ -1186,7 +1254,7 @@ public class TransformationAdjustment {
 			// AT P A und AT P w
 			for (int rowJxT = 0; rowJxT < this.parameters.size(); rowJxT++) {
 				if (this.interrupt.isInterrupted())
-					return null;
+					return false;
 				
 				int rowN = this.parameters.get(rowJxT).getColumn();
 				if (rowN < 0)
@@ -1209,55 +1277,7 @@ public class TransformationAdjustment {
 				}
 			}
 		}
-
-		for (Restriction restriction : this.restrictions) {
-			if (this.interrupt.isInterrupted())
-				return null;
-			
-			// set parameter restrictions behind the model equations
-			restriction.transposedJacobianElements(N);
-			double misclosure = restriction.getMisclosure();
-			this.maxAbsRestriction = Math.max(Math.abs(misclosure), this.maxAbsRestriction);
-			n.set(restriction.getRow(), -misclosure);
-		}
-		
-		if (this.deriveFirstAdaptedDampingValue) {
-			double maxElement = 0;
-			for (UnknownParameter unknownParameter : this.parameters) {
-				int column = unknownParameter.getColumn();
-				if (column < 0)
-					continue;
-				maxElement = Math.max(maxElement, N.get(column, column));
-			}
-			// derive first damping value for LMA
-			this.adaptedDampingValue = this.dampingValue * maxElement;
-			this.deriveFirstAdaptedDampingValue = false;
-		}
-		
-		if (this.adaptedDampingValue > 0) {
-			for (UnknownParameter unknownParameter : this.parameters) {
-				int column = unknownParameter.getColumn();
-				if (column < 0)
-					continue;
-				//N.add(column, column, this.adaptedDampingValue * N.get(column, column));
-				N.add(column, column, this.adaptedDampingValue);
-			}
-		}
-		
-		if (this.preconditioning) {
-			// Pre-conditioning == Just the square root of the main diagonal of AT*P*A
-			for (int column = 0; column < N.numColumns(); column++) {
-				if (this.interrupt.isInterrupted())
-					return null;
-				
-				double value = N.get(column, column);
-				V.set(column, column, value > Constant.EPS ? 1.0 / Math.sqrt(value) : 1.0);
-			}
-		}
-		if (this.estimationType == EstimationType.SIMULATION)
-			n.zero();
-
-		return new NormalEquationSystem(N, n, V);
+		return true;
 	}
 	
 	private void applyPrecondition(NormalEquationSystem neq) {
@@ -1478,4 +1498,36 @@ public class TransformationAdjustment {
 		else
 			throw new IllegalArgumentException("Error, unsupported estimation type " + estimationType + "!");
 	}
+	
+	/**
+	 * Returns the number of threads used to build the normal equation
+	 * @return number of threads
+	 */
+	public int getNumberOfThreads() {
+		return this.normalEquationAssembler.getNumberOfThreads();
+	}
+	
+	/**
+	 * Sets the number of threads used to build the normal equation
+	 * @param numberOfThreads
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		this.normalEquationAssembler.setNumberOfThreads(numberOfThreads);
+	}
+	
+	/**
+	 * Returns true, if the normal equation is reproducible bit-for-bit in case of multi-threaded assembly
+	 * @return deterministic assembly
+	 */
+	public boolean isDeterministicAssembly() {
+		return this.normalEquationAssembler.isDeterministic();
+	}
+	
+	/**
+	 * Specifies whether the normal equation is reproducible bit-for-bit in case of multi-threaded assembly
+	 * @param deterministicAssembly
+	 */
+	public void setDeterministicAssembly(boolean deterministicAssembly) {
+		this.normalEquationAssembler.setDeterministic(deterministicAssembly);
+	}
 }
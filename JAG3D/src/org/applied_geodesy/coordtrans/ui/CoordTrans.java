@@ -28,6 +28,7 @@ import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.applied_geodesy.adjustment.LinearAlgebraBackend;
 import org.applied_geodesy.adjustment.transformation.TransformationAdjustment;
 import org.applied_geodesy.adjustment.transformation.TransformationChangeListener;
 import org.applied_geodesy.adjustment.transformation.TransformationEvent;
@@ -332,6 +333,8 @@ public class CoordTrans extends Application {
 				logger.setUseParentHandlers(false);
 				logger.setLevel(Level.OFF);
 			}
+			
+			LinearAlgebraBackend.initialize();
 		}
 		catch (Exception e) {
 			e.printStackTrace();
@@ -311,6 +311,7 @@ public class TransformationAdjustmentDialog {
 
 			// unused cases
 			case UNSCENTED_TRANSFORMATION_STEP:
+			case LOAD_NETWORK_MODEL:
 			case PRINCIPAL_COMPONENT_ANALYSIS:
 			case EXPORT_ADJUSTMENT_RESULTS:
 				break;
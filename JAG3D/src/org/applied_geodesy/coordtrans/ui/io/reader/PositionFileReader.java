@@ -23,13 +23,17 @@ package org.applied_geodesy.coordtrans.ui.io.reader;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.applied_geodesy.adjustment.DefaultValue;
 import org.applied_geodesy.adjustment.transformation.TransformationType;
 import org.applied_geodesy.adjustment.transformation.point.ObservedFramePosition;
 import org.applied_geodesy.coordtrans.ui.i18n.I18N;
 import org.applied_geodesy.util.FormatterOptions;
+import org.applied_geodesy.util.io.ByteLine;
+import org.applied_geodesy.util.io.LockFileReader.LineChunk;
 import org.applied_geodesy.util.io.SourceFileReader;
 
 import javafx.stage.FileChooser.ExtensionFilter;
@@ -67,6 +71,7 @@ public class PositionFileReader extends SourceFileReader<Map<String, ObservedFra
 	@Override
 	public Map<String, ObservedFramePosition> readAndImport() throws Exception {
 		this.ignoreLinesWhichStartWith("#");
+		this.setMemoryMapped(true);
 		super.read();
 		if (this.isInterrupted())
 			this.positions.clear();
@@ -81,237 +86,312 @@ public class PositionFileReader extends SourceFileReader<Map<String, ObservedFra
 
 	@Override
 	public void parse(String line) {
-		line = line.trim();
+		this.parse(ByteLine.wrap(line));
+	}
 
-		try {
-			switch(this.transformationType) {
-			case HEIGHT:
-				scanHeightPosition(this.positions, line);
-				break;
-			case PLANAR:
-				scanPlanarPosition(this.positions, line);
-				break;
-			case SPATIAL:
-				scanSpatialPosition(this.positions, line);
-				break;	
-			}
-		}
-		catch(NumberFormatException e) {
-			e.printStackTrace();
-			return;
+	@Override
+	public void parse(ByteLine line) {
+		PositionChunk chunk = this.createLineChunk();
+		chunk.parse(line);
+		this.mergeLineChunk(chunk);
+	}
+
+	@Override
+	protected PositionChunk createLineChunk() {
+		return new PositionChunk(this.transformationType);
+	}
+
+	@Override
+	protected int getNumberOfThreads() {
+		return DefaultValue.getNumberOfThreads();
+	}
+
+	@Override
+	protected void mergeLineChunk(LineChunk lineChunk) {
+		PositionChunk chunk = (PositionChunk)lineChunk;
+		int dimension = chunk.dimension;
+		for (int i = 0; i < chunk.size; i++) {
+			// generierte Punktnummern werden in der Reihenfolge der Datei fortlaufend vergeben
+			String name = chunk.names[i] != null ? chunk.names[i] : String.valueOf(PositionFileReader.id + chunk.generatedNames[i]);
+			int offset = dimension * i;
+			ObservedFramePosition position = null;
+			if (dimension == 1)
+				position = new ObservedFramePosition(chunk.coordinates[offset]);
+			else if (dimension == 2)
+				position = new ObservedFramePosition(chunk.coordinates[offset], chunk.coordinates[offset + 1]);
+			else
+				position = new ObservedFramePosition(chunk.coordinates[offset], chunk.coordinates[offset + 1], chunk.coordinates[offset + 2]);
+			if (chunk.dispersions[i] != null)
+				position.setDispersionApriori(chunk.dispersions[i]);
+			this.positions.put(name, position);
 		}
+		PositionFileReader.id += chunk.numberOfGeneratedNames;
 	}
 	
-	private static boolean scanHeightPosition(Map<String, ObservedFramePosition> positionMap, String str) throws NumberFormatException, IllegalArgumentException {
-		FormatterOptions options = FormatterOptions.getInstance();
-		String columns[] = str.trim().split("[\\s;]+");
+	private static class PositionChunk implements LineChunk {
+		private final static int INITIAL_CAPACITY = 16;
+		private final TransformationType transformationType;
+		private final int dimension;
+		private int size = 0, numberOfGeneratedNames = 0;
+		// Punktnummer bzw. null und laufende Nummer innerhalb des Abschnitts, wenn die Punktnummer generiert wird 
+		private String names[] = new String[INITIAL_CAPACITY];
+		private int generatedNames[] = new int[INITIAL_CAPACITY];
+		private double coordinates[];
+		private Matrix dispersions[] = new Matrix[INITIAL_CAPACITY];
 
-		if (columns.length == 1) {
-			String name = String.valueOf(++PositionFileReader.id); 
-			double z = options.convertLengthToModel(Double.parseDouble(columns[0].replace(',', '.'))); 
-			ObservedFramePosition position = new ObservedFramePosition(z);
-			positionMap.put(name, position);
-			return true;
+		private PositionChunk(TransformationType transformationType) {
+			this.transformationType = transformationType;
+			this.dimension = transformationType.getDimension();
+			this.coordinates = new double[INITIAL_CAPACITY * this.dimension];
+		}
+
+		@Override
+		public void parse(ByteLine line) {
+			try {
+				switch(this.transformationType) {
+				case HEIGHT:
+					this.scanHeightPosition(line);
+					break;
+				case PLANAR:
+					this.scanPlanarPosition(line);
+					break;
+				case SPATIAL:
+					this.scanSpatialPosition(line);
+					break;	
+				}
+			}
+			catch(NumberFormatException e) {
+				e.printStackTrace();
+			}
 		}
+
+		private int add(String name, int generatedName, double x, double y, double z) {
+			if (this.size == this.names.length) {
+				int capacity = 2 * this.size;
+				this.names          = Arrays.copyOf(this.names, capacity);
+				this.generatedNames = Arrays.copyOf(this.generatedNames, capacity);
+				this.coordinates    = Arrays.copyOf(this.coordinates, capacity * this.dimension);
+				this.dispersions    = Arrays.copyOf(this.dispersions, capacity);
+			}
+			int index = this.size++;
+			int offset = this.dimension * index;
+			this.names[index] = name;
+			this.generatedNames[index] = generatedName;
+			this.dispersions[index] = null;
+			if (this.dimension == 1)
+				this.coordinates[offset] = z;
+			else {
+				this.coordinates[offset]     = x;
+				this.coordinates[offset + 1] = y;
+				if (this.dimension == 3)
+					this.coordinates[offset + 2] = z;
+			}
+			return index;
+		}
+
+		private boolean scanHeightPosition(ByteLine columns) throws NumberFormatException, IllegalArgumentException {
+			FormatterOptions options = FormatterOptions.getInstance();
+
+			if (columns.getNumberOfColumns() == 1) {
+				int generatedName = ++this.numberOfGeneratedNames;
+				double z = options.convertLengthToModel(columns.getDouble(0)); 
+				this.add(null, generatedName, 0, 0, z);
+				return true;
+			}
 		
-		if (columns.length < 2)
-			return false;
+			if (columns.getNumberOfColumns() < 2)
+				return false;
 		
-		String name = columns[0]; 
-		double z = options.convertLengthToModel(Double.parseDouble(columns[1].replace(',', '.'))); 
+			String name = columns.getString(0); 
+			double z = options.convertLengthToModel(columns.getDouble(1)); 
 		
-		ObservedFramePosition position = new ObservedFramePosition(z);
-		positionMap.put(name, position);
+			int index = this.add(name, 0, 0, 0, z);
 		
-		if (columns.length < 3)
-			return true;
+			if (columns.getNumberOfColumns() < 3)
+				return true;
 		
-		double sigmaZ = options.convertLengthToModel(Double.parseDouble(columns[2].replace(',', '.'))); 
+			double sigmaZ = options.convertLengthToModel(columns.getDouble(2)); 
 		
-		if (sigmaZ <= 0)
-			return true;
-
-		Matrix dispersion = new UpperSymmBandMatrix(position.getDimension(), 0);
-		dispersion.set(0, 0, sigmaZ * sigmaZ);
-		position.setDispersionApriori(dispersion);
-		return true;
-	}
-	
-	private static boolean scanPlanarPosition(Map<String, ObservedFramePosition> positionMap, String str) throws NumberFormatException, IllegalArgumentException {
-		FormatterOptions options = FormatterOptions.getInstance();
-		String columns[] = str.trim().split("[\\s;]+");
+			if (sigmaZ <= 0)
+				return true;
 
-		if (columns.length == 2) {
-			String name = String.valueOf(++PositionFileReader.id); 
-			double x = options.convertLengthToModel(Double.parseDouble(columns[0].replace(',', '.'))); 
-			double y = options.convertLengthToModel(Double.parseDouble(columns[1].replace(',', '.')));
-			ObservedFramePosition position = new ObservedFramePosition(x, y);
-			positionMap.put(name, position);
+			Matrix dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+			dispersion.set(0, 0, sigmaZ * sigmaZ);
+			this.dispersions[index] = dispersion;
 			return true;
 		}
+	
+		private boolean scanPlanarPosition(ByteLine columns) throws NumberFormatException, IllegalArgumentException {
+			FormatterOptions options = FormatterOptions.getInstance();
+
+			if (columns.getNumberOfColumns() == 2) {
+				int generatedName = ++this.numberOfGeneratedNames;
+				double x = options.convertLengthToModel(columns.getDouble(0)); 
+				double y = options.convertLengthToModel(columns.getDouble(1));
+				this.add(null, generatedName, x, y, 0);
+				return true;
+			}
 
-		if (columns.length < 3)
-			return false;
+			if (columns.getNumberOfColumns() < 3)
+				return false;
 		
-		String name = columns[0]; 
-		double x = options.convertLengthToModel(Double.parseDouble(columns[1].replace(',', '.'))); 
-		double y = options.convertLengthToModel(Double.parseDouble(columns[2].replace(',', '.')));
+			String name = columns.getString(0); 
+			double x = options.convertLengthToModel(columns.getDouble(1)); 
+			double y = options.convertLengthToModel(columns.getDouble(2));
 		
-		ObservedFramePosition position = new ObservedFramePosition(x, y);
-		positionMap.put(name, position);
+			int index = this.add(name, 0, x, y, 0);
 		
-		if (columns.length < 4)
-			return true;
+			if (columns.getNumberOfColumns() < 4)
+				return true;
 		
-		double sigmaX, sigmaY;
-		sigmaX = sigmaY = options.convertLengthToModel(Double.parseDouble(columns[3].replace(',', '.'))); 
+			double sigmaX, sigmaY;
+			sigmaX = sigmaY = options.convertLengthToModel(columns.getDouble(3)); 
 		
-		if (columns.length < 5) {
-			if (sigmaX <= 0 || sigmaY <= 0)
-				return true;
+			if (columns.getNumberOfColumns() < 5) {
+				if (sigmaX <= 0 || sigmaY <= 0)
+					return true;
 			
-			Matrix dispersion = new UpperSymmBandMatrix(position.getDimension(), 0);
-			dispersion.set(0, 0, sigmaX * sigmaX);
-			dispersion.set(1, 1, sigmaY * sigmaY);
-			position.setDispersionApriori(dispersion);
-			return true;
-		}
+				Matrix dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+				dispersion.set(0, 0, sigmaX * sigmaX);
+				dispersion.set(1, 1, sigmaY * sigmaY);
+				this.dispersions[index] = dispersion;
+				return true;
+			}
 		
-		sigmaY = options.convertLengthToModel(Double.parseDouble(columns[4].replace(',', '.'))); 
+			sigmaY = options.convertLengthToModel(columns.getDouble(4)); 
 		
-		if (columns.length < 6) {
-			if (sigmaX <= 0 || sigmaY <= 0)
-				return true;
+			if (columns.getNumberOfColumns() < 6) {
+				if (sigmaX <= 0 || sigmaY <= 0)
+					return true;
 			
-			Matrix dispersion = new UpperSymmBandMatrix(position.getDimension(), 0);
-			dispersion.set(0, 0, sigmaX * sigmaX);
-			dispersion.set(1, 1, sigmaY * sigmaY);
-			position.setDispersionApriori(dispersion);
-			return true;
-		}
+				Matrix dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+				dispersion.set(0, 0, sigmaX * sigmaX);
+				dispersion.set(1, 1, sigmaY * sigmaY);
+				this.dispersions[index] = dispersion;
+				return true;
+			}
 
-		// first two values == first row/column
-		double varX  = options.convertLengthToModel(sigmaX);
-		double covXY = options.convertLengthToModel(sigmaY);
+			// first two values == first row/column
+			double varX  = options.convertLengthToModel(sigmaX);
+			double covXY = options.convertLengthToModel(sigmaY);
 
-		double varY  = options.convertLengthToModel(options.convertLengthToModel(Double.parseDouble(columns[5].replace(',', '.'))));
+			double varY  = options.convertLengthToModel(options.convertLengthToModel(columns.getDouble(5)));
 
-		if (varX <= 0 || varY <= 0)
-			return true;
+			if (varX <= 0 || varY <= 0)
+				return true;
 		
-		Matrix dispersion = null;
-		if (covXY == 0)
-			dispersion = new UpperSymmBandMatrix(position.getDimension(), 0);
-		else {
-			dispersion = new UpperSymmPackMatrix(position.getDimension());
-			dispersion.set(0, 1, covXY);
+			Matrix dispersion = null;
+			if (covXY == 0)
+				dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+			else {
+				dispersion = new UpperSymmPackMatrix(this.dimension);
+				dispersion.set(0, 1, covXY);
+			}
+			dispersion.set(0, 0, varX);
+			dispersion.set(1, 1, varY);
+			this.dispersions[index] = dispersion;
+			return true;
 		}
-		dispersion.set(0, 0, varX);
-		dispersion.set(1, 1, varY);
-		position.setDispersionApriori(dispersion);
-		return true;
-	}
 	
-	private static boolean scanSpatialPosition(Map<String, ObservedFramePosition> positionMap, String str) throws NumberFormatException, IllegalArgumentException {
-		FormatterOptions options = FormatterOptions.getInstance();
-		String columns[] = str.trim().split("[\\s;]+");
+		private boolean scanSpatialPosition(ByteLine columns) throws NumberFormatException, IllegalArgumentException {
+			FormatterOptions options = FormatterOptions.getInstance();
 		
-		if (columns.length == 3) {
-			String name = String.valueOf(++PositionFileReader.id); 
-			double x = options.convertLengthToModel(Double.parseDouble(columns[0].replace(',', '.'))); 
-			double y = options.convertLengthToModel(Double.parseDouble(columns[1].replace(',', '.')));
-			double z = options.convertLengthToModel(Double.parseDouble(columns[2].replace(',', '.')));
-			ObservedFramePosition position = new ObservedFramePosition(x, y, z);
-			positionMap.put(name, position);
-			return true;
-		}
+			if (columns.getNumberOfColumns() == 3) {
+				int generatedName = ++this.numberOfGeneratedNames;
+				double x = options.convertLengthToModel(columns.getDouble(0)); 
+				double y = options.convertLengthToModel(columns.getDouble(1));
+				double z = options.convertLengthToModel(columns.getDouble(2));
+				this.add(null, generatedName, x, y, z);
+				return true;
+			}
 		
-		if (columns.length < 4)
-			return false;
+			if (columns.getNumberOfColumns() < 4)
+				return false;
 		
-		String name = columns[0]; 
-		double x = options.convertLengthToModel(Double.parseDouble(columns[1].replace(',', '.'))); 
-		double y = options.convertLengthToModel(Double.parseDouble(columns[2].replace(',', '.')));
-		double z = options.convertLengthToModel(Double.parseDouble(columns[3].replace(',', '.')));
+			String name = columns.getString(0); 
+			double x = options.convertLengthToModel(columns.getDouble(1)); 
+			double y = options.convertLengthToModel(columns.getDouble(2));
+			double z = options.convertLengthToModel(columns.getDouble(3));
 		
-		ObservedFramePosition position = new ObservedFramePosition(x, y, z);
-		positionMap.put(name, position);
+			int index = this.add(name, 0, x, y, z);
 		
-		if (columns.length < 5)
-			return true;
+			if (columns.getNumberOfColumns() < 5)
+				return true;
 		
-		double sigmaX, sigmaY, sigmaZ;
-		sigmaX = sigmaY = sigmaZ = options.convertLengthToModel(Double.parseDouble(columns[4].replace(',', '.'))); 
+			double sigmaX, sigmaY, sigmaZ;
+			sigmaX = sigmaY = sigmaZ = options.convertLengthToModel(columns.getDouble(4)); 
 		
-		if (columns.length < 6) {
-			if (sigmaX <= 0 || sigmaY <= 0 || sigmaZ <= 0)
-				return true;
+			if (columns.getNumberOfColumns() < 6) {
+				if (sigmaX <= 0 || sigmaY <= 0 || sigmaZ <= 0)
+					return true;
 			
-			Matrix dispersion = new UpperSymmBandMatrix(position.getDimension(), 0);
-			dispersion.set(0, 0, sigmaX * sigmaX);
-			dispersion.set(1, 1, sigmaY * sigmaY);
-			dispersion.set(2, 2, sigmaZ * sigmaZ);
-			position.setDispersionApriori(dispersion);
-			return true;
-		}
+				Matrix dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+				dispersion.set(0, 0, sigmaX * sigmaX);
+				dispersion.set(1, 1, sigmaY * sigmaY);
+				dispersion.set(2, 2, sigmaZ * sigmaZ);
+				this.dispersions[index] = dispersion;
+				return true;
+			}
 		
-		sigmaY = sigmaZ = options.convertLengthToModel(Double.parseDouble(columns[5].replace(',', '.'))); 
+			sigmaY = sigmaZ = options.convertLengthToModel(columns.getDouble(5)); 
 		
-		if (columns.length < 7) {
-			if (sigmaX <= 0 || sigmaY <= 0 || sigmaZ <= 0)
-				return true;
+			if (columns.getNumberOfColumns() < 7) {
+				if (sigmaX <= 0 || sigmaY <= 0 || sigmaZ <= 0)
+					return true;
 			
-			Matrix dispersion = new UpperSymmBandMatrix(position.getDimension(), 0);
-			dispersion.set(0, 0, sigmaX * sigmaX);
-			dispersion.set(1, 1, sigmaX * sigmaX); // if only two uncertainty colums are given, set sx = sy; sz
-			dispersion.set(2, 2, sigmaZ * sigmaZ);
-			position.setDispersionApriori(dispersion);
-			return true;
-		}
+				Matrix dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+				dispersion.set(0, 0, sigmaX * sigmaX);
+				dispersion.set(1, 1, sigmaX * sigmaX); // if only two uncertainty colums are given, set sx = sy; sz
+				dispersion.set(2, 2, sigmaZ * sigmaZ);
+				this.dispersions[index] = dispersion;
+				return true;
+			}
 		
-		sigmaZ = options.convertLengthToModel(Double.parseDouble(columns[6].replace(',', '.'))); 
+			sigmaZ = options.convertLengthToModel(columns.getDouble(6)); 
 		
-		if (columns.length < 10) {
-			if (sigmaX <= 0 || sigmaY <= 0 || sigmaZ <= 0)
-				return true;
+			if (columns.getNumberOfColumns() < 10) {
+				if (sigmaX <= 0 || sigmaY <= 0 || sigmaZ <= 0)
+					return true;
 			
-			Matrix dispersion = new UpperSymmBandMatrix(position.getDimension(), 0);
-			dispersion.set(0, 0, sigmaX * sigmaX);
-			dispersion.set(1, 1, sigmaY * sigmaY);
-			dispersion.set(2, 2, sigmaZ * sigmaZ);
-			position.setDispersionApriori(dispersion);
-			return true;
-		}
+				Matrix dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+				dispersion.set(0, 0, sigmaX * sigmaX);
+				dispersion.set(1, 1, sigmaY * sigmaY);
+				dispersion.set(2, 2, sigmaZ * sigmaZ);
+				this.dispersions[index] = dispersion;
+				return true;
+			}
 		
-		// first three values == first row/column
-		double varX  = options.convertLengthToModel(sigmaX);
-		double covXY = options.convertLengthToModel(sigmaY);
-		double covXZ = options.convertLengthToModel(sigmaZ);
+			// first three values == first row/column
+			double varX  = options.convertLengthToModel(sigmaX);
+			double covXY = options.convertLengthToModel(sigmaY);
+			double covXZ = options.convertLengthToModel(sigmaZ);
 
-		double varY  = options.convertLengthToModel(options.convertLengthToModel(Double.parseDouble(columns[7].replace(',', '.'))));
-		double covYZ = options.convertLengthToModel(options.convertLengthToModel(Double.parseDouble(columns[8].replace(',', '.'))));
+			double varY  = options.convertLengthToModel(options.convertLengthToModel(columns.getDouble(7)));
+			double covYZ = options.convertLengthToModel(options.convertLengthToModel(columns.getDouble(8)));
 
-		double varZ  = options.convertLengthToModel(options.convertLengthToModel(Double.parseDouble(columns[9].replace(',', '.'))));
+			double varZ  = options.convertLengthToModel(options.convertLengthToModel(columns.getDouble(9)));
 
-		if (varX <= 0 || varY <= 0 || varZ <= 0)
-			return true;
+			if (varX <= 0 || varY <= 0 || varZ <= 0)
+				return true;
 
-		Matrix dispersion = null;
-		if (covXY == 0 && covXZ == 0 && covYZ == 0)
-			dispersion = new UpperSymmBandMatrix(position.getDimension(), 0);
-		else {
-			dispersion = new UpperSymmPackMatrix(position.getDimension());
-			dispersion.set(0, 1, covXY);
-			dispersion.set(0, 2, covXZ);
-			dispersion.set(1, 2, covYZ);
+			Matrix dispersion = null;
+			if (covXY == 0 && covXZ == 0 && covYZ == 0)
+				dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+			else {
+				dispersion = new UpperSymmPackMatrix(this.dimension);
+				dispersion.set(0, 1, covXY);
+				dispersion.set(0, 2, covXZ);
+				dispersion.set(1, 2, covYZ);
+			}
+			dispersion.set(0, 0, varX);
+			dispersion.set(1, 1, varY);
+			dispersion.set(2, 2, varZ);
+			this.dispersions[index] = dispersion;
+			return true;
 		}
-		dispersion.set(0, 0, varX);
-		dispersion.set(1, 1, varY);
-		dispersion.set(2, 2, varZ);
-		position.setDispersionApriori(dispersion);
-		return true;
-	}
 	
+	}
+
 	public static ExtensionFilter[] getExtensionFilters() {
 		return new ExtensionFilter[] {
 				new ExtensionFilter(I18N.getInstance().getString("PositionFileReader.extension.description", "All files"),	"*.*")
@@ -0,0 +1,177 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.jag3d.sql;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Raeumlicher Index (Gitter-Hashing) zur Suche aller Punktpaare, deren Abstand
+ * kleiner als ein vorgegebener Fangradius ist. Die Kantenlaenge einer Zelle entspricht
+ * dem Fangradius, sodass fuer jeden Punkt nur die 27 Nachbarzellen zu pruefen sind.
+ */
+class CongruentPointIndex {
+
+	static class CongruentPointPair {
+		private final String nameA, nameB;
+		private final double distance;
+
+		private CongruentPointPair(String nameA, String nameB, double distance) {
+			this.nameA    = nameA;
+			this.nameB    = nameB;
+			this.distance = distance;
+		}
+
+		String getNameA() {
+			return this.nameA;
+		}
+
+		String getNameB() {
+			return this.nameB;
+		}
+
+		double getDistance() {
+			return this.distance;
+		}
+	}
+
+	private static class IndexedPoint {
+		private final int id;
+		private final String name;
+		private final double x, y, z;
+
+		private IndexedPoint(int id, String name, double x, double y, double z) {
+			this.id   = id;
+			this.name = name;
+			this.x    = x;
+			this.y    = y;
+			this.z    = z;
+		}
+	}
+
+	private static class Cell {
+		private final long i, j, k;
+
+		private Cell(long i, long j, long k) {
+			this.i = i;
+			this.j = j;
+			this.k = k;
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = Long.hashCode(this.i);
+			hash = 31 * hash + Long.hashCode(this.j);
+			hash = 31 * hash + Long.hashCode(this.k);
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Cell))
+				return false;
+			Cell cell = (Cell)obj;
+			return this.i == cell.i && this.j == cell.j && this.k == cell.k;
+		}
+	}
+
+	private final double snapDistance;
+	private final Map<Cell, List<IndexedPoint>> cells = new HashMap<Cell, List<IndexedPoint>>();
+	private final List<IndexedPoint> points = new ArrayList<IndexedPoint>();
+
+	CongruentPointIndex(double snapDistance) {
+		if (!(snapDistance > 0) || Double.isInfinite(snapDistance))
+			throw new IllegalArgumentException("Error, snap distance must be a positive finite value " + snapDistance + "!");
+		this.snapDistance = snapDistance;
+	}
+
+	void add(int id, String name, double x, double y, double z) {
+		if (Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(z))
+			return;
+
+		IndexedPoint point = new IndexedPoint(id, name, x, y, z);
+		Cell cell = this.getCell(x, y, z);
+		List<IndexedPoint> cellPoints = this.cells.get(cell);
+		if (cellPoints == null) {
+			cellPoints = new ArrayList<IndexedPoint>(2);
+			this.cells.put(cell, cellPoints);
+		}
+		cellPoints.add(point);
+		this.points.add(point);
+	}
+
+	int size() {
+		return this.points.size();
+	}
+
+	/**
+	 * Liefert alle Punktpaare, deren Abstand kleiner als der Fangradius ist, aufsteigend nach dem Abstand sortiert
+	 * @return pairs
+	 */
+	List<CongruentPointPair> getCongruentPointPairs() {
+		List<CongruentPointPair> pairs = new ArrayList<CongruentPointPair>();
+
+		for (IndexedPoint pointA : this.points) {
+			Cell cell = this.getCell(pointA.x, pointA.y, pointA.z);
+
+			for (long i = cell.i - 1; i <= cell.i + 1; i++) {
+				for (long j = cell.j - 1; j <= cell.j + 1; j++) {
+					for (long k = cell.k - 1; k <= cell.k + 1; k++) {
+						List<IndexedPoint> cellPoints = this.cells.get(new Cell(i, j, k));
+						if (cellPoints == null)
+							continue;
+
+						for (IndexedPoint pointB : cellPoints) {
+							// jedes Paar nur einmal beruecksichtigen
+							if (pointA.id >= pointB.id)
+								continue;
+
+							double dx = pointA.x - pointB.x;
+							double dy = pointA.y - pointB.y;
+							double dz = pointA.z - pointB.z;
+							double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+							if (distance < this.snapDistance)
+								pairs.add(new CongruentPointPair(pointA.name, pointB.name, distance));
+						}
+					}
+				}
+			}
+		}
+
+		pairs.sort(Comparator.comparingDouble(CongruentPointPair::getDistance));
+		return pairs;
+	}
+
+	private Cell getCell(double x, double y, double z) {
+		return new Cell(
+				(long)Math.floor(x / this.snapDistance),
+				(long)Math.floor(y / this.snapDistance),
+				(long)Math.floor(z / this.snapDistance)
+		);
+	}
+}
@@ -327,6 +327,9 @@ class SQLDatabase {
 		// add auto exclusion of underdetermined points
 		sqls.put(20250729.0001, "ALTER TABLE \"AdjustmentDefinition\" ADD \"exclude_underdetermined_points\" BOOLEAN DEFAULT " + DefaultValue.excludeUnderdeterminedPoints() + " NOT NULL\r\n");
 		
+		// add selection of normal equation solver (dense vs. sparse)
+		sqls.put(20261016.0001, "ALTER TABLE \"AdjustmentDefinition\" ADD \"normal_equation_solver\" SMALLINT DEFAULT " + DefaultValue.getNormalEquationSolverType().getId() + " NOT NULL\r\n");
+		
 		return sqls;
 	}
 }
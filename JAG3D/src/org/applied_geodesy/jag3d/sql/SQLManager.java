@@ -28,8 +28,11 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.EventListener;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -40,8 +43,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.function.Predicate;
 
 import org.applied_geodesy.adjustment.EstimationType;
+import org.applied_geodesy.adjustment.NormalEquationSolverType;
 import org.applied_geodesy.adjustment.network.DefaultAverageThreshold;
 import org.applied_geodesy.adjustment.network.DefectType;
 import org.applied_geodesy.adjustment.network.ObservationGroupUncertaintyType;
@@ -143,6 +148,13 @@ import javafx.scene.paint.Color;
 import javafx.util.Pair;
 
 public class SQLManager {
+	@FunctionalInterface
+	private interface RowStatementBinder<T extends Row> {
+		public void bind(PreparedStatement stmt, T rowData) throws SQLException;
+	}
+	
+	// Anzahl der Zeilen, die je Batch an die Datenbank uebertragen werden
+	private final static int BATCH_SIZE = 10000;
 	private I18N i18n = I18N.getInstance();
 	private DataBase dataBase;
 	private HostServices hostServices;
@@ -2069,119 +2081,188 @@ public class SQLManager {
 
 		UITerrestrialObservationTableBuilder tableBuilder = UITerrestrialObservationTableBuilder.getInstance();
 		TableView<TerrestrialObservationRow> table = tableBuilder.getTable(observationItemValue);
-		List<TerrestrialObservationRow> tableModel = FXCollections.observableArrayList();
-		String sql = "SELECT " + 
-				"\"ObservationApriori\".\"id\", \"group_id\", \"start_point_name\", \"end_point_name\", \"instrument_height\", \"reflector_height\", \"value_0\", \"distance_0\", \"ObservationApriori\".\"sigma_0\" AS \"sigma_0\", \"enable\", " + 
-				"\"ObservationAposteriori\".\"value\", \"sigma\", \"residual\", \"redundancy\", \"gross_error\", \"influence_on_position\", \"influence_on_network_distortion\", \"minimal_detectable_bias\", \"maximum_tolerable_bias\", \"omega\", \"t_prio\", \"t_post\", \"p_prio\", \"p_post\", \"significant\" " + 
-				"FROM \"ObservationApriori\" " + 
+		String selectColumns = "\"ObservationApriori\".\"id\", \"group_id\", \"start_point_name\", \"end_point_name\", \"instrument_height\", \"reflector_height\", \"value_0\", \"distance_0\", \"ObservationApriori\".\"sigma_0\" AS \"sigma_0\", \"enable\", " + 
+				"\"ObservationAposteriori\".\"value\", \"sigma\", \"residual\", \"redundancy\", \"gross_error\", \"influence_on_position\", \"influence_on_network_distortion\", \"minimal_detectable_bias\", \"maximum_tolerable_bias\", \"omega\", \"t_prio\", \"t_post\", \"p_prio\", \"p_post\", \"significant\" ";
+
+		String fromClause = "FROM \"ObservationApriori\" " + 
 				"INNER JOIN \"ObservationGroup\" ON \"ObservationApriori\".\"group_id\" = \"ObservationGroup\".\"id\" " + 
-				"LEFT JOIN \"ObservationAposteriori\" ON \"ObservationApriori\".\"id\" = \"ObservationAposteriori\".\"id\" " + 
-				"WHERE \"ObservationGroup\".\"type\" = ? " +
-				"AND \"ObservationGroup\".\"id\" IN (" + inArrayValues + ") " + 
-				"ORDER BY \"ObservationGroup\".\"order\" ASC, \"ObservationGroup\".\"id\" ASC, \"ObservationApriori\".\"id\" ASC";
+				"LEFT JOIN \"ObservationAposteriori\" ON \"ObservationApriori\".\"id\" = \"ObservationAposteriori\".\"id\" ";
 
-		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
+		String whereClause = "\"ObservationGroup\".\"type\" = ? " +
+				"AND \"ObservationGroup\".\"id\" IN (" + inArrayValues + ") ";
+
+		String defaultOrder = "\"ObservationGroup\".\"order\" ASC, \"ObservationGroup\".\"id\" ASC, \"ObservationApriori\".\"id\" ASC";
 
-		stmt.setInt(1, TreeItemType.getObservationTypeByTreeItemType(observationItemValue.getItemType()).getId());
+		int parameters[] = new int[selectedObservationItemValues.length + 1];
+		parameters[0] = TreeItemType.getObservationTypeByTreeItemType(observationItemValue.getItemType()).getId();
 		for (int i=0; i<selectedObservationItemValues.length; i++)
-			stmt.setInt(i+2, selectedObservationItemValues[i].getGroupId());
+			parameters[i+1] = selectedObservationItemValues[i].getGroupId();
 
-		ResultSet rs = stmt.executeQuery();
-		while (rs.next()) {
-			TerrestrialObservationRow row = new TerrestrialObservationRow();
+		SQLRowPageLoader<TerrestrialObservationRow> pageLoader = new SQLRowPageLoader<TerrestrialObservationRow>(this.dataBase, selectColumns, fromClause, whereClause, parameters, "\"ObservationApriori\".\"id\"", defaultOrder) {
+			@Override
+			String getSortColumn(ColumnContentType columnContentType) {
+				return getTerrestrialObservationSortColumn(columnContentType);
+			}
 
-			// Apriori-Values
-			row.setId(rs.getInt("id"));
-			row.setGroupId(rs.getInt("group_id"));
-			row.setStartPointName(rs.getString("start_point_name"));
-			row.setEndPointName(rs.getString("end_point_name"));
-			row.setEnable(rs.getBoolean("enable"));
-			row.setValueApriori(rs.getDouble("value_0"));
+			@Override
+			TerrestrialObservationRow getRow(ResultSet rs) throws SQLException {
+				return getTerrestrialObservationRow(rs);
+			}
 
-			double value = rs.getDouble("instrument_height");
-			if (!rs.wasNull())
-				row.setInstrumentHeight(value);
+			@Override
+			public TerrestrialObservationRow createEmptyRow() {
+				return new TerrestrialObservationRow();
+			}
+		};
 
-			value = rs.getDouble("reflector_height");
-			if (!rs.wasNull())
-				row.setReflectorHeight(value);
+		tableBuilder.setTableModel(table, pageLoader);
+		if (tableBuilder.getTableModel(table).isEmpty())
+			tableBuilder.getTableModel(table).setAll(tableBuilder.getEmptyRow());
+	}
 
-			value = rs.getDouble("distance_0");
-			if (!rs.wasNull())
-				row.setDistanceApriori(value > 0 ? value : null);
+	private TerrestrialObservationRow getTerrestrialObservationRow(ResultSet rs) throws SQLException {
+		TerrestrialObservationRow row = new TerrestrialObservationRow();
 
-			value = rs.getDouble("sigma_0");
-			if (!rs.wasNull())
-				row.setSigmaApriori(value > 0 ? value : null);
+		// Apriori-Values
+		row.setId(rs.getInt("id"));
+		row.setGroupId(rs.getInt("group_id"));
+		row.setStartPointName(rs.getString("start_point_name"));
+		row.setEndPointName(rs.getString("end_point_name"));
+		row.setEnable(rs.getBoolean("enable"));
+		row.setValueApriori(rs.getDouble("value_0"));
 
-			// Aposterior-Values
-			value = rs.getDouble("value");
-			if (!rs.wasNull())
-				row.setValueAposteriori(value);
+		double value = rs.getDouble("instrument_height");
+		if (!rs.wasNull())
+			row.setInstrumentHeight(value);
 
-			value = rs.getDouble("sigma");
-			if (!rs.wasNull())
-				row.setSigmaAposteriori(value > 0 ? value : 0.0);
-			
-			value = rs.getDouble("residual");
-			if (!rs.wasNull())
-				row.setResidual(value);
+		value = rs.getDouble("reflector_height");
+		if (!rs.wasNull())
+			row.setReflectorHeight(value);
 
-			value = rs.getDouble("redundancy");
-			if (!rs.wasNull())
-				row.setRedundancy(Math.abs(value));
+		value = rs.getDouble("distance_0");
+		if (!rs.wasNull())
+			row.setDistanceApriori(value > 0 ? value : null);
 
-			value = rs.getDouble("gross_error");
-			if (!rs.wasNull())
-				row.setGrossError(value);
+		value = rs.getDouble("sigma_0");
+		if (!rs.wasNull())
+			row.setSigmaApriori(value > 0 ? value : null);
 
-			value = rs.getDouble("influence_on_position");
-			if (!rs.wasNull())
-				row.setInfluenceOnPointPosition(value);
+		// Aposterior-Values
+		value = rs.getDouble("value");
+		if (!rs.wasNull())
+			row.setValueAposteriori(value);
 
-			value = rs.getDouble("influence_on_network_distortion");
-			if (!rs.wasNull())
-				row.setInfluenceOnNetworkDistortion(value);
+		value = rs.getDouble("sigma");
+		if (!rs.wasNull())
+			row.setSigmaAposteriori(value > 0 ? value : 0.0);
+		
+		value = rs.getDouble("residual");
+		if (!rs.wasNull())
+			row.setResidual(value);
 
-			value = rs.getDouble("minimal_detectable_bias");
-			if (!rs.wasNull())
-				row.setMinimalDetectableBias(value);
+		value = rs.getDouble("redundancy");
+		if (!rs.wasNull())
+			row.setRedundancy(Math.abs(value));
 
-			value = rs.getDouble("maximum_tolerable_bias");
-			if (!rs.wasNull())
-				row.setMaximumTolerableBias(value);
-			
-			value = rs.getDouble("omega");
-			if (!rs.wasNull())
-				row.setOmega(value);
+		value = rs.getDouble("gross_error");
+		if (!rs.wasNull())
+			row.setGrossError(value);
 
-			value = rs.getDouble("p_prio");
-			if (!rs.wasNull())
-				row.setPValueApriori(value);
+		value = rs.getDouble("influence_on_position");
+		if (!rs.wasNull())
+			row.setInfluenceOnPointPosition(value);
 
-			value = rs.getDouble("p_post");
-			if (!rs.wasNull())
-				row.setPValueAposteriori(value);
+		value = rs.getDouble("influence_on_network_distortion");
+		if (!rs.wasNull())
+			row.setInfluenceOnNetworkDistortion(value);
 
-			value = rs.getDouble("t_prio");
-			if (!rs.wasNull())
-				row.setTestStatisticApriori(value);
+		value = rs.getDouble("minimal_detectable_bias");
+		if (!rs.wasNull())
+			row.setMinimalDetectableBias(value);
 
-			value = rs.getDouble("t_post");
-			if (!rs.wasNull())
-				row.setTestStatisticAposteriori(value);
+		value = rs.getDouble("maximum_tolerable_bias");
+		if (!rs.wasNull())
+			row.setMaximumTolerableBias(value);
+		
+		value = rs.getDouble("omega");
+		if (!rs.wasNull())
+			row.setOmega(value);
 
-			boolean significant = rs.getBoolean("significant");
-			if (!rs.wasNull())
-				row.setSignificant(significant);
+		value = rs.getDouble("p_prio");
+		if (!rs.wasNull())
+			row.setPValueApriori(value);
 
-			tableModel.add(row);
+		value = rs.getDouble("p_post");
+		if (!rs.wasNull())
+			row.setPValueAposteriori(value);
+
+		value = rs.getDouble("t_prio");
+		if (!rs.wasNull())
+			row.setTestStatisticApriori(value);
+
+		value = rs.getDouble("t_post");
+		if (!rs.wasNull())
+			row.setTestStatisticAposteriori(value);
+
+		boolean significant = rs.getBoolean("significant");
+		if (!rs.wasNull())
+			row.setSignificant(significant);
+
+		return row;
+	}
+
+	// Sortierausdruecke bilden die beim Einlesen der Zeilen vorgenommenen Anpassungen (Betrag, Grenzwerte) nach
+	private static String getTerrestrialObservationSortColumn(ColumnContentType columnContentType) {
+		switch(columnContentType) {
+		case ENABLE:
+			return "\"ObservationApriori\".\"enable\"";
+		case START_POINT_NAME:
+			return "\"ObservationApriori\".\"start_point_name\"";
+		case END_POINT_NAME:
+			return "\"ObservationApriori\".\"end_point_name\"";
+		case INSTRUMENT_HEIGHT:
+			return "\"ObservationApriori\".\"instrument_height\"";
+		case REFLECTOR_HEIGHT:
+			return "\"ObservationApriori\".\"reflector_height\"";
+		case VALUE_APRIORI:
+			return "\"ObservationApriori\".\"value_0\"";
+		case UNCERTAINTY_APRIORI:
+			return "CASE WHEN \"ObservationApriori\".\"sigma_0\" > 0 THEN \"ObservationApriori\".\"sigma_0\" END";
+		case APPROXIMATED_DISTANCE_APRIORI:
+			return "CASE WHEN \"ObservationApriori\".\"distance_0\" > 0 THEN \"ObservationApriori\".\"distance_0\" END";
+		case VALUE_APOSTERIORI:
+			return "\"ObservationAposteriori\".\"value\"";
+		case UNCERTAINTY_APOSTERIORI:
+			return "CASE WHEN \"ObservationAposteriori\".\"sigma\" > 0 THEN \"ObservationAposteriori\".\"sigma\" WHEN \"ObservationAposteriori\".\"sigma\" IS NOT NULL THEN 0 END";
+		case RESIDUAL:
+			return "\"ObservationAposteriori\".\"residual\"";
+		case REDUNDANCY:
+			return "ABS(\"ObservationAposteriori\".\"redundancy\")";
+		case GROSS_ERROR:
+			return "\"ObservationAposteriori\".\"gross_error\"";
+		case MINIMAL_DETECTABLE_BIAS:
+			return "\"ObservationAposteriori\".\"minimal_detectable_bias\"";
+		case MAXIMUM_TOLERABLE_BIAS:
+			return "\"ObservationAposteriori\".\"maximum_tolerable_bias\"";
+		case INFLUENCE_ON_POINT_POSITION:
+			return "\"ObservationAposteriori\".\"influence_on_position\"";
+		case INFLUENCE_ON_NETWORK_DISTORTION:
+			return "\"ObservationAposteriori\".\"influence_on_network_distortion\"";
+		case OMEGA:
+			return "\"ObservationAposteriori\".\"omega\"";
+		case P_VALUE_APRIORI:
+			return "\"ObservationAposteriori\".\"p_prio\"";
+		case P_VALUE_APOSTERIORI:
+			return "\"ObservationAposteriori\".\"p_post\"";
+		case TEST_STATISTIC_APRIORI:
+			return "\"ObservationAposteriori\".\"t_prio\"";
+		case TEST_STATISTIC_APOSTERIORI:
+			return "\"ObservationAposteriori\".\"t_post\"";
+		case SIGNIFICANT:
+			return "COALESCE(\"ObservationAposteriori\".\"significant\", FALSE)";
+		default:
+			return null;
 		}
-		
-		tableBuilder.getTableModel(table).setAll(tableModel);
-		if (tableModel.isEmpty())
-			tableBuilder.getTableModel(table).setAll(tableBuilder.getEmptyRow());
-		table.sort();
 	}
 
 	private void loadGNSSObservations(ObservationTreeItemValue observationGNSSItemValue, ObservationTreeItemValue... selectedGNSSObservationItemValues) throws SQLException {
@@ -2194,9 +2275,7 @@ public class SQLManager {
 
 		UIGNSSObservationTableBuilder tableBuilder = UIGNSSObservationTableBuilder.getInstance();
 		TableView<GNSSObservationRow> table = tableBuilder.getTable(observationGNSSItemValue);
-		List<GNSSObservationRow> tableModel = FXCollections.observableArrayList();
-		String sql = "SELECT " + 
-				"\"GNSSObservationApriori\".\"id\", \"group_id\", \"start_point_name\", \"end_point_name\", \"y0\", \"x0\", \"z0\", \"GNSSObservationApriori\".\"sigma_y0\" AS \"sigma_y0\", \"GNSSObservationApriori\".\"sigma_x0\" AS \"sigma_x0\", \"GNSSObservationApriori\".\"sigma_z0\" AS \"sigma_z0\", \"enable\", " + 
+		String selectColumns = "\"GNSSObservationApriori\".\"id\", \"group_id\", \"start_point_name\", \"end_point_name\", \"y0\", \"x0\", \"z0\", \"GNSSObservationApriori\".\"sigma_y0\" AS \"sigma_y0\", \"GNSSObservationApriori\".\"sigma_x0\" AS \"sigma_x0\", \"GNSSObservationApriori\".\"sigma_z0\" AS \"sigma_z0\", \"enable\", " + 
 				"\"y\", \"x\", \"z\",  \"sigma_y\", \"sigma_x\", \"sigma_z\", " + 
 
 				"\"residual_y\", \"residual_x\", \"residual_z\", " +
@@ -2205,158 +2284,261 @@ public class SQLManager {
 				"\"minimal_detectable_bias_y\", \"minimal_detectable_bias_x\", \"minimal_detectable_bias_z\", " +
 				"\"maximum_tolerable_bias_y\", \"maximum_tolerable_bias_x\", \"maximum_tolerable_bias_z\", " +
 				"\"influence_on_position_y\", \"influence_on_position_x\", \"influence_on_position_z\", \"influence_on_network_distortion\", " + 
-				"\"omega\", \"p_prio\", \"p_post\", \"t_prio\", \"t_post\", \"significant\" " + 
+				"\"omega\", \"p_prio\", \"p_post\", \"t_prio\", \"t_post\", \"significant\" ";
 
-				"FROM \"GNSSObservationApriori\" " + 
+		String fromClause = "FROM \"GNSSObservationApriori\" " + 
 				"INNER JOIN \"ObservationGroup\" ON \"GNSSObservationApriori\".\"group_id\" = \"ObservationGroup\".\"id\" " + 
-				"LEFT JOIN \"GNSSObservationAposteriori\" ON \"GNSSObservationApriori\".\"id\" = \"GNSSObservationAposteriori\".\"id\" " + 
-				"WHERE \"ObservationGroup\".\"type\" = ? " +
-				"AND \"ObservationGroup\".\"id\" IN (" + inArrayValues + ") " + 
-				"ORDER BY \"ObservationGroup\".\"order\" ASC, \"ObservationGroup\".\"id\" ASC, \"GNSSObservationApriori\".\"id\" ASC";
+				"LEFT JOIN \"GNSSObservationAposteriori\" ON \"GNSSObservationApriori\".\"id\" = \"GNSSObservationAposteriori\".\"id\" ";
 
-		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
+		String whereClause = "\"ObservationGroup\".\"type\" = ? " +
+				"AND \"ObservationGroup\".\"id\" IN (" + inArrayValues + ") ";
 
-		stmt.setInt(1, TreeItemType.getObservationTypeByTreeItemType(observationGNSSItemValue.getItemType()).getId());
-		for (int i = 0; i < selectedGNSSObservationItemValues.length; i++)
-			stmt.setInt(i+2, selectedGNSSObservationItemValues[i].getGroupId());
+		String defaultOrder = "\"ObservationGroup\".\"order\" ASC, \"ObservationGroup\".\"id\" ASC, \"GNSSObservationApriori\".\"id\" ASC";
 
-		ResultSet rs = stmt.executeQuery();
-		while (rs.next()) {
-			GNSSObservationRow row = new GNSSObservationRow();
-			// Apriori-Values
-			row.setId(rs.getInt("id"));
-			row.setGroupId(rs.getInt("group_id"));
-			row.setStartPointName(rs.getString("start_point_name"));
-			row.setEndPointName(rs.getString("end_point_name"));
-			row.setEnable(rs.getBoolean("enable"));
-			double value;
-			value = rs.getDouble("x0");
-			row.setXApriori(rs.wasNull() ? 0 : value);
+		int parameters[] = new int[selectedGNSSObservationItemValues.length + 1];
+		parameters[0] = TreeItemType.getObservationTypeByTreeItemType(observationGNSSItemValue.getItemType()).getId();
+		for (int i=0; i<selectedGNSSObservationItemValues.length; i++)
+			parameters[i+1] = selectedGNSSObservationItemValues[i].getGroupId();
 
-			value = rs.getDouble("y0");
-			row.setYApriori(rs.wasNull() ? 0 : value);
+		SQLRowPageLoader<GNSSObservationRow> pageLoader = new SQLRowPageLoader<GNSSObservationRow>(this.dataBase, selectColumns, fromClause, whereClause, parameters, "\"GNSSObservationApriori\".\"id\"", defaultOrder) {
+			@Override
+			String getSortColumn(ColumnContentType columnContentType) {
+				return getGNSSObservationSortColumn(columnContentType);
+			}
 
-			value = rs.getDouble("z0");
-			row.setZApriori(rs.wasNull() ? 0 : value);
+			@Override
+			GNSSObservationRow getRow(ResultSet rs) throws SQLException {
+				return getGNSSObservationRow(rs);
+			}
 
-			value = rs.getDouble("sigma_x0");
-			row.setSigmaXapriori(rs.wasNull() || value <= 0 ? null : value);
+			@Override
+			public GNSSObservationRow createEmptyRow() {
+				return new GNSSObservationRow();
+			}
+		};
 
-			value = rs.getDouble("sigma_y0");
-			row.setSigmaYapriori(rs.wasNull() || value <= 0 ? null : value);
+		tableBuilder.setTableModel(table, pageLoader);
+		if (tableBuilder.getTableModel(table).isEmpty())
+			tableBuilder.getTableModel(table).setAll(tableBuilder.getEmptyRow());
+	}
 
-			value = rs.getDouble("sigma_z0");
-			row.setSigmaZapriori(rs.wasNull() || value <= 0 ? null : value);
+	private GNSSObservationRow getGNSSObservationRow(ResultSet rs) throws SQLException {
+		GNSSObservationRow row = new GNSSObservationRow();
+		// Apriori-Values
+		row.setId(rs.getInt("id"));
+		row.setGroupId(rs.getInt("group_id"));
+		row.setStartPointName(rs.getString("start_point_name"));
+		row.setEndPointName(rs.getString("end_point_name"));
+		row.setEnable(rs.getBoolean("enable"));
+		double value;
+		value = rs.getDouble("x0");
+		row.setXApriori(rs.wasNull() ? 0 : value);
 
+		value = rs.getDouble("y0");
+		row.setYApriori(rs.wasNull() ? 0 : value);
 
-			// Aposteriori
-			value = rs.getDouble("x");
-			row.setXAposteriori(rs.wasNull() ? null : value);
+		value = rs.getDouble("z0");
+		row.setZApriori(rs.wasNull() ? 0 : value);
 
-			value = rs.getDouble("y");
-			row.setYAposteriori(rs.wasNull() ? null : value);
+		value = rs.getDouble("sigma_x0");
+		row.setSigmaXapriori(rs.wasNull() || value <= 0 ? null : value);
 
-			value = rs.getDouble("z");
-			row.setZAposteriori(rs.wasNull() ? null : value);
+		value = rs.getDouble("sigma_y0");
+		row.setSigmaYapriori(rs.wasNull() || value <= 0 ? null : value);
 
-			value = rs.getDouble("sigma_x");
-			row.setSigmaXaposteriori(rs.wasNull() ? null : value > 0 ? value : 0.0);
+		value = rs.getDouble("sigma_z0");
+		row.setSigmaZapriori(rs.wasNull() || value <= 0 ? null : value);
 
-			value = rs.getDouble("sigma_y");
-			row.setSigmaYaposteriori(rs.wasNull() ? null : value > 0 ? value : 0.0);
 
-			value = rs.getDouble("sigma_z");
-			row.setSigmaZaposteriori(rs.wasNull() ? null : value > 0 ? value : 0.0);
-			
-			// Residuals
-			value = rs.getDouble("residual_x");
-			row.setResidualX(rs.wasNull() ? null : value);
+		// Aposteriori
+		value = rs.getDouble("x");
+		row.setXAposteriori(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("residual_y");
-			row.setResidualY(rs.wasNull() ? null : value);
+		value = rs.getDouble("y");
+		row.setYAposteriori(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("residual_z");
-			row.setResidualZ(rs.wasNull() ? null : value);
+		value = rs.getDouble("z");
+		row.setZAposteriori(rs.wasNull() ? null : value);
 
-			// Redundancy
-			value = rs.getDouble("redundancy_x");
-			row.setRedundancyX(rs.wasNull() ? null : Math.abs(value));
+		value = rs.getDouble("sigma_x");
+		row.setSigmaXaposteriori(rs.wasNull() ? null : value > 0 ? value : 0.0);
 
-			value = rs.getDouble("redundancy_y");
-			row.setRedundancyY(rs.wasNull() ? null : Math.abs(value));
+		value = rs.getDouble("sigma_y");
+		row.setSigmaYaposteriori(rs.wasNull() ? null : value > 0 ? value : 0.0);
 
-			value = rs.getDouble("redundancy_z");
-			row.setRedundancyZ(rs.wasNull() ? null : Math.abs(value));
+		value = rs.getDouble("sigma_z");
+		row.setSigmaZaposteriori(rs.wasNull() ? null : value > 0 ? value : 0.0);
+		
+		// Residuals
+		value = rs.getDouble("residual_x");
+		row.setResidualX(rs.wasNull() ? null : value);
 
-			// Gross error
-			value = rs.getDouble("gross_error_x");
-			row.setGrossErrorX(rs.wasNull() ? null : value);
+		value = rs.getDouble("residual_y");
+		row.setResidualY(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("gross_error_y");
-			row.setGrossErrorY(rs.wasNull() ? null : value);
+		value = rs.getDouble("residual_z");
+		row.setResidualZ(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("gross_error_z");
-			row.setGrossErrorZ(rs.wasNull() ? null : value);
+		// Redundancy
+		value = rs.getDouble("redundancy_x");
+		row.setRedundancyX(rs.wasNull() ? null : Math.abs(value));
 
-			// MDB
-			value = rs.getDouble("minimal_detectable_bias_x");
-			row.setMinimalDetectableBiasX(rs.wasNull() ? null : value);
+		value = rs.getDouble("redundancy_y");
+		row.setRedundancyY(rs.wasNull() ? null : Math.abs(value));
 
-			value = rs.getDouble("minimal_detectable_bias_y");
-			row.setMinimalDetectableBiasY(rs.wasNull() ? null : value);
+		value = rs.getDouble("redundancy_z");
+		row.setRedundancyZ(rs.wasNull() ? null : Math.abs(value));
 
-			value = rs.getDouble("minimal_detectable_bias_z");
-			row.setMinimalDetectableBiasZ(rs.wasNull() ? null : value);
-			
-			// MTB
-			value = rs.getDouble("maximum_tolerable_bias_x");
-			row.setMaximumTolerableBiasX(rs.wasNull() ? null : value);
+		// Gross error
+		value = rs.getDouble("gross_error_x");
+		row.setGrossErrorX(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("maximum_tolerable_bias_y");
-			row.setMaximumTolerableBiasY(rs.wasNull() ? null : value);
+		value = rs.getDouble("gross_error_y");
+		row.setGrossErrorY(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("maximum_tolerable_bias_z");
-			row.setMaximumTolerableBiasZ(rs.wasNull() ? null : value);
+		value = rs.getDouble("gross_error_z");
+		row.setGrossErrorZ(rs.wasNull() ? null : value);
 
-			// EP + EFSPmax
-			value = rs.getDouble("influence_on_position_x");
-			row.setInfluenceOnPointPositionX(rs.wasNull() ? null : value);
+		// MDB
+		value = rs.getDouble("minimal_detectable_bias_x");
+		row.setMinimalDetectableBiasX(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("influence_on_position_y");
-			row.setInfluenceOnPointPositionY(rs.wasNull() ? null : value);
+		value = rs.getDouble("minimal_detectable_bias_y");
+		row.setMinimalDetectableBiasY(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("influence_on_position_z");
-			row.setInfluenceOnPointPositionZ(rs.wasNull() ? null : value);
+		value = rs.getDouble("minimal_detectable_bias_z");
+		row.setMinimalDetectableBiasZ(rs.wasNull() ? null : value);
+		
+		// MTB
+		value = rs.getDouble("maximum_tolerable_bias_x");
+		row.setMaximumTolerableBiasX(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("influence_on_network_distortion");
-			row.setInfluenceOnNetworkDistortion(rs.wasNull() ? null : value);
+		value = rs.getDouble("maximum_tolerable_bias_y");
+		row.setMaximumTolerableBiasY(rs.wasNull() ? null : value);
 
-			// Statistics
-			value = rs.getDouble("omega");
-			row.setOmega(rs.wasNull() ? null : Math.abs(value));
+		value = rs.getDouble("maximum_tolerable_bias_z");
+		row.setMaximumTolerableBiasZ(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("p_prio");
-			row.setPValueApriori(rs.wasNull() ? null : value);
+		// EP + EFSPmax
+		value = rs.getDouble("influence_on_position_x");
+		row.setInfluenceOnPointPositionX(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("p_post");
-			row.setPValueAposteriori(rs.wasNull() ? null : value);
+		value = rs.getDouble("influence_on_position_y");
+		row.setInfluenceOnPointPositionY(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("t_prio");
-			row.setTestStatisticApriori(rs.wasNull() ? null : Math.abs(value));
+		value = rs.getDouble("influence_on_position_z");
+		row.setInfluenceOnPointPositionZ(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("t_post");
-			row.setTestStatisticAposteriori(rs.wasNull() ? null : Math.abs(value));
+		value = rs.getDouble("influence_on_network_distortion");
+		row.setInfluenceOnNetworkDistortion(rs.wasNull() ? null : value);
 
-			boolean significantPoint = rs.getBoolean("significant");
-			row.setSignificant(!rs.wasNull() && significantPoint == Boolean.TRUE);
+		// Statistics
+		value = rs.getDouble("omega");
+		row.setOmega(rs.wasNull() ? null : Math.abs(value));
 
-			tableModel.add(row);
-		}
+		value = rs.getDouble("p_prio");
+		row.setPValueApriori(rs.wasNull() ? null : value);
 
-		tableBuilder.getTableModel(table).setAll(tableModel);
-		if (tableModel.isEmpty())
-			tableBuilder.getTableModel(table).setAll(tableBuilder.getEmptyRow());
-		table.sort();
+		value = rs.getDouble("p_post");
+		row.setPValueAposteriori(rs.wasNull() ? null : value);
+
+		value = rs.getDouble("t_prio");
+		row.setTestStatisticApriori(rs.wasNull() ? null : Math.abs(value));
+
+		value = rs.getDouble("t_post");
+		row.setTestStatisticAposteriori(rs.wasNull() ? null : Math.abs(value));
+
+		boolean significantPoint = rs.getBoolean("significant");
+		row.setSignificant(!rs.wasNull() && significantPoint == Boolean.TRUE);
+
+		return row;
+	}
+
+	private static String getGNSSObservationSortColumn(ColumnContentType columnContentType) {
+		switch(columnContentType) {
+		case ENABLE:
+			return "\"GNSSObservationApriori\".\"enable\"";
+		case START_POINT_NAME:
+			return "\"GNSSObservationApriori\".\"start_point_name\"";
+		case END_POINT_NAME:
+			return "\"GNSSObservationApriori\".\"end_point_name\"";
+		case VALUE_X_APRIORI:
+			return "COALESCE(\"GNSSObservationApriori\".\"x0\", 0)";
+		case VALUE_Y_APRIORI:
+			return "COALESCE(\"GNSSObservationApriori\".\"y0\", 0)";
+		case VALUE_Z_APRIORI:
+			return "COALESCE(\"GNSSObservationApriori\".\"z0\", 0)";
+		case UNCERTAINTY_X_APRIORI:
+			return "CASE WHEN \"GNSSObservationApriori\".\"sigma_x0\" > 0 THEN \"GNSSObservationApriori\".\"sigma_x0\" END";
+		case UNCERTAINTY_Y_APRIORI:
+			return "CASE WHEN \"GNSSObservationApriori\".\"sigma_y0\" > 0 THEN \"GNSSObservationApriori\".\"sigma_y0\" END";
+		case UNCERTAINTY_Z_APRIORI:
+			return "CASE WHEN \"GNSSObservationApriori\".\"sigma_z0\" > 0 THEN \"GNSSObservationApriori\".\"sigma_z0\" END";
+		case VALUE_X_APOSTERIORI:
+			return "\"GNSSObservationAposteriori\".\"x\"";
+		case VALUE_Y_APOSTERIORI:
+			return "\"GNSSObservationAposteriori\".\"y\"";
+		case VALUE_Z_APOSTERIORI:
+			return "\"GNSSObservationAposteriori\".\"z\"";
+		case UNCERTAINTY_X_APOSTERIORI:
+			return "CASE WHEN \"GNSSObservationAposteriori\".\"sigma_x\" > 0 THEN \"GNSSObservationAposteriori\".\"sigma_x\" WHEN \"GNSSObservationAposteriori\".\"sigma_x\" IS NOT NULL THEN 0 END";
+		case UNCERTAINTY_Y_APOSTERIORI:
+			return "CASE WHEN \"GNSSObservationAposteriori\".\"sigma_y\" > 0 THEN \"GNSSObservationAposteriori\".\"sigma_y\" WHEN \"GNSSObservationAposteriori\".\"sigma_y\" IS NOT NULL THEN 0 END";
+		case UNCERTAINTY_Z_APOSTERIORI:
+			return "CASE WHEN \"GNSSObservationAposteriori\".\"sigma_z\" > 0 THEN \"GNSSObservationAposteriori\".\"sigma_z\" WHEN \"GNSSObservationAposteriori\".\"sigma_z\" IS NOT NULL THEN 0 END";
+		case RESIDUAL_X:
+			return "\"GNSSObservationAposteriori\".\"residual_x\"";
+		case RESIDUAL_Y:
+			return "\"GNSSObservationAposteriori\".\"residual_y\"";
+		case RESIDUAL_Z:
+			return "\"GNSSObservationAposteriori\".\"residual_z\"";
+		case REDUNDANCY_X:
+			return "ABS(\"GNSSObservationAposteriori\".\"redundancy_x\")";
+		case REDUNDANCY_Y:
+			return "ABS(\"GNSSObservationAposteriori\".\"redundancy_y\")";
+		case REDUNDANCY_Z:
+			return "ABS(\"GNSSObservationAposteriori\".\"redundancy_z\")";
+		case GROSS_ERROR_X:
+			return "\"GNSSObservationAposteriori\".\"gross_error_x\"";
+		case GROSS_ERROR_Y:
+			return "\"GNSSObservationAposteriori\".\"gross_error_y\"";
+		case GROSS_ERROR_Z:
+			return "\"GNSSObservationAposteriori\".\"gross_error_z\"";
+		case MINIMAL_DETECTABLE_BIAS_X:
+			return "\"GNSSObservationAposteriori\".\"minimal_detectable_bias_x\"";
+		case MINIMAL_DETECTABLE_BIAS_Y:
+			return "\"GNSSObservationAposteriori\".\"minimal_detectable_bias_y\"";
+		case MINIMAL_DETECTABLE_BIAS_Z:
+			return "\"GNSSObservationAposteriori\".\"minimal_detectable_bias_z\"";
+		case MAXIMUM_TOLERABLE_BIAS_X:
+			return "\"GNSSObservationAposteriori\".\"maximum_tolerable_bias_x\"";
+		case MAXIMUM_TOLERABLE_BIAS_Y:
+			return "\"GNSSObservationAposteriori\".\"maximum_tolerable_bias_y\"";
+		case MAXIMUM_TOLERABLE_BIAS_Z:
+			return "\"GNSSObservationAposteriori\".\"maximum_tolerable_bias_z\"";
+		case INFLUENCE_ON_POINT_POSITION_X:
+			return "\"GNSSObservationAposteriori\".\"influence_on_position_x\"";
+		case INFLUENCE_ON_POINT_POSITION_Y:
+			return "\"GNSSObservationAposteriori\".\"influence_on_position_y\"";
+		case INFLUENCE_ON_POINT_POSITION_Z:
+			return "\"GNSSObservationAposteriori\".\"influence_on_position_z\"";
+		case INFLUENCE_ON_NETWORK_DISTORTION:
+			return "\"GNSSObservationAposteriori\".\"influence_on_network_distortion\"";
+		case OMEGA:
+			return "ABS(\"GNSSObservationAposteriori\".\"omega\")";
+		case P_VALUE_APRIORI:
+			return "\"GNSSObservationAposteriori\".\"p_prio\"";
+		case P_VALUE_APOSTERIORI:
+			return "\"GNSSObservationAposteriori\".\"p_post\"";
+		case TEST_STATISTIC_APRIORI:
+			return "ABS(\"GNSSObservationAposteriori\".\"t_prio\")";
+		case TEST_STATISTIC_APOSTERIORI:
+			return "ABS(\"GNSSObservationAposteriori\".\"t_post\")";
+		case SIGNIFICANT:
+			return "COALESCE(\"GNSSObservationAposteriori\".\"significant\", FALSE)";
+		default:
+			return null;
+		}
 	}
 
 	private void loadUncertainties(PointTreeItemValue pointItemValue, PointTreeItemValue... selectedPointItemValues) throws SQLException {
@@ -2424,10 +2606,7 @@ public class SQLManager {
 
 		UIPointTableBuilder tableBuilder = UIPointTableBuilder.getInstance();
 		TableView<PointRow> table = tableBuilder.getTable(pointItemValue);
-		List<PointRow> tableModel = FXCollections.observableArrayList();
-
-		String sql = "SELECT " + 
-				// Part: point
+		String selectColumns = // Part: point
 				"\"PointApriori\".\"id\", \"name\", \"code\", \"enable\"," + 
 				"\"x0\", \"y0\", \"z0\", " +
 				"\"PointApriori\".\"sigma_y0\", \"PointApriori\".\"sigma_x0\", \"PointApriori\".\"sigma_z0\", " + 
@@ -2443,197 +2622,316 @@ public class SQLManager {
 				"\"omega\", \"significant\", " + 
 				"\"t_prio\", \"t_post\", \"p_prio\", \"p_post\", \"number_of_observations\", " + 
 				// Part: group
-				"\"group_id\", \"type\", \"dimension\" " + 
-				// Part: deflection
-				"FROM \"PointApriori\" " + 
+				"\"group_id\", \"type\", \"dimension\" ";
+
+		String fromClause = "FROM \"PointApriori\" " + 
 				"JOIN \"PointGroup\" ON \"PointApriori\".\"group_id\" = \"PointGroup\".\"id\" " + 
-				"LEFT JOIN \"PointAposteriori\" ON \"PointApriori\".\"id\" = \"PointAposteriori\".\"id\" " + 
+				"LEFT JOIN \"PointAposteriori\" ON \"PointApriori\".\"id\" = \"PointAposteriori\".\"id\" ";
 
-				"WHERE \"PointGroup\".\"type\" = ? AND \"PointGroup\".\"dimension\" = ? " +
-				"AND \"PointGroup\".\"id\" IN (" + inArrayValues + ") " + 
+		String whereClause = "\"PointGroup\".\"type\" = ? AND \"PointGroup\".\"dimension\" = ? " +
+				"AND \"PointGroup\".\"id\" IN (" + inArrayValues + ") ";
 
-				"ORDER BY \"PointGroup\".\"order\" ASC, \"PointGroup\".\"id\" ASC, \"PointApriori\".\"id\" ASC";
+		String defaultOrder = "\"PointGroup\".\"order\" ASC, \"PointGroup\".\"id\" ASC, \"PointApriori\".\"id\" ASC";
 
+		int parameters[] = new int[selectedPointItemValues.length + 2];
+		parameters[0] = TreeItemType.getPointTypeByTreeItemType(pointItemValue.getItemType()).getId();
+		parameters[1] = pointItemValue.getDimension();
+		for (int i=0; i<selectedPointItemValues.length; i++)
+			parameters[i+2] = selectedPointItemValues[i].getGroupId();
 
-		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
+		SQLRowPageLoader<PointRow> pageLoader = new SQLRowPageLoader<PointRow>(this.dataBase, selectColumns, fromClause, whereClause, parameters, "\"PointApriori\".\"id\"", defaultOrder) {
+			@Override
+			String getSortColumn(ColumnContentType columnContentType) {
+				return getPointSortColumn(columnContentType);
+			}
 
-		stmt.setInt(1, TreeItemType.getPointTypeByTreeItemType(pointItemValue.getItemType()).getId());
-		stmt.setInt(2, pointItemValue.getDimension());
+			@Override
+			PointRow getRow(ResultSet rs) throws SQLException {
+				return getPointRow(rs);
+			}
 
-		for (int i=0; i<selectedPointItemValues.length; i++)
-			stmt.setInt(i+3, selectedPointItemValues[i].getGroupId());
+			@Override
+			public PointRow createEmptyRow() {
+				return new PointRow();
+			}
+		};
 
-		ResultSet rs = stmt.executeQuery();
-		while (rs.next()) {
-			PointRow row = new PointRow();
-			// POINT
+		tableBuilder.setTableModel(table, pageLoader);
+		if (tableBuilder.getTableModel(table).isEmpty())
+			tableBuilder.getTableModel(table).setAll(tableBuilder.getEmptyRow());
+	}
 
-			// Apriori-Values
-			row.setId(rs.getInt("id"));
-			row.setGroupId(rs.getInt("group_id"));
-			row.setName(rs.getString("name"));
-			row.setCode(rs.getString("code"));
-			row.setEnable(rs.getBoolean("enable"));
+	private PointRow getPointRow(ResultSet rs) throws SQLException {
+		PointRow row = new PointRow();
+		// POINT
 
-			double value;
-			value = rs.getDouble("x0");
-			row.setXApriori(rs.wasNull() ? 0 : value);
+		// Apriori-Values
+		row.setId(rs.getInt("id"));
+		row.setGroupId(rs.getInt("group_id"));
+		row.setName(rs.getString("name"));
+		row.setCode(rs.getString("code"));
+		row.setEnable(rs.getBoolean("enable"));
 
-			value = rs.getDouble("y0");
-			row.setYApriori(rs.wasNull() ? 0 : value);
+		double value;
+		value = rs.getDouble("x0");
+		row.setXApriori(rs.wasNull() ? 0 : value);
 
-			value = rs.getDouble("z0");
-			row.setZApriori(rs.wasNull() ? 0 : value);
+		value = rs.getDouble("y0");
+		row.setYApriori(rs.wasNull() ? 0 : value);
 
-			value = rs.getDouble("sigma_x0");
-			row.setSigmaXapriori(rs.wasNull() || value <= 0 ? null : value);
+		value = rs.getDouble("z0");
+		row.setZApriori(rs.wasNull() ? 0 : value);
 
-			value = rs.getDouble("sigma_y0");
-			row.setSigmaYapriori(rs.wasNull() || value <= 0 ? null : value);
+		value = rs.getDouble("sigma_x0");
+		row.setSigmaXapriori(rs.wasNull() || value <= 0 ? null : value);
 
-			value = rs.getDouble("sigma_z0");
-			row.setSigmaZapriori(rs.wasNull() || value <= 0 ? null : value);
+		value = rs.getDouble("sigma_y0");
+		row.setSigmaYapriori(rs.wasNull() || value <= 0 ? null : value);
 
+		value = rs.getDouble("sigma_z0");
+		row.setSigmaZapriori(rs.wasNull() || value <= 0 ? null : value);
 
-			// Aposteriori
-			row.setNumberOfObservations(rs.getInt("number_of_observations"));
 
-			value = rs.getDouble("x");
-			row.setXAposteriori(rs.wasNull() ? 0 : value);
+		// Aposteriori
+		row.setNumberOfObservations(rs.getInt("number_of_observations"));
 
-			value = rs.getDouble("y");
-			row.setYAposteriori(rs.wasNull() ? 0 : value);
+		value = rs.getDouble("x");
+		row.setXAposteriori(rs.wasNull() ? 0 : value);
 
-			value = rs.getDouble("z");
-			row.setZAposteriori(rs.wasNull() ? 0 : value);
+		value = rs.getDouble("y");
+		row.setYAposteriori(rs.wasNull() ? 0 : value);
 
-			value = rs.getDouble("sigma_x");
-			row.setSigmaXaposteriori(rs.wasNull() ? null : value > 0 ? value : 0.0);
+		value = rs.getDouble("z");
+		row.setZAposteriori(rs.wasNull() ? 0 : value);
 
-			value = rs.getDouble("sigma_y");
-			row.setSigmaYaposteriori(rs.wasNull() ? null : value > 0 ? value : 0.0);
+		value = rs.getDouble("sigma_x");
+		row.setSigmaXaposteriori(rs.wasNull() ? null : value > 0 ? value : 0.0);
 
-			value = rs.getDouble("sigma_z");
-			row.setSigmaZaposteriori(rs.wasNull() ? null : value > 0 ? value : 0.0);
+		value = rs.getDouble("sigma_y");
+		row.setSigmaYaposteriori(rs.wasNull() ? null : value > 0 ? value : 0.0);
 
-			// Confidence
-			value = rs.getDouble("confidence_major_axis");
-			row.setConfidenceA(rs.wasNull() ? null : Math.abs(value));
+		value = rs.getDouble("sigma_z");
+		row.setSigmaZaposteriori(rs.wasNull() ? null : value > 0 ? value : 0.0);
 
-			value = rs.getDouble("confidence_middle_axis");
-			row.setConfidenceB(rs.wasNull() ? null : Math.abs(value));
+		// Confidence
+		value = rs.getDouble("confidence_major_axis");
+		row.setConfidenceA(rs.wasNull() ? null : Math.abs(value));
 
-			value = rs.getDouble("confidence_minor_axis");
-			row.setConfidenceC(rs.wasNull() ? null : Math.abs(value));
+		value = rs.getDouble("confidence_middle_axis");
+		row.setConfidenceB(rs.wasNull() ? null : Math.abs(value));
 
-			value = rs.getDouble("confidence_alpha");
-			row.setConfidenceAlpha(rs.wasNull() ? null : value);
+		value = rs.getDouble("confidence_minor_axis");
+		row.setConfidenceC(rs.wasNull() ? null : Math.abs(value));
 
-			value = rs.getDouble("confidence_beta");
-			row.setConfidenceBeta(rs.wasNull() ? null : value);
+		value = rs.getDouble("confidence_alpha");
+		row.setConfidenceAlpha(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("confidence_gamma");
-			row.setConfidenceGamma(rs.wasNull() ? null : value);
-			
-			// Residual
-			value = rs.getDouble("residual_x");
-			row.setResidualX(rs.wasNull() ? null : value);
+		value = rs.getDouble("confidence_beta");
+		row.setConfidenceBeta(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("residual_y");
-			row.setResidualY(rs.wasNull() ? null : value);
+		value = rs.getDouble("confidence_gamma");
+		row.setConfidenceGamma(rs.wasNull() ? null : value);
+		
+		// Residual
+		value = rs.getDouble("residual_x");
+		row.setResidualX(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("residual_z");
-			row.setResidualZ(rs.wasNull() ? null : value);
+		value = rs.getDouble("residual_y");
+		row.setResidualY(rs.wasNull() ? null : value);
 
-			// Redundancy
-			value = rs.getDouble("redundancy_x");
-			row.setRedundancyX(rs.wasNull() ? null : Math.abs(value));
+		value = rs.getDouble("residual_z");
+		row.setResidualZ(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("redundancy_y");
-			row.setRedundancyY(rs.wasNull() ? null : Math.abs(value));
+		// Redundancy
+		value = rs.getDouble("redundancy_x");
+		row.setRedundancyX(rs.wasNull() ? null : Math.abs(value));
 
-			value = rs.getDouble("redundancy_z");
-			row.setRedundancyZ(rs.wasNull() ? null : Math.abs(value));
+		value = rs.getDouble("redundancy_y");
+		row.setRedundancyY(rs.wasNull() ? null : Math.abs(value));
 
-			// Gross error
-			value = rs.getDouble("gross_error_x");
-			row.setGrossErrorX(rs.wasNull() ? null : value);
+		value = rs.getDouble("redundancy_z");
+		row.setRedundancyZ(rs.wasNull() ? null : Math.abs(value));
 
-			value = rs.getDouble("gross_error_y");
-			row.setGrossErrorY(rs.wasNull() ? null : value);
+		// Gross error
+		value = rs.getDouble("gross_error_x");
+		row.setGrossErrorX(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("gross_error_z");
-			row.setGrossErrorZ(rs.wasNull() ? null : value);
+		value = rs.getDouble("gross_error_y");
+		row.setGrossErrorY(rs.wasNull() ? null : value);
 
-			// MDB
-			value = rs.getDouble("minimal_detectable_bias_x");
-			row.setMinimalDetectableBiasX(rs.wasNull() ? null : value);
+		value = rs.getDouble("gross_error_z");
+		row.setGrossErrorZ(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("minimal_detectable_bias_y");
-			row.setMinimalDetectableBiasY(rs.wasNull() ? null : value);
+		// MDB
+		value = rs.getDouble("minimal_detectable_bias_x");
+		row.setMinimalDetectableBiasX(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("minimal_detectable_bias_z");
-			row.setMinimalDetectableBiasZ(rs.wasNull() ? null : value);
-			
-			// MTB
-			value = rs.getDouble("maximum_tolerable_bias_x");
-			row.setMaximumTolerableBiasX(rs.wasNull() ? null : value);
+		value = rs.getDouble("minimal_detectable_bias_y");
+		row.setMinimalDetectableBiasY(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("maximum_tolerable_bias_y");
-			row.setMaximumTolerableBiasY(rs.wasNull() ? null : value);
+		value = rs.getDouble("minimal_detectable_bias_z");
+		row.setMinimalDetectableBiasZ(rs.wasNull() ? null : value);
+		
+		// MTB
+		value = rs.getDouble("maximum_tolerable_bias_x");
+		row.setMaximumTolerableBiasX(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("maximum_tolerable_bias_z");
-			row.setMaximumTolerableBiasZ(rs.wasNull() ? null : value);			
+		value = rs.getDouble("maximum_tolerable_bias_y");
+		row.setMaximumTolerableBiasY(rs.wasNull() ? null : value);
 
-			// PCA
-			value = rs.getDouble("first_principal_component_x");
-			row.setFirstPrincipalComponentX(rs.wasNull() ? null : value);
+		value = rs.getDouble("maximum_tolerable_bias_z");
+		row.setMaximumTolerableBiasZ(rs.wasNull() ? null : value);			
 
-			value = rs.getDouble("first_principal_component_y");
-			row.setFirstPrincipalComponentY(rs.wasNull() ? null : value);
+		// PCA
+		value = rs.getDouble("first_principal_component_x");
+		row.setFirstPrincipalComponentX(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("first_principal_component_z");
-			row.setFirstPrincipalComponentZ(rs.wasNull() ? null : value);
+		value = rs.getDouble("first_principal_component_y");
+		row.setFirstPrincipalComponentY(rs.wasNull() ? null : value);
 
-			// EP + EFSPmax
-			value = rs.getDouble("influence_on_position_x");
-			row.setInfluenceOnPointPositionX(rs.wasNull() ? null : value);
+		value = rs.getDouble("first_principal_component_z");
+		row.setFirstPrincipalComponentZ(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("influence_on_position_y");
-			row.setInfluenceOnPointPositionY(rs.wasNull() ? null : value);
+		// EP + EFSPmax
+		value = rs.getDouble("influence_on_position_x");
+		row.setInfluenceOnPointPositionX(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("influence_on_position_z");
-			row.setInfluenceOnPointPositionZ(rs.wasNull() ? null : value);
+		value = rs.getDouble("influence_on_position_y");
+		row.setInfluenceOnPointPositionY(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("influence_on_network_distortion");
-			row.setInfluenceOnNetworkDistortion(rs.wasNull() ? null : value);
+		value = rs.getDouble("influence_on_position_z");
+		row.setInfluenceOnPointPositionZ(rs.wasNull() ? null : value);
 
-			// Statistics
-			value = rs.getDouble("omega");
-			row.setOmega(rs.wasNull() ? null : Math.abs(value));
+		value = rs.getDouble("influence_on_network_distortion");
+		row.setInfluenceOnNetworkDistortion(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("p_prio");
-			row.setPValueApriori(rs.wasNull() ? null : value);
+		// Statistics
+		value = rs.getDouble("omega");
+		row.setOmega(rs.wasNull() ? null : Math.abs(value));
 
-			value = rs.getDouble("p_post");
-			row.setPValueAposteriori(rs.wasNull() ? null : value);
+		value = rs.getDouble("p_prio");
+		row.setPValueApriori(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("t_prio");
-			row.setTestStatisticApriori(rs.wasNull() ? null : Math.abs(value));
+		value = rs.getDouble("p_post");
+		row.setPValueAposteriori(rs.wasNull() ? null : value);
 
-			value = rs.getDouble("t_post");
-			row.setTestStatisticAposteriori(rs.wasNull() ? null : Math.abs(value));
+		value = rs.getDouble("t_prio");
+		row.setTestStatisticApriori(rs.wasNull() ? null : Math.abs(value));
 
-			boolean significantPoint = rs.getBoolean("significant");
-			row.setSignificant(!rs.wasNull() && significantPoint == Boolean.TRUE);
+		value = rs.getDouble("t_post");
+		row.setTestStatisticAposteriori(rs.wasNull() ? null : Math.abs(value));
 
-			tableModel.add(row);
-		}
+		boolean significantPoint = rs.getBoolean("significant");
+		row.setSignificant(!rs.wasNull() && significantPoint == Boolean.TRUE);
 
-		tableBuilder.getTableModel(table).setAll(tableModel);
-		if (tableModel.isEmpty())
-			tableBuilder.getTableModel(table).setAll(tableBuilder.getEmptyRow());
-		table.sort();
+		return row;
+	}
+
+	private static String getPointSortColumn(ColumnContentType columnContentType) {
+		switch(columnContentType) {
+		case ENABLE:
+			return "\"PointApriori\".\"enable\"";
+		case POINT_NAME:
+			return "\"PointApriori\".\"name\"";
+		case CODE:
+			return "\"PointApriori\".\"code\"";
+		case VALUE_X_APRIORI:
+			return "COALESCE(\"PointApriori\".\"x0\", 0)";
+		case VALUE_Y_APRIORI:
+			return "COALESCE(\"PointApriori\".\"y0\", 0)";
+		case VALUE_Z_APRIORI:
+			return "COALESCE(\"PointApriori\".\"z0\", 0)";
+		case UNCERTAINTY_X_APRIORI:
+			return "CASE WHEN \"PointApriori\".\"sigma_x0\" > 0 THEN \"PointApriori\".\"sigma_x0\" END";
+		case UNCERTAINTY_Y_APRIORI:
+			return "CASE WHEN \"PointApriori\".\"sigma_y0\" > 0 THEN \"PointApriori\".\"sigma_y0\" END";
+		case UNCERTAINTY_Z_APRIORI:
+			return "CASE WHEN \"PointApriori\".\"sigma_z0\" > 0 THEN \"PointApriori\".\"sigma_z0\" END";
+		case VALUE_X_APOSTERIORI:
+			return "COALESCE(\"PointAposteriori\".\"x\", 0)";
+		case VALUE_Y_APOSTERIORI:
+			return "COALESCE(\"PointAposteriori\".\"y\", 0)";
+		case VALUE_Z_APOSTERIORI:
+			return "COALESCE(\"PointAposteriori\".\"z\", 0)";
+		case UNCERTAINTY_X_APOSTERIORI:
+			return "CASE WHEN \"PointAposteriori\".\"sigma_x\" > 0 THEN \"PointAposteriori\".\"sigma_x\" WHEN \"PointAposteriori\".\"sigma_x\" IS NOT NULL THEN 0 END";
+		case UNCERTAINTY_Y_APOSTERIORI:
+			return "CASE WHEN \"PointAposteriori\".\"sigma_y\" > 0 THEN \"PointAposteriori\".\"sigma_y\" WHEN \"PointAposteriori\".\"sigma_y\" IS NOT NULL THEN 0 END";
+		case UNCERTAINTY_Z_APOSTERIORI:
+			return "CASE WHEN \"PointAposteriori\".\"sigma_z\" > 0 THEN \"PointAposteriori\".\"sigma_z\" WHEN \"PointAposteriori\".\"sigma_z\" IS NOT NULL THEN 0 END";
+		case CONFIDENCE_A:
+			return "ABS(\"PointAposteriori\".\"confidence_major_axis\")";
+		case CONFIDENCE_B:
+			return "ABS(\"PointAposteriori\".\"confidence_middle_axis\")";
+		case CONFIDENCE_C:
+			return "ABS(\"PointAposteriori\".\"confidence_minor_axis\")";
+		case CONFIDENCE_ALPHA:
+			return "\"PointAposteriori\".\"confidence_alpha\"";
+		case CONFIDENCE_BETA:
+			return "\"PointAposteriori\".\"confidence_beta\"";
+		case CONFIDENCE_GAMMA:
+			return "\"PointAposteriori\".\"confidence_gamma\"";
+		case RESIDUAL_X:
+			return "\"PointAposteriori\".\"residual_x\"";
+		case RESIDUAL_Y:
+			return "\"PointAposteriori\".\"residual_y\"";
+		case RESIDUAL_Z:
+			return "\"PointAposteriori\".\"residual_z\"";
+		case REDUNDANCY_X:
+			return "ABS(\"PointAposteriori\".\"redundancy_x\")";
+		case REDUNDANCY_Y:
+			return "ABS(\"PointAposteriori\".\"redundancy_y\")";
+		case REDUNDANCY_Z:
+			return "ABS(\"PointAposteriori\".\"redundancy_z\")";
+		case GROSS_ERROR_X:
+			return "\"PointAposteriori\".\"gross_error_x\"";
+		case GROSS_ERROR_Y:
+			return "\"PointAposteriori\".\"gross_error_y\"";
+		case GROSS_ERROR_Z:
+			return "\"PointAposteriori\".\"gross_error_z\"";
+		case MINIMAL_DETECTABLE_BIAS_X:
+			return "\"PointAposteriori\".\"minimal_detectable_bias_x\"";
+		case MINIMAL_DETECTABLE_BIAS_Y:
+			return "\"PointAposteriori\".\"minimal_detectable_bias_y\"";
+		case MINIMAL_DETECTABLE_BIAS_Z:
+			return "\"PointAposteriori\".\"minimal_detectable_bias_z\"";
+		case MAXIMUM_TOLERABLE_BIAS_X:
+			return "\"PointAposteriori\".\"maximum_tolerable_bias_x\"";
+		case MAXIMUM_TOLERABLE_BIAS_Y:
+			return "\"PointAposteriori\".\"maximum_tolerable_bias_y\"";
+		case MAXIMUM_TOLERABLE_BIAS_Z:
+			return "\"PointAposteriori\".\"maximum_tolerable_bias_z\"";
+		case INFLUENCE_ON_POINT_POSITION_X:
+			return "\"PointAposteriori\".\"influence_on_position_x\"";
+		case INFLUENCE_ON_POINT_POSITION_Y:
+			return "\"PointAposteriori\".\"influence_on_position_y\"";
+		case INFLUENCE_ON_POINT_POSITION_Z:
+			return "\"PointAposteriori\".\"influence_on_position_z\"";
+		case INFLUENCE_ON_NETWORK_DISTORTION:
+			return "\"PointAposteriori\".\"influence_on_network_distortion\"";
+		case FIRST_PRINCIPLE_COMPONENT_X:
+			return "\"PointAposteriori\".\"first_principal_component_x\"";
+		case FIRST_PRINCIPLE_COMPONENT_Y:
+			return "\"PointAposteriori\".\"first_principal_component_y\"";
+		case FIRST_PRINCIPLE_COMPONENT_Z:
+			return "\"PointAposteriori\".\"first_principal_component_z\"";
+		case NUMBER_OF_OBSERVATIONS:
+			return "COALESCE(\"PointAposteriori\".\"number_of_observations\", 0)";
+		case OMEGA:
+			return "ABS(\"PointAposteriori\".\"omega\")";
+		case P_VALUE_APRIORI:
+			return "\"PointAposteriori\".\"p_prio\"";
+		case P_VALUE_APOSTERIORI:
+			return "\"PointAposteriori\".\"p_post\"";
+		case TEST_STATISTIC_APRIORI:
+			return "ABS(\"PointAposteriori\".\"t_prio\")";
+		case TEST_STATISTIC_APOSTERIORI:
+			return "ABS(\"PointAposteriori\".\"t_post\")";
+		case SIGNIFICANT:
+			return "COALESCE(\"PointAposteriori\".\"significant\", FALSE)";
+		default:
+			return null;
+		}
 	}
 
 	private void loadCongruenceAnalysisPointPair(CongruenceAnalysisTreeItemValue congruenceAnalysisItemValue, CongruenceAnalysisTreeItemValue... selectedCongruenceAnalysisItemValues) throws SQLException {
@@ -2869,15 +3167,117 @@ public class SQLManager {
 		stmt.execute();
 	}
 
-	// http://hsqldb.org/doc/2.0/guide/dataaccess-chapt.html#dac_merge_statement
-	public void saveItem(TerrestrialObservationRow rowData) throws SQLException {
-		if (!this.hasDatabase() || !this.dataBase.isOpen() || rowData == null || 
-				rowData.getStartPointName() == null || rowData.getEndPointName() == null || 
-				rowData.getStartPointName().equals(rowData.getEndPointName()) ||
-				rowData.getValueApriori() == null ||
-				rowData.getStartPointName().trim().isEmpty() || rowData.getEndPointName().trim().isEmpty())
+	/**
+	 * Speichert die Zeilen <code>rows</code> mittels (MERGE-)Anweisung <code>sql</code>. Fuer alle Zeilen wird dieselbe vorbereitete 
+	 * Anweisung genutzt und die Parameter werden als JDBC-Batch uebertragen. Die Ids neu einzufuegender Zeilen (<code>id &lt; 0</code>) 
+	 * werden je Batch aus den generierten Schluesseln uebernommen, sodass keine Abfrage der Id je Zeile notwendig ist. Sofern der Aufrufer 
+	 * keine Transaktion geoeffnet hat, erfolgt die Speicherung in einer eigenen Transaktion, die bei jedem Fehler (auch einer 
+	 * RuntimeException des <code>binder</code>) vollstaendig zurueckgesetzt wird.
+	 * 
+	 * @param sql Anweisung, deren erster Parameter die Id ist
+	 * @param rows zu speichernde Zeilen
+	 * @param skip Bedingung fuer Zeilen, die nicht gespeichert werden
+	 * @param binder setzt die Parameter der Anweisung
+	 * @throws SQLException
+	 */
+	private <T extends Row> void saveItems(String sql, Collection<T> rows, Predicate<T> skip, RowStatementBinder<T> binder) throws SQLException {
+		if (!this.hasDatabase() || !this.dataBase.isOpen() || rows == null || rows.isEmpty())
 			return;
 		
+		boolean isTransaction = !this.dataBase.isAutoCommit();
+		List<T> insertedRows = new ArrayList<T>();
+		List<T> batchedRows  = new ArrayList<T>(Math.min(rows.size(), BATCH_SIZE));
+		PreparedStatement insertStmt = null, updateStmt = null;
+		int numberOfUpdates = 0;
+		
+		try {
+			this.dataBase.setAutoCommit(false);
+			
+			for (T rowData : rows) {
+				if (skip.test(rowData))
+					continue;
+				
+				// Insert new item
+				if (rowData.getId() < 0) {
+					if (insertStmt == null)
+						insertStmt = this.dataBase.getPreparedStatement(sql, new String[] {"id"});
+					binder.bind(insertStmt, rowData);
+					insertStmt.addBatch();
+					batchedRows.add(rowData);
+					
+					if (batchedRows.size() == BATCH_SIZE)
+						this.executeInsertBatch(insertStmt, batchedRows, insertedRows);
+				}
+				// Update existing item
+				else {
+					if (updateStmt == null)
+						updateStmt = this.dataBase.getPreparedStatement(sql);
+					binder.bind(updateStmt, rowData);
+					updateStmt.addBatch();
+					
+					if (++numberOfUpdates % BATCH_SIZE == 0)
+						updateStmt.executeBatch();
+				}
+			}
+			
+			if (!batchedRows.isEmpty())
+				this.executeInsertBatch(insertStmt, batchedRows, insertedRows);
+			
+			if (numberOfUpdates % BATCH_SIZE != 0)
+				updateStmt.executeBatch();
+			
+			if (!isTransaction)
+				this.dataBase.commit();
+		}
+		catch (SQLException | RuntimeException e) {
+			// verwerfe nicht ausgefuehrte Parameter, da die Anweisungen im Cache erneut genutzt werden
+			if (insertStmt != null)
+				insertStmt.clearBatch();
+			if (updateStmt != null)
+				updateStmt.clearBatch();
+			
+			if (!isTransaction) {
+				this.dataBase.rollback();
+				for (T rowData : insertedRows)
+					rowData.setId(-1);
+			}
+			throw e;
+		}
+		finally {
+			if (!isTransaction)
+				this.dataBase.setAutoCommit(true);
+		}
+	}
+	
+	private <T extends Row> void executeInsertBatch(PreparedStatement stmt, List<T> batchedRows, List<T> insertedRows) throws SQLException {
+		stmt.executeBatch();
+		
+		int idx = 0;
+		ResultSet generatedKeys = stmt.getGeneratedKeys();
+		while (generatedKeys.next() && idx < batchedRows.size()) {
+			T rowData = batchedRows.get(idx++);
+			rowData.setId(generatedKeys.getInt(1));
+			insertedRows.add(rowData);
+		}
+		generatedKeys.close();
+		
+		if (idx != batchedRows.size())
+			throw new SQLException("Error, number of generated keys does not match number of inserted rows! " + idx + " vs. " + batchedRows.size());
+		batchedRows.clear();
+	}
+
+	// http://hsqldb.org/doc/2.0/guide/dataaccess-chapt.html#dac_merge_statement
+	public void saveItem(TerrestrialObservationRow rowData) throws SQLException {
+		this.saveTerrestrialObservationItems(Collections.singletonList(rowData));
+	}
+	
+	/**
+	 * Speichert die terrestrischen Beobachtungen als Batch innerhalb einer Transaktion (vgl. <code>saveItems()</code>)
+	 * 
+	 * @param rows
+	 * @throws SQLException
+	 */
+	public void saveTerrestrialObservationItems(Collection<TerrestrialObservationRow> rows) throws SQLException {
 		String sql = "MERGE INTO \"ObservationApriori\" USING (VALUES "
 				+ "(CAST(? AS INT), CAST(? AS INT), ?, ?, CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS BOOLEAN)) "
 				+ ") AS \"vals\" (\"id\", \"group_id\", \"start_point_name\", \"end_point_name\", \"instrument_height\", \"reflector_height\", \"value_0\", \"sigma_0\", \"distance_0\", \"enable\") ON \"ObservationApriori\".\"id\" = \"vals\".\"id\" "
@@ -2903,43 +3303,47 @@ public class SQLManager {
 				+ "\"vals\".\"distance_0\", "
 				+ "\"vals\".\"enable\"";
 
-		int idx = 1;
-		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
-		// Insert new item
-		if (rowData.getId() < 0)
-			stmt.setNull(idx++, Types.INTEGER);
-		// Update existing item
-		else
-			stmt.setInt(idx++, rowData.getId());
-
-		stmt.setInt(idx++,     rowData.getGroupId());
-		stmt.setString(idx++,  rowData.getStartPointName());
-		stmt.setString(idx++,  rowData.getEndPointName());
+		this.saveItems(sql, rows, rowData -> rowData == null || 
+				rowData.getStartPointName() == null || rowData.getEndPointName() == null || 
+				rowData.getStartPointName().equals(rowData.getEndPointName()) || 
+				rowData.getValueApriori() == null || 
+				rowData.getStartPointName().trim().isEmpty() || rowData.getEndPointName().trim().isEmpty(), 
+				(stmt, rowData) -> {
+			int idx = 1;
+			// Insert new item
+			if (rowData.getId() < 0)
+				stmt.setNull(idx++, Types.INTEGER);
+			// Update existing item
+			else
+				stmt.setInt(idx++, rowData.getId());
 
-		stmt.setDouble(idx++,  rowData.getInstrumentHeight());
-		stmt.setDouble(idx++,  rowData.getReflectorHeight());
+			stmt.setInt(idx++,     rowData.getGroupId());
+			stmt.setString(idx++,  rowData.getStartPointName());
+			stmt.setString(idx++,  rowData.getEndPointName());
 
-		stmt.setDouble(idx++,  rowData.getValueApriori());
+			stmt.setDouble(idx++,  rowData.getInstrumentHeight());
+			stmt.setDouble(idx++,  rowData.getReflectorHeight());
 
-		stmt.setDouble(idx++,  rowData.getSigmaApriori() == null || rowData.getSigmaApriori() < 0 ? 0 : rowData.getSigmaApriori());
-		stmt.setDouble(idx++,  rowData.getDistanceApriori() == null || rowData.getDistanceApriori() < 0 ? 0 : rowData.getDistanceApriori());
+			stmt.setDouble(idx++,  rowData.getValueApriori());
 
-		stmt.setBoolean(idx++, rowData.isEnable());
+			stmt.setDouble(idx++,  rowData.getSigmaApriori() == null || rowData.getSigmaApriori() < 0 ? 0 : rowData.getSigmaApriori());
+			stmt.setDouble(idx++,  rowData.getDistanceApriori() == null || rowData.getDistanceApriori() < 0 ? 0 : rowData.getDistanceApriori());
 
-		stmt.execute();
-
-		if (rowData.getId() < 0) {
-			int id = this.dataBase.getLastInsertId();
-			rowData.setId(id);
-		}
+			stmt.setBoolean(idx++, rowData.isEnable());
+		});
 	}
 	
 	public void saveItem(VerticalDeflectionRow rowData) throws SQLException {
-		if (!this.hasDatabase() || !this.dataBase.isOpen() ||
-				rowData.getName() == null || rowData.getName().trim().isEmpty() ||
-				(rowData.getYApriori() == null && rowData.getXApriori() == null))
-			return;
-		
+		this.saveVerticalDeflectionItems(Collections.singletonList(rowData));
+	}
+	
+	/**
+	 * Speichert die Lotabweichungen als Batch innerhalb einer Transaktion (vgl. <code>saveItems()</code>)
+	 * 
+	 * @param rows
+	 * @throws SQLException
+	 */
+	public void saveVerticalDeflectionItems(Collection<VerticalDeflectionRow> rows) throws SQLException {
 		String sql = "MERGE INTO \"VerticalDeflectionApriori\" USING (VALUES "
 				+ "(CAST(? AS INT), CAST(? AS INT), ?, CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS BOOLEAN)) "
 				+ ") AS \"vals\" (\"id\", \"group_id\", \"name\", \"y0\", \"x0\", \"sigma_y0\", \"sigma_x0\", \"enable\") ON \"VerticalDeflectionApriori\".\"id\" = \"vals\".\"id\" "
@@ -2961,43 +3365,42 @@ public class SQLManager {
 				+ "\"vals\".\"sigma_x0\", "
 				+ "\"vals\".\"enable\" ";
 
-		int idx = 1;
-		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
-		// Insert new item
-		if (rowData.getId() < 0)
-			stmt.setNull(idx++, Types.INTEGER);
-		// Update existing item
-		else
-			stmt.setInt(idx++, rowData.getId());
-		stmt.setInt(idx++,     rowData.getGroupId());
-
-		stmt.setString(idx++,  rowData.getName());
-
-		stmt.setDouble(idx++,  rowData.getYApriori() == null ? 0.0 : rowData.getYApriori());
-		stmt.setDouble(idx++,  rowData.getXApriori() == null ? 0.0 : rowData.getXApriori());
+		this.saveItems(sql, rows, rowData -> rowData == null || rowData.getName() == null || rowData.getName().trim().isEmpty() || 
+				(rowData.getYApriori() == null && rowData.getXApriori() == null), 
+				(stmt, rowData) -> {
+			int idx = 1;
+			// Insert new item
+			if (rowData.getId() < 0)
+				stmt.setNull(idx++, Types.INTEGER);
+			// Update existing item
+			else
+				stmt.setInt(idx++, rowData.getId());
+			stmt.setInt(idx++,     rowData.getGroupId());
 
-		stmt.setDouble(idx++,  rowData.getSigmaYapriori() == null ? 0.0 : rowData.getSigmaYapriori());
-		stmt.setDouble(idx++,  rowData.getSigmaXapriori() == null ? 0.0 : rowData.getSigmaXapriori());
+			stmt.setString(idx++,  rowData.getName());
 
-		stmt.setBoolean(idx++, rowData.isEnable());
+			stmt.setDouble(idx++,  rowData.getYApriori() == null ? 0.0 : rowData.getYApriori());
+			stmt.setDouble(idx++,  rowData.getXApriori() == null ? 0.0 : rowData.getXApriori());
 
-		stmt.execute();
+			stmt.setDouble(idx++,  rowData.getSigmaYapriori() == null ? 0.0 : rowData.getSigmaYapriori());
+			stmt.setDouble(idx++,  rowData.getSigmaXapriori() == null ? 0.0 : rowData.getSigmaXapriori());
 
-		if (rowData.getId() < 0) {
-			int id = this.dataBase.getLastInsertId();
-			rowData.setId(id);
-		}
+			stmt.setBoolean(idx++, rowData.isEnable());
+		});
 	}
 
 	// http://hsqldb.org/doc/2.0/guide/dataaccess-chapt.html#dac_merge_statement
 	public void saveItem(GNSSObservationRow rowData) throws SQLException {
-		if (!this.hasDatabase() || !this.dataBase.isOpen() || rowData == null || 
-				rowData.getStartPointName() == null || rowData.getEndPointName() == null || 
-				rowData.getStartPointName().equals(rowData.getEndPointName()) ||
-				(rowData.getYApriori() == null && rowData.getXApriori() == null && rowData.getZApriori() == null) ||
-				rowData.getStartPointName().trim().isEmpty() || rowData.getEndPointName().trim().isEmpty())
-			return;
-		
+		this.saveGNSSObservationItems(Collections.singletonList(rowData));
+	}
+	
+	/**
+	 * Speichert die GNSS-Basislinien als Batch innerhalb einer Transaktion (vgl. <code>saveItems()</code>)
+	 * 
+	 * @param rows
+	 * @throws SQLException
+	 */
+	public void saveGNSSObservationItems(Collection<GNSSObservationRow> rows) throws SQLException {
 		String sql = "MERGE INTO \"GNSSObservationApriori\" USING (VALUES "
 				+ "(CAST(? AS INT), CAST(? AS INT), ?, ?, CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS BOOLEAN)) "
 				+ ") AS \"vals\" (\"id\", \"group_id\", \"start_point_name\", \"end_point_name\", \"y0\", \"x0\", \"z0\", \"sigma_y0\", \"sigma_x0\", \"sigma_z0\", \"enable\") ON \"GNSSObservationApriori\".\"id\" = \"vals\".\"id\" " 
@@ -3025,44 +3428,48 @@ public class SQLManager {
 				+ "\"vals\".\"sigma_z0\", "
 				+ "\"vals\".\"enable\"";
 
-		int idx = 1;
-		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
-		// Insert new item
-		if (rowData.getId() < 0)
-			stmt.setNull(idx++, Types.INTEGER);
-		// Update existing item
-		else
-			stmt.setInt(idx++, rowData.getId());
-
-		stmt.setInt(idx++,     rowData.getGroupId());
-		stmt.setString(idx++,  rowData.getStartPointName());
-		stmt.setString(idx++,  rowData.getEndPointName());
+		this.saveItems(sql, rows, rowData -> rowData == null || 
+				rowData.getStartPointName() == null || rowData.getEndPointName() == null || 
+				rowData.getStartPointName().equals(rowData.getEndPointName()) || 
+				(rowData.getYApriori() == null && rowData.getXApriori() == null && rowData.getZApriori() == null) || 
+				rowData.getStartPointName().trim().isEmpty() || rowData.getEndPointName().trim().isEmpty(), 
+				(stmt, rowData) -> {
+			int idx = 1;
+			// Insert new item
+			if (rowData.getId() < 0)
+				stmt.setNull(idx++, Types.INTEGER);
+			// Update existing item
+			else
+				stmt.setInt(idx++, rowData.getId());
 
-		stmt.setDouble(idx++,  rowData.getYApriori() == null ? 0.0 : rowData.getYApriori());
-		stmt.setDouble(idx++,  rowData.getXApriori() == null ? 0.0 : rowData.getXApriori());
-		stmt.setDouble(idx++,  rowData.getZApriori() == null ? 0.0 : rowData.getZApriori());
+			stmt.setInt(idx++,     rowData.getGroupId());
+			stmt.setString(idx++,  rowData.getStartPointName());
+			stmt.setString(idx++,  rowData.getEndPointName());
 
-		stmt.setDouble(idx++,  rowData.getSigmaYapriori() == null || rowData.getSigmaYapriori() < 0 ? 0 : rowData.getSigmaYapriori());
-		stmt.setDouble(idx++,  rowData.getSigmaXapriori() == null || rowData.getSigmaXapriori() < 0 ? 0 : rowData.getSigmaXapriori());
-		stmt.setDouble(idx++,  rowData.getSigmaZapriori() == null || rowData.getSigmaZapriori() < 0 ? 0 : rowData.getSigmaZapriori());
+			stmt.setDouble(idx++,  rowData.getYApriori() == null ? 0.0 : rowData.getYApriori());
+			stmt.setDouble(idx++,  rowData.getXApriori() == null ? 0.0 : rowData.getXApriori());
+			stmt.setDouble(idx++,  rowData.getZApriori() == null ? 0.0 : rowData.getZApriori());
 
-		stmt.setBoolean(idx++, rowData.isEnable());
+			stmt.setDouble(idx++,  rowData.getSigmaYapriori() == null || rowData.getSigmaYapriori() < 0 ? 0 : rowData.getSigmaYapriori());
+			stmt.setDouble(idx++,  rowData.getSigmaXapriori() == null || rowData.getSigmaXapriori() < 0 ? 0 : rowData.getSigmaXapriori());
+			stmt.setDouble(idx++,  rowData.getSigmaZapriori() == null || rowData.getSigmaZapriori() < 0 ? 0 : rowData.getSigmaZapriori());
 
-		stmt.execute();
-		
-		if (rowData.getId() < 0) {
-			int id = this.dataBase.getLastInsertId();
-			rowData.setId(id);
-		}
+			stmt.setBoolean(idx++, rowData.isEnable());
+		});
 	}
 
 	// http://hsqldb.org/doc/2.0/guide/dataaccess-chapt.html#dac_merge_statement 
 	public void saveItem(PointRow rowData) throws SQLException {
-		if (!this.hasDatabase() || !this.dataBase.isOpen() ||
-				rowData.getName() == null || rowData.getName().trim().isEmpty() ||
-				(rowData.getYApriori() == null && rowData.getXApriori() == null && rowData.getZApriori() == null))
-			return;
-		
+		this.savePointItems(Collections.singletonList(rowData));
+	}
+	
+	/**
+	 * Speichert die Punkte als Batch innerhalb einer Transaktion (vgl. <code>saveItems()</code>)
+	 * 
+	 * @param rows
+	 * @throws SQLException
+	 */
+	public void savePointItems(Collection<PointRow> rows) throws SQLException {
 		String sql = "MERGE INTO \"PointApriori\" USING (VALUES "
 				+ "(CAST(? AS INT), CAST(? AS INT), ?, ?, CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS DOUBLE), CAST(? AS BOOLEAN)) "
 				+ ") AS \"vals\" (\"id\", \"group_id\", \"name\", \"code\", \"y0\", \"x0\", \"z0\", \"sigma_y0\", \"sigma_x0\", \"sigma_z0\", \"enable\") ON \"PointApriori\".\"id\" = \"vals\".\"id\" "
@@ -3090,44 +3497,45 @@ public class SQLManager {
 				+ "\"vals\".\"sigma_z0\", "
 				+ "\"vals\".\"enable\" ";
 
-		int idx = 1;
-		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
-		// Insert new item
-		if (rowData.getId() < 0)
-			stmt.setNull(idx++, Types.INTEGER);
-		// Update existing item
-		else
-			stmt.setInt(idx++, rowData.getId());
-		stmt.setInt(idx++,     rowData.getGroupId());
-
-		stmt.setString(idx++,  rowData.getName());
-		stmt.setString(idx++,  rowData.getCode() == null || rowData.getCode().trim().isEmpty() ? "" : rowData.getCode());
-
-		stmt.setDouble(idx++,  rowData.getYApriori() == null ? 0.0 : rowData.getYApriori());
-		stmt.setDouble(idx++,  rowData.getXApriori() == null ? 0.0 : rowData.getXApriori());
-		stmt.setDouble(idx++,  rowData.getZApriori() == null ? 0.0 : rowData.getZApriori());
+		this.saveItems(sql, rows, rowData -> rowData == null || rowData.getName() == null || rowData.getName().trim().isEmpty() || 
+				(rowData.getYApriori() == null && rowData.getXApriori() == null && rowData.getZApriori() == null), 
+				(stmt, rowData) -> {
+			int idx = 1;
+			// Insert new item
+			if (rowData.getId() < 0)
+				stmt.setNull(idx++, Types.INTEGER);
+			// Update existing item
+			else
+				stmt.setInt(idx++, rowData.getId());
+			stmt.setInt(idx++,     rowData.getGroupId());
 
-		stmt.setDouble(idx++,  rowData.getSigmaYapriori() == null ? 0.0 : rowData.getSigmaYapriori());
-		stmt.setDouble(idx++,  rowData.getSigmaXapriori() == null ? 0.0 : rowData.getSigmaXapriori());
-		stmt.setDouble(idx++,  rowData.getSigmaZapriori() == null ? 0.0 : rowData.getSigmaZapriori());
+			stmt.setString(idx++,  rowData.getName());
+			stmt.setString(idx++,  rowData.getCode() == null || rowData.getCode().trim().isEmpty() ? "" : rowData.getCode());
 
-		stmt.setBoolean(idx++, rowData.isEnable());
+			stmt.setDouble(idx++,  rowData.getYApriori() == null ? 0.0 : rowData.getYApriori());
+			stmt.setDouble(idx++,  rowData.getXApriori() == null ? 0.0 : rowData.getXApriori());
+			stmt.setDouble(idx++,  rowData.getZApriori() == null ? 0.0 : rowData.getZApriori());
 
-		stmt.execute();
+			stmt.setDouble(idx++,  rowData.getSigmaYapriori() == null ? 0.0 : rowData.getSigmaYapriori());
+			stmt.setDouble(idx++,  rowData.getSigmaXapriori() == null ? 0.0 : rowData.getSigmaXapriori());
+			stmt.setDouble(idx++,  rowData.getSigmaZapriori() == null ? 0.0 : rowData.getSigmaZapriori());
 
-		if (rowData.getId() < 0) {
-			int id = this.dataBase.getLastInsertId();
-			rowData.setId(id);
-		}
+			stmt.setBoolean(idx++, rowData.isEnable());
+		});
 	}
 
 	// http://hsqldb.org/doc/2.0/guide/dataaccess-chapt.html#dac_merge_statement
 	public void saveItem(CongruenceAnalysisRow rowData) throws SQLException {
-		if (!this.hasDatabase() || !this.dataBase.isOpen() ||
-				rowData.getNameInControlEpoch() == null || rowData.getNameInReferenceEpoch() == null ||
-				rowData.getNameInControlEpoch().trim().isEmpty() || rowData.getNameInReferenceEpoch().trim().isEmpty())
-			return;
-		
+		this.saveCongruenceAnalysisItems(Collections.singletonList(rowData));
+	}
+	
+	/**
+	 * Speichert die Punktpaare der Kongruenzanalyse als Batch innerhalb einer Transaktion (vgl. <code>saveItems()</code>)
+	 * 
+	 * @param rows
+	 * @throws SQLException
+	 */
+	public void saveCongruenceAnalysisItems(Collection<CongruenceAnalysisRow> rows) throws SQLException {
 		String sql = "MERGE INTO \"CongruenceAnalysisPointPairApriori\" USING (VALUES "
 				+ "(CAST(? AS INT), CAST(? AS INT), ?, ?, CAST(? AS BOOLEAN)) "
 				+ ") AS \"vals\" (\"id\", \"group_id\", \"start_point_name\", \"end_point_name\", \"enable\") ON \"CongruenceAnalysisPointPairApriori\".\"id\" = \"vals\".\"id\" "
@@ -3143,27 +3551,23 @@ public class SQLManager {
 				+ "\"vals\".\"end_point_name\", "
 				+ "\"vals\".\"enable\" ";
 
-		int idx = 1;
-		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
-		// Insert new item
-		if (rowData.getId() < 0)
-			stmt.setNull(idx++, Types.INTEGER);
-		// Update existing item
-		else
-			stmt.setInt(idx++, rowData.getId());
-		stmt.setInt(idx++,     rowData.getGroupId());
-
-		stmt.setString(idx++,  rowData.getNameInReferenceEpoch());
-		stmt.setString(idx++,  rowData.getNameInControlEpoch());
-
-		stmt.setBoolean(idx++, rowData.isEnable());
+		this.saveItems(sql, rows, rowData -> rowData == null || rowData.getNameInControlEpoch() == null || rowData.getNameInReferenceEpoch() == null || 
+				rowData.getNameInControlEpoch().trim().isEmpty() || rowData.getNameInReferenceEpoch().trim().isEmpty(), 
+				(stmt, rowData) -> {
+			int idx = 1;
+			// Insert new item
+			if (rowData.getId() < 0)
+				stmt.setNull(idx++, Types.INTEGER);
+			// Update existing item
+			else
+				stmt.setInt(idx++, rowData.getId());
+			stmt.setInt(idx++,     rowData.getGroupId());
 
-		stmt.execute();
+			stmt.setString(idx++,  rowData.getNameInReferenceEpoch());
+			stmt.setString(idx++,  rowData.getNameInControlEpoch());
 
-		if (rowData.getId() < 0) {
-			int id = this.dataBase.getLastInsertId();
-			rowData.setId(id);
-		}
+			stmt.setBoolean(idx++, rowData.isEnable());
+		});
 	}	
 
 	// http://hsqldb.org/doc/2.0/guide/dataaccess-chapt.html#dac_merge_statement
@@ -3961,48 +4365,74 @@ public class SQLManager {
 	}
 	
 	public List<TerrestrialObservationRow> getCongruentPoints(double snapDistance, boolean include1D, boolean include2D, boolean include3D) throws SQLException {
+		return this.getCongruentPoints(snapDistance, include1D, include2D, include3D, 15);
+	}
+	
+	/**
+	 * Liefert alle Punktpaare gleicher Dimension, deren Abstand (a-posteriori) kleiner als <code>snapDistance</code> ist.
+	 * Die Nachbarschaftssuche erfolgt ueber einen raeumlichen Index, sodass kein Kreuzprodukt der Punkte gebildet wird.
+	 * Ist <code>limit</code> kleiner gleich Null, werden alle Paare zurueckgegeben.
+	 * 
+	 * @param snapDistance
+	 * @param include1D
+	 * @param include2D
+	 * @param include3D
+	 * @param limit
+	 * @return rows
+	 * @throws SQLException
+	 */
+	public List<TerrestrialObservationRow> getCongruentPoints(double snapDistance, boolean include1D, boolean include2D, boolean include3D, int limit) throws SQLException {
 		List<TerrestrialObservationRow> rows = new ArrayList<TerrestrialObservationRow>();
 
 		if (!this.hasDatabase() || !this.dataBase.isOpen())
 			return rows;
 		
-		if (!include1D && !include2D && !include3D)
+		if (!include1D && !include2D && !include3D || !(snapDistance > 0) || Double.isInfinite(snapDistance))
 			return rows;
 
 		String sql = "SELECT "
-				+ "\"point_prio_1\".\"name\" AS \"point_name_1\", \"point_prio_2\".\"name\" AS \"point_name_2\", "
-				+ "SQRT( POWER(\"point_post_1\".\"x\" - \"point_post_2\".\"x\",2) + POWER(\"point_post_1\".\"y\" - \"point_post_2\".\"y\",2) + POWER(\"point_post_1\".\"z\" - \"point_post_2\".\"z\", 2) ) AS \"slope_distance\" "
-				+ "FROM \"PointApriori\" AS \"point_prio_1\", "
-				+ "\"PointApriori\" AS \"point_prio_2\" "
-				+ "JOIN \"PointAposteriori\" AS \"point_post_1\" ON "
-				+ "\"point_prio_1\".\"id\" = \"point_post_1\".\"id\" AND \"point_prio_1\".\"enable\" = TRUE "
-				+ "JOIN \"PointAposteriori\" AS \"point_post_2\" ON "
-				+ "\"point_prio_2\".\"id\" = \"point_post_2\".\"id\" AND \"point_prio_2\".\"enable\" = TRUE "
-				+ "JOIN \"PointGroup\" AS \"group_1\" ON "
-				+ "\"point_prio_1\".\"group_id\" = \"group_1\".\"id\" AND \"group_1\".\"enable\" = TRUE "
-				+ "JOIN \"PointGroup\" AS \"group_2\" ON "
-				+ "\"point_prio_2\".\"group_id\" = \"group_2\".\"id\" AND \"group_2\".\"enable\" = TRUE AND \"group_2\".\"dimension\" = \"group_1\".\"dimension\" AND \"group_1\".\"dimension\" IN (?,?,?)"
-				+ "WHERE \"point_prio_1\".\"id\" < \"point_prio_2\".\"id\" AND "
-				+ "SQRT( POWER(\"point_post_1\".\"x\" - \"point_post_2\".\"x\", 2) + POWER(\"point_post_1\".\"y\" - \"point_post_2\".\"y\", 2) + POWER(\"point_post_1\".\"z\" - \"point_post_2\".\"z\", 2) ) < ? "
-				+ "ORDER BY \"slope_distance\" ASC LIMIT 15";
+				+ "\"PointApriori\".\"id\", \"PointApriori\".\"name\", \"PointGroup\".\"dimension\", "
+				+ "\"PointAposteriori\".\"x\", \"PointAposteriori\".\"y\", \"PointAposteriori\".\"z\" "
+				+ "FROM \"PointApriori\" "
+				+ "JOIN \"PointAposteriori\" ON \"PointApriori\".\"id\" = \"PointAposteriori\".\"id\" "
+				+ "JOIN \"PointGroup\" ON \"PointApriori\".\"group_id\" = \"PointGroup\".\"id\" "
+				+ "WHERE \"PointApriori\".\"enable\" = TRUE AND \"PointGroup\".\"enable\" = TRUE AND \"PointGroup\".\"dimension\" IN (?,?,?)";
 
 		int idx = 1;
 		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
 		stmt.setInt(idx++, include1D ? 1 : -1);
 		stmt.setInt(idx++, include2D ? 2 : -2);
 		stmt.setInt(idx++, include3D ? 3 : -3);
-		stmt.setDouble(idx++, snapDistance);
 		
+		// nur Punkte gleicher Dimension werden miteinander verglichen
+		Map<Integer, CongruentPointIndex> spatialIndices = new HashMap<Integer, CongruentPointIndex>(3);
 		ResultSet rs = stmt.executeQuery();
-
 		while (rs.next()) {
-			String pointNameA = rs.getString("point_name_1");
-			String pointNameB = rs.getString("point_name_2");
-			double distance   = rs.getDouble("slope_distance");
+			int dimension = rs.getInt("dimension");
+			CongruentPointIndex spatialIndex = spatialIndices.get(dimension);
+			if (spatialIndex == null) {
+				spatialIndex = new CongruentPointIndex(snapDistance);
+				spatialIndices.put(dimension, spatialIndex);
+			}
+			spatialIndex.add(rs.getInt("id"), rs.getString("name"), rs.getDouble("x"), rs.getDouble("y"), rs.getDouble("z"));
+		}
+		rs.close();
+
+		List<CongruentPointIndex.CongruentPointPair> pairs = new ArrayList<CongruentPointIndex.CongruentPointPair>();
+		for (CongruentPointIndex spatialIndex : spatialIndices.values())
+			pairs.addAll(spatialIndex.getCongruentPointPairs());
+		
+		if (spatialIndices.size() > 1)
+			pairs.sort(Comparator.comparingDouble(CongruentPointIndex.CongruentPointPair::getDistance));
+		
+		int size = limit > 0 ? Math.min(limit, pairs.size()) : pairs.size();
+		for (int i = 0; i < size; i++) {
+			CongruentPointIndex.CongruentPointPair pair = pairs.get(i);
+			double distance = pair.getDistance();
 
 			TerrestrialObservationRow row = new TerrestrialObservationRow();
-			row.setStartPointName(pointNameA);
-			row.setEndPointName(pointNameB);
+			row.setStartPointName(pair.getNameA());
+			row.setEndPointName(pair.getNameB());
 			row.setDistanceApriori(distance);
 			row.setValueApriori(distance);
 			row.setValueAposteriori(distance);
@@ -4416,6 +4846,7 @@ public class SQLManager {
 				+ "\"number_of_principal_components\", \"apply_variance_of_unit_weight\", "
 				+ "\"estimate_direction_set_orientation_approximation\", "
 				+ "\"congruence_analysis\", \"exclude_underdetermined_points\", \"confidence_level\", "
+				+ "\"normal_equation_solver\", "
 				+ "\"scaling\", \"damping\", \"weight_zero\" "
 				+ "FROM \"AdjustmentDefinition\" "
 				+ "JOIN \"UnscentedTransformation\" "
@@ -4438,6 +4869,10 @@ public class SQLManager {
 				settings.setExcludeUnderdeterminedPoints(rs.getBoolean("exclude_underdetermined_points"));
 				settings.setConfidenceLevel(rs.getDouble("confidence_level"));
 				
+				NormalEquationSolverType solverType = NormalEquationSolverType.getEnumByValue(rs.getInt("normal_equation_solver"));
+				if (solverType != null)
+					settings.setNormalEquationSolverType(solverType);
+				
 				settings.setScalingParameterAlphaUT(rs.getDouble("scaling"));
 				settings.setDampingParameterBetaUT(rs.getDouble("damping"));
 				settings.setWeightZero(rs.getDouble("weight_zero"));
@@ -4450,8 +4885,8 @@ public class SQLManager {
 			return;
 	
 		String sql = "MERGE INTO \"AdjustmentDefinition\" USING (VALUES "
-				+ "(CAST(? AS INT), CAST(? AS INT), CAST(? AS INT), CAST(? AS DOUBLE), CAST(? AS INT), CAST(? AS BOOLEAN), CAST(? AS BOOLEAN), CAST(? AS BOOLEAN), CAST(? AS BOOLEAN), CAST(? AS DOUBLE))"
-				+ ") AS \"vals\" (\"id\", \"type\", \"number_of_iterations\", \"robust_estimation_limit\", \"number_of_principal_components\", \"apply_variance_of_unit_weight\", \"estimate_direction_set_orientation_approximation\", \"congruence_analysis\", \"exclude_underdetermined_points\", \"confidence_level\") ON \"AdjustmentDefinition\".\"id\" = \"vals\".\"id\" AND \"AdjustmentDefinition\".\"id\" = 1 "
+				+ "(CAST(? AS INT), CAST(? AS INT), CAST(? AS INT), CAST(? AS DOUBLE), CAST(? AS INT), CAST(? AS BOOLEAN), CAST(? AS BOOLEAN), CAST(? AS BOOLEAN), CAST(? AS BOOLEAN), CAST(? AS DOUBLE), CAST(? AS SMALLINT))"
+				+ ") AS \"vals\" (\"id\", \"type\", \"number_of_iterations\", \"robust_estimation_limit\", \"number_of_principal_components\", \"apply_variance_of_unit_weight\", \"estimate_direction_set_orientation_approximation\", \"congruence_analysis\", \"exclude_underdetermined_points\", \"confidence_level\", \"normal_equation_solver\") ON \"AdjustmentDefinition\".\"id\" = \"vals\".\"id\" AND \"AdjustmentDefinition\".\"id\" = 1 "
 				+ "WHEN MATCHED THEN UPDATE SET "
 				+ "\"AdjustmentDefinition\".\"type\"                            = \"vals\".\"type\", "
 				+ "\"AdjustmentDefinition\".\"number_of_iterations\"            = \"vals\".\"number_of_iterations\", "
@@ -4461,7 +4896,8 @@ public class SQLManager {
 				+ "\"AdjustmentDefinition\".\"estimate_direction_set_orientation_approximation\" = \"vals\".\"estimate_direction_set_orientation_approximation\", "
 				+ "\"AdjustmentDefinition\".\"congruence_analysis\"             = \"vals\".\"congruence_analysis\", "
 				+ "\"AdjustmentDefinition\".\"exclude_underdetermined_points\"  = \"vals\".\"exclude_underdetermined_points\", "
-				+ "\"AdjustmentDefinition\".\"confidence_level\"                = \"vals\".\"confidence_level\" "
+				+ "\"AdjustmentDefinition\".\"confidence_level\"                = \"vals\".\"confidence_level\", "
+				+ "\"AdjustmentDefinition\".\"normal_equation_solver\"          = \"vals\".\"normal_equation_solver\" "
 				+ "WHEN NOT MATCHED THEN INSERT VALUES "
 				+ "\"vals\".\"id\", "
 				+ "\"vals\".\"type\", "
@@ -4472,7 +4908,8 @@ public class SQLManager {
 				+ "\"vals\".\"estimate_direction_set_orientation_approximation\", "
 				+ "\"vals\".\"congruence_analysis\", "
 				+ "\"vals\".\"exclude_underdetermined_points\", "
-				+ "\"vals\".\"confidence_level\" ";
+				+ "\"vals\".\"confidence_level\", "
+				+ "\"vals\".\"normal_equation_solver\" ";
 		
 		int idx = 1;
 		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
@@ -4488,6 +4925,7 @@ public class SQLManager {
 		stmt.setBoolean(idx++,  settings.isCongruenceAnalysis());
 		stmt.setBoolean(idx++,  settings.isExcludeUnderdeterminedPoints());
 		stmt.setDouble(idx++,   settings.getConfidenceLevel());
+		stmt.setInt(idx++,      settings.getNormalEquationSolverType().getId());
 
 		stmt.execute();
 		
@@ -0,0 +1,183 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.jag3d.sql;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.applied_geodesy.jag3d.ui.table.PagedTableModel;
+import org.applied_geodesy.jag3d.ui.table.column.ColumnContentType;
+import org.applied_geodesy.jag3d.ui.table.column.ContentColumn;
+import org.applied_geodesy.jag3d.ui.table.row.Row;
+import org.applied_geodesy.ui.table.AbsoluteValueComparator;
+import org.applied_geodesy.util.sql.DataBase;
+
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableColumn.SortType;
+
+/**
+ * Laedt die Zeilen einer Tabelle seitenweise aus der Datenbank. Die Reihenfolge der Zeilen wird
+ * ueber <code>ORDER BY</code> bestimmt; lediglich Spalten mit natuerlicher Sortierung (bspw. Punktnummern)
+ * werden nach dem Laden der Sortierschluessel mit dem Comparator der Spalte sortiert.
+ */
+abstract class SQLRowPageLoader<T extends Row> implements PagedTableModel.PageLoader<T> {
+	// Anzahl der IDs je Abfrage wird auf ein Vielfaches aufgerundet, um die Anzahl der vorbereiteten Statements zu begrenzen
+	private final static int ID_BLOCK_SIZE = 16;
+
+	private final DataBase dataBase;
+	private final String selectColumns, fromClause, whereClause, idColumn, defaultOrder;
+	private final int parameters[];
+
+	SQLRowPageLoader(DataBase dataBase, String selectColumns, String fromClause, String whereClause, int parameters[], String idColumn, String defaultOrder) {
+		this.dataBase      = dataBase;
+		this.selectColumns = selectColumns;
+		this.fromClause    = fromClause;
+		this.whereClause   = whereClause;
+		this.parameters    = parameters;
+		this.idColumn      = idColumn;
+		this.defaultOrder  = defaultOrder;
+	}
+
+	/**
+	 * Liefert den SQL-Ausdruck der Spalte oder null, wenn nach der Spalte nicht sortiert werden kann
+	 * @param columnContentType
+	 * @return column
+	 */
+	abstract String getSortColumn(ColumnContentType columnContentType);
+
+	/**
+	 * Erzeugt eine Zeile aus dem aktuellen Datensatz
+	 * @param rs
+	 * @return row
+	 * @throws SQLException
+	 */
+	abstract T getRow(ResultSet rs) throws SQLException;
+
+	@Override
+	public List<Integer> loadRowIds(List<TableColumn<T, ?>> sortOrder) throws SQLException {
+		List<String> sortColumns = new ArrayList<String>();
+		List<TableColumn<T, ?>> sortedColumns = new ArrayList<TableColumn<T, ?>>();
+		boolean sortInMemory = false;
+
+		if (sortOrder != null) {
+			for (TableColumn<T, ?> column : sortOrder) {
+				if (!(column instanceof ContentColumn))
+					continue;
+
+				String sortColumn = this.getSortColumn(((ContentColumn<T, ?>)column).getColumnProperty().getColumnContentType());
+				if (sortColumn == null)
+					continue;
+
+				Comparator<?> comparator = column.getComparator();
+				if (comparator instanceof AbsoluteValueComparator)
+					sortColumn = "ABS(" + sortColumn + ")";
+				else if (comparator != TableColumn.DEFAULT_COMPARATOR)
+					sortInMemory = true;
+
+				sortColumns.add(sortColumn);
+				sortedColumns.add(column);
+			}
+		}
+
+		StringBuilder selectColumns = new StringBuilder(this.idColumn);
+		// die Comparatoren der Tabelle ordnen null-Werte vor allen anderen Werten ein
+		StringBuilder orderBy = new StringBuilder();
+		for (int i = 0; i < sortColumns.size(); i++) {
+			if (sortInMemory)
+				selectColumns.append(", ").append(sortColumns.get(i));
+			else
+				orderBy.append(sortColumns.get(i)).append(sortedColumns.get(i).getSortType() == SortType.DESCENDING ? " DESC NULLS LAST, " : " ASC NULLS FIRST, ");
+		}
+		orderBy.append(this.defaultOrder);
+
+		String sql = "SELECT " + selectColumns + " " + this.fromClause + " WHERE " + this.whereClause + " ORDER BY " + orderBy;
+		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
+		for (int i = 0; i < this.parameters.length; i++)
+			stmt.setInt(i + 1, this.parameters[i]);
+
+		ResultSet rs = stmt.executeQuery();
+		if (!sortInMemory) {
+			List<Integer> rowIds = new ArrayList<Integer>();
+			while (rs.next())
+				rowIds.add(rs.getInt(1));
+			return rowIds;
+		}
+
+		// Die Datenbank liefert die Standardreihenfolge; da List.sort() stabil ist, bleibt diese bei gleichen Werten erhalten
+		List<Object[]> sortKeys = new ArrayList<Object[]>();
+		while (rs.next()) {
+			Object sortKey[] = new Object[sortColumns.size() + 1];
+			sortKey[0] = rs.getInt(1);
+			for (int i = 0; i < sortColumns.size(); i++)
+				sortKey[i + 1] = rs.getObject(i + 2);
+			sortKeys.add(sortKey);
+		}
+
+		sortKeys.sort(new Comparator<Object[]>() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public int compare(Object[] sortKey1, Object[] sortKey2) {
+				for (int i = 0; i < sortedColumns.size(); i++) {
+					TableColumn<T, ?> column = sortedColumns.get(i);
+					Comparator<Object> comparator = (Comparator<Object>)column.getComparator();
+					int comparison = comparator.compare(sortKey1[i + 1], sortKey2[i + 1]);
+					if (comparison != 0)
+						return column.getSortType() == SortType.DESCENDING ? -comparison : comparison;
+				}
+				return 0;
+			}
+		});
+
+		List<Integer> rowIds = new ArrayList<Integer>(sortKeys.size());
+		for (Object sortKey[] : sortKeys)
+			rowIds.add((Integer)sortKey[0]);
+		return rowIds;
+	}
+
+	@Override
+	public List<T> loadRows(List<Integer> rowIds) throws SQLException {
+		List<T> rows = new ArrayList<T>(rowIds.size());
+		if (rowIds.isEmpty())
+			return rows;
+
+		int numberOfIds = ((rowIds.size() + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE) * ID_BLOCK_SIZE;
+		StringBuilder inArrayValues = new StringBuilder("?");
+		for (int i = 1; i < numberOfIds; i++)
+			inArrayValues.append(",?");
+
+		String sql = "SELECT " + this.selectColumns + " " + this.fromClause + " WHERE " + this.idColumn + " IN (" + inArrayValues + ")";
+		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
+		// nicht benoetigte Parameter werden mit einer bereits enthaltenen ID belegt
+		for (int i = 0; i < numberOfIds; i++)
+			stmt.setInt(i + 1, rowIds.get(Math.min(i, rowIds.size() - 1)));
+
+		ResultSet rs = stmt.executeQuery();
+		while (rs.next())
+			rows.add(this.getRow(rs));
+
+		return rows;
+	}
+}
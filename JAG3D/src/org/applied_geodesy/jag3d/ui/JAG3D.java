@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.applied_geodesy.adjustment.LinearAlgebraBackend;
 import org.applied_geodesy.jag3d.DefaultApplicationProperty;
 import org.applied_geodesy.jag3d.sql.ProjectDatabaseStateChangeListener;
 import org.applied_geodesy.jag3d.sql.ProjectDatabaseStateEvent;
@@ -380,6 +381,8 @@ public class JAG3D extends Application {
 				logger.setUseParentHandlers(false);
 				logger.setLevel(Level.OFF);
 			}
+			
+			LinearAlgebraBackend.initialize();
 		}
 		catch (Exception e) {
 			e.printStackTrace();
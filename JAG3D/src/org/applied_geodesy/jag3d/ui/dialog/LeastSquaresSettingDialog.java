@@ -30,6 +30,7 @@ import java.util.Optional;
 
 import org.applied_geodesy.adjustment.DefaultValue;
 import org.applied_geodesy.adjustment.EstimationType;
+import org.applied_geodesy.adjustment.NormalEquationSolverType;
 import org.applied_geodesy.adjustment.UnscentedTransformationParameter;
 import org.applied_geodesy.jag3d.sql.SQLManager;
 import org.applied_geodesy.ui.dialog.OptionDialog;
@@ -85,6 +86,7 @@ public class LeastSquaresSettingDialog implements FormatterChangedListener {
 		private BooleanProperty applyVarianceOfUnitWeight      = new SimpleBooleanProperty(DefaultValue.applyVarianceOfUnitWeight());
 		private BooleanProperty excludeUnderdeterminedPoints   = new SimpleBooleanProperty(DefaultValue.excludeUnderdeterminedPoints());
 		private ObjectProperty<EstimationType> estimationType  = new SimpleObjectProperty<EstimationType>(DefaultValue.getEstimationType());
+		private ObjectProperty<NormalEquationSolverType> normalEquationSolverType = new SimpleObjectProperty<NormalEquationSolverType>(DefaultValue.getNormalEquationSolverType());
 		private ObjectProperty<Double> scalingParameterAlphaUT = new SimpleObjectProperty<Double>(UnscentedTransformationParameter.getAlpha());
 		private ObjectProperty<Double> dampingParameterBetaUT  = new SimpleObjectProperty<Double>(UnscentedTransformationParameter.getBeta());
 		private ObjectProperty<Double> weightZero = new SimpleObjectProperty<Double>(UnscentedTransformationParameter.getWeightZero());
@@ -195,6 +197,18 @@ public class LeastSquaresSettingDialog implements FormatterChangedListener {
 			this.estimationTypeProperty().set(estimationType);
 		}
 		
+		public ObjectProperty<NormalEquationSolverType> normalEquationSolverTypeProperty() {
+			return this.normalEquationSolverType;
+		}
+		
+		public NormalEquationSolverType getNormalEquationSolverType() {
+			return this.normalEquationSolverTypeProperty().get();
+		}
+		
+		public void setNormalEquationSolverType(final NormalEquationSolverType normalEquationSolverType) {
+			this.normalEquationSolverTypeProperty().set(normalEquationSolverType);
+		}
+		
 		public ObjectProperty<Double> scalingParameterAlphaUTProperty() {
 			return this.scalingParameterAlphaUT;
 		}
@@ -247,6 +261,7 @@ public class LeastSquaresSettingDialog implements FormatterChangedListener {
 	private Dialog<LeastSquaresSettings> dialog = null;
 	private Window window;
 	private ComboBox<EstimationType> estimationTypeComboBox;
+	private ComboBox<NormalEquationSolverType> normalEquationSolverTypeComboBox;
 	private LeastSquaresSettings settings = new LeastSquaresSettings();
 	private Spinner<Integer> iterationSpinner;
 	private Spinner<Integer> principalComponentSpinner;
@@ -432,6 +447,11 @@ public class LeastSquaresSettingDialog implements FormatterChangedListener {
 		this.confidenceLevelLabel.setLabelFor(this.confidenceLevelSpinner);
 		this.confidenceLevelLabel.setMinSize(Control.USE_PREF_SIZE, Control.USE_PREF_SIZE);
 		
+		Label normalEquationSolverLabel = new Label(i18n.getString("LeastSquaresSettingDialog.solver.label", "Normal equation solver:"));
+		this.normalEquationSolverTypeComboBox = this.createNormalEquationSolverTypeComboBox(DefaultValue.getNormalEquationSolverType(), i18n.getString("LeastSquaresSettingDialog.solver.tooltip", "Set the method to solve the normal equation system"));
+		normalEquationSolverLabel.setLabelFor(this.normalEquationSolverTypeComboBox);
+		normalEquationSolverLabel.setMinSize(Control.USE_PREF_SIZE, Control.USE_PREF_SIZE);
+		
 		this.orientationApproximationCheckBox = this.createCheckBox(
 			i18n.getString("LeastSquaresSettingDialog.orientation.label", "Orientation approximation"),
 			i18n.getString("LeastSquaresSettingDialog.orientation.tooltip", "If checked, orientation approximations of direction sets will be estimated before network adjustment starts")
@@ -459,6 +479,7 @@ public class LeastSquaresSettingDialog implements FormatterChangedListener {
 		this.iterationSpinner.getValueFactory().valueProperty().bindBidirectional(this.settings.iterationProperty());
 		this.principalComponentSpinner.getValueFactory().valueProperty().bindBidirectional(this.settings.principalComponentsProperty());
 		this.robustSpinner.getValueFactory().valueProperty().bindBidirectional(this.settings.robustEstimationLimitProperty());
+		this.normalEquationSolverTypeComboBox.valueProperty().bindBidirectional(this.settings.normalEquationSolverTypeProperty());
 //		this.confidenceLevelSpinner.getValueFactory().valueProperty().bindBidirectional(this.settings.confidenceLevelProperty());
 
 		GridPane gridPane = new GridPane();
@@ -474,6 +495,7 @@ public class LeastSquaresSettingDialog implements FormatterChangedListener {
 		GridPane.setHgrow(principalComponentLabel, Priority.NEVER);
 		GridPane.setHgrow(robustLabel, Priority.NEVER);
 		GridPane.setHgrow(this.confidenceLevelLabel, Priority.NEVER);
+		GridPane.setHgrow(normalEquationSolverLabel, Priority.NEVER);
 		
 		GridPane.setHgrow(this.orientationApproximationCheckBox, Priority.ALWAYS);
 		GridPane.setHgrow(this.applyVarianceOfUnitWeightCheckBox, Priority.ALWAYS);
@@ -484,6 +506,7 @@ public class LeastSquaresSettingDialog implements FormatterChangedListener {
 		GridPane.setHgrow(this.confidenceLevelSpinner, Priority.ALWAYS);
 		GridPane.setHgrow(this.principalComponentSpinner, Priority.ALWAYS);
 		GridPane.setHgrow(this.iterationSpinner, Priority.ALWAYS);
+		GridPane.setHgrow(this.normalEquationSolverTypeComboBox, Priority.ALWAYS);
 		
 		// https://stackoverflow.com/questions/50479384/gridpane-with-gaps-inside-scrollpane-rendering-wrong
 		Insets insetsCenter = new Insets(5, 2, 5, 2);
@@ -509,6 +532,9 @@ public class LeastSquaresSettingDialog implements FormatterChangedListener {
 		GridPane.setMargin(principalComponentLabel, insetsLeft);
 		GridPane.setMargin(this.principalComponentSpinner, insetsRight);
 		
+		GridPane.setMargin(normalEquationSolverLabel, insetsLeft);
+		GridPane.setMargin(this.normalEquationSolverTypeComboBox, insetsRight);
+		
 		int row = 0;
 		gridPane.add(this.applyVarianceOfUnitWeightCheckBox,    0, ++row, 2, 1);
 		gridPane.add(this.orientationApproximationCheckBox,     0, ++row, 2, 1);
@@ -526,6 +552,9 @@ public class LeastSquaresSettingDialog implements FormatterChangedListener {
 		gridPane.add(principalComponentLabel,         0, ++row);
 		gridPane.add(this.principalComponentSpinner,  1,   row);
 		
+		gridPane.add(normalEquationSolverLabel,             0, ++row);
+		gridPane.add(this.normalEquationSolverTypeComboBox, 1,   row);
+		
 		gridPane.add(this.congruenceAnalysisCheckBox, 0, ++row, 2, 1);
 
 		return gridPane;
@@ -577,6 +606,37 @@ public class LeastSquaresSettingDialog implements FormatterChangedListener {
 		return typeComboBox;
 	}
 	
+	private ComboBox<NormalEquationSolverType> createNormalEquationSolverTypeComboBox(NormalEquationSolverType item, String tooltip) {
+		ComboBox<NormalEquationSolverType> typeComboBox = new ComboBox<NormalEquationSolverType>();
+		typeComboBox.getItems().setAll(NormalEquationSolverType.values());
+		typeComboBox.getSelectionModel().select(item);
+		typeComboBox.setConverter(new StringConverter<NormalEquationSolverType>() {
+
+			@Override
+			public String toString(NormalEquationSolverType type) {
+				if (type == null)
+					return null;
+				switch(type) {
+				case DENSE:
+					return i18n.getString("LeastSquaresSettingDialog.solver.dense.label", "Dense (LAPACK)");
+				case SPARSE:
+					return i18n.getString("LeastSquaresSettingDialog.solver.sparse.label", "Sparse (LDL\u1D40)");
+				}
+				return null;
+			}
+
+			@Override
+			public NormalEquationSolverType fromString(String string) {
+				return NormalEquationSolverType.valueOf(string);
+			}
+		});
+		typeComboBox.setTooltip(new Tooltip(tooltip));
+		typeComboBox.setMinWidth(75);
+		typeComboBox.setPrefWidth(100);
+		typeComboBox.setMaxWidth(Double.MAX_VALUE);
+		return typeComboBox;
+	}
+	
 	private CheckBox createCheckBox(String title, String tooltip) {
 		Label label = new Label(title);
 		label.setMinSize(Control.USE_PREF_SIZE, Control.USE_PREF_SIZE);
@@ -33,6 +33,7 @@ import org.applied_geodesy.adjustment.network.sql.SQLAdjustmentManager;
 import org.applied_geodesy.jag3d.sql.PointTypeMismatchException;
 import org.applied_geodesy.jag3d.sql.SQLManager;
 import org.applied_geodesy.jag3d.sql.UnderDeterminedPointException;
+import org.applied_geodesy.jag3d.ui.graphic.UIGraphicPaneBuilder;
 import org.applied_geodesy.jag3d.ui.tree.UITreeBuilder;
 import org.applied_geodesy.ui.dialog.OptionDialog;
 import org.applied_geodesy.jag3d.ui.i18n.I18N;
@@ -88,7 +89,9 @@ public class NetworkAdjustmentDialog {
 
 				SQLManager.getInstance().checkNumberOfObersvationsPerUnknownParameter();
 
+				this.dataBaseManager.addPropertyChangeListener(this);
 				this.adjustment = this.dataBaseManager.getNetworkAdjustment();
+				this.dataBaseManager.removePropertyChangeListener(this);
 				this.updateProgressOnIterate = !(this.adjustment.getEstimationType() == EstimationType.SPHERICAL_SIMPLEX_UNSCENTED_TRANSFORMATION || this.adjustment.getEstimationType() == EstimationType.MODIFIED_UNSCENTED_TRANSFORMATION);
 				this.finalStepProcesses = 0.25 / (this.adjustment.hasAdjustmentResultWriter() ? 5.0 : 4.0);
 				this.adjustment.addPropertyChangeListener(this);
@@ -109,10 +112,11 @@ public class NetworkAdjustmentDialog {
 				this.updateIterationProgressMessage(i18n.getString("NetworkAdjustmentDialog.pleasewait.label", "Please wait\u2026"));
 				this.updateConvergenceProgressMessage(null);
 				this.dataBaseManager.saveResults();
-				this.dataBaseManager.clear();
 				return returnType;
 			}
 			finally {
+				this.dataBaseManager.removePropertyChangeListener(this);
+				this.dataBaseManager.clear();
 				this.destroyNetworkAdjustment();
 				this.updateIterationProgressMessage(null);
 				this.updateConvergenceProgressMessage(null);
@@ -222,6 +226,12 @@ public class NetworkAdjustmentDialog {
 			Object newValue = evt.getNewValue();
 
 			switch(state) {
+			case LOAD_NETWORK_MODEL:
+				// Beginn des Ladens; nach Abschluss enthaelt newValue die Ladezeit in ms
+				if (newValue instanceof Boolean)
+					this.updateMessage(i18n.getString("NetworkAdjustmentDialog.load_network_model.label", "Load network model\u2026"));
+				break;
+				
 			case BUSY:
 				this.updateMessage(i18n.getString("NetworkAdjustmentDialog.busy.label", "Network adjustment in process\u2026"));
 				this.updateIterationProgressMessage(null);
@@ -439,6 +449,8 @@ public class NetworkAdjustmentDialog {
 
 	private void process() {
 		this.reset();
+		// the results are rewritten, a plot that is still loading would show outdated data
+		UIGraphicPaneBuilder.getInstance().getLayerManager().cancelLoading();
 
 		this.adjustmentTask = new AdjustmentTask(SQLManager.getInstance().getAdjustmentManager());
 		this.adjustmentTask.setOnSucceeded(new EventHandler<WorkerStateEvent>() {
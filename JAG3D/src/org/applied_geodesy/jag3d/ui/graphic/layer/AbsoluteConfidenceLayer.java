@@ -96,7 +96,7 @@ public class AbsoluteConfidenceLayer extends ConfidenceLayer<PointLayer> {
 		for (PointLayer layer : referenceLayers) {
 			if (layer.isVisible()) {
 				// draw points
-				for (GraphicPoint point : layer.getPoints()) {
+				for (GraphicPoint point : layer.getPoints(graphicExtent)) {
 					if (!point.isVisible())
 						continue;
 					
@@ -26,6 +26,8 @@ import java.io.File;
 import java.text.NumberFormat;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.imageio.ImageIO;
 
@@ -48,6 +50,8 @@ import javafx.beans.binding.Bindings;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
+import javafx.concurrent.WorkerStateEvent;
 import javafx.embed.swing.SwingFXUtils;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
@@ -84,6 +88,9 @@ public class LayerManager {
 	private class DatabaseStateChangeListener implements ProjectDatabaseStateChangeListener {
 		@Override
 		public void projectDatabaseStateChanged(ProjectDatabaseStateEvent evt) {
+			if (evt.getEventType() == ProjectDatabaseStateType.CLOSING)
+				cancelLoading();
+
 			if (layerToolbar != null) {
 				boolean disable = evt.getEventType() != ProjectDatabaseStateType.OPENED;
 				layerToolbar.setDisable(disable);
@@ -97,6 +104,33 @@ public class LayerManager {
 		}
 	}
 
+	private class LayerLoadingTask extends Task<Void> implements SQLGraphicManager.LayerDataPublisher {
+		private final SQLGraphicManager sqlGraphicManager;
+
+		private LayerLoadingTask(SQLGraphicManager sqlGraphicManager) {
+			this.sqlGraphicManager = sqlGraphicManager;
+		}
+
+		@Override
+		protected Void call() throws Exception {
+			this.sqlGraphicManager.loadLayerData(LayerManager.this, this);
+			return null;
+		}
+
+		@Override
+		public void publish(Runnable layerUpdate) {
+			Platform.runLater(new Runnable() {
+				@Override public void run() {
+					// data of a cancelled task are discarded
+					if (isCancelled())
+						return;
+					layerUpdate.run();
+					draw();
+				}
+			});
+		}
+	}
+
 	private class ToolbarActionEventHandler implements EventHandler<ActionEvent> {
 		@Override
 		public void handle(ActionEvent event) {
@@ -177,6 +211,13 @@ public class LayerManager {
 //	private ObjectProperty<Color> color = new SimpleObjectProperty<Color>(Color.rgb(255, 255, 255, 1.0)); //0-255
 	private VisiblePropertyChangeListener visibleChangeListener = new VisiblePropertyChangeListener();
 	private boolean ignoreChangeEvent = false;
+	// layer data are loaded one after another in a single background thread, because the loading tasks share the prepared statements
+	private final ExecutorService layerLoadingExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, LayerLoadingTask.class.getSimpleName());
+		thread.setDaemon(true);
+		return thread;
+	});
+	private LayerLoadingTask layerLoadingTask = null;
 	public static double DEFAULT_ELLIPSE_SCALE = 5000.0;
 	
 	private Spinner<Double> scaleSpinner;
@@ -373,6 +414,16 @@ public class LayerManager {
 		this.resizableGraphicCanvas.draw();
 		this.mouseNavigationCanvas.draw();
 	}
+
+	void repaint() {
+		this.resizableGraphicCanvas.repaint();
+		this.mouseNavigationCanvas.draw();
+	}
+
+	void drawTiles() {
+		this.resizableGraphicCanvas.drawTiles();
+		this.mouseNavigationCanvas.draw();
+	}
 	
 	public void reorderLayer(List<Layer> layers) {
 		this.layers.clear();
@@ -563,29 +614,66 @@ public class LayerManager {
 		if (sqlGraphicManager == null) 
 			return;
 
+		this.cancelLoading();
+
+		boolean hasGraphicExtent = false;
 		try {
 			this.ignoreChangeEvent = true;
-			sqlGraphicManager.load(this);
+			sqlGraphicManager.initLayer(this);
 			sqlGraphicManager.loadEllipseScale(this);
-			if (!sqlGraphicManager.load(this.getCurrentGraphicExtent()))
-				this.expand();
+			hasGraphicExtent = sqlGraphicManager.load(this.getCurrentGraphicExtent());
 		} catch (Exception e) {
-			e.printStackTrace();
-			Platform.runLater(new Runnable() {
-				@Override public void run() {
-					OptionDialog.showThrowableDialog (
-							i18n.getString("LayerManager.message.error.load.exception.title", "Unexpected SQL-Error"),
-							i18n.getString("LayerManager.message.error.load.exception.header", "Error, could not create plot from database."),
-							i18n.getString("LayerManager.message.error.load.exception.message", "An exception has occurred during database transaction."),
-							e
-							);
-				}
-			});
+			this.showLoadingError(e);
+			return;
 		} finally {
 			this.ignoreChangeEvent = false;
-			//this.expand();
 			this.draw();
 		}
+
+		// layer data are loaded in the background and drawn as soon as a layer is complete
+		final boolean expand = !hasGraphicExtent;
+		LayerLoadingTask layerLoadingTask = new LayerLoadingTask(sqlGraphicManager);
+		layerLoadingTask.setOnSucceeded(new EventHandler<WorkerStateEvent>() {
+			@Override
+			public void handle(WorkerStateEvent event) {
+				if (expand)
+					expand();
+			}
+		});
+		layerLoadingTask.setOnFailed(new EventHandler<WorkerStateEvent>() {
+			@Override
+			public void handle(WorkerStateEvent event) {
+				Throwable throwable = layerLoadingTask.getException();
+				if (throwable != null)
+					showLoadingError(throwable);
+			}
+		});
+
+		this.layerLoadingTask = layerLoadingTask;
+		this.layerLoadingExecutor.execute(layerLoadingTask);
+	}
+
+	// stops loading layer data, e.g. if the project is closed or the adjustment is restarted; layers already published keep their data
+	public void cancelLoading() {
+		if (this.layerLoadingTask != null) {
+			// the loading thread is not interrupted to avoid closing the file channels of the database
+			this.layerLoadingTask.cancel(false);
+			this.layerLoadingTask = null;
+		}
+	}
+
+	private void showLoadingError(Throwable throwable) {
+		throwable.printStackTrace();
+		Platform.runLater(new Runnable() {
+			@Override public void run() {
+				OptionDialog.showThrowableDialog (
+						i18n.getString("LayerManager.message.error.load.exception.title", "Unexpected SQL-Error"),
+						i18n.getString("LayerManager.message.error.load.exception.header", "Error, could not create plot from database."),
+						i18n.getString("LayerManager.message.error.load.exception.message", "An exception has occurred during database transaction."),
+						throwable
+						);
+			}
+		});
 	}
 	
 	public void featureZoom() {
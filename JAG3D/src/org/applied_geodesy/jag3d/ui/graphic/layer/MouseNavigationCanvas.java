@@ -105,6 +105,7 @@ class MouseNavigationCanvas extends ResizableCanvas implements FormatterChangedL
 
 	private class RubberbandingAndPanEventHandler implements EventHandler<MouseEvent> {
 		private double xStart = -1, yStart = -1, xEnd = 0, yEnd = 0;
+		private boolean panned = false;
 		@Override
 		public void handle(MouseEvent event) {
 			MouseButton mouseButton = event.getButton();
@@ -158,7 +159,9 @@ class MouseNavigationCanvas extends ResizableCanvas implements FormatterChangedL
 						maxY - (endY-startY)
 						);
 
-				layerManager.draw();
+				// while panning, the plot is composed of cached tiles
+				layerManager.drawTiles();
+				this.panned = true;
 				
 				this.xStart = event.getX();
 				this.yStart = event.getY();	
@@ -169,6 +172,14 @@ class MouseNavigationCanvas extends ResizableCanvas implements FormatterChangedL
 				this.yStart = event.getY();
 			}
 
+			else if (event.getEventType() == MouseEvent.MOUSE_RELEASED && this.panned) {
+				layerManager.repaint();
+
+				this.panned = false;
+				this.xStart = -1;
+				this.yStart = -1;
+			}
+
 			else if (mouseButton == MouseButton.PRIMARY && event.getEventType() == MouseEvent.MOUSE_RELEASED && this.xStart >= 0 && this.yStart >= 0) {
 				if (toolbarType == ToolbarType.WINDOW_ZOOM && this.xStart != this.xEnd && this.yStart != this.yEnd) {
 					WorldCoordinate startWorldCoord = GraphicExtent.toWorldCoordinate(new PixelCoordinate(this.xStart, this.yStart), getCurrentGraphicExtent());
@@ -22,6 +22,7 @@
 package org.applied_geodesy.jag3d.ui.graphic.layer;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +34,7 @@ import org.applied_geodesy.jag3d.ui.graphic.layer.symbol.SymbolBuilder;
 import org.applied_geodesy.jag3d.ui.graphic.sql.GraphicPoint;
 import org.applied_geodesy.jag3d.ui.graphic.sql.ObservableMeasurement;
 import org.applied_geodesy.jag3d.ui.graphic.util.GraphicExtent;
+import org.applied_geodesy.jag3d.ui.graphic.util.QuadTree;
 import org.applied_geodesy.jag3d.ui.table.rowhighlight.TableRowHighlight;
 import org.applied_geodesy.jag3d.ui.table.rowhighlight.TableRowHighlightType;
 
@@ -46,9 +48,13 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.StrokeLineCap;
 
 public class ObservationLayer extends Layer implements HighlightableLayer {
+	// Rasterweite in Pixel, innerhalb derer Verbindungen als deckungsgleich gelten
+	private final static double LINK_CELL_SIZE = 2.0;
+
 	// size of point symbol of point layers 
 	private DoubleProperty pointSymbolSize = new SimpleDoubleProperty(SymbolBuilder.DEFAULT_SIZE);
 	private List<ObservableMeasurement> observableMeasurements = FXCollections.observableArrayList();
+	private QuadTree spatialIndex = null;
 	private Map<ObservationType, ObservationSymbolProperties> symbolPropertiesMap = new HashMap<ObservationType, ObservationSymbolProperties>(ObservationType.values().length);
 
 	private ObjectProperty<Color> highlightColor = new SimpleObjectProperty<Color>(Color.ORANGERED); //#FF4500
@@ -256,7 +262,10 @@ public class ObservationLayer extends Layer implements HighlightableLayer {
 		double width  = graphicExtent.getDrawingBoardWidth();
 		double height = graphicExtent.getDrawingBoardHeight();
 
-		for (ObservableMeasurement observableLink : this.observableMeasurements) {
+		// Verbindungen, deren Endpunkte (bspw. in der Uebersicht) auf dieselben Rasterzellen fallen, werden nur einmal gezeichnet
+		Set<ScreenLink> drawnLinks = new HashSet<ScreenLink>();
+
+		for (ObservableMeasurement observableLink : this.getObservableMeasurements(graphicExtent)) {
 			GraphicPoint startPoint = observableLink.getStartPoint();
 			GraphicPoint endPoint   = observableLink.getEndPoint();
 
@@ -290,42 +299,37 @@ public class ObservationLayer extends Layer implements HighlightableLayer {
 			double leftBoundary  = tableRowHighlight.getLeftBoundary(this.getHighlightType());
 			double rightBoundary = tableRowHighlight.getRightBoundary(this.getHighlightType());
 
+			boolean highlighted = false;
 			switch(this.getHighlightType()) {
 			case INFLUENCE_ON_POSITION:
-				if (observableLink.getInfluenceOnPosition() > rightBoundary) {
-					color     = this.getHighlightColor();
-					lineWidth = this.getHighlightLineWidth();
-				}
+				highlighted = observableLink.getInfluenceOnPosition() > rightBoundary;
 				break;
 			case P_PRIO_VALUE:
-				if (observableLink.getPprio() < Math.log(leftBoundary / 100.0)) {
-					color     = this.getHighlightColor();
-					lineWidth = this.getHighlightLineWidth();
-				}
+				highlighted = observableLink.getPprio() < Math.log(leftBoundary / 100.0);
 				break;
 			case REDUNDANCY:
-				if (observableLink.getRedundancy() < leftBoundary) {
-					color     = this.getHighlightColor();
-					lineWidth = this.getHighlightLineWidth();
-				}
+				highlighted = observableLink.getRedundancy() < leftBoundary;
 				break;
 			case TEST_STATISTIC:
-				if (observableLink.isSignificant()) {
-					color     = this.getHighlightColor();
-					lineWidth = this.getHighlightLineWidth();
-				}
+				highlighted = observableLink.isSignificant();
 				break;
 			case GROSS_ERROR:
-				if (observableLink.isGrossErrorExceeded()) {
-					color     = this.getHighlightColor();
-					lineWidth = this.getHighlightLineWidth();
-				}
+				highlighted = observableLink.isGrossErrorExceeded();
 				break;
 			case NONE: // DEFAULT
-				color     = this.getColor();
-				lineWidth = this.getLineWidth();
+				highlighted = false;
 				break;
 			}
+
+			if (highlighted) {
+				color     = this.getHighlightColor();
+				lineWidth = this.getHighlightLineWidth();
+			}
+
+			// hervorgehobene Verbindungen werden stets gezeichnet
+			if (!highlighted && this.contains(graphicExtent, pixelCoordinateStartPoint) && this.contains(graphicExtent, pixelCoordinateEndPoint) &&
+					!drawnLinks.add(new ScreenLink(xs, ys, xe, ye, observableLink.getStartPointObservationType(), observableLink.getEndPointObservationType())))
+				continue;
 			
 			graphicsContext.setStroke(color);
 			graphicsContext.setLineWidth(lineWidth);
@@ -397,6 +401,7 @@ public class ObservationLayer extends Layer implements HighlightableLayer {
 		graphicExtent.reset();
 		this.observableMeasurements.clear();
 		this.projectObservationTypes.clear();
+		this.spatialIndex = null;
 		if (observableMeasurements != null) {
 			for (ObservableMeasurement observableMeasurement : observableMeasurements) {
 				GraphicPoint startPoint = observableMeasurement.getStartPoint();
@@ -413,6 +418,29 @@ public class ObservationLayer extends Layer implements HighlightableLayer {
 		}
 	}
 
+	/**
+	 * Liefert die Messungen, deren Start- oder Endpunkt im sichtbaren Bereich der Zeichenflaeche liegt
+	 * @param graphicExtent
+	 * @return observableMeasurements
+	 */
+	private List<ObservableMeasurement> getObservableMeasurements(GraphicExtent graphicExtent) {
+		if (this.spatialIndex == null) {
+			GraphicExtent maximumGraphicExtent = new GraphicExtent();
+			for (ObservableMeasurement observableMeasurement : this.observableMeasurements) {
+				maximumGraphicExtent.merge(observableMeasurement.getStartPoint().getCoordinate());
+				maximumGraphicExtent.merge(observableMeasurement.getEndPoint().getCoordinate());
+			}
+
+			this.spatialIndex = new QuadTree(maximumGraphicExtent);
+			for (int i = 0; i < this.observableMeasurements.size(); i++) {
+				ObservableMeasurement observableMeasurement = this.observableMeasurements.get(i);
+				this.spatialIndex.insert(i, observableMeasurement.getStartPoint().getCoordinate());
+				this.spatialIndex.insert(i, observableMeasurement.getEndPoint().getCoordinate());
+			}
+		}
+		return this.spatialIndex.query(graphicExtent, this.observableMeasurements);
+	}
+
 	public final DoubleProperty pointSymbolSizeProperty() {
 		return this.pointSymbolSize;
 	}
@@ -445,6 +473,7 @@ public class ObservationLayer extends Layer implements HighlightableLayer {
 	public void clearLayer() {
 		this.observableMeasurements.clear();
 		this.projectObservationTypes.clear();
+		this.spatialIndex = null;
 	}
 
 	@Override
@@ -563,4 +592,49 @@ public class ObservationLayer extends Layer implements HighlightableLayer {
 	public boolean hasContent() {
 		return super.hasContent() && this.observableMeasurements != null && !this.observableMeasurements.isEmpty();
 	}
+
+	/**
+	 * Verbindung in Rasterzellen der Zeichenflaeche; die Richtung der Verbindung ist unerheblich
+	 */
+	private static class ScreenLink {
+		private final long startCell, endCell;
+		private final Set<ObservationType> startPointObservationTypes, endPointObservationTypes;
+
+		private ScreenLink(double xs, double ys, double xe, double ye, Set<ObservationType> startPointObservationTypes, Set<ObservationType> endPointObservationTypes) {
+			long startCell = getCell(xs, ys);
+			long endCell   = getCell(xe, ye);
+			boolean interChange = startCell > endCell;
+			this.startCell = interChange ? endCell : startCell;
+			this.endCell   = interChange ? startCell : endCell;
+			this.startPointObservationTypes = interChange ? endPointObservationTypes : startPointObservationTypes;
+			this.endPointObservationTypes   = interChange ? startPointObservationTypes : endPointObservationTypes;
+		}
+
+		private static long getCell(double x, double y) {
+			return ((long)Math.floor(x / LINK_CELL_SIZE) << 32) | ((long)Math.floor(y / LINK_CELL_SIZE) & 0xFFFFFFFFL);
+		}
+
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = 1;
+			result = prime * result + Long.hashCode(this.startCell);
+			result = prime * result + Long.hashCode(this.endCell);
+			result = prime * result + this.startPointObservationTypes.hashCode();
+			result = prime * result + this.endPointObservationTypes.hashCode();
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj == null || getClass() != obj.getClass())
+				return false;
+			ScreenLink other = (ScreenLink) obj;
+			return this.startCell == other.startCell && this.endCell == other.endCell &&
+					this.startPointObservationTypes.equals(other.startPointObservationTypes) &&
+					this.endPointObservationTypes.equals(other.endPointObservationTypes);
+		}
+	}
 }
@@ -25,6 +25,8 @@ import java.util.List;
 
 import org.applied_geodesy.jag3d.ui.graphic.coordinate.PixelCoordinate;
 import org.applied_geodesy.jag3d.ui.graphic.util.GraphicExtent;
+import org.applied_geodesy.jag3d.ui.graphic.util.OccupancyGrid;
+import org.applied_geodesy.jag3d.ui.graphic.util.QuadTree;
 import org.applied_geodesy.jag3d.ui.table.rowhighlight.TableRowHighlight;
 import org.applied_geodesy.jag3d.ui.table.rowhighlight.TableRowHighlightType;
 import org.applied_geodesy.jag3d.ui.graphic.layer.symbol.PointSymbolType;
@@ -51,12 +53,16 @@ import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 
 public class PointLayer extends Layer implements HighlightableLayer, FontLayer {
+	// Rasterweite in Pixel fuer die Kollisionspruefung der Beschriftungen
+	private final static double LABEL_CELL_SIZE = 4.0;
+
 	private DoubleProperty fontSize   = new SimpleDoubleProperty(10);
 	private StringProperty fontFamily = new SimpleStringProperty(Font.getDefault().getFamily());
 	private ObjectProperty<Color> fontColor = new SimpleObjectProperty<Color>(Color.DIMGREY);
 	private ObjectProperty<Color> fontBackgroundColor = new SimpleObjectProperty<Color>(Color.rgb(255, 255, 255, 0.25));
 	private ObjectProperty<PointSymbolType> pointSymbolType = new SimpleObjectProperty<PointSymbolType>(PointSymbolType.STROKED_CIRCLE);
 	private List<GraphicPoint> points = FXCollections.observableArrayList();
+	private QuadTree spatialIndex = null;
 
 	private ObjectProperty<Color> highlightColor = new SimpleObjectProperty<Color>(Color.ORANGERED); //#FF4500
 	private DoubleProperty highlightLineWidth    = new SimpleDoubleProperty(2.5);
@@ -393,8 +399,21 @@ public class PointLayer extends Layer implements HighlightableLayer, FontLayer {
 		String fontFamily = this.getFontFamily();
 		Color fontBackgroundColor = this.getFontBackgroundColor();
 
+		// estimate text size using a single text node
+		Text text = new Text();
+		text.setFont(Font.font(fontFamily, FontWeight.NORMAL, FontPosture.REGULAR, fontSize));
+		text.setWrappingWidth(0);
+		text.setLineSpacing(0);
+
+		// Punkte, die in dieselbe Rasterzelle fallen, werden (bspw. in der Uebersicht) durch ein Symbol dargestellt;
+		// Beschriftungen werden nur gezeichnet, wenn sie keine bereits gezeichnete Beschriftung ueberdecken
+		double width  = graphicExtent.getDrawingBoardWidth();
+		double height = graphicExtent.getDrawingBoardHeight();
+		OccupancyGrid symbolGrid = new OccupancyGrid(width, height, Math.max(1.0, 0.5 * symbolSize));
+		OccupancyGrid labelGrid  = new OccupancyGrid(width, height, LABEL_CELL_SIZE);
+
 		// draw points
-		for (GraphicPoint point : this.points) {
+		for (GraphicPoint point : this.getPoints(graphicExtent)) {
 			if (!point.isVisible())
 				continue;
 
@@ -410,51 +429,40 @@ public class PointLayer extends Layer implements HighlightableLayer, FontLayer {
 				double leftBoundary  = tableRowHighlight.getLeftBoundary(this.getHighlightType());
 				double rightBoundary = tableRowHighlight.getRightBoundary(this.getHighlightType());
 
+				boolean highlighted = false;
 				switch(this.getHighlightType()) {
 				case INFLUENCE_ON_POSITION:
-					if (point.getMaxInfluenceOnPosition() > rightBoundary) {
-						symbolColor = this.getHighlightColor();
-						fontColor   = this.getHighlightColor();
-						lineWidth   = this.getHighlightLineWidth();
-					}
+					highlighted = point.getMaxInfluenceOnPosition() > rightBoundary;
 					break;
 				case P_PRIO_VALUE:
-					if (point.getPprio() < Math.log(leftBoundary / 100.0)) {
-						symbolColor = this.getHighlightColor();
-						fontColor   = this.getHighlightColor();
-						lineWidth   = this.getHighlightLineWidth();
-					}
+					highlighted = point.getPprio() < Math.log(leftBoundary / 100.0);
 					break;
 				case REDUNDANCY:
-					if (point.getMinRedundancy() < leftBoundary) {
-						symbolColor = this.getHighlightColor();
-						fontColor   = this.getHighlightColor();
-						lineWidth   = this.getHighlightLineWidth();
-					}
+					highlighted = point.getMinRedundancy() < leftBoundary;
 					break;
 				case TEST_STATISTIC:
-					if (point.isSignificant()) {
-						symbolColor = this.getHighlightColor();
-						fontColor   = this.getHighlightColor();
-						lineWidth   = this.getHighlightLineWidth();
-					}
+					highlighted = point.isSignificant();
 					break;
 				case GROSS_ERROR:
-					if (point.isGrossErrorExceeded()) {
-						symbolColor = this.getHighlightColor();
-						fontColor   = this.getHighlightColor();
-						lineWidth   = this.getHighlightLineWidth();
-					}
+					highlighted = point.isGrossErrorExceeded();
 					break;
 				case NONE: // DEFAULT
-					symbolColor = this.getColor();
-					fontColor   = this.getFontColor();
-					lineWidth   = this.getLineWidth();
+					highlighted = false;
 					break;
 				}
 
+				if (highlighted) {
+					symbolColor = this.getHighlightColor();
+					fontColor   = this.getHighlightColor();
+					lineWidth   = this.getHighlightLineWidth();
+				}
+
+				// hervorgehobene Punkte werden stets gezeichnet
+				if (!symbolGrid.occupy(pixelCoordinate.getX(), pixelCoordinate.getY()) && !highlighted)
+					continue;
+
 				this.drawPointSymbol(graphicsContext, pixelCoordinate, symbolColor, symbolType, symbolSize, lineWidth);
-				this.drawPointText(graphicsContext, pixelCoordinate, point.getName().trim(), fontColor, fontBackgroundColor, fontFamily, symbolSize, lineWidth, fontSize);
+				this.drawPointText(graphicsContext, labelGrid, text, pixelCoordinate, point.getName().trim(), fontColor, fontBackgroundColor, symbolSize, lineWidth, highlighted);
 			}
 		}
 	}
@@ -470,13 +478,9 @@ public class PointLayer extends Layer implements HighlightableLayer, FontLayer {
 		SymbolBuilder.drawSymbol(graphicsContext, pixelCoordinate, symbolType, symbolSize);
 	}
 	
-	private void drawPointText(GraphicsContext graphicsContext, PixelCoordinate pixelCoordinate, String name, Color color, Color backgroundColor, String fontFamily, double symbolSize, double lineWidth, double fontSize) {
+	private void drawPointText(GraphicsContext graphicsContext, OccupancyGrid labelGrid, Text text, PixelCoordinate pixelCoordinate, String name, Color color, Color backgroundColor, double symbolSize, double lineWidth, boolean highlighted) {
 		// estimate text size
-		Font font = Font.font(fontFamily, FontWeight.NORMAL, FontPosture.REGULAR, fontSize);
-		Text text = new Text(name);
-		text.setFont(font);
-		text.setWrappingWidth(0);
-	    text.setLineSpacing(0);
+		text.setText(name);
 //	    Bounds textBounds = text.getBoundsInLocal();
 //	    Rectangle stencil = new Rectangle(textBounds.getMinX(), textBounds.getMinY(), textBounds.getWidth(), textBounds.getHeight());
 //	    Shape intersection = Shape.intersect(text, stencil);
@@ -491,6 +495,10 @@ public class PointLayer extends Layer implements HighlightableLayer, FontLayer {
 		
 		double x0 = pixelCoordinate.getX() + 0.5 * (symbolSize + lineWidth);
 		double y0 = pixelCoordinate.getY() + 0.5 * (symbolSize + lineWidth);
+
+		if (!highlighted && !labelGrid.isFree(x0, y0, textWidth, textHeight))
+			return;
+		labelGrid.occupy(x0, y0, textWidth, textHeight);
 		
 		graphicsContext.setLineCap(StrokeLineCap.BUTT);
 		graphicsContext.setLineDashes(null);
@@ -500,7 +508,7 @@ public class PointLayer extends Layer implements HighlightableLayer, FontLayer {
 
 		graphicsContext.setStroke(color);
 		graphicsContext.setFill(color);
-		graphicsContext.setFont(font);
+		graphicsContext.setFont(text.getFont());
 		graphicsContext.setTextBaseline(VPos.CENTER);
 		graphicsContext.setTextAlign(TextAlignment.CENTER);
 		graphicsContext.fillText(name, 
@@ -511,6 +519,7 @@ public class PointLayer extends Layer implements HighlightableLayer, FontLayer {
 	@Override
 	public void clearLayer() {
 		this.points.clear();
+		this.spatialIndex = null;
 	}
 
 	@Override
@@ -527,6 +536,7 @@ public class PointLayer extends Layer implements HighlightableLayer, FontLayer {
 
 	public void setPoints(List<GraphicPoint> points) {
 		this.points.clear();
+		this.spatialIndex = null;
 		if (points != null) {
 			for (GraphicPoint point : points) {
 				int dimension = point.getDimension();
@@ -552,6 +562,24 @@ public class PointLayer extends Layer implements HighlightableLayer, FontLayer {
 		return this.points;
 	}
 
+	/**
+	 * Liefert die Punkte, die im sichtbaren Bereich der Zeichenflaeche liegen (inkl. ausgeblendeter Punkte)
+	 * @param graphicExtent
+	 * @return points
+	 */
+	List<GraphicPoint> getPoints(GraphicExtent graphicExtent) {
+		if (this.spatialIndex == null) {
+			GraphicExtent maximumGraphicExtent = new GraphicExtent();
+			for (GraphicPoint point : this.points)
+				maximumGraphicExtent.merge(point.getCoordinate());
+
+			this.spatialIndex = new QuadTree(maximumGraphicExtent);
+			for (int i = 0; i < this.points.size(); i++)
+				this.spatialIndex.insert(i, this.points.get(i).getCoordinate());
+		}
+		return this.spatialIndex.query(graphicExtent, this.points);
+	}
+
 	private void setPointVisible(int dimension, boolean visible) {
 		for (GraphicPoint point : this.points) {
 			if (point.getDimension() == dimension)
@@ -30,6 +30,7 @@ import org.applied_geodesy.jag3d.ui.graphic.layer.symbol.SymbolBuilder;
 import org.applied_geodesy.jag3d.ui.graphic.sql.GraphicPoint;
 import org.applied_geodesy.jag3d.ui.graphic.sql.RelativeConfidence;
 import org.applied_geodesy.jag3d.ui.graphic.util.GraphicExtent;
+import org.applied_geodesy.jag3d.ui.graphic.util.QuadTree;
 
 import javafx.collections.FXCollections;
 import javafx.scene.canvas.GraphicsContext;
@@ -37,6 +38,7 @@ import javafx.scene.paint.Color;
 
 public class PointShiftArrowLayer extends ArrowLayer {
 	private List<RelativeConfidence> relativeConfidences = FXCollections.observableArrayList();
+	private QuadTree spatialIndex = null;
 
 	PointShiftArrowLayer(LayerType layerType) {
 		super(layerType);
@@ -120,7 +122,7 @@ public class PointShiftArrowLayer extends ArrowLayer {
 		graphicsContext.setLineWidth(lineWidth);
 		graphicsContext.setLineDashes(null);
 
-		for (RelativeConfidence relativeConfidence : this.relativeConfidences) {
+		for (RelativeConfidence relativeConfidence : this.getRelativeConfidences(graphicExtent)) {
 			GraphicPoint startPoint = relativeConfidence.getStartPoint();
 			GraphicPoint endPoint   = relativeConfidence.getEndPoint();
 			double deltaHeight      = relativeConfidence.getDeltaHeight();
@@ -223,6 +225,7 @@ public class PointShiftArrowLayer extends ArrowLayer {
 		GraphicExtent graphicExtent = this.getMaximumGraphicExtent();
 		graphicExtent.reset();
 		this.relativeConfidences.clear();
+		this.spatialIndex = null;
 		if (relativeConfidences != null) {
 			for (RelativeConfidence relativeConfidence : relativeConfidences) {
 				GraphicPoint startPoint = relativeConfidence.getStartPoint();
@@ -238,6 +241,29 @@ public class PointShiftArrowLayer extends ArrowLayer {
 	List<RelativeConfidence> getRelativeConfidences() {
 		return this.relativeConfidences;
 	}
+
+	/**
+	 * Liefert die relativen Konfidenzen, deren Start- oder Endpunkt im sichtbaren Bereich der Zeichenflaeche liegt
+	 * @param graphicExtent
+	 * @return relativeConfidences
+	 */
+	List<RelativeConfidence> getRelativeConfidences(GraphicExtent graphicExtent) {
+		if (this.spatialIndex == null) {
+			GraphicExtent maximumGraphicExtent = new GraphicExtent();
+			for (RelativeConfidence relativeConfidence : this.relativeConfidences) {
+				maximumGraphicExtent.merge(relativeConfidence.getStartPoint().getCoordinate());
+				maximumGraphicExtent.merge(relativeConfidence.getEndPoint().getCoordinate());
+			}
+
+			this.spatialIndex = new QuadTree(maximumGraphicExtent);
+			for (int i = 0; i < this.relativeConfidences.size(); i++) {
+				RelativeConfidence relativeConfidence = this.relativeConfidences.get(i);
+				this.spatialIndex.insert(i, relativeConfidence.getStartPoint().getCoordinate());
+				this.spatialIndex.insert(i, relativeConfidence.getEndPoint().getCoordinate());
+			}
+		}
+		return this.spatialIndex.query(graphicExtent, this.relativeConfidences);
+	}
 	
 	@Override
 	public String toString() {
@@ -254,6 +280,7 @@ public class PointShiftArrowLayer extends ArrowLayer {
 	@Override
 	public void clearLayer() {
 		this.relativeConfidences.clear();
+		this.spatialIndex = null;
 	}
 
 	@Override
@@ -133,7 +133,7 @@ public class PrincipalComponentArrowLayer extends ArrowLayer {
 		for (PointLayer layer : this.referenceLayers) {
 			if (layer.isVisible()) {
 				// draw points
-				for (GraphicPoint startPoint : layer.getPoints()) {
+				for (GraphicPoint startPoint : layer.getPoints(graphicExtent)) {
 					if (!startPoint.isVisible())
 						continue;
 					
@@ -83,7 +83,7 @@ public class RelativeConfidenceLayer extends ConfidenceLayer<PointShiftArrowLaye
 		for (PointShiftArrowLayer layer : referenceLayers) {
 			if (layer.isVisible()) {
 				double ellipseScale = layer.getVectorScale()/scale;
-				for (RelativeConfidence relativeConfidence : layer.getRelativeConfidences()) { 
+				for (RelativeConfidence relativeConfidence : layer.getRelativeConfidences(graphicExtent)) { 
 					GraphicPoint startPoint = relativeConfidence.getStartPoint();
 					GraphicPoint endPoint   = relativeConfidence.getEndPoint();
 					
@@ -63,6 +63,7 @@ class ResizableCanvas extends Canvas {
 
 	private final GraphicExtent currentGraphicExtent;
 	private ObservableList<Layer> layers = FXCollections.observableArrayList();
+	private final TileCache tileCache = new TileCache();
 
 	ResizableCanvas(GraphicExtent currentGraphicExtent) {
 		this.currentGraphicExtent = currentGraphicExtent;
@@ -79,6 +80,14 @@ class ResizableCanvas extends Canvas {
 	}
 
 	void draw() {
+		this.tileCache.clear();
+		this.repaint();
+	}
+
+	/**
+	 * Zeichnet alle Layer, ohne die zwischengespeicherten Kacheln zu verwerfen
+	 */
+	void repaint() {
 		this.clear();
 
 		GraphicsContext graphicsContext = getGraphicsContext2D();
@@ -89,6 +98,26 @@ class ResizableCanvas extends Canvas {
 			layer.draw(graphicsContext, this.getCurrentGraphicExtent());
 		}
 	}
+
+	/**
+	 * Setzt die Zeichenflaeche aus den zwischengespeicherten Kacheln zusammen, bspw. beim Verschieben
+	 * der Ansicht; Layer, die relativ zur Zeichenflaeche positioniert sind, werden direkt gezeichnet
+	 */
+	void drawTiles() {
+		this.clear();
+
+		GraphicsContext graphicsContext = getGraphicsContext2D();
+		if (!this.tileCache.draw(graphicsContext, this.getCurrentGraphicExtent(), this.layers)) {
+			this.repaint();
+			return;
+		}
+
+		for (Layer layer : this.layers) {
+			if (!layer.isVisible() || TileCache.isCacheable(layer))
+				continue;
+			layer.draw(graphicsContext, this.getCurrentGraphicExtent());
+		}
+	}
 	
 	void clear() {
 		double width  = this.getWidth();
@@ -0,0 +1,166 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.jag3d.ui.graphic.layer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.applied_geodesy.jag3d.ui.graphic.util.GraphicExtent;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * Zwischenspeicher fuer die gezeichneten Layer in Form von Kacheln fester Groesse. Die Kacheln liegen
+ * in einem Pixelraster, das fuer den aktuellen Massstab an einer Weltkoordinate verankert ist, sodass
+ * beim Verschieben der Ansicht die vorhandenen Kacheln lediglich versetzt gezeichnet werden.
+ * Erst wenn die Ansicht den zwischengespeicherten Bereich verlaesst, werden die Layer fuer die Ansicht
+ * zzgl. eines Randes von einer Kachel erneut in einem Durchgang gezeichnet und in Kacheln zerlegt.
+ *
+ * Der Speicher ist zu verwerfen, sobald sich Daten oder Darstellung der Layer aendern.
+ */
+class TileCache {
+	private final static int TILE_SIZE = 256;
+	// Maximale Groesse der Zeichenflaeche, die in einem Durchgang gezeichnet wird
+	private final static double MAX_CANVAS_SIZE = 8192;
+
+	private final Map<Long, Image> tiles = new HashMap<Long, Image>();
+	private double scale = Double.NaN, anchorX = 0, anchorY = 0;
+
+	void clear() {
+		this.tiles.clear();
+		this.scale = Double.NaN;
+	}
+
+	/**
+	 * Zeichnet die Layer aus den zwischengespeicherten Kacheln; fehlende Kacheln werden zuvor erzeugt
+	 * @param graphicsContext
+	 * @param graphicExtent
+	 * @param layers
+	 * @return false, wenn die Ansicht nicht aus Kacheln zusammengesetzt werden kann
+	 */
+	boolean draw(GraphicsContext graphicsContext, GraphicExtent graphicExtent, List<Layer> layers) {
+		double scale  = graphicExtent.getScale();
+		double width  = graphicExtent.getDrawingBoardWidth();
+		double height = graphicExtent.getDrawingBoardHeight();
+
+		if (!(scale > 0) || Double.isInfinite(scale) || !(width > 0) || !(height > 0) || 
+				width + 2 * TILE_SIZE > MAX_CANVAS_SIZE || height + 2 * TILE_SIZE > MAX_CANVAS_SIZE)
+			return false;
+
+		if (scale != this.scale) {
+			this.tiles.clear();
+			this.scale   = scale;
+			this.anchorX = graphicExtent.getCentreX();
+			this.anchorY = graphicExtent.getCentreY();
+		}
+
+		// linke obere Ecke der Zeichenflaeche im Pixelraster der Kacheln
+		double originX = (graphicExtent.getCentreX() - this.anchorX) / scale - 0.5 * width;
+		double originY = (this.anchorY - graphicExtent.getCentreY()) / scale - 0.5 * height;
+		if (Math.abs(originX) > Integer.MAX_VALUE || Math.abs(originY) > Integer.MAX_VALUE)
+			return false;
+
+		int minColumn = (int)Math.floor(originX / TILE_SIZE);
+		int maxColumn = (int)Math.floor((originX + width) / TILE_SIZE);
+		int minRow    = (int)Math.floor(originY / TILE_SIZE);
+		int maxRow    = (int)Math.floor((originY + height) / TILE_SIZE);
+
+		if (!this.containsAll(minColumn, minRow, maxColumn, maxRow))
+			this.render(layers, minColumn - 1, minRow - 1, maxColumn + 1, maxRow + 1);
+
+		// ganzzahliger Versatz, damit die Kacheln ohne Interpolation gezeichnet werden
+		double offsetX = Math.round(originX);
+		double offsetY = Math.round(originY);
+		for (int row = minRow; row <= maxRow; row++) {
+			for (int column = minColumn; column <= maxColumn; column++) {
+				Image tile = this.tiles.get(getKey(column, row));
+				if (tile != null)
+					graphicsContext.drawImage(tile, (double)column * TILE_SIZE - offsetX, (double)row * TILE_SIZE - offsetY);
+			}
+		}
+		return true;
+	}
+
+	private boolean containsAll(int minColumn, int minRow, int maxColumn, int maxRow) {
+		for (int row = minRow; row <= maxRow; row++) {
+			for (int column = minColumn; column <= maxColumn; column++) {
+				if (!this.tiles.containsKey(getKey(column, row)))
+					return false;
+			}
+		}
+		return true;
+	}
+
+	private void render(List<Layer> layers, int minColumn, int minRow, int maxColumn, int maxRow) {
+		int columns = maxColumn - minColumn + 1;
+		int rows    = maxRow - minRow + 1;
+		double width  = columns * TILE_SIZE;
+		double height = rows * TILE_SIZE;
+
+		// Ausschnitt der Kacheln in Weltkoordinaten
+		double minX = this.anchorX + minColumn * (double)TILE_SIZE * this.scale;
+		double maxY = this.anchorY - minRow * (double)TILE_SIZE * this.scale;
+		GraphicExtent graphicExtent = new GraphicExtent();
+		graphicExtent.setDrawingBoardWidth(width);
+		graphicExtent.setDrawingBoardHeight(height);
+		graphicExtent.set(minX, maxY - height * this.scale, minX + width * this.scale, maxY);
+
+		Canvas canvas = new Canvas(width, height);
+		GraphicsContext graphicsContext = canvas.getGraphicsContext2D();
+		for (Layer layer : layers) {
+			if (layer.isVisible() && isCacheable(layer))
+				layer.draw(graphicsContext, graphicExtent);
+		}
+
+		SnapshotParameters snapshotParameters = new SnapshotParameters();
+		snapshotParameters.setFill(Color.TRANSPARENT);
+		PixelReader pixelReader = canvas.snapshot(snapshotParameters, null).getPixelReader();
+
+		// Kacheln ausserhalb des neu gezeichneten Bereichs werden verworfen
+		this.tiles.clear();
+		for (int row = 0; row < rows; row++) {
+			for (int column = 0; column < columns; column++)
+				this.tiles.put(getKey(minColumn + column, minRow + row), new WritableImage(pixelReader, column * TILE_SIZE, row * TILE_SIZE, TILE_SIZE, TILE_SIZE));
+		}
+	}
+
+	/**
+	 * Prueft, ob der Layer an Weltkoordinaten gebunden ist; die Legende wird relativ zur Zeichenflaeche
+	 * positioniert und daher nicht zwischengespeichert
+	 * @param layer
+	 * @return cacheable
+	 */
+	static boolean isCacheable(Layer layer) {
+		return layer.getLayerType() != LayerType.LEGEND;
+	}
+
+	private static long getKey(int column, int row) {
+		return ((long)column << 32) | (row & 0xFFFFFFFFL);
+	}
+}
@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 
 import org.applied_geodesy.adjustment.network.ObservationType;
 import org.applied_geodesy.adjustment.network.PointType;
@@ -54,6 +55,28 @@ import javafx.collections.FXCollections;
 import javafx.scene.paint.Color;
 
 public class SQLGraphicManager {
+	/**
+	 * Uebergibt die geladenen Daten an die Layer. Beim Laden im Hintergrund sind die Aenderungen
+	 * auf dem JavaFX-Thread auszufuehren; ein abgebrochener Ladevorgang wird zwischen zwei Datensaetzen beendet.
+	 */
+	public interface LayerDataPublisher {
+		public void publish(Runnable layerUpdate);
+
+		public boolean isCancelled();
+	}
+
+	private final static LayerDataPublisher SYNCHRONOUS_PUBLISHER = new LayerDataPublisher() {
+		@Override
+		public void publish(Runnable layerUpdate) {
+			layerUpdate.run();
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return false;
+		}
+	};
+
 	private final DataBase dataBase;
 
 	public SQLGraphicManager(DataBase dataBase) {
@@ -174,8 +197,23 @@ public class SQLGraphicManager {
 	}
 	
 	public void load(LayerManager layerManager) throws SQLException {
-		double confidenceLevel = this.getConfidenceLevel();
 		this.initLayer(layerManager);
+		this.loadLayerData(layerManager, SYNCHRONOUS_PUBLISHER);
+	}
+
+	/**
+	 * Laedt die Daten der Layer (Punkte, Konfidenzen, Messungen und Punktverschiebungen). Die Eigenschaften
+	 * der Layer muessen zuvor ueber initLayer() geladen sein. Die Daten eines Layers werden uebergeben, sobald
+	 * sie vollstaendig gelesen sind, sodass die Punkte bereits dargestellt werden koennen, waehrend die
+	 * Messungen noch geladen werden.
+	 *
+	 * @param layerManager
+	 * @param publisher
+	 * @throws SQLException
+	 * @throws CancellationException wenn der Ladevorgang abgebrochen wurde
+	 */
+	public void loadLayerData(LayerManager layerManager, LayerDataPublisher publisher) throws SQLException {
+		double confidenceLevel = this.getConfidenceLevel();
 		
 		Map<String, GraphicPoint> completeAprioriPointMap     = new HashMap<String, GraphicPoint>();
 		Map<String, GraphicPoint> completeAposterioriPointMap = new HashMap<String, GraphicPoint>();
@@ -202,7 +240,7 @@ public class SQLGraphicManager {
 			case REFERENCE_POINT_APOSTERIORI:
 			case STOCHASTIC_POINT_APOSTERIORI:
 				PointLayer pointAposterioriLayer = (PointLayer) layerManager.getLayer(layerType);
-				completeAposterioriPointMap.putAll(this.loadPoints(pointAposterioriLayer));
+				completeAposterioriPointMap.putAll(this.loadPoints(pointAposterioriLayer, publisher));
 				break;
 				
 			case DATUM_POINT_APRIORI:
@@ -210,13 +248,13 @@ public class SQLGraphicManager {
 			case REFERENCE_POINT_APRIORI:
 			case STOCHASTIC_POINT_APRIORI:
 				PointLayer pointAprioriLayer = (PointLayer) layerManager.getLayer(layerType);
-				completeAprioriPointMap.putAll(this.loadPoints(pointAprioriLayer));
+				completeAprioriPointMap.putAll(this.loadPoints(pointAprioriLayer, publisher));
 				break;
 				
 			case ABSOLUTE_CONFIDENCE:
 			case RELATIVE_CONFIDENCE:
 				ConfidenceLayer<?> confidenceLayer = (ConfidenceLayer<?>) layerManager.getLayer(layerType);
-				confidenceLayer.setConfidenceLevel(confidenceLevel);
+				publisher.publish(() -> confidenceLayer.setConfidenceLevel(confidenceLevel));
 				break;
 
 			case POINT_SHIFT_HORIZONTAL:
@@ -245,17 +283,17 @@ public class SQLGraphicManager {
 			//case POINT_SHIFT_VERTICAL: // load both layers simultaneous to use equal references
 				PointShiftArrowLayer pointShiftHorizontalArrowLayer = (PointShiftArrowLayer)layerManager.getLayer(LayerType.POINT_SHIFT_HORIZONTAL);
 				PointShiftArrowLayer pointShiftVerticalArrowLayer = (PointShiftArrowLayer)layerManager.getLayer(LayerType.POINT_SHIFT_VERTICAL);
-				this.loadCongruenceAnalysisNexus(pointShiftHorizontalArrowLayer, pointShiftVerticalArrowLayer, completeAposterioriPointMap);
+				this.loadCongruenceAnalysisNexus(pointShiftHorizontalArrowLayer, pointShiftVerticalArrowLayer, completeAposterioriPointMap, publisher);
 				break;
 								
 			case OBSERVATION_APOSTERIORI:
 				ObservationLayer observationAposterioriLayer = (ObservationLayer) layerManager.getLayer(layerType);
-				this.loadObservations(observationAposterioriLayer, completeAposterioriPointMap);
+				this.loadObservations(observationAposterioriLayer, completeAposterioriPointMap, publisher);
 				break;
 				
 			case OBSERVATION_APRIORI:
 				ObservationLayer observationAprioriLayer = (ObservationLayer) layerManager.getLayer(layerType);
-				this.loadObservations(observationAprioriLayer, completeAprioriPointMap);
+				this.loadObservations(observationAprioriLayer, completeAprioriPointMap, publisher);
 				break;
 				
 			case ABSOLUTE_CONFIDENCE:
@@ -279,7 +317,7 @@ public class SQLGraphicManager {
 		}
 	}
 
-	private Map<String, GraphicPoint> loadPoints(PointLayer pointLayer) throws SQLException {
+	private Map<String, GraphicPoint> loadPoints(PointLayer pointLayer, LayerDataPublisher publisher) throws SQLException {
 		LayerType layerType = pointLayer.getLayerType();
 		List<GraphicPoint> pointList = new ArrayList<GraphicPoint>();
 		Map<String, GraphicPoint> pointMap = new HashMap<String, GraphicPoint>();
@@ -366,6 +404,7 @@ public class SQLGraphicManager {
 			ResultSet rs = stmt.executeQuery();
 
 			while (rs.next()) {
+				checkCancelled(publisher);
 
 				String name = rs.getString("name");
 				int dimension = rs.getInt("dimension");
@@ -420,11 +459,12 @@ public class SQLGraphicManager {
 				}
 			}
 		}
-		pointLayer.setPoints(pointList);
+		checkCancelled(publisher);
+		publisher.publish(() -> pointLayer.setPoints(pointList));
 		return pointMap;
 	}
 
-	private void loadObservations(ObservationLayer observationLayer, Map<String, GraphicPoint> completePointMap) throws SQLException {
+	private void loadObservations(ObservationLayer observationLayer, Map<String, GraphicPoint> completePointMap, LayerDataPublisher publisher) throws SQLException {
 		LayerType layerType = observationLayer.getLayerType();
 		Map<PointPairKey, ObservableMeasurement> observationMap = new HashMap<PointPairKey, ObservableMeasurement>();
 
@@ -501,6 +541,7 @@ public class SQLGraphicManager {
 		ResultSet rs = stmt.executeQuery();
 
 		while (rs.next()) {
+			checkCancelled(publisher);
 
 			String startPointName = rs.getString("start_point_name");
 			String endPointName   = rs.getString("end_point_name");
@@ -628,12 +669,16 @@ public class SQLGraphicManager {
 
 			}
 		}
-		observationLayer.setObservableMeasurements(new ArrayList<ObservableMeasurement>(observationMap.values()));
+		checkCancelled(publisher);
+		List<ObservableMeasurement> observableMeasurements = new ArrayList<ObservableMeasurement>(observationMap.values());
+		publisher.publish(() -> observationLayer.setObservableMeasurements(observableMeasurements));
 	}
 	
-	private void loadCongruenceAnalysisNexus(PointShiftArrowLayer pointShiftHorizontalArrowLayer, PointShiftArrowLayer pointShiftVerticalArrowLayer, Map<String, GraphicPoint> completePointMap) throws SQLException {
+	private void loadCongruenceAnalysisNexus(PointShiftArrowLayer pointShiftHorizontalArrowLayer, PointShiftArrowLayer pointShiftVerticalArrowLayer, Map<String, GraphicPoint> completePointMap, LayerDataPublisher publisher) throws SQLException {
 		Map<PointPairKey, RelativeConfidence> relativeHorizontalConfidences = new HashMap<PointPairKey, RelativeConfidence>();
 		Map<PointPairKey, RelativeConfidence> relativeVerticalConfidences   = new HashMap<PointPairKey, RelativeConfidence>();
+		// Verschiebungen der Referenzpunkte erhalten eigene Punkte, deren Sichtbarkeit an die Punkte der Punktlayer gebunden wird
+		Map<GraphicPoint, GraphicPoint> visibilityBindings = new HashMap<GraphicPoint, GraphicPoint>();
 
 		String sql = "SELECT "
 				+ "\"start_point_name\", \"end_point_name\", "
@@ -687,6 +732,7 @@ public class SQLGraphicManager {
 		ResultSet rs = stmt.executeQuery();
 
 		while (rs.next()) {
+			checkCancelled(publisher);
 
 			String startPointName = rs.getString("start_point_name");
 			String endPointName   = rs.getString("end_point_name");
@@ -728,8 +774,8 @@ public class SQLGraphicManager {
 				startPoint = new GraphicPoint(startPointName, dimension, ys, xs);
 				endPoint   = new GraphicPoint(endPointName,   dimension, ye, xe);
 				
-				startPoint.visibleProperty().bind(completePointMap.get(startPointName).visibleProperty());
-				endPoint.visibleProperty().bind(completePointMap.get(endPointName).visibleProperty());
+				visibilityBindings.put(startPoint, completePointMap.get(startPointName));
+				visibilityBindings.put(endPoint,   completePointMap.get(endPointName));
 			}
 			
 			if (dimension != 1 && !relativeHorizontalConfidences.containsKey(key)) {
@@ -743,8 +789,20 @@ public class SQLGraphicManager {
 			}			
 		}
 		
-		pointShiftHorizontalArrowLayer.setRelativeConfidences(new ArrayList<RelativeConfidence>(relativeHorizontalConfidences.values()));
-		pointShiftVerticalArrowLayer.setRelativeConfidences(new ArrayList<RelativeConfidence>(relativeVerticalConfidences.values()));
+		checkCancelled(publisher);
+		List<RelativeConfidence> horizontalConfidences = new ArrayList<RelativeConfidence>(relativeHorizontalConfidences.values());
+		List<RelativeConfidence> verticalConfidences   = new ArrayList<RelativeConfidence>(relativeVerticalConfidences.values());
+		publisher.publish(() -> {
+			for (Map.Entry<GraphicPoint, GraphicPoint> visibilityBinding : visibilityBindings.entrySet())
+				visibilityBinding.getKey().visibleProperty().bind(visibilityBinding.getValue().visibleProperty());
+			pointShiftHorizontalArrowLayer.setRelativeConfidences(horizontalConfidences);
+			pointShiftVerticalArrowLayer.setRelativeConfidences(verticalConfidences);
+		});
+	}
+
+	private static void checkCancelled(LayerDataPublisher publisher) {
+		if (publisher.isCancelled())
+			throw new CancellationException();
 	}
 
 	public void saveEllipseScale(double scale) throws SQLException {
@@ -0,0 +1,104 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.jag3d.ui.graphic.util;
+
+import java.util.BitSet;
+
+/**
+ * Belegungsraster der Zeichenflaeche in Pixelkoordinaten. Das Raster wird fuer einen Zeichenvorgang
+ * erzeugt und markiert, welche Bereiche bereits durch Symbole oder Beschriftungen belegt sind.
+ * Bereiche ausserhalb der Zeichenflaeche gelten stets als frei und werden nicht markiert.
+ */
+public class OccupancyGrid {
+	private final double cellSize;
+	private final int columns, rows;
+	private final BitSet cells;
+
+	public OccupancyGrid(double width, double height, double cellSize) {
+		this.cellSize = cellSize > 0 ? cellSize : 1.0;
+		this.columns  = Math.max(1, (int)Math.ceil(Math.max(0, width)  / this.cellSize));
+		this.rows     = Math.max(1, (int)Math.ceil(Math.max(0, height) / this.cellSize));
+		this.cells    = new BitSet(this.columns * this.rows);
+	}
+
+	/**
+	 * Belegt die Zelle, in der die Koordinate liegt
+	 * @param x
+	 * @param y
+	 * @return true, wenn die Zelle zuvor frei war
+	 */
+	public boolean occupy(double x, double y) {
+		int column = this.getColumn(x);
+		int row    = this.getRow(y);
+		if (column < 0 || column >= this.columns || row < 0 || row >= this.rows)
+			return true;
+
+		int index = row * this.columns + column;
+		if (this.cells.get(index))
+			return false;
+		this.cells.set(index);
+		return true;
+	}
+
+	/**
+	 * Prueft, ob alle Zellen, die das Rechteck ueberdeckt, frei sind
+	 * @param x
+	 * @param y
+	 * @param width
+	 * @param height
+	 * @return free
+	 */
+	public boolean isFree(double x, double y, double width, double height) {
+		int minColumn = Math.max(0, this.getColumn(x)), maxColumn = Math.min(this.columns - 1, this.getColumn(x + width));
+		int minRow    = Math.max(0, this.getRow(y)),    maxRow    = Math.min(this.rows - 1,    this.getRow(y + height));
+		for (int row = minRow; row <= maxRow; row++) {
+			if (minColumn > maxColumn)
+				break;
+			int index = this.cells.nextSetBit(row * this.columns + minColumn);
+			if (index >= 0 && index <= row * this.columns + maxColumn)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Belegt alle Zellen, die das Rechteck ueberdeckt
+	 * @param x
+	 * @param y
+	 * @param width
+	 * @param height
+	 */
+	public void occupy(double x, double y, double width, double height) {
+		int minColumn = Math.max(0, this.getColumn(x)), maxColumn = Math.min(this.columns - 1, this.getColumn(x + width));
+		int minRow    = Math.max(0, this.getRow(y)),    maxRow    = Math.min(this.rows - 1,    this.getRow(y + height));
+		for (int row = minRow; row <= maxRow && minColumn <= maxColumn; row++)
+			this.cells.set(row * this.columns + minColumn, row * this.columns + maxColumn + 1);
+	}
+
+	private int getColumn(double x) {
+		return (int)Math.max(Integer.MIN_VALUE / 2, Math.min(Integer.MAX_VALUE / 2, Math.floor(x / this.cellSize)));
+	}
+
+	private int getRow(double y) {
+		return (int)Math.max(Integer.MIN_VALUE / 2, Math.min(Integer.MAX_VALUE / 2, Math.floor(y / this.cellSize)));
+	}
+}
@@ -0,0 +1,244 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.jag3d.ui.graphic.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.applied_geodesy.jag3d.ui.graphic.coordinate.PixelCoordinate;
+import org.applied_geodesy.jag3d.ui.graphic.coordinate.WorldCoordinate;
+
+/**
+ * Raeumlicher Index ueber Weltkoordinaten. Gespeichert wird zu jeder Koordinate der Index des Elements
+ * in der Liste des Layers; ein Element darf mehrfach eingefuegt werden (bspw. Start- und Endpunkt einer Messung).
+ * Die Abfrage liefert die Indizes als BitSet, sodass die Elemente in der urspruenglichen Reihenfolge
+ * gezeichnet werden koennen.
+ */
+public class QuadTree {
+	private final static int MAX_ENTRIES = 32;
+	private final static int MAX_DEPTH   = 20;
+	// Puffer in Pixel, um Rundungsfehler bei der Umrechnung an den Raendern abzufangen
+	private final static double PIXEL_BUFFER = 1.0;
+
+	private final Node root;
+
+	private static class Node {
+		private final double minX, minY, maxX, maxY;
+		private final int depth;
+		private Node children[] = null;
+		private double xs[] = new double[4], ys[] = new double[4];
+		private int indices[] = new int[4];
+		private int numberOfEntries = 0;
+
+		private Node(double minX, double minY, double maxX, double maxY, int depth) {
+			this.minX  = minX;
+			this.minY  = minY;
+			this.maxX  = maxX;
+			this.maxY  = maxY;
+			this.depth = depth;
+		}
+
+		private void add(int index, double x, double y) {
+			if (this.numberOfEntries == this.indices.length) {
+				int length = Math.max(4, 2 * this.indices.length);
+				double xs[] = new double[length], ys[] = new double[length];
+				int indices[] = new int[length];
+				System.arraycopy(this.xs,      0, xs,      0, this.numberOfEntries);
+				System.arraycopy(this.ys,      0, ys,      0, this.numberOfEntries);
+				System.arraycopy(this.indices, 0, indices, 0, this.numberOfEntries);
+				this.xs      = xs;
+				this.ys      = ys;
+				this.indices = indices;
+			}
+			this.xs[this.numberOfEntries]      = x;
+			this.ys[this.numberOfEntries]      = y;
+			this.indices[this.numberOfEntries] = index;
+			this.numberOfEntries++;
+		}
+	}
+
+	/**
+	 * Erzeugt einen leeren Index fuer den Bereich des uebergebenen Extents. Koordinaten ausserhalb
+	 * dieses Bereichs werden im Wurzelknoten abgelegt und bei jeder Abfrage geprueft.
+	 * @param graphicExtent
+	 */
+	public QuadTree(GraphicExtent graphicExtent) {
+		double minX = graphicExtent.getMinX(), minY = graphicExtent.getMinY();
+		double maxX = graphicExtent.getMaxX(), maxY = graphicExtent.getMaxY();
+		if (!(minX <= maxX && minY <= maxY) || Double.isInfinite(maxX - minX) || Double.isInfinite(maxY - minY))
+			minX = minY = maxX = maxY = 0;
+		this.root = new Node(minX, minY, maxX, maxY, 0);
+	}
+
+	public void insert(int index, WorldCoordinate coordinate) {
+		this.insert(index, coordinate.getX(), coordinate.getY());
+	}
+
+	public void insert(int index, double x, double y) {
+		if (Double.isNaN(x) || Double.isNaN(y))
+			return;
+
+		Node node = this.root;
+		if (!contains(node, x, y)) {
+			node.add(index, x, y);
+			return;
+		}
+
+		while (node.children != null)
+			node = node.children[getQuadrant(node, x, y)];
+
+		node.add(index, x, y);
+		if (node.numberOfEntries > MAX_ENTRIES && node.depth < MAX_DEPTH)
+			split(node);
+	}
+
+	/**
+	 * Markiert alle Elemente, deren Koordinaten im sichtbaren Bereich der Zeichenflaeche liegen.
+	 * Ohne gueltigen Massstab werden alle Elemente markiert.
+	 * @param graphicExtent
+	 * @param result
+	 */
+	public void query(GraphicExtent graphicExtent, BitSet result) {
+		double scale = graphicExtent.getScale();
+		if (!(scale > 0) || Double.isInfinite(scale)) {
+			this.query(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, result);
+			return;
+		}
+
+		double width  = graphicExtent.getDrawingBoardWidth();
+		double height = graphicExtent.getDrawingBoardHeight();
+		WorldCoordinate upperLeft  = GraphicExtent.toWorldCoordinate(new PixelCoordinate(-PIXEL_BUFFER, -PIXEL_BUFFER), graphicExtent, scale);
+		WorldCoordinate lowerRight = GraphicExtent.toWorldCoordinate(new PixelCoordinate(width + PIXEL_BUFFER, height + PIXEL_BUFFER), graphicExtent, scale);
+
+		this.query(
+				Math.min(upperLeft.getX(), lowerRight.getX()),
+				Math.min(upperLeft.getY(), lowerRight.getY()),
+				Math.max(upperLeft.getX(), lowerRight.getX()),
+				Math.max(upperLeft.getY(), lowerRight.getY()),
+				result
+		);
+	}
+
+	/**
+	 * Liefert die Elemente der Liste, deren Koordinaten im sichtbaren Bereich der Zeichenflaeche liegen,
+	 * in der Reihenfolge der Liste. Der Index muss ueber die Positionen der Elemente in dieser Liste aufgebaut sein.
+	 * @param graphicExtent
+	 * @param elements
+	 * @return elements
+	 */
+	public <T> List<T> query(GraphicExtent graphicExtent, List<T> elements) {
+		BitSet result = new BitSet(elements.size());
+		this.query(graphicExtent, result);
+		List<T> visibleElements = new ArrayList<T>(result.cardinality());
+		for (int i = result.nextSetBit(0); i >= 0 && i < elements.size(); i = result.nextSetBit(i + 1))
+			visibleElements.add(elements.get(i));
+		return visibleElements;
+	}
+
+	/**
+	 * Markiert alle Elemente, deren Koordinaten im Rechteck liegen
+	 * @param minX
+	 * @param minY
+	 * @param maxX
+	 * @param maxY
+	 * @param result
+	 */
+	public void query(double minX, double minY, double maxX, double maxY, BitSet result) {
+		query(this.root, minX, minY, maxX, maxY, result);
+	}
+
+	private static void query(Node node, double minX, double minY, double maxX, double maxY, BitSet result) {
+		for (int i = 0; i < node.numberOfEntries; i++) {
+			double x = node.xs[i], y = node.ys[i];
+			if (x >= minX && x <= maxX && y >= minY && y <= maxY)
+				result.set(node.indices[i]);
+		}
+
+		if (node.children == null)
+			return;
+
+		for (Node child : node.children) {
+			if (child.maxX < minX || child.minX > maxX || child.maxY < minY || child.minY > maxY)
+				continue;
+
+			if (child.minX >= minX && child.maxX <= maxX && child.minY >= minY && child.maxY <= maxY)
+				addAll(child, result);
+			else
+				query(child, minX, minY, maxX, maxY, result);
+		}
+	}
+
+	private static void addAll(Node node, BitSet result) {
+		for (int i = 0; i < node.numberOfEntries; i++)
+			result.set(node.indices[i]);
+
+		if (node.children != null) {
+			for (Node child : node.children)
+				addAll(child, result);
+		}
+	}
+
+	private static void split(Node node) {
+		double centreX = 0.5 * (node.minX + node.maxX);
+		double centreY = 0.5 * (node.minY + node.maxY);
+		int depth = node.depth + 1;
+
+		node.children = new Node[] {
+				new Node(node.minX, node.minY, centreX,   centreY,   depth),
+				new Node(centreX,   node.minY, node.maxX, centreY,   depth),
+				new Node(node.minX, centreY,   centreX,   node.maxY, depth),
+				new Node(centreX,   centreY,   node.maxX, node.maxY, depth)
+		};
+
+		// Koordinaten ausserhalb des Wurzelknotens verbleiben im Knoten
+		int numberOfEntries = 0;
+		for (int i = 0; i < node.numberOfEntries; i++) {
+			double x = node.xs[i], y = node.ys[i];
+			int index = node.indices[i];
+			if (contains(node, x, y))
+				node.children[getQuadrant(node, x, y)].add(index, x, y);
+			else {
+				node.xs[numberOfEntries]      = x;
+				node.ys[numberOfEntries]      = y;
+				node.indices[numberOfEntries] = index;
+				numberOfEntries++;
+			}
+		}
+		node.numberOfEntries = numberOfEntries;
+
+		for (Node child : node.children) {
+			if (child.numberOfEntries > MAX_ENTRIES && child.depth < MAX_DEPTH)
+				split(child);
+		}
+	}
+
+	private static int getQuadrant(Node node, double x, double y) {
+		double centreX = 0.5 * (node.minX + node.maxX);
+		double centreY = 0.5 * (node.minY + node.maxY);
+		return (x < centreX ? 0 : 1) + (y < centreY ? 0 : 2);
+	}
+
+	private static boolean contains(Node node, double x, double y) {
+		return x >= node.minX && x <= node.maxX && y >= node.minY && y <= node.maxY;
+	}
+}
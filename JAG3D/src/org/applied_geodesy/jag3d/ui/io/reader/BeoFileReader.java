@@ -380,10 +380,9 @@ public class BeoFileReader extends SourceFileReader<TreeItem<TreeItemValue>> {
 
 		try {
 			int groupId = ((ObservationTreeItemValue)newTreeItem.getValue()).getGroupId();
-			for (TerrestrialObservationRow row : observations) {
+			for (TerrestrialObservationRow row : observations)
 				row.setGroupId(groupId);
-				SQLManager.getInstance().saveItem(row);
-			}
+			SQLManager.getInstance().saveTerrestrialObservationItems(observations);
 		} catch (SQLException e) {
 			e.printStackTrace();
 			throw new SQLException(e);
@@ -133,10 +133,9 @@ public class CSVVerticalDeflectionFileReader extends SourceFileReader<TreeItem<T
 
 				try {
 					int groupId = ((VerticalDeflectionTreeItemValue)newTreeItem.getValue()).getGroupId();
-					for (VerticalDeflectionRow row : this.verticalDeflections) {
+					for (VerticalDeflectionRow row : this.verticalDeflections)
 						row.setGroupId(groupId);
-						SQLManager.getInstance().saveItem(row);
-					}
+					SQLManager.getInstance().saveVerticalDeflectionItems(this.verticalDeflections);
 
 				} catch (SQLException e) {
 					e.printStackTrace();
@@ -154,10 +154,9 @@ public class ColumnDefinedPointFileReader extends SourceFileReader<TreeItem<Tree
 
 				try {
 					int groupId = ((PointTreeItemValue)newTreeItem.getValue()).getGroupId();
-					for (PointRow row : this.points) {
+					for (PointRow row : this.points)
 						row.setGroupId(groupId);
-						SQLManager.getInstance().saveItem(row);
-					}
+					SQLManager.getInstance().savePointItems(this.points);
 
 				} catch (SQLException e) {
 					e.printStackTrace();
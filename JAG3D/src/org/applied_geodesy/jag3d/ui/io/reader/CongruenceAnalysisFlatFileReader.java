@@ -134,10 +134,9 @@ public class CongruenceAnalysisFlatFileReader extends FlatFileReader<TreeItem<Tr
 			try {
 				int groupId = ((CongruenceAnalysisTreeItemValue)newTreeItem.getValue()).getGroupId();
 				if (!this.congruenceAnalysisPairs.isEmpty()) {
-					for (CongruenceAnalysisRow row : this.congruenceAnalysisPairs) {
+					for (CongruenceAnalysisRow row : this.congruenceAnalysisPairs)
 						row.setGroupId(groupId);
-						SQLManager.getInstance().saveItem(row);
-					}
+					SQLManager.getInstance().saveCongruenceAnalysisItems(this.congruenceAnalysisPairs);
 				}
 			} catch (SQLException e) {
 				e.printStackTrace();
@@ -436,11 +436,9 @@ public class DL100FileReader extends SourceFileReader<TreeItem<TreeItemValue>> {
 
 		try {
 			int groupId = ((ObservationTreeItemValue)newTreeItem.getValue()).getGroupId();
-			for (TerrestrialObservationRow row : observations) {
-				//SQLManager.getInstance().saveItem(groupId, row);
+			for (TerrestrialObservationRow row : observations)
 				row.setGroupId(groupId);
-				SQLManager.getInstance().saveItem(row);
-			}
+			SQLManager.getInstance().saveTerrestrialObservationItems(observations);
 		} catch (SQLException e) {
 			e.printStackTrace();
 			throw new SQLException(e);
@@ -465,10 +463,9 @@ public class DL100FileReader extends SourceFileReader<TreeItem<TreeItemValue>> {
 
 		try {
 			int groupId = ((PointTreeItemValue)newTreeItem.getValue()).getGroupId();
-			for (PointRow row : points) {
+			for (PointRow row : points)
 				row.setGroupId(groupId);
-				SQLManager.getInstance().saveItem(row);
-			}
+			SQLManager.getInstance().savePointItems(points);
 		} catch (SQLException e) {
 			e.printStackTrace();
 			throw new SQLException(e);
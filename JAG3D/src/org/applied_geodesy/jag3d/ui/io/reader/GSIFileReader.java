@@ -765,10 +765,9 @@ public class GSIFileReader extends SourceFileReader<TreeItem<TreeItemValue>> {
 
 		try {
 			int groupId = ((ObservationTreeItemValue)newTreeItem.getValue()).getGroupId();
-			for (TerrestrialObservationRow row : observations) {
+			for (TerrestrialObservationRow row : observations)
 				row.setGroupId(groupId);
-				SQLManager.getInstance().saveItem(row);
-			}
+			SQLManager.getInstance().saveTerrestrialObservationItems(observations);
 		} catch (SQLException e) {
 			e.printStackTrace();
 			throw new SQLException(e);
@@ -793,10 +792,9 @@ public class GSIFileReader extends SourceFileReader<TreeItem<TreeItemValue>> {
 
 		try {
 			int groupId = ((PointTreeItemValue)newTreeItem.getValue()).getGroupId();
-			for (PointRow row : points) {
+			for (PointRow row : points)
 				row.setGroupId(groupId);
-				SQLManager.getInstance().saveItem(row);
-			}
+			SQLManager.getInstance().savePointItems(points);
 		} catch (SQLException e) {
 			e.printStackTrace();
 			throw new SQLException(e);
@@ -199,16 +199,14 @@ public class ObservationFlatFileReader extends FlatFileReader<TreeItem<TreeItemV
 		try {
 			int groupId = ((ObservationTreeItemValue)newTreeItem.getValue()).getGroupId();
 			if (!this.observations.isEmpty()) {
-				for (TerrestrialObservationRow row : this.observations) {
+				for (TerrestrialObservationRow row : this.observations)
 					row.setGroupId(groupId);
-					SQLManager.getInstance().saveItem(row);
-				}
+				SQLManager.getInstance().saveTerrestrialObservationItems(this.observations);
 			}
 			else if (!this.gnss.isEmpty()) {
-				for (GNSSObservationRow row : this.gnss) {
+				for (GNSSObservationRow row : this.gnss)
 					row.setGroupId(groupId);
-					SQLManager.getInstance().saveItem(row);
-				}
+				SQLManager.getInstance().saveGNSSObservationItems(this.gnss);
 			}
 		} catch (SQLException e) {
 			e.printStackTrace();
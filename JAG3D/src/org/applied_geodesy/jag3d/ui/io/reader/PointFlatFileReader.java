@@ -107,10 +107,9 @@ public class PointFlatFileReader extends FlatFileReader<TreeItem<TreeItemValue>>
 			try {
 				int groupId = ((PointTreeItemValue)newTreeItem.getValue()).getGroupId();
 				if (!this.points.isEmpty()) {
-					for (PointRow row : this.points) {
+					for (PointRow row : this.points)
 						row.setGroupId(groupId);
-						SQLManager.getInstance().saveItem(row);
-					}
+					SQLManager.getInstance().savePointItems(this.points);
 				}
 			} catch (SQLException e) {
 				e.printStackTrace();
@@ -104,10 +104,9 @@ public class VerticalDeflectionFlatFileReader extends FlatFileReader<TreeItem<Tr
 			try {
 				int groupId = ((VerticalDeflectionTreeItemValue)newTreeItem.getValue()).getGroupId();
 				if (!this.verticalDeflections.isEmpty()) {
-					for (VerticalDeflectionRow row : this.verticalDeflections) {
+					for (VerticalDeflectionRow row : this.verticalDeflections)
 						row.setGroupId(groupId);
-						SQLManager.getInstance().saveItem(row);
-					}
+					SQLManager.getInstance().saveVerticalDeflectionItems(this.verticalDeflections);
 				}
 			} catch (SQLException e) {
 				e.printStackTrace();
@@ -26,10 +26,11 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -52,8 +53,8 @@ import org.applied_geodesy.jag3d.ui.tree.PointTreeItemValue;
 import org.applied_geodesy.jag3d.ui.tree.TreeItemType;
 import org.applied_geodesy.jag3d.ui.tree.TreeItemValue;
 import org.applied_geodesy.jag3d.ui.tree.UITreeBuilder;
-import org.applied_geodesy.util.XMLUtilities;
 import org.applied_geodesy.util.io.SourceFileReader;
+import org.applied_geodesy.util.io.xml.XPathEvaluator;
 import org.w3c.dom.Document;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
@@ -260,14 +261,15 @@ public class HeXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>> i
 			Document document = builder.parse(xmlFile);
 			
 			HeXMLNamespaceContext namespaceContext = new HeXMLNamespaceContext(document);
+			XPathEvaluator xpathEvaluator = new XPathEvaluator(namespaceContext);
 					
 			// Bestimme Applikation auf dem Instrument
 			String xpathPattern = "//landxml:LandXML/landxml:Application/@name";
-			String applicationName = (String)XMLUtilities.xpathSearch(document, xpathPattern, namespaceContext, XPathConstants.STRING);
+			String applicationName = (String)xpathEvaluator.evaluate(document, xpathPattern, XPathConstants.STRING);
 			
 			// Bestimme Einheiten
 			xpathPattern = "//landxml:LandXML/landxml:Units/*[1]";
-			Node units = (Node)XMLUtilities.xpathSearch(document, xpathPattern, namespaceContext, XPathConstants.NODE);
+			Node units = (Node)xpathEvaluator.evaluate(document, xpathPattern, XPathConstants.NODE);
 			if (units != null) {				
 				NamedNodeMap attr = units.getAttributes();
 				// ENUM { millimeter, centimeter, meter, kilometer, foot, USSurveyFoot, inch, mile }
@@ -307,7 +309,7 @@ public class HeXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>> i
 					+ "//landxml:LandXML/landxml:Survey//landxml:TargetPoint[@name] |"
 					+ "//landxml:LandXML/landxml:Survey//landxml:InstrumentSetup[@stationName]/landxml:InstrumentPoint";
 
-			NodeList nodeList = (NodeList)XMLUtilities.xpathSearch(document, xpathPattern, namespaceContext, XPathConstants.NODESET);
+			NodeList nodeList = (NodeList)xpathEvaluator.evaluate(document, xpathPattern, XPathConstants.NODESET);
 			for (int i=0; i<nodeList.getLength(); i++) {
 				Node node = nodeList.item(i);
 				if (node.hasChildNodes() && node.getFirstChild().getNodeType() == Node.TEXT_NODE && !node.getFirstChild().getNodeValue().trim().isEmpty()) {
@@ -382,14 +384,25 @@ public class HeXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>> i
 						this.setups.put(setupId, new InstrumentSetup(pointName, ih));
 				}
 			}
-			// ermittle Beobachtungen zwischen den Punkten
-			xpathPattern = "//landxml:LandXML/landxml:Survey//landxml:RawObservation[@setupID=\"%s\"]";
+			// ermittle Beobachtungen zwischen den Punkten und ordne diese in einem Durchlauf den Standpunkten zu
+			xpathPattern = "//landxml:LandXML/landxml:Survey//landxml:RawObservation[@setupID]";
+			nodeList = (NodeList)xpathEvaluator.evaluate(document, xpathPattern, XPathConstants.NODESET);
+			Map<String, List<Node>> rawObservations = new HashMap<String, List<Node>>();
+			for (int i=0; i<nodeList.getLength(); i++) {
+				Node node = nodeList.item(i);
+				String setupId = node.getAttributes().getNamedItem("setupID").getNodeValue();
+				if (!rawObservations.containsKey(setupId))
+					rawObservations.put(setupId, new ArrayList<Node>());
+				rawObservations.get(setupId).add(node);
+			}
+
+			// Korrekturwerte (Massstab, Additionskonstante) je Standpunkt und Korrekturreferenz
+			Map<String, Double[]> tpsCorrections = new HashMap<String, Double[]>();
 			boolean applyAtmosphericCorrection = applicationName == null || !applicationName.equalsIgnoreCase("LandXML Export");
 			for (String setupId : this.setups.keySet()) {
 				InstrumentSetup setup = this.setups.get(setupId);
-				nodeList = (NodeList)XMLUtilities.xpathSearch(document, String.format(Locale.ENGLISH, xpathPattern, setupId), namespaceContext, XPathConstants.NODESET);
-				for (int i=0; i<nodeList.getLength(); i++) {
-					Node node = nodeList.item(i);				
+				List<Node> setupObservations = rawObservations.containsKey(setupId) ? rawObservations.get(setupId) : Collections.<Node>emptyList();
+				for (Node node : setupObservations) {
 					double th = 0.0;
 					Double dir = null, zenith = null, dist2d = null, dist3d = null;
 					Boolean isDeleted = false;
@@ -419,7 +432,7 @@ public class HeXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>> i
 					}
 
 					String xpath = "./landxml:TargetPoint/@name";
-					String endPointName = (String)XMLUtilities.xpathSearch(node, xpath, namespaceContext, XPathConstants.STRING);
+					String endPointName = (String)xpathEvaluator.evaluate(node, xpath, XPathConstants.STRING);
 					
 					int targetPointDim = this.point3DName.contains(endPointName) ? 3 : this.pointNames.contains(endPointName) ? 2 : this.dim == DimensionType.PLAN ? 2 : 3;
 					int startPointDim  = this.point3DName.contains(setup.getSetupPointName()) ? 3 : this.pointNames.contains(setup.getSetupPointName()) ? 2 : this.dim == DimensionType.PLAN ? 2 : 3;
@@ -432,24 +445,37 @@ public class HeXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>> i
 						// Bestimme Korrekturparameter fuer 3D-Strecke, sofern es nicht das 1200er System ist
 						if (dist3d != null) {
 							xpath = "./landxml:Feature[@code=\"observationInfo\"]/landxml:Property[@label=\"TPSCorrectionRef\"]/@value";
-							String tpsCorr = (String)XMLUtilities.xpathSearch(node, xpath, namespaceContext, XPathConstants.STRING);
+							String tpsCorr = (String)xpathEvaluator.evaluate(node, xpath, XPathConstants.STRING);
 							
 							xpath = "./landxml:TargetPoint/@pntRef";
-							tpsCorr = tpsCorr == null || tpsCorr.isEmpty() ? (String)XMLUtilities.xpathSearch(node, xpath, namespaceContext, XPathConstants.STRING) : tpsCorr;
+							tpsCorr = tpsCorr == null || tpsCorr.isEmpty() ? (String)xpathEvaluator.evaluate(node, xpath, XPathConstants.STRING) : tpsCorr;
 													
-							// HeXML
-							xpath = "1.0 + //landxml:LandXML/hexml:HexagonLandXML/hexml:Survey/hexml:TPSCorrection[@uniqueID = ./../hexml:InstrumentSetup[@uniqueID=\"%s\"]/hexml:RawObservation[@targetPntRef=\"%s\"]/@tpsCorrectionRef ]/@atmosphericPPM * 0.000001";
-							Double scale = (Double)XMLUtilities.xpathSearch(document, String.format(Locale.ENGLISH, xpath, setupId, tpsCorr), namespaceContext, XPathConstants.NUMBER);
-						
-							xpath = "//landxml:LandXML/hexml:HexagonLandXML/hexml:Survey/hexml:InstrumentSetup[@uniqueID=\"%s\"]/hexml:RawObservation[@targetPntRef=\"%s\"]/@reflectorConstant";
-							Double add = (Double)XMLUtilities.xpathSearch(document, String.format(Locale.ENGLISH, xpath, setupId, tpsCorr), namespaceContext, XPathConstants.NUMBER);
+							// die folgenden Ausdruecke sind absolut und haengen nur vom Standpunkt und der Korrekturreferenz ab
+							String tpsCorrectionKey = setupId + "\u0000" + tpsCorr;
+							Double corrections[] = tpsCorrections.get(tpsCorrectionKey);
+							if (corrections == null) {
+								xpathEvaluator.setVariable("setupId", setupId);
+								xpathEvaluator.setVariable("tpsCorrectionRef", tpsCorr);
+
+								// HeXML
+								xpath = "1.0 + //landxml:LandXML/hexml:HexagonLandXML/hexml:Survey/hexml:TPSCorrection[@uniqueID = ./../hexml:InstrumentSetup[@uniqueID=$setupId]/hexml:RawObservation[@targetPntRef=$tpsCorrectionRef]/@tpsCorrectionRef ]/@atmosphericPPM * 0.000001";
+								Double scale = (Double)xpathEvaluator.evaluate(document, xpath, XPathConstants.NUMBER);
+
+								xpath = "//landxml:LandXML/hexml:HexagonLandXML/hexml:Survey/hexml:InstrumentSetup[@uniqueID=$setupId]/hexml:RawObservation[@targetPntRef=$tpsCorrectionRef]/@reflectorConstant";
+								Double add = (Double)xpathEvaluator.evaluate(document, xpath, XPathConstants.NUMBER);
+
+								// LandXML
+								xpath = "1.0 + //landxml:LandXML/landxml:Survey//landxml:Corrections/landxml:Feature[@code=\"TPSCorrection\"]/landxml:Property[@label=\"oID\"][@value = $tpsCorrectionRef]/../landxml:Property[@label=\"atmosphericPPM\"]/@value * 0.000001";
+								scale = scale == null || Double.isNaN(scale) ? (Double)xpathEvaluator.evaluate(node, xpath, XPathConstants.NUMBER) : scale;
+
+								corrections = new Double[] {scale, add};
+								tpsCorrections.put(tpsCorrectionKey, corrections);
+							}
+							Double scale = corrections[0];
+							Double add   = corrections[1];
 
-							// LandXML
-							xpath = "1.0 + //landxml:LandXML/landxml:Survey//landxml:Corrections/landxml:Feature[@code=\"TPSCorrection\"]/landxml:Property[@label=\"oID\"][@value = \"%s\"]/../landxml:Property[@label=\"atmosphericPPM\"]/@value * 0.000001";
-							scale = scale == null || Double.isNaN(scale) ? (Double)XMLUtilities.xpathSearch(node, String.format(Locale.ENGLISH, xpath, tpsCorr), namespaceContext, XPathConstants.NUMBER) : scale;
-							
 							xpath = "./landxml:Feature[@code=\"observationInfo\"]/landxml:Property[@label=\"reflectorConstant\"]/@value";
-							add = add == null || Double.isNaN(add) ? (Double)XMLUtilities.xpathSearch(node, xpath, namespaceContext, XPathConstants.NUMBER) : add;
+							add = add == null || Double.isNaN(add) ? (Double)xpathEvaluator.evaluate(node, xpath, XPathConstants.NUMBER) : add;
 	
 							// Validiere Korrekturwerte
 							scale = !applyAtmosphericCorrection || scale == null || Double.isNaN(scale) ? 1.0 : scale;
@@ -515,9 +541,23 @@ public class HeXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>> i
 				this.saveObservationGroups(false);
 			}
 
+			// GNSS-Setups; erster Zielpunkt je Setup-ID
+			xpathPattern = "//landxml:LandXML/landxml:Survey//landxml:GPSSetup[@id]";
+			nodeList = (NodeList)xpathEvaluator.evaluate(document, xpathPattern, XPathConstants.NODESET);
+			Map<String, Node> gnssSetupTargetPoints = new HashMap<String, Node>();
+			for (int i=0; i<nodeList.getLength(); i++) {
+				Node node = nodeList.item(i);
+				String setupId = node.getAttributes().getNamedItem("id").getNodeValue();
+				if (gnssSetupTargetPoints.containsKey(setupId))
+					continue;
+				Node targetNode = (Node)xpathEvaluator.evaluate(node, ".//landxml:TargetPoint[1]", XPathConstants.NODE);
+				if (targetNode != null)
+					gnssSetupTargetPoints.put(setupId, targetNode);
+			}
+
 			// GNSS-Vector
 			xpathPattern = "//landxml:LandXML/landxml:Survey//landxml:GPSVector";
-			nodeList = (NodeList)XMLUtilities.xpathSearch(document, xpathPattern, namespaceContext, XPathConstants.NODESET);
+			nodeList = (NodeList)xpathEvaluator.evaluate(document, xpathPattern, XPathConstants.NODESET);
 			for (int i=0; i<nodeList.getLength(); i++) {
 				Node node = nodeList.item(i);
 				NamedNodeMap attr = node.getAttributes();
@@ -528,9 +568,8 @@ public class HeXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>> i
 				if (startPointName == null || endPointName == null)
 					continue;
 				
-				xpathPattern = "//landxml:LandXML/landxml:Survey//landxml:GPSSetup[@id=\"%s\"]//landxml:TargetPoint[1]";
-				Node startNode  = (Node)XMLUtilities.xpathSearch(document, String.format(Locale.ENGLISH, xpathPattern, startPointName),  namespaceContext, XPathConstants.NODE);
-				Node targetNode = (Node)XMLUtilities.xpathSearch(document, String.format(Locale.ENGLISH, xpathPattern, endPointName), namespaceContext, XPathConstants.NODE);
+				Node startNode  = gnssSetupTargetPoints.get(startPointName);
+				Node targetNode = gnssSetupTargetPoints.get(endPointName);
 				
 				if (startNode == null || targetNode == null)
 					continue;
@@ -682,10 +721,9 @@ public class HeXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>> i
 
 		try {
 			int groupId = ((ObservationTreeItemValue)newTreeItem.getValue()).getGroupId();
-			for (TerrestrialObservationRow row : observations) {
+			for (TerrestrialObservationRow row : observations)
 				row.setGroupId(groupId);
-				SQLManager.getInstance().saveItem(row);
-			}
+			SQLManager.getInstance().saveTerrestrialObservationItems(observations);
 		} catch (SQLException e) {
 			e.printStackTrace();
 			throw new SQLException(e);
@@ -710,10 +748,9 @@ public class HeXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>> i
 
 		try {
 			int groupId = ((ObservationTreeItemValue)newTreeItem.getValue()).getGroupId();
-			for (GNSSObservationRow row : gnssObservations) {
+			for (GNSSObservationRow row : gnssObservations)
 				row.setGroupId(groupId);
-				SQLManager.getInstance().saveItem(row);
-			}
+			SQLManager.getInstance().saveGNSSObservationItems(gnssObservations);
 		} catch (SQLException e) {
 			e.printStackTrace();
 			throw new SQLException(e);
@@ -738,10 +775,9 @@ public class HeXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>> i
 
 		try {
 			int groupId = ((PointTreeItemValue)newTreeItem.getValue()).getGroupId();
-			for (PointRow row : points) {
+			for (PointRow row : points)
 				row.setGroupId(groupId);
-				SQLManager.getInstance().saveItem(row);
-			}
+			SQLManager.getInstance().savePointItems(points);
 		} catch (SQLException e) {
 			e.printStackTrace();
 			throw new SQLException(e);
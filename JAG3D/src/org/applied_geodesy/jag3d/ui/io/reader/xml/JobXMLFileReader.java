@@ -26,10 +26,11 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -52,8 +53,8 @@ import org.applied_geodesy.jag3d.ui.tree.PointTreeItemValue;
 import org.applied_geodesy.jag3d.ui.tree.TreeItemType;
 import org.applied_geodesy.jag3d.ui.tree.TreeItemValue;
 import org.applied_geodesy.jag3d.ui.tree.UITreeBuilder;
-import org.applied_geodesy.util.XMLUtilities;
 import org.applied_geodesy.util.io.SourceFileReader;
+import org.applied_geodesy.util.io.xml.XPathEvaluator;
 import org.w3c.dom.Document;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
@@ -215,26 +216,27 @@ public class JobXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>>
 			Document document = builder.parse(xmlFile);
 			
 			JobXMLNamespaceContext namespaceContextJobXML = new JobXMLNamespaceContext(document);
+			XPathEvaluator xpathEvaluator = new XPathEvaluator(namespaceContextJobXML);
 
 			String xpathPattern = "//JOBFile/FieldBook/PointRecord/Grid | "
 					+ "//JOBFile/FieldBook/PointRecord/ComputedGrid | "
 					+ "//JOBFile/Reductions/Point/Grid";
 			
-			NodeList nodeList = (NodeList)XMLUtilities.xpathSearch(document, xpathPattern, namespaceContextJobXML, XPathConstants.NODESET);
+			NodeList nodeList = (NodeList)xpathEvaluator.evaluate(document, xpathPattern, XPathConstants.NODESET);
 			for (int i=0; i<nodeList.getLength(); i++) {
 				Node pointNode = nodeList.item(i);
 				
-				String pointName = (String)XMLUtilities.xpathSearch(pointNode, "../Name",    namespaceContextJobXML, XPathConstants.STRING);
-				String pointCode = (String)XMLUtilities.xpathSearch(pointNode, "../Code",    namespaceContextJobXML, XPathConstants.STRING);
-				String deleted   = (String)XMLUtilities.xpathSearch(pointNode, "../Deleted", namespaceContextJobXML, XPathConstants.STRING);
+				String pointName = (String)xpathEvaluator.evaluate(pointNode, "../Name", XPathConstants.STRING);
+				String pointCode = (String)xpathEvaluator.evaluate(pointNode, "../Code", XPathConstants.STRING);
+				String deleted   = (String)xpathEvaluator.evaluate(pointNode, "../Deleted", XPathConstants.STRING);
 				boolean isDeleted = deleted != null && Boolean.parseBoolean(deleted);
 				
 				if (isDeleted)
 					continue;
 				
-				Double x0 = (Double)XMLUtilities.xpathSearch(pointNode, "North",     namespaceContextJobXML, XPathConstants.NUMBER);
-				Double y0 = (Double)XMLUtilities.xpathSearch(pointNode, "East",      namespaceContextJobXML, XPathConstants.NUMBER);
-				Double z0 = (Double)XMLUtilities.xpathSearch(pointNode, "Elevation", namespaceContextJobXML, XPathConstants.NUMBER);
+				Double x0 = (Double)xpathEvaluator.evaluate(pointNode, "North", XPathConstants.NUMBER);
+				Double y0 = (Double)xpathEvaluator.evaluate(pointNode, "East", XPathConstants.NUMBER);
+				Double z0 = (Double)xpathEvaluator.evaluate(pointNode, "Elevation", XPathConstants.NUMBER);
 
 				if (pointName != null && !pointName.trim().isEmpty() && !this.pointNames.contains(pointName)) {
 					x0 = x0 == null || Double.isNaN(x0) ||  Double.isInfinite(x0) ? 0.0 : x0;
@@ -262,32 +264,35 @@ public class JobXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>>
 				}
 			}
 
+			// Atmosphaeren- und Zieldatensaetze je ID
+			Map<String, Node> atmosphereRecords = this.getRecordsById(xpathEvaluator, document, "//JOBFile/FieldBook/AtmosphereRecord[@ID]");
+			Map<String, Node> targetRecords     = this.getRecordsById(xpathEvaluator, document, "//JOBFile/FieldBook/TargetRecord[@ID]");
+
 			// Bestimme Stationen
 			xpathPattern = "//JOBFile/FieldBook/StationRecord";
-			nodeList = (NodeList)XMLUtilities.xpathSearch(document, xpathPattern, namespaceContextJobXML, XPathConstants.NODESET);
+			nodeList = (NodeList)xpathEvaluator.evaluate(document, xpathPattern, XPathConstants.NODESET);
 			for (int i=0; i<nodeList.getLength(); i++) {
 				Node node = nodeList.item(i);
 				if (node != null && node.hasChildNodes()) {
 					NamedNodeMap attr = node.getAttributes();
 					String stationId = attr.getNamedItem("ID") == null ? null : attr.getNamedItem("ID").getNodeValue();
-					String stationName   = (String)XMLUtilities.xpathSearch(node, "StationName",      namespaceContextJobXML, XPathConstants.STRING);
-					Double stationHeight = (Double)XMLUtilities.xpathSearch(node, "TheodoliteHeight", namespaceContextJobXML, XPathConstants.NUMBER);
-					String atmosphereId  = (String)XMLUtilities.xpathSearch(node, "AtmosphereID",     namespaceContextJobXML, XPathConstants.STRING);
+					String stationName   = (String)xpathEvaluator.evaluate(node, "StationName", XPathConstants.STRING);
+					Double stationHeight = (Double)xpathEvaluator.evaluate(node, "TheodoliteHeight", XPathConstants.NUMBER);
+					String atmosphereId  = (String)xpathEvaluator.evaluate(node, "AtmosphereID", XPathConstants.STRING);
 					stationHeight = stationHeight == null || Double.isNaN(stationHeight) ||  Double.isInfinite(stationHeight) ? 0.0 : stationHeight;
 
 					if (stationId != null && !stationId.trim().isEmpty() && stationName != null && !stationName.trim().isEmpty()) {
-						xpathPattern = "//JOBFile/FieldBook/AtmosphereRecord[@ID=\"%s\"]";
-						Node atmNode = (Node)XMLUtilities.xpathSearch(document, String.format(Locale.ENGLISH, xpathPattern, atmosphereId), namespaceContextJobXML, XPathConstants.NODE);
+						Node atmNode = atmosphereRecords.get(atmosphereId);
 						
 						Double ppm = 0.0, refraction = 0.0;
 						boolean applyEarthCurveCorr = false;
 						if (atmNode != null && atmNode.hasChildNodes()) {
-							String applyPPM        = (String)XMLUtilities.xpathSearch(atmNode, "ApplyPPMToRawDistances",    namespaceContextJobXML, XPathConstants.STRING);
-							String applyRefraction = (String)XMLUtilities.xpathSearch(atmNode, "ApplyRefractionCorrection", namespaceContextJobXML, XPathConstants.STRING);
+							String applyPPM        = (String)xpathEvaluator.evaluate(atmNode, "ApplyPPMToRawDistances", XPathConstants.STRING);
+							String applyRefraction = (String)xpathEvaluator.evaluate(atmNode, "ApplyRefractionCorrection", XPathConstants.STRING);
 							
-							String applyEarthCurve = (String)XMLUtilities.xpathSearch(atmNode, "ApplyEarthCurvatureCorrection", namespaceContextJobXML, XPathConstants.STRING);
-							ppm = (Double)XMLUtilities.xpathSearch(atmNode, "PPM", namespaceContextJobXML, XPathConstants.NUMBER);
-							refraction = (Double)XMLUtilities.xpathSearch(atmNode, "RefractionCoefficient", namespaceContextJobXML, XPathConstants.NUMBER);
+							String applyEarthCurve = (String)xpathEvaluator.evaluate(atmNode, "ApplyEarthCurvatureCorrection", XPathConstants.STRING);
+							ppm = (Double)xpathEvaluator.evaluate(atmNode, "PPM", XPathConstants.NUMBER);
+							refraction = (Double)xpathEvaluator.evaluate(atmNode, "RefractionCoefficient", XPathConstants.NUMBER);
 							
 							boolean applyPPMCorr = applyPPM != null && Boolean.parseBoolean(applyPPM);
 							boolean applyRefractionCorr = applyRefraction != null && Boolean.parseBoolean(applyRefraction);
@@ -318,28 +323,43 @@ public class JobXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>>
 				}
 			}
 			
-			xpathPattern = "//JOBFile/FieldBook/PointRecord[StationID=\"%s\"]";
+			// ordne die Messungen in einem Durchlauf den Stationen zu
+			xpathPattern = "//JOBFile/FieldBook/PointRecord[StationID]";
+			nodeList = (NodeList)xpathEvaluator.evaluate(document, xpathPattern, XPathConstants.NODESET);
+			Map<String, List<Node>> pointRecords = new HashMap<String, List<Node>>();
+			for (int i=0; i<nodeList.getLength(); i++) {
+				Node pointRecordNode = nodeList.item(i);
+				NodeList stationIds = (NodeList)xpathEvaluator.evaluate(pointRecordNode, "StationID", XPathConstants.NODESET);
+				for (int j=0; j<stationIds.getLength(); j++) {
+					String stationId = stationIds.item(j).getTextContent();
+					if (!pointRecords.containsKey(stationId))
+						pointRecords.put(stationId, new ArrayList<Node>());
+					List<Node> stationPointRecords = pointRecords.get(stationId);
+					if (stationPointRecords.isEmpty() || stationPointRecords.get(stationPointRecords.size() - 1) != pointRecordNode)
+						stationPointRecords.add(pointRecordNode);
+				}
+			}
+
 			for (String stationId : this.stations.keySet()) {
 				StationRecord station = this.stations.get(stationId);
 				double ppm              = station.getAtmospherePPMValue();
 				double refraction       = station.getAtmosphereRefractionValue();
 				boolean applyEarthCurve = station.applyEarthCurveCorrection();
-				nodeList = (NodeList)XMLUtilities.xpathSearch(document, String.format(Locale.ENGLISH, xpathPattern, stationId), namespaceContextJobXML, XPathConstants.NODESET);
-				for (int i=0; i<nodeList.getLength(); i++) {
-					Node stationNode  = nodeList.item(i);
-					String targetID   = (String)XMLUtilities.xpathSearch(stationNode, "TargetID", namespaceContextJobXML, XPathConstants.STRING);
-					String targetName = (String)XMLUtilities.xpathSearch(stationNode, "Name",     namespaceContextJobXML, XPathConstants.STRING);
-					String deleted    = (String)XMLUtilities.xpathSearch(stationNode, "Deleted",  namespaceContextJobXML, XPathConstants.STRING);
+				List<Node> stationPointRecords = pointRecords.containsKey(stationId) ? pointRecords.get(stationId) : Collections.<Node>emptyList();
+				for (Node stationNode : stationPointRecords) {
+					String targetID   = (String)xpathEvaluator.evaluate(stationNode, "TargetID", XPathConstants.STRING);
+					String targetName = (String)xpathEvaluator.evaluate(stationNode, "Name", XPathConstants.STRING);
+					String deleted    = (String)xpathEvaluator.evaluate(stationNode, "Deleted", XPathConstants.STRING);
 					boolean isDeleted = deleted != null && Boolean.parseBoolean(deleted);
 					
 					// Keine Punktnummer fuer den Zielpunkt vorhanden oder Messung als geloescht markiert
 					if (isDeleted || targetName == null || targetName.trim().isEmpty())
 						continue;
 					
-					Double direction   = (Double)XMLUtilities.xpathSearch(stationNode, "Circle/HorizontalCircle", namespaceContextJobXML, XPathConstants.NUMBER);
-					Double zenithAngle = (Double)XMLUtilities.xpathSearch(stationNode, "Circle/VerticalCircle",   namespaceContextJobXML, XPathConstants.NUMBER);
-					Double distance3d  = (Double)XMLUtilities.xpathSearch(stationNode, "Circle/EDMDistance",      namespaceContextJobXML, XPathConstants.NUMBER);
-					String faceType    = (String)XMLUtilities.xpathSearch(stationNode, "Circle/Face",             namespaceContextJobXML, XPathConstants.STRING);
+					Double direction   = (Double)xpathEvaluator.evaluate(stationNode, "Circle/HorizontalCircle", XPathConstants.NUMBER);
+					Double zenithAngle = (Double)xpathEvaluator.evaluate(stationNode, "Circle/VerticalCircle", XPathConstants.NUMBER);
+					Double distance3d  = (Double)xpathEvaluator.evaluate(stationNode, "Circle/EDMDistance", XPathConstants.NUMBER);
+					String faceType    = (String)xpathEvaluator.evaluate(stationNode, "Circle/Face", XPathConstants.STRING);
 					
 					boolean isFaceI    = true;
 					//Valid values Face1, Face2 *AND* FaceNull
@@ -366,11 +386,10 @@ public class JobXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>>
 					Double targetHeight  = 0.0;
 					
 					if (targetID != null && !targetID.trim().isEmpty()) {
-						String xpathPatternTargetRecord = "//JOBFile/FieldBook/TargetRecord[@ID=\"%s\"]";	
-						Node targetNode = (Node)XMLUtilities.xpathSearch(document, String.format(Locale.ENGLISH, xpathPatternTargetRecord, targetID), namespaceContextJobXML, XPathConstants.NODE);
+						Node targetNode = targetRecords.get(targetID);
 
-						prismConstant = (Double)XMLUtilities.xpathSearch(targetNode, "PrismConstant", namespaceContextJobXML, XPathConstants.NUMBER);
-						targetHeight  = (Double)XMLUtilities.xpathSearch(targetNode, "TargetHeight",  namespaceContextJobXML, XPathConstants.NUMBER);
+						prismConstant = (Double)xpathEvaluator.evaluate(targetNode, "PrismConstant", XPathConstants.NUMBER);
+						targetHeight  = (Double)xpathEvaluator.evaluate(targetNode, "TargetHeight", XPathConstants.NUMBER);
 						
 						prismConstant = prismConstant == null || Double.isNaN(prismConstant) ||  Double.isInfinite(prismConstant) ? 0.0 : prismConstant;
 						targetHeight  = targetHeight == null  || Double.isNaN(targetHeight)  ||  Double.isInfinite(targetHeight)  ? 0.0 : targetHeight;
@@ -573,10 +592,9 @@ public class JobXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>>
 
 		try {
 			int groupId = ((ObservationTreeItemValue)newTreeItem.getValue()).getGroupId();
-			for (TerrestrialObservationRow row : observations) {
+			for (TerrestrialObservationRow row : observations)
 				row.setGroupId(groupId);
-				SQLManager.getInstance().saveItem(row);
-			}
+			SQLManager.getInstance().saveTerrestrialObservationItems(observations);
 		} catch (SQLException e) {
 			e.printStackTrace();
 			throw new SQLException(e);
@@ -601,10 +619,9 @@ public class JobXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>>
 
 		try {
 			int groupId = ((PointTreeItemValue)newTreeItem.getValue()).getGroupId();
-			for (PointRow row : points) {
+			for (PointRow row : points)
 				row.setGroupId(groupId);
-				SQLManager.getInstance().saveItem(row);
-			}
+			SQLManager.getInstance().savePointItems(points);
 		} catch (SQLException e) {
 			e.printStackTrace();
 			throw new SQLException(e);
@@ -613,6 +630,19 @@ public class JobXMLFileReader extends SourceFileReader<TreeItem<TreeItemValue>>
 		return newTreeItem;
 	}
 	
+	private Map<String, Node> getRecordsById(XPathEvaluator xpathEvaluator, Document document, String xpathPattern) {
+		// erster Datensatz je ID (in der Reihenfolge des Dokuments)
+		NodeList nodeList = (NodeList)xpathEvaluator.evaluate(document, xpathPattern, XPathConstants.NODESET);
+		Map<String, Node> records = new HashMap<String, Node>(Math.max(16, 2 * nodeList.getLength()));
+		for (int i=0; i<nodeList.getLength(); i++) {
+			Node node = nodeList.item(i);
+			String id = node.getAttributes().getNamedItem("ID").getNodeValue();
+			if (!records.containsKey(id))
+				records.put(id, node);
+		}
+		return records;
+	}
+	
 	private double getEarthRadius() {
 		double earthRadius = Constant.EARTH_RADIUS;
 		try {
@@ -682,9 +682,9 @@ public class OADBReader extends SourceFileReader<TreeItem<TreeItemValue>> {
 			int groupId = ((VerticalDeflectionTreeItemValue)newTreeItem.getValue()).getGroupId();
 			for (VerticalDeflectionRow row : verticalDeflections) {
 				row.setGroupId(groupId);
-				SQLManager.getInstance().saveItem(row);
 				this.reservedVerticalDeflectionNames.add(row.getName());
 			}
+			SQLManager.getInstance().saveVerticalDeflectionItems(verticalDeflections);
 		} catch (SQLException e) {
 			e.printStackTrace();
 			throw new SQLException(e);
@@ -711,9 +711,9 @@ public class OADBReader extends SourceFileReader<TreeItem<TreeItemValue>> {
 			int groupId = ((PointTreeItemValue)newTreeItem.getValue()).getGroupId();
 			for (PointRow row : points) {
 				row.setGroupId(groupId);
-				SQLManager.getInstance().saveItem(row);
 				this.reservedPointNames.add(row.getName());
 			}
+			SQLManager.getInstance().savePointItems(points);
 		} catch (SQLException e) {
 			e.printStackTrace();
 			throw new SQLException(e);
@@ -739,13 +739,17 @@ public class OADBReader extends SourceFileReader<TreeItem<TreeItemValue>> {
 
 		try {
 			int groupId = ((ObservationTreeItemValue)newTreeItem.getValue()).getGroupId();
+			List<TerrestrialObservationRow> terrestrialObservations = new ArrayList<TerrestrialObservationRow>();
+			List<GNSSObservationRow> gnssObservations = new ArrayList<GNSSObservationRow>();
 			for (ObservationRow row : observations) {
 				row.setGroupId(groupId);
 				if (TreeItemType.isObservationTypeLeaf(treeItemType)) 
-					SQLManager.getInstance().saveItem((TerrestrialObservationRow)row);
+					terrestrialObservations.add((TerrestrialObservationRow)row);
 				else if (TreeItemType.isGNSSObservationTypeLeaf(treeItemType)) 
-					SQLManager.getInstance().saveItem((GNSSObservationRow)row);
+					gnssObservations.add((GNSSObservationRow)row);
 			}
+			SQLManager.getInstance().saveTerrestrialObservationItems(terrestrialObservations);
+			SQLManager.getInstance().saveGNSSObservationItems(gnssObservations);
 		} catch (SQLException e) {
 			e.printStackTrace();
 			throw new SQLException(e);
@@ -771,10 +775,9 @@ public class OADBReader extends SourceFileReader<TreeItem<TreeItemValue>> {
 
 		try {
 			int groupId = ((CongruenceAnalysisTreeItemValue)newTreeItem.getValue()).getGroupId();
-			for (CongruenceAnalysisRow row : pairs) {
+			for (CongruenceAnalysisRow row : pairs)
 				row.setGroupId(groupId);
-				SQLManager.getInstance().saveItem(row);
-			}
+			SQLManager.getInstance().saveCongruenceAnalysisItems(pairs);
 		} catch (SQLException e) {
 			e.printStackTrace();
 			throw new SQLException(e);
@@ -0,0 +1,448 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+package org.applied_geodesy.jag3d.ui.table;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.applied_geodesy.jag3d.ui.table.row.Row;
+
+import javafx.collections.ModifiableObservableListBase;
+import javafx.scene.control.TableColumn;
+
+/**
+ * Tabellenmodell, das lediglich die IDs aller Zeilen vorhaelt. Die Zeilen selbst (und damit
+ * die JavaFX-Properties) werden erst erzeugt, wenn die Tabelle auf sie zugreift, d.h. wenn sie
+ * sichtbar werden. Hierzu wird jeweils eine Seite von PAGE_SIZE Zeilen ueber den PageLoader
+ * nachgeladen; unveraenderte Seiten werden verworfen, sobald mehr als MAX_NUMBER_OF_PAGES
+ * Seiten materialisiert sind. Die Sortierung erfolgt ueber den PageLoader, d.h. in der Datenbank.
+ * Zeilen, die nicht geladen werden koennen, bleiben ungeladen und werden durch einen Platzhalter
+ * angezeigt; beim naechsten Zugriff wird erneut versucht, sie zu laden.
+ */
+public class PagedTableModel<T extends Row> extends ModifiableObservableListBase<T> {
+
+	public interface PageLoader<T extends Row> {
+		/**
+		 * Liefert die IDs aller Zeilen in der durch <code>sortOrder</code> vorgegebenen Reihenfolge
+		 * @param sortOrder
+		 * @return rowIds
+		 * @throws SQLException
+		 */
+		public List<Integer> loadRowIds(List<TableColumn<T, ?>> sortOrder) throws SQLException;
+
+		/**
+		 * Liefert die Zeilen zu den uebergebenen IDs, die Reihenfolge ist beliebig
+		 * @param rowIds
+		 * @return rows
+		 * @throws SQLException
+		 */
+		public List<T> loadRows(List<Integer> rowIds) throws SQLException;
+
+		/**
+		 * Erzeugt eine leere Zeile, die als Platzhalter angezeigt wird, solange eine Zeile nicht geladen werden kann.
+		 * Der Platzhalter wird weder im Modell abgelegt noch gespeichert.
+		 * @return row
+		 */
+		public T createEmptyRow();
+	}
+
+	final static int PAGE_SIZE           = 128;
+	final static int MAX_NUMBER_OF_PAGES = 64;
+
+	private final PageLoader<T> pageLoader;
+	// materialisierte Zeile oder null; die ID ist nur fuer nicht materialisierte Zeilen gueltig
+	private final List<T> rows;
+	private final List<Integer> rowIds;
+	// Zeilen, die bearbeitet wurden, werden nicht verworfen
+	private final Set<T> modifiedRows = Collections.newSetFromMap(new IdentityHashMap<T, Boolean>());
+	private T placeholderRow = null;
+	private Consumer<SQLException> pageLoadErrorHandler = null;
+	private boolean pageLoadFailed = false;
+	private final Map<Integer, Boolean> pages = new LinkedHashMap<Integer, Boolean>(16, 0.75f, true) {
+		private static final long serialVersionUID = -1591474950224232493L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, Boolean> eldest) {
+			if (this.size() <= MAX_NUMBER_OF_PAGES)
+				return false;
+			releasePage(eldest.getKey());
+			return true;
+		}
+	};
+
+	public PagedTableModel(PageLoader<T> pageLoader, List<Integer> rowIds) {
+		this.pageLoader = pageLoader;
+		this.rowIds = new ArrayList<Integer>(rowIds);
+		this.rows   = new ArrayList<T>(Collections.<T>nCopies(rowIds.size(), null));
+	}
+
+	/**
+	 * Erzeugt ein Modell, dessen Zeilen in der vorgegebenen Reihenfolge ueber den PageLoader geladen werden
+	 * @param pageLoader
+	 * @param sortOrder
+	 * @return model
+	 * @throws SQLException
+	 */
+	public static <T extends Row> PagedTableModel<T> create(PageLoader<T> pageLoader, List<TableColumn<T, ?>> sortOrder) throws SQLException {
+		return new PagedTableModel<T>(pageLoader, pageLoader.loadRowIds(sortOrder));
+	}
+
+	@Override
+	public T get(int index) {
+		T row = this.rows.get(index);
+		int page = index / PAGE_SIZE;
+		if (row == null) {
+			this.loadPage(page);
+			row = this.rows.get(index);
+			if (row == null)
+				row = this.getPlaceholderRow();
+		}
+		else if (this.pages.get(page) == null)
+			this.pages.put(page, Boolean.TRUE);
+		return row;
+	}
+
+	@Override
+	public int size() {
+		return this.rows.size();
+	}
+
+	/**
+	 * Legt fest, wie ein Fehler beim Laden einer Seite gemeldet wird. Bis eine Seite wieder erfolgreich
+	 * geladen wurde, wird nur der erste Fehler gemeldet.
+	 * @param pageLoadErrorHandler
+	 */
+	public void setPageLoadErrorHandler(Consumer<SQLException> pageLoadErrorHandler) {
+		this.pageLoadErrorHandler = pageLoadErrorHandler;
+	}
+
+	/**
+	 * Prueft, ob es sich um den Platzhalter einer nicht geladenen Zeile handelt. Platzhalter duerfen nicht bearbeitet werden.
+	 * @param row
+	 * @return isPlaceholder
+	 */
+	public boolean isPlaceholder(T row) {
+		return row != null && row == this.placeholderRow;
+	}
+
+	/**
+	 * Markiert eine Zeile als bearbeitet, sodass sie nicht verworfen und neu geladen wird
+	 * @param row
+	 */
+	public void setModified(T row) {
+		if (row != null && !this.isPlaceholder(row))
+			this.modifiedRows.add(row);
+	}
+
+	/**
+	 * Hebt die Markierung einer Zeile auf, nachdem sie gespeichert wurde, sodass sie wieder verworfen und neu geladen werden kann
+	 * @param row
+	 */
+	public void setSaved(T row) {
+		if (row != null)
+			this.modifiedRows.remove(row);
+	}
+
+	/**
+	 * Sortiert die Zeilen neu. Die Reihenfolge wird vom PageLoader bestimmt, bereits geladene Zeilen
+	 * bleiben erhalten. Noch nicht gespeicherte Zeilen werden ans Ende gestellt.
+	 *
+	 * @param sortOrder
+	 * @throws SQLException
+	 */
+	public void sort(List<TableColumn<T, ?>> sortOrder) throws SQLException {
+		List<Integer> sortedRowIds = this.pageLoader.loadRowIds(sortOrder);
+
+		Map<Integer, Integer> newIndices = new HashMap<Integer, Integer>(sortedRowIds.size());
+		for (int i = 0; i < sortedRowIds.size(); i++)
+			newIndices.put(sortedRowIds.get(i), i);
+
+		int size = this.size();
+		int permutation[] = new int[size];
+		boolean isPermutation = true;
+		int numberOfUnsavedRows = 0;
+		for (int i = 0; i < size && isPermutation; i++) {
+			int rowId = this.getRowId(i);
+			Integer newIndex = rowId < 0 ? null : newIndices.remove(rowId);
+			if (rowId < 0)
+				permutation[i] = sortedRowIds.size() + numberOfUnsavedRows++;
+			else if (newIndex != null)
+				permutation[i] = newIndex;
+			else
+				isPermutation = false;
+		}
+
+		// Datenbank und Modell sind nicht mehr deckungsgleich --> vollstaendig neu aufbauen
+		if (!isPermutation || !newIndices.isEmpty() || sortedRowIds.size() + numberOfUnsavedRows != size) {
+			List<T> unsavedRows = new ArrayList<T>(numberOfUnsavedRows);
+			for (int i = 0; i < size; i++) {
+				T row = this.rows.get(i);
+				if (row != null && row.getId() < 0)
+					unsavedRows.add(row);
+			}
+
+			this.beginChange();
+			try {
+				this.removeRange(0, size);
+				this.addRows(sortedRowIds, unsavedRows);
+			}
+			finally {
+				this.endChange();
+			}
+			return;
+		}
+
+		List<T> sortedRows = new ArrayList<T>(Collections.<T>nCopies(size, null));
+		List<Integer> sortedIds = new ArrayList<Integer>(Collections.<Integer>nCopies(size, -1));
+		for (int i = 0; i < size; i++) {
+			sortedRows.set(permutation[i], this.rows.get(i));
+			sortedIds.set(permutation[i], this.rowIds.get(i));
+		}
+
+		this.pages.clear();
+		this.beginChange();
+		try {
+			for (int i = 0; i < size; i++) {
+				this.rows.set(i, sortedRows.get(i));
+				this.rowIds.set(i, sortedIds.get(i));
+			}
+			this.nextPermutation(0, size, permutation);
+		}
+		finally {
+			this.endChange();
+		}
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		for (int i = 0; i < this.rows.size(); i++) {
+			if (this.rows.get(i) == o)
+				return i;
+		}
+		// Zeile wurde ggf. verworfen und neu geladen
+		if (o instanceof Row && ((Row)o).getId() >= 0) {
+			int rowId = ((Row)o).getId();
+			for (int i = 0; i < this.rows.size(); i++) {
+				if (this.getRowId(i) == rowId)
+					return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int lastIndexOf(Object o) {
+		return this.indexOf(o);
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return this.indexOf(o) >= 0;
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> c) {
+		Set<Object> removedRows = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+		Set<Integer> removedRowIds = new HashSet<Integer>();
+		for (Object o : c) {
+			removedRows.add(o);
+			if (o instanceof Row && ((Row)o).getId() >= 0)
+				removedRowIds.add(((Row)o).getId());
+		}
+
+		boolean modified = false;
+		this.beginChange();
+		try {
+			for (int i = this.size() - 1; i >= 0; i--) {
+				T row = this.rows.get(i);
+				if ((row != null && removedRows.contains(row)) || removedRowIds.contains(this.getRowId(i))) {
+					this.remove(i);
+					modified = true;
+				}
+			}
+		}
+		finally {
+			this.endChange();
+		}
+		return modified;
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> c) {
+		Set<Object> retainedRows = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+		Set<Integer> retainedRowIds = new HashSet<Integer>();
+		for (Object o : c) {
+			retainedRows.add(o);
+			if (o instanceof Row && ((Row)o).getId() >= 0)
+				retainedRowIds.add(((Row)o).getId());
+		}
+
+		boolean modified = false;
+		this.beginChange();
+		try {
+			for (int i = this.size() - 1; i >= 0; i--) {
+				T row = this.rows.get(i);
+				if (!((row != null && retainedRows.contains(row)) || retainedRowIds.contains(this.getRowId(i)))) {
+					this.remove(i);
+					modified = true;
+				}
+			}
+		}
+		finally {
+			this.endChange();
+		}
+		return modified;
+	}
+
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		if (fromIndex >= toIndex)
+			return;
+
+		List<T> removedRows = new ArrayList<T>(this.rows.subList(fromIndex, toIndex));
+		this.rows.subList(fromIndex, toIndex).clear();
+		this.rowIds.subList(fromIndex, toIndex).clear();
+		this.modifiedRows.removeAll(removedRows);
+		this.pages.clear();
+		this.modCount++;
+
+		this.beginChange();
+		try {
+			this.nextRemove(fromIndex, removedRows);
+		}
+		finally {
+			this.endChange();
+		}
+	}
+
+	@Override
+	protected void doAdd(int index, T row) {
+		this.rows.add(index, row);
+		this.rowIds.add(index, row == null ? -1 : row.getId());
+	}
+
+	@Override
+	protected T doSet(int index, T row) {
+		this.rowIds.set(index, row == null ? -1 : row.getId());
+		T oldRow = this.rows.set(index, row);
+		if (oldRow != null)
+			this.modifiedRows.remove(oldRow);
+		return oldRow;
+	}
+
+	@Override
+	protected T doRemove(int index) {
+		this.rowIds.remove(index);
+		T row = this.rows.remove(index);
+		if (row != null)
+			this.modifiedRows.remove(row);
+		return row;
+	}
+
+	private void addRows(List<Integer> rowIds, List<T> unsavedRows) {
+		int size = this.size();
+		this.rowIds.addAll(rowIds);
+		this.rows.addAll(Collections.<T>nCopies(rowIds.size(), null));
+		for (T row : unsavedRows) {
+			this.rowIds.add(row.getId());
+			this.rows.add(row);
+		}
+		this.modCount++;
+		this.nextAdd(size, this.size());
+	}
+
+	private int getRowId(int index) {
+		T row = this.rows.get(index);
+		return row != null ? row.getId() : this.rowIds.get(index);
+	}
+
+	private void loadPage(int page) {
+		int fromIndex = page * PAGE_SIZE;
+		int toIndex   = Math.min(this.rows.size(), fromIndex + PAGE_SIZE);
+
+		List<Integer> rowIds = new ArrayList<Integer>(toIndex - fromIndex);
+		for (int i = fromIndex; i < toIndex; i++) {
+			if (this.rows.get(i) == null)
+				rowIds.add(this.rowIds.get(i));
+		}
+
+		Map<Integer, T> loadedRows = new HashMap<Integer, T>(rowIds.size());
+		try {
+			for (T row : this.pageLoader.loadRows(rowIds))
+				loadedRows.put(row.getId(), row);
+		}
+		catch (SQLException e) {
+			// Seite bleibt ungeladen und wird beim naechsten Zugriff erneut angefordert
+			if (!this.pageLoadFailed) {
+				this.pageLoadFailed = true;
+				if (this.pageLoadErrorHandler != null)
+					this.pageLoadErrorHandler.accept(e);
+				else
+					e.printStackTrace();
+			}
+			return;
+		}
+		this.pageLoadFailed = false;
+
+		for (int i = fromIndex; i < toIndex; i++) {
+			if (this.rows.get(i) != null)
+				continue;
+
+			// Zeilen, die nicht (mehr) in der Datenbank vorliegen, bleiben ungeladen
+			T row = loadedRows.get(this.rowIds.get(i));
+			if (row != null)
+				this.rows.set(i, row);
+		}
+		this.pages.put(page, Boolean.TRUE);
+	}
+
+	private T getPlaceholderRow() {
+		if (this.placeholderRow == null)
+			this.placeholderRow = this.pageLoader.createEmptyRow();
+		return this.placeholderRow;
+	}
+
+	private void releasePage(int page) {
+		int fromIndex = page * PAGE_SIZE;
+		int toIndex   = Math.min(this.rows.size(), fromIndex + PAGE_SIZE);
+
+		for (int i = fromIndex; i < toIndex; i++) {
+			T row = this.rows.get(i);
+			// nur gespeicherte und unveraenderte Zeilen lassen sich neu laden
+			if (row == null || row.getId() < 0 || this.modifiedRows.contains(row))
+				continue;
+
+			this.rowIds.set(i, row.getId());
+			this.rows.set(i, null);
+		}
+	}
+}
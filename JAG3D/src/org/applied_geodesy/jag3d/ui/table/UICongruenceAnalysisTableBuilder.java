@@ -478,6 +478,7 @@ public class UICongruenceAnalysisTableBuilder extends UIEditableTableBuilder<Con
 
 			try {
 				SQLManager.getInstance().saveItem(rowData);
+				this.setSaved(rowData);
 			} catch (Exception e) {
 				switch (columnIndex) {
 				case 1:
@@ -681,6 +681,7 @@ public class UIGNSSObservationTableBuilder extends UIEditableTableBuilder<GNSSOb
 			
 			try {
 				SQLManager.getInstance().saveItem(rowData);
+				this.setSaved(rowData);
 			} catch (Exception e) {
 				switch (columnIndex) {
 				case 1:
@@ -846,6 +846,7 @@ public class UIPointTableBuilder extends UIEditableTableBuilder<PointRow> {
 						
 			try {
 				SQLManager.getInstance().saveItem(rowData);
+				this.setSaved(rowData);
 			} catch (Exception e) {
 				switch (columnIndex) {
 				case 1:
@@ -21,6 +21,7 @@
 
 package org.applied_geodesy.jag3d.ui.table;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -36,6 +37,7 @@ import org.applied_geodesy.jag3d.ui.table.column.TableContentType;
 import org.applied_geodesy.jag3d.ui.table.row.Row;
 import org.applied_geodesy.jag3d.ui.table.rowhighlight.TableRowHighlight;
 import org.applied_geodesy.jag3d.ui.table.rowhighlight.TableRowHighlightRangeType;
+import org.applied_geodesy.ui.dialog.OptionDialog;
 import org.applied_geodesy.ui.table.ColumnTooltipHeader;
 import org.applied_geodesy.ui.table.ColumnType;
 import org.applied_geodesy.ui.table.EditableCell;
@@ -48,6 +50,7 @@ import org.applied_geodesy.util.FormatterEvent;
 import org.applied_geodesy.util.FormatterOptions;
 import org.applied_geodesy.jag3d.ui.i18n.I18N;
 
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
@@ -121,8 +124,13 @@ public abstract class UITableBuilder<T extends Row> {
 					selectedItems.add(this.rowData);
 				}
 				
-				for (T item : selectedItems)
+				for (T item : selectedItems) {
+					// Platzhalter nicht geladener Zeilen werden nicht gespeichert
+					if (isPlaceholder(item))
+						continue;
+					setModified(item);
 					setValue(item, columnIndex, oldValue, newValue);
+				}
 				
 				if (selectedItems.size() > 1)
 					table.refresh();
@@ -145,7 +153,8 @@ public abstract class UITableBuilder<T extends Row> {
 
 		@Override
 		public void handle(CellEditEvent<T, S> event) {
-			if (event.getTableColumn().isEditable()) {
+			if (event.getTableColumn().isEditable() && !isPlaceholder(event.getRowValue())) {
+				setModified(event.getRowValue());
 				setValue(event.getRowValue(), this.columnIndex, event.getOldValue(), event.getNewValue());
 			}
 		}
@@ -173,6 +182,24 @@ public abstract class UITableBuilder<T extends Row> {
 		}
 	}
 	
+	private class PagedTableModelSortPolicy implements Callback<TableView<T>, Boolean> {
+		@SuppressWarnings("unchecked")
+		@Override
+		public Boolean call(TableView<T> tableView) {
+			// Sortierung der seitenweise geladenen Zeilen erfolgt in der Datenbank
+			if (tableView.getItems() instanceof PagedTableModel) {
+				try {
+					((PagedTableModel<T>)tableView.getItems()).sort(tableView.getSortOrder());
+					return Boolean.TRUE;
+				} catch (SQLException e) {
+					e.printStackTrace();
+					return Boolean.FALSE;
+				}
+			}
+			return TableView.DEFAULT_SORT_POLICY.call(tableView);
+		}
+	}
+	
 	private class ColumnsOrderChangeListener implements ListChangeListener<TableColumn<T, ?>> {
 		@Override
 		public void onChanged(Change<? extends TableColumn<T, ?>> change) {	
@@ -225,6 +252,7 @@ public abstract class UITableBuilder<T extends Row> {
 		SortedList<T> sortedList = new SortedList<T>(tableModel);
 		sortedList.comparatorProperty().bind(this.table.comparatorProperty());
 		this.table.setItems(sortedList);
+		this.table.setSortPolicy(new PagedTableModelSortPolicy());
 		this.table.setColumnResizePolicy(TableView.UNCONSTRAINED_RESIZE_POLICY);
 		this.table.setTableMenuButtonVisible(false);
 		this.table.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
@@ -408,6 +436,48 @@ public abstract class UITableBuilder<T extends Row> {
 		return this.table;
 	}
 	
+	/**
+	 * Setzt ein Modell, dessen Zeilen erst bei Bedarf seitenweise geladen und in der Datenbank sortiert werden
+	 * @param tableView
+	 * @param pageLoader
+	 * @throws SQLException
+	 */
+	public void setTableModel(TableView<T> tableView, PagedTableModel.PageLoader<T> pageLoader) throws SQLException {
+		PagedTableModel<T> tableModel = PagedTableModel.create(pageLoader, tableView.getSortOrder());
+		tableModel.setPageLoadErrorHandler(this::raiseErrorMessageLoadPage);
+		tableView.setItems(tableModel);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private boolean isPlaceholder(T row) {
+		return this.table != null && this.table.getItems() instanceof PagedTableModel && ((PagedTableModel<T>)this.table.getItems()).isPlaceholder(row);
+	}
+	
+	void raiseErrorMessageLoadPage(SQLException e) {
+		Platform.runLater(new Runnable() {
+			@Override public void run() {
+				OptionDialog.showThrowableDialog (
+						i18n.getString("UITableBuilder.message.error.load.exception.title", "Unexpected SQL-Error"),
+						i18n.getString("UITableBuilder.message.error.load.exception.header", "Error, could not load table rows from database."),
+						i18n.getString("UITableBuilder.message.error.load.exception.message", "An exception has occurred during database transaction."),
+						e
+				);
+			}
+		});
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void setModified(T row) {
+		if (this.table != null && this.table.getItems() instanceof PagedTableModel)
+			((PagedTableModel<T>)this.table.getItems()).setModified(row);
+	}
+	
+	@SuppressWarnings("unchecked")
+	void setSaved(T row) {
+		if (this.table != null && this.table.getItems() instanceof PagedTableModel)
+			((PagedTableModel<T>)this.table.getItems()).setSaved(row);
+	}
+	
 	@SuppressWarnings("unchecked")
 	public ObservableList<T> getTableModel(TableView<T> tableView) {
 		if (tableView.getItems() instanceof SortedList) {
@@ -744,6 +744,7 @@ public class UITerrestrialObservationTableBuilder extends UIEditableTableBuilder
 			
 			try {
 				SQLManager.getInstance().saveItem(rowData);
+				this.setSaved(rowData);
 			} catch (Exception e) {
 				switch (columnIndex) {
 				case 1:
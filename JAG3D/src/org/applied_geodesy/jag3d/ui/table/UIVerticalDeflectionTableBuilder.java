@@ -512,6 +512,7 @@ public class UIVerticalDeflectionTableBuilder extends UIEditableTableBuilder<Ver
 			
 			try {
 				SQLManager.getInstance().saveItem(rowData);
+				this.setSaved(rowData);
 			} catch (Exception e) {
 				switch (columnIndex) {
 				case 1:
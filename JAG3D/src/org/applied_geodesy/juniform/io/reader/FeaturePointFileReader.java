@@ -25,12 +25,18 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
+import org.applied_geodesy.adjustment.DefaultValue;
 import org.applied_geodesy.adjustment.geometry.FeatureType;
 import org.applied_geodesy.adjustment.geometry.point.FeaturePoint;
 import org.applied_geodesy.juniform.ui.i18n.I18N;
 import org.applied_geodesy.util.FormatterOptions;
 import org.applied_geodesy.util.ObservableUniqueList;
+import org.applied_geodesy.util.io.ByteLine;
+import org.applied_geodesy.util.io.LockFileReader.LineChunk;
 import org.applied_geodesy.util.io.SourceFileReader;
 
 import javafx.stage.FileChooser.ExtensionFilter;
@@ -42,6 +48,7 @@ public class FeaturePointFileReader extends SourceFileReader<ObservableUniqueLis
 	private static long id = 0;
 	private final FeatureType featureType;
 	private ObservableUniqueList<FeaturePoint> points;
+	private List<FeaturePoint> importedPoints = new ArrayList<FeaturePoint>();
 	
 	public FeaturePointFileReader(FeatureType featureType) {
 		this.featureType = featureType;
@@ -69,9 +76,17 @@ public class FeaturePointFileReader extends SourceFileReader<ObservableUniqueLis
 	@Override
 	public ObservableUniqueList<FeaturePoint> readAndImport() throws IOException, SQLException {
 		this.ignoreLinesWhichStartWith("#");
-		super.read();
-		if (this.isInterrupted())
-			this.points.clear();
+		this.setMemoryMapped(true);
+		try {
+			super.read();
+			if (this.isInterrupted())
+				this.points.clear();
+			else // einmalige Uebernahme aller Punkte der Datei in die (beobachtbare) Liste
+				this.points.addAll(this.points.size(), this.importedPoints);
+		}
+		finally {
+			this.importedPoints.clear();
+		}
 		return this.points;
 	}
 
@@ -85,195 +100,266 @@ public class FeaturePointFileReader extends SourceFileReader<ObservableUniqueLis
 
 	@Override
 	public void parse(String line) {
-		line = line.trim();
-		FeaturePoint point = null;
-		
-		try {
-			switch(this.featureType) {
-			case CURVE:
-				point = scanCurvePoint(line);
-				break;
-			case SURFACE:
-				point = scanSurfacePoint(line);
-				break;		
+		this.parse(ByteLine.wrap(line));
+	}
+
+	@Override
+	public void parse(ByteLine line) {
+		FeaturePointChunk chunk = this.createLineChunk();
+		chunk.parse(line);
+		this.mergeLineChunk(chunk);
+	}
+
+	@Override
+	protected FeaturePointChunk createLineChunk() {
+		return new FeaturePointChunk(this.featureType);
+	}
+
+	@Override
+	protected int getNumberOfThreads() {
+		return DefaultValue.getNumberOfThreads();
+	}
+
+	@Override
+	protected void mergeLineChunk(LineChunk lineChunk) {
+		FeaturePointChunk chunk = (FeaturePointChunk)lineChunk;
+		int dimension = chunk.dimension;
+		for (int i = 0; i < chunk.size; i++) {
+			// generierte Punktnummern werden in der Reihenfolge der Datei fortlaufend vergeben
+			String name = chunk.names[i] != null ? chunk.names[i] : String.valueOf(FeaturePointFileReader.id + chunk.generatedNames[i]);
+			double x = chunk.coordinates[dimension * i];
+			double y = chunk.coordinates[dimension * i + 1];
+			FeaturePoint point = dimension == 2 ? new FeaturePoint(name, x, y) : new FeaturePoint(name, x, y, chunk.coordinates[dimension * i + 2]);
+			if (chunk.dispersions[i] != null)
+				point.setDispersionApriori(chunk.dispersions[i]);
+			this.importedPoints.add(point);
+		}
+		FeaturePointFileReader.id += chunk.numberOfGeneratedNames;
+	}
+	
+	private static class FeaturePointChunk implements LineChunk {
+		private final static int INITIAL_CAPACITY = 16;
+		private final FeatureType featureType;
+		private final int dimension;
+		private int size = 0, numberOfGeneratedNames = 0;
+		// Punktnummer bzw. null und laufende Nummer innerhalb des Abschnitts, wenn die Punktnummer generiert wird 
+		private String names[] = new String[INITIAL_CAPACITY];
+		private int generatedNames[] = new int[INITIAL_CAPACITY];
+		private double coordinates[];
+		private Matrix dispersions[] = new Matrix[INITIAL_CAPACITY];
+
+		private FeaturePointChunk(FeatureType featureType) {
+			this.featureType = featureType;
+			this.dimension = featureType == FeatureType.CURVE ? 2 : 3;
+			this.coordinates = new double[INITIAL_CAPACITY * this.dimension];
+		}
+
+		@Override
+		public void parse(ByteLine line) {
+			int size = this.size;
+			try {
+				switch(this.featureType) {
+				case CURVE:
+					this.scanCurvePoint(line);
+					break;
+				case SURFACE:
+					this.scanSurfacePoint(line);
+					break;		
+				}
+			}
+			catch (NumberFormatException e) {
+				e.printStackTrace();
+				// unvollstaendig gelesenen Punkt verwerfen; eine bereits vergebene Punktnummer bleibt verbraucht
+				this.size = size;
 			}
 		}
-		catch (NumberFormatException e) {
-			e.printStackTrace();
-			return;
+
+		private int add(String name, int generatedName, double x, double y, double z) {
+			if (this.size == this.names.length) {
+				int capacity = 2 * this.size;
+				this.names          = Arrays.copyOf(this.names, capacity);
+				this.generatedNames = Arrays.copyOf(this.generatedNames, capacity);
+				this.coordinates    = Arrays.copyOf(this.coordinates, capacity * this.dimension);
+				this.dispersions    = Arrays.copyOf(this.dispersions, capacity);
+			}
+			int index = this.size++;
+			this.names[index] = name;
+			this.generatedNames[index] = generatedName;
+			this.dispersions[index] = null;
+			this.coordinates[this.dimension * index]     = x;
+			this.coordinates[this.dimension * index + 1] = y;
+			if (this.dimension > 2)
+				this.coordinates[this.dimension * index + 2] = z;
+			return index;
 		}
 
-		if (point != null)
-			this.points.add(point);
-	}
-	
-	private static FeaturePoint scanCurvePoint(String str) throws NumberFormatException {
-		FormatterOptions options = FormatterOptions.getInstance();
-		String columns[] = str.trim().split("[\\s;]+");
+		private void scanCurvePoint(ByteLine columns) throws NumberFormatException {
+			FormatterOptions options = FormatterOptions.getInstance();
 		
-		if (columns.length == 2) {
-			String name = String.valueOf(++FeaturePointFileReader.id); 
-			double x = options.convertLengthToModel(Double.parseDouble(columns[0].replace(',', '.'))); 
-			double y = options.convertLengthToModel(Double.parseDouble(columns[1].replace(',', '.')));
-			return new FeaturePoint(name, x, y);
-		}
+			if (columns.getNumberOfColumns() == 2) {
+				int generatedName = ++this.numberOfGeneratedNames;
+				double x = options.convertLengthToModel(columns.getDouble(0)); 
+				double y = options.convertLengthToModel(columns.getDouble(1));
+				this.add(null, generatedName, x, y, 0);
+				return;
+			}
 		
-		if (columns.length < 3)
-			return null;
+			if (columns.getNumberOfColumns() < 3)
+				return;
 		
-		String name = columns[0]; 
-		double x = options.convertLengthToModel(Double.parseDouble(columns[1].replace(',', '.'))); 
-		double y = options.convertLengthToModel(Double.parseDouble(columns[2].replace(',', '.')));
+			String name = columns.getString(0); 
+			double x = options.convertLengthToModel(columns.getDouble(1)); 
+			double y = options.convertLengthToModel(columns.getDouble(2));
 		
-		FeaturePoint point = new FeaturePoint(name, x, y);
-		if (columns.length < 4)
-			return point;
+			int index = this.add(name, 0, x, y, 0);
+			if (columns.getNumberOfColumns() < 4)
+				return;
 		
-		double sigmaX, sigmaY;
-		sigmaX = sigmaY = options.convertLengthToModel(Double.parseDouble(columns[3].replace(',', '.'))); 
+			double sigmaX, sigmaY;
+			sigmaX = sigmaY = options.convertLengthToModel(columns.getDouble(3)); 
 		
-		if (columns.length < 5) {
-			if (sigmaX <= 0 || sigmaY <= 0)
-				return point;
+			if (columns.getNumberOfColumns() < 5) {
+				if (sigmaX <= 0 || sigmaY <= 0)
+					return;
 			
-			Matrix dispersion = new UpperSymmBandMatrix(point.getDimension(), 0);
-			dispersion.set(0, 0, sigmaX * sigmaX);
-			dispersion.set(1, 1, sigmaY * sigmaY);
-			point.setDispersionApriori(dispersion);
-			return point;
-		}
+				Matrix dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+				dispersion.set(0, 0, sigmaX * sigmaX);
+				dispersion.set(1, 1, sigmaY * sigmaY);
+				this.dispersions[index] = dispersion;
+				return;
+			}
 		
-		sigmaY = options.convertLengthToModel(Double.parseDouble(columns[4].replace(',', '.'))); 
+			sigmaY = options.convertLengthToModel(columns.getDouble(4)); 
 		
-		if (columns.length < 6) {
-			if (sigmaX <= 0 || sigmaY <= 0)
-				return point;
+			if (columns.getNumberOfColumns() < 6) {
+				if (sigmaX <= 0 || sigmaY <= 0)
+					return;
 			
-			Matrix dispersion = new UpperSymmBandMatrix(point.getDimension(), 0);
-			dispersion.set(0, 0, sigmaX * sigmaX);
-			dispersion.set(1, 1, sigmaY * sigmaY);
-			point.setDispersionApriori(dispersion);
-			return point;
-		}
+				Matrix dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+				dispersion.set(0, 0, sigmaX * sigmaX);
+				dispersion.set(1, 1, sigmaY * sigmaY);
+				this.dispersions[index] = dispersion;
+				return;
+			}
 
-		// first two values == first row/column
-		double varX  = options.convertLengthToModel(sigmaX);
-		double covXY = options.convertLengthToModel(sigmaY);
+			// first two values == first row/column
+			double varX  = options.convertLengthToModel(sigmaX);
+			double covXY = options.convertLengthToModel(sigmaY);
 
-		double varY  = options.convertLengthToModel(options.convertLengthToModel(Double.parseDouble(columns[5].replace(',', '.'))));
+			double varY  = options.convertLengthToModel(options.convertLengthToModel(columns.getDouble(5)));
 
-		if (varX <= 0 || varY <= 0)
-			return point;
+			if (varX <= 0 || varY <= 0)
+				return;
 
-		Matrix dispersion = null;
-		if (covXY == 0)
-			dispersion = new UpperSymmBandMatrix(point.getDimension(), 0);
-		else {
-			dispersion = new UpperSymmPackMatrix(point.getDimension());
-			dispersion.set(0, 1, covXY);
+			Matrix dispersion = null;
+			if (covXY == 0)
+				dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+			else {
+				dispersion = new UpperSymmPackMatrix(this.dimension);
+				dispersion.set(0, 1, covXY);
+			}
+			dispersion.set(0, 0, varX);
+			dispersion.set(1, 1, varY);
+			this.dispersions[index] = dispersion;
 		}
-		dispersion.set(0, 0, varX);
-		dispersion.set(1, 1, varY);
-		point.setDispersionApriori(dispersion);
-		return point;
-	}
 	
-	private static FeaturePoint scanSurfacePoint(String str) throws NumberFormatException {
-		FormatterOptions options = FormatterOptions.getInstance();
-		String columns[] = str.trim().split("[\\s;]+");
+		private void scanSurfacePoint(ByteLine columns) throws NumberFormatException {
+			FormatterOptions options = FormatterOptions.getInstance();
 		
-		if (columns.length == 3) {
-			String name = String.valueOf(++FeaturePointFileReader.id); 
-			double x = options.convertLengthToModel(Double.parseDouble(columns[0].replace(',', '.'))); 
-			double y = options.convertLengthToModel(Double.parseDouble(columns[1].replace(',', '.')));
-			double z = options.convertLengthToModel(Double.parseDouble(columns[2].replace(',', '.')));
-			return new FeaturePoint(name, x, y, z);
-		}
+			if (columns.getNumberOfColumns() == 3) {
+				int generatedName = ++this.numberOfGeneratedNames;
+				double x = options.convertLengthToModel(columns.getDouble(0)); 
+				double y = options.convertLengthToModel(columns.getDouble(1));
+				double z = options.convertLengthToModel(columns.getDouble(2));
+				this.add(null, generatedName, x, y, z);
+				return;
+			}
 		
-		if (columns.length < 4)
-			return null;
+			if (columns.getNumberOfColumns() < 4)
+				return;
 		
-		String name = columns[0]; 
-		double x = options.convertLengthToModel(Double.parseDouble(columns[1].replace(',', '.'))); 
-		double y = options.convertLengthToModel(Double.parseDouble(columns[2].replace(',', '.')));
-		double z = options.convertLengthToModel(Double.parseDouble(columns[3].replace(',', '.')));
+			String name = columns.getString(0); 
+			double x = options.convertLengthToModel(columns.getDouble(1)); 
+			double y = options.convertLengthToModel(columns.getDouble(2));
+			double z = options.convertLengthToModel(columns.getDouble(3));
 		
-		FeaturePoint point = new FeaturePoint(name, x, y, z);
-		if (columns.length < 5)
-			return point;
+			int index = this.add(name, 0, x, y, z);
+			if (columns.getNumberOfColumns() < 5)
+				return;
 		
-		double sigmaX, sigmaY, sigmaZ;
-		sigmaX = sigmaY = sigmaZ = options.convertLengthToModel(Double.parseDouble(columns[4].replace(',', '.'))); 
+			double sigmaX, sigmaY, sigmaZ;
+			sigmaX = sigmaY = sigmaZ = options.convertLengthToModel(columns.getDouble(4)); 
 		
-		if (columns.length < 6) {
-			if (sigmaX <= 0 || sigmaY <= 0 || sigmaZ <= 0)
-				return point;
+			if (columns.getNumberOfColumns() < 6) {
+				if (sigmaX <= 0 || sigmaY <= 0 || sigmaZ <= 0)
+					return;
 			
-			Matrix dispersion = new UpperSymmBandMatrix(point.getDimension(), 0);
-			dispersion.set(0, 0, sigmaX * sigmaX);
-			dispersion.set(1, 1, sigmaY * sigmaY);
-			dispersion.set(2, 2, sigmaZ * sigmaZ);
-			point.setDispersionApriori(dispersion);
-			return point;
-		}
+				Matrix dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+				dispersion.set(0, 0, sigmaX * sigmaX);
+				dispersion.set(1, 1, sigmaY * sigmaY);
+				dispersion.set(2, 2, sigmaZ * sigmaZ);
+				this.dispersions[index] = dispersion;
+				return;
+			}
 		
-		sigmaY = sigmaZ = options.convertLengthToModel(Double.parseDouble(columns[5].replace(',', '.'))); 
+			sigmaY = sigmaZ = options.convertLengthToModel(columns.getDouble(5)); 
 		
-		if (columns.length < 7) {
-			if (sigmaX <= 0 || sigmaY <= 0 || sigmaZ <= 0)
-				return point;
+			if (columns.getNumberOfColumns() < 7) {
+				if (sigmaX <= 0 || sigmaY <= 0 || sigmaZ <= 0)
+					return;
 			
-			Matrix dispersion = new UpperSymmBandMatrix(point.getDimension(), 0);
-			dispersion.set(0, 0, sigmaX * sigmaX);
-			dispersion.set(1, 1, sigmaX * sigmaX); // if only two uncertainty colums are given, set sx = sy; sz
-			dispersion.set(2, 2, sigmaZ * sigmaZ);
-			point.setDispersionApriori(dispersion);
-			return point;
-		}
+				Matrix dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+				dispersion.set(0, 0, sigmaX * sigmaX);
+				dispersion.set(1, 1, sigmaX * sigmaX); // if only two uncertainty colums are given, set sx = sy; sz
+				dispersion.set(2, 2, sigmaZ * sigmaZ);
+				this.dispersions[index] = dispersion;
+				return;
+			}
 		
-		sigmaZ = options.convertLengthToModel(Double.parseDouble(columns[6].replace(',', '.'))); 
+			sigmaZ = options.convertLengthToModel(columns.getDouble(6)); 
 		
-		if (columns.length < 10) {
-			if (sigmaX <= 0 || sigmaY <= 0 || sigmaZ <= 0)
-				return point;
+			if (columns.getNumberOfColumns() < 10) {
+				if (sigmaX <= 0 || sigmaY <= 0 || sigmaZ <= 0)
+					return;
 			
-			Matrix dispersion = new UpperSymmBandMatrix(point.getDimension(), 0);
-			dispersion.set(0, 0, sigmaX * sigmaX);
-			dispersion.set(1, 1, sigmaY * sigmaY);
-			dispersion.set(2, 2, sigmaZ * sigmaZ);
-			point.setDispersionApriori(dispersion);
-			return point;
-		}
+				Matrix dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+				dispersion.set(0, 0, sigmaX * sigmaX);
+				dispersion.set(1, 1, sigmaY * sigmaY);
+				dispersion.set(2, 2, sigmaZ * sigmaZ);
+				this.dispersions[index] = dispersion;
+				return;
+			}
 		
-		// first three values == first row/column
-		double varX  = options.convertLengthToModel(sigmaX);
-		double covXY = options.convertLengthToModel(sigmaY);
-		double covXZ = options.convertLengthToModel(sigmaZ);
+			// first three values == first row/column
+			double varX  = options.convertLengthToModel(sigmaX);
+			double covXY = options.convertLengthToModel(sigmaY);
+			double covXZ = options.convertLengthToModel(sigmaZ);
 
-		double varY  = options.convertLengthToModel(options.convertLengthToModel(Double.parseDouble(columns[7].replace(',', '.'))));
-		double covYZ = options.convertLengthToModel(options.convertLengthToModel(Double.parseDouble(columns[8].replace(',', '.'))));
+			double varY  = options.convertLengthToModel(options.convertLengthToModel(columns.getDouble(7)));
+			double covYZ = options.convertLengthToModel(options.convertLengthToModel(columns.getDouble(8)));
 
-		double varZ  = options.convertLengthToModel(options.convertLengthToModel(Double.parseDouble(columns[9].replace(',', '.'))));
+			double varZ  = options.convertLengthToModel(options.convertLengthToModel(columns.getDouble(9)));
 
-		if (varX <= 0 || varY <= 0 || varZ <= 0)
-			return point;
+			if (varX <= 0 || varY <= 0 || varZ <= 0)
+				return;
 
-		Matrix dispersion = null;
-		if (covXY == 0 && covXZ == 0 && covYZ == 0)
-			dispersion = new UpperSymmBandMatrix(point.getDimension(), 0);
-		else {
-			dispersion = new UpperSymmPackMatrix(point.getDimension());
-			dispersion.set(0, 1, covXY);
-			dispersion.set(0, 2, covXZ);
-			dispersion.set(1, 2, covYZ);
+			Matrix dispersion = null;
+			if (covXY == 0 && covXZ == 0 && covYZ == 0)
+				dispersion = new UpperSymmBandMatrix(this.dimension, 0);
+			else {
+				dispersion = new UpperSymmPackMatrix(this.dimension);
+				dispersion.set(0, 1, covXY);
+				dispersion.set(0, 2, covXZ);
+				dispersion.set(1, 2, covYZ);
+			}
+			dispersion.set(0, 0, varX);
+			dispersion.set(1, 1, varY);
+			dispersion.set(2, 2, varZ);
+			this.dispersions[index] = dispersion;
 		}
-		dispersion.set(0, 0, varX);
-		dispersion.set(1, 1, varY);
-		dispersion.set(2, 2, varZ);
-		point.setDispersionApriori(dispersion);
-		return point;
-	}
 	
+	}
+
 	public static ExtensionFilter[] getExtensionFilters() {
 		return new ExtensionFilter[] {
 				new ExtensionFilter(I18N.getInstance().getString("FeaturePointFileReader.extension.description", "All files"),	"*.*")
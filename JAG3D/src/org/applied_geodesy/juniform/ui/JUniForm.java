@@ -28,6 +28,7 @@ import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.applied_geodesy.adjustment.LinearAlgebraBackend;
 import org.applied_geodesy.adjustment.geometry.FeatureAdjustment;
 import org.applied_geodesy.adjustment.geometry.FeatureChangeListener;
 import org.applied_geodesy.adjustment.geometry.FeatureEvent;
@@ -326,6 +327,8 @@ public class JUniForm extends Application {
 				logger.setUseParentHandlers(false);
 				logger.setLevel(Level.OFF);
 			}
+			
+			LinearAlgebraBackend.initialize();
 		}
 		catch (Exception e) {
 			e.printStackTrace();
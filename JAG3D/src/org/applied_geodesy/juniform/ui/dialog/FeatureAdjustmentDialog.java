@@ -314,6 +314,7 @@ public class FeatureAdjustmentDialog {
 				break;
 
 			// unused cases
+			case LOAD_NETWORK_MODEL:
 			case PRINCIPAL_COMPONENT_ANALYSIS:
 			case EXPORT_ADJUSTMENT_RESULTS:
 				break;
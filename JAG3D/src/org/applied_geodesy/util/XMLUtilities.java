@@ -43,6 +43,9 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 public class XMLUtilities {
+	// XPathFactory.newInstance() sucht die Implementierung bei jedem Aufruf ueber den ServiceLoader; die Factory ist nicht thread-sicher
+	private static final ThreadLocal<XPathFactory> XPATH_FACTORY = ThreadLocal.withInitial(XPathFactory::newInstance);
+
 	private XMLUtilities() {}
 
 	public static String transformDocument2String(Document doc) {
@@ -63,8 +66,7 @@ public class XMLUtilities {
 	}
 	
 	public static Object xpathSearch(Node node, String xpathPattern, NamespaceContext namespaceContext, QName type) {
-		XPathFactory xPathfactory = XPathFactory.newInstance();
-		XPath xpath = xPathfactory.newXPath();
+		XPath xpath = XPATH_FACTORY.get().newXPath();
 		if (namespaceContext != null)
 			xpath.setNamespaceContext(namespaceContext);
 		if (type == null)
@@ -80,8 +82,7 @@ public class XMLUtilities {
 	}
 	
 	public static Object xpathSearch(Document doc, String xpathPattern, NamespaceContext namespaceContext, QName type) {
-		XPathFactory xPathfactory = XPathFactory.newInstance();
-		XPath xpath = xPathfactory.newXPath();
+		XPath xpath = XPATH_FACTORY.get().newXPath();
 		if (namespaceContext != null)
 			xpath.setNamespaceContext(namespaceContext);
 		if (type == null)
@@ -0,0 +1,149 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Bearbeitet unabhaengige Elemente abschnittsweise in einem ForkJoin-Pool. Alle Instanzen teilen sich
+ * einen Pool, der neu angelegt wird, sobald eine abweichende Anzahl an Threads angefordert wird. 
+ * Die Anzahl der Threads ist daher beim Aufruf zu setzen bzw. zu aktualisieren; mit einem Thread erfolgt 
+ * die Berechnung sequentiell im aufrufenden Thread.
+ *
+ */
+public class ParallelTaskExecutor {
+
+	/**
+	 * Bearbeitet die Elemente <code>[fromIndex, toIndex)</code> unabhaengig von den uebrigen Abschnitten.
+	 */
+	@FunctionalInterface
+	public interface Task {
+		/**
+		 * @param fromIndex erstes Element (inklusive)
+		 * @param toIndex letztes Element (exklusive)
+		 * @return false, wenn die Berechnung abgebrochen wurde
+		 */
+		public boolean execute(int fromIndex, int toIndex);
+	}
+
+	// Anzahl der Abschnitte je Thread bei dynamischer Verteilung
+	protected final static int CHUNKS_PER_THREAD = 4;
+	private static ForkJoinPool sharedPool = null;
+
+	private int numberOfThreads = 1;
+
+	public ParallelTaskExecutor(int numberOfThreads) {
+		this.setNumberOfThreads(numberOfThreads);
+	}
+
+	public int getNumberOfThreads() {
+		return this.numberOfThreads;
+	}
+
+	public void setNumberOfThreads(int numberOfThreads) {
+		this.numberOfThreads = numberOfThreads > 0 ? numberOfThreads : 1;
+	}
+
+	/**
+	 * Bearbeitet die Elemente <code>[0, size)</code> abschnittsweise im Pool. Die Abschnitte werden dynamisch
+	 * auf die Threads verteilt; <code>task</code> darf daher nur elementweise Ergebnisse ablegen, deren 
+	 * Summation ggf. anschliessend in fester Reihenfolge erfolgt.
+	 *
+	 * @param size Anzahl der Elemente
+	 * @param task
+	 * @return false, wenn die Berechnung abgebrochen wurde
+	 */
+	public boolean execute(int size, Task task) {
+		int numberOfThreads = Math.min(this.numberOfThreads, size);
+
+		if (numberOfThreads <= 1)
+			return task.execute(0, size);
+
+		int numberOfChunks = Math.min(size, CHUNKS_PER_THREAD * numberOfThreads);
+		List<Callable<Boolean>> tasks = new ArrayList<Callable<Boolean>>(numberOfChunks);
+		for (int i = 0; i < numberOfChunks; i++) {
+			final int fromIndex = (int)((long)size * i / numberOfChunks);
+			final int toIndex   = (int)((long)size * (i + 1) / numberOfChunks);
+			tasks.add(() -> task.execute(fromIndex, toIndex));
+		}
+
+		return this.invokeAll(tasks);
+	}
+
+	/**
+	 * Fuehrt <code>tasks</code> im gemeinsamen Pool aus und wartet, bis alle Aufgaben beendet sind.
+	 * Eine Ausnahme einer Aufgabe wird erst danach weitergereicht.
+	 *
+	 * @param tasks
+	 * @return false, wenn eine Aufgabe abgebrochen wurde
+	 */
+	protected boolean invokeAll(List<Callable<Boolean>> tasks) {
+		List<Future<Boolean>> futures = submit(this.numberOfThreads, tasks);
+
+		boolean success = true;
+		Throwable cause = null;
+		for (Future<Boolean> future : futures) {
+			try {
+				success = future.get() && success;
+			}
+			catch (InterruptedException e) {
+				for (Future<Boolean> f : futures)
+					f.cancel(false);
+				Thread.currentThread().interrupt();
+				return false;
+			}
+			catch (ExecutionException e) {
+				success = false;
+				if (cause == null)
+					cause = e.getCause();
+			}
+		}
+
+		if (cause instanceof RuntimeException)
+			throw (RuntimeException)cause;
+		if (cause instanceof Error)
+			throw (Error)cause;
+		if (cause != null)
+			throw new IllegalStateException(cause);
+		return success;
+	}
+
+	// die Aufgaben werden unter Sperre eingereicht, sodass der Pool nicht zwischenzeitlich durch eine andere Anzahl an Threads ersetzt wird
+	private static synchronized List<Future<Boolean>> submit(int numberOfThreads, List<Callable<Boolean>> tasks) {
+		if (sharedPool == null || sharedPool.getParallelism() != numberOfThreads) {
+			// bereits eingereichte Aufgaben werden vom alten Pool noch beendet
+			if (sharedPool != null)
+				sharedPool.shutdown();
+			sharedPool = new ForkJoinPool(numberOfThreads);
+		}
+
+		List<Future<Boolean>> futures = new ArrayList<Future<Boolean>>(tasks.size());
+		for (Callable<Boolean> task : tasks)
+			futures.add(sharedPool.submit(task));
+		return futures;
+	}
+}
@@ -0,0 +1,289 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.util.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 kodierte Zeile einer Datei als Sicht auf einen (ggf. gemappten) ByteBuffer. Die Spalten werden
+ * wie bei <code>line.trim().split("[\\s;]+")</code> getrennt, Zahlen werden direkt aus den Bytes gelesen,
+ * ohne vorher einen String zu erzeugen. Dezimalkomma und Dezimalpunkt werden gleichermassen akzeptiert.
+ *
+ * Die Instanz wird vom LockFileReader fuer jede Zeile wiederverwendet und darf nicht gespeichert werden.
+ */
+public class ByteLine {
+	private final static int MAX_FAST_PATH_DIGITS = 15;
+	private final static double POWERS_OF_TEN[] = {
+			1e0,  1e1,  1e2,  1e3,  1e4,  1e5,  1e6,  1e7,  1e8,  1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	private ByteBuffer buffer;
+	private int start, end;
+	private boolean tokenized = false;
+	private int numberOfColumns = 0;
+	private int columnStarts[] = new int[16], columnEnds[] = new int[16];
+	private byte chars[] = new byte[64];
+
+	ByteLine() {}
+
+	/**
+	 * Erzeugt eine Zeile aus einem String, bspw. fuer Leser, die zeilenweise ueber einen BufferedReader lesen
+	 * @param line
+	 * @return line
+	 */
+	public static ByteLine wrap(String line) {
+		byte bytes[] = line.getBytes(StandardCharsets.UTF_8);
+		ByteLine byteLine = new ByteLine();
+		byteLine.set(ByteBuffer.wrap(bytes), 0, bytes.length);
+		return byteLine;
+	}
+
+	void set(ByteBuffer buffer, int start, int end) {
+		this.buffer = buffer;
+		this.start  = start;
+		this.end    = end;
+		this.tokenized = false;
+	}
+
+	/**
+	 * Liefert die Laenge der Zeile in Bytes
+	 * @return length
+	 */
+	public int length() {
+		return this.end - this.start;
+	}
+
+	/**
+	 * Prueft, ob die Zeile nur aus Leer- bzw. Steuerzeichen besteht
+	 * @return blank
+	 */
+	public boolean isBlank() {
+		for (int i = this.start; i < this.end; i++) {
+			byte b = this.buffer.get(i);
+			if (b < 0 || (b > ' ' && b != 0x7F))
+				return false;
+		}
+		return true;
+	}
+
+	boolean startsWith(byte prefix[]) {
+		if (prefix.length > this.end - this.start)
+			return false;
+		for (int i = 0; i < prefix.length; i++) {
+			if (this.buffer.get(this.start + i) != prefix[i])
+				return false;
+		}
+		return true;
+	}
+
+	public int getNumberOfColumns() {
+		this.tokenize();
+		return this.numberOfColumns;
+	}
+
+	/**
+	 * Liefert den Inhalt der Spalte als String, bspw. fuer Punktnummern
+	 * @param column
+	 * @return value
+	 */
+	public String getString(int column) {
+		this.checkColumn(column);
+		return this.decode(this.columnStarts[column], this.columnEnds[column]);
+	}
+
+	/**
+	 * Liest den Inhalt der Spalte als Zahl. Einfache Dezimalzahlen mit hoechstens 15 signifikanten Stellen
+	 * werden direkt aus den Bytes gebildet und sind in diesem Bereich exakt gerundet; alle anderen
+	 * Darstellungen werden an Double.parseDouble() uebergeben.
+	 *
+	 * @param column
+	 * @return value
+	 * @throws NumberFormatException
+	 */
+	public double getDouble(int column) throws NumberFormatException {
+		this.checkColumn(column);
+		int from = this.columnStarts[column];
+		int to   = this.columnEnds[column];
+		int i = from;
+
+		boolean negative = false;
+		if (i < to && (this.buffer.get(i) == '-' || this.buffer.get(i) == '+')) {
+			negative = this.buffer.get(i) == '-';
+			i++;
+		}
+
+		long mantissa = 0L;
+		int digits = 0, exponent = 0;
+		boolean hasDigits = false;
+
+		for (; i < to; i++) {
+			int d = this.buffer.get(i) - '0';
+			if (d < 0 || d > 9)
+				break;
+			hasDigits = true;
+			if (mantissa > 0 || d > 0)
+				digits++;
+			mantissa = 10L * mantissa + d;
+			if (digits > MAX_FAST_PATH_DIGITS)
+				return this.parseDouble(from, to);
+		}
+
+		if (i < to && (this.buffer.get(i) == '.' || this.buffer.get(i) == ',')) {
+			for (i++; i < to; i++) {
+				int d = this.buffer.get(i) - '0';
+				if (d < 0 || d > 9)
+					break;
+				hasDigits = true;
+				if (mantissa > 0 || d > 0)
+					digits++;
+				mantissa = 10L * mantissa + d;
+				exponent--;
+				if (digits > MAX_FAST_PATH_DIGITS)
+					return this.parseDouble(from, to);
+			}
+		}
+
+		if (hasDigits && i < to && (this.buffer.get(i) == 'e' || this.buffer.get(i) == 'E')) {
+			i++;
+			boolean negativeExponent = false;
+			if (i < to && (this.buffer.get(i) == '-' || this.buffer.get(i) == '+')) {
+				negativeExponent = this.buffer.get(i) == '-';
+				i++;
+			}
+			int exp = 0;
+			boolean hasExponentDigits = false;
+			for (; i < to; i++) {
+				int d = this.buffer.get(i) - '0';
+				if (d < 0 || d > 9)
+					break;
+				hasExponentDigits = true;
+				if (exp < 1000)
+					exp = 10 * exp + d;
+			}
+			if (!hasExponentDigits)
+				return this.parseDouble(from, to);
+			exponent += negativeExponent ? -exp : exp;
+		}
+
+		// unbekannte Zeichen oder Schreibweisen (NaN, Infinity, Hex, Suffixe etc.)
+		if (!hasDigits || i != to)
+			return this.parseDouble(from, to);
+
+		double value;
+		if (mantissa == 0)
+			value = 0.0;
+		else if (exponent >= 0 && exponent < POWERS_OF_TEN.length)
+			value = (double)mantissa * POWERS_OF_TEN[exponent];
+		else if (exponent < 0 && -exponent < POWERS_OF_TEN.length)
+			value = (double)mantissa / POWERS_OF_TEN[-exponent];
+		else
+			return this.parseDouble(from, to);
+
+		return negative ? -value : value;
+	}
+
+	private double parseDouble(int from, int to) throws NumberFormatException {
+		return Double.parseDouble(this.decode(from, to).replace(',', '.'));
+	}
+
+	private void checkColumn(int column) {
+		this.tokenize();
+		if (column < 0 || column >= this.numberOfColumns)
+			throw new IndexOutOfBoundsException("Error, column " + column + " out of range, number of columns " + this.numberOfColumns + "!");
+	}
+
+	private String decode(int from, int to) {
+		int length = to - from;
+		if (this.chars.length < length)
+			this.chars = new byte[Math.max(length, 2 * this.chars.length)];
+		for (int i = 0; i < length; i++)
+			this.chars[i] = this.buffer.get(from + i);
+		return LockFileReader.removeNonBMPCharacters(new String(this.chars, 0, length, StandardCharsets.UTF_8));
+	}
+
+	private void tokenize() {
+		if (this.tokenized)
+			return;
+
+		this.tokenized = true;
+		this.numberOfColumns = 0;
+
+		// trim()
+		int from = this.start, to = this.end;
+		while (from < to && isTrimmable(this.buffer.get(from)))
+			from++;
+		while (to > from && isTrimmable(this.buffer.get(to - 1)))
+			to--;
+
+		// split("[\\s;]+") liefert eine leere erste Spalte, wenn die Zeile mit einem Trennzeichen beginnt
+		int i = from;
+		if (i < to && isDelimiter(this.buffer.get(i))) {
+			this.addColumn(i, i);
+			while (i < to && isDelimiter(this.buffer.get(i)))
+				i++;
+		}
+
+		while (i < to) {
+			int columnStart = i;
+			while (i < to && !isDelimiter(this.buffer.get(i)))
+				i++;
+			this.addColumn(columnStart, i);
+			while (i < to && isDelimiter(this.buffer.get(i)))
+				i++;
+		}
+
+		// leere Spalten am Ende werden von split() verworfen, eine leere Zeile liefert eine leere Spalte
+		while (this.numberOfColumns > 0 && this.columnStarts[this.numberOfColumns - 1] == this.columnEnds[this.numberOfColumns - 1])
+			this.numberOfColumns--;
+		if (from == to)
+			this.addColumn(from, to);
+	}
+
+	private void addColumn(int from, int to) {
+		if (this.numberOfColumns == this.columnStarts.length) {
+			int columnStarts[] = new int[2 * this.numberOfColumns];
+			int columnEnds[]   = new int[2 * this.numberOfColumns];
+			System.arraycopy(this.columnStarts, 0, columnStarts, 0, this.numberOfColumns);
+			System.arraycopy(this.columnEnds,   0, columnEnds,   0, this.numberOfColumns);
+			this.columnStarts = columnStarts;
+			this.columnEnds   = columnEnds;
+		}
+		this.columnStarts[this.numberOfColumns] = from;
+		this.columnEnds[this.numberOfColumns]   = to;
+		this.numberOfColumns++;
+	}
+
+	private static boolean isTrimmable(byte b) {
+		return b >= 0 && b <= ' ';
+	}
+
+	private static boolean isDelimiter(byte b) {
+		return b == ' ' || b == '\t' || b == '\n' || b == 0x0B || b == '\f' || b == '\r' || b == ';';
+	}
+
+	@Override
+	public String toString() {
+		return this.decode(this.start, this.end);
+	}
+}
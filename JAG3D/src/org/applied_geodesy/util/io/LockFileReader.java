@@ -26,21 +26,47 @@ import java.io.FileInputStream;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.EventListener;
 import java.util.List;
 
+import org.applied_geodesy.util.concurrent.ParallelTaskExecutor;
 import org.applied_geodesy.util.io.FileProgressEvent.FileProgressEventType;
 
 public abstract class LockFileReader {
+	/**
+	 * Abschnitt einer gemappten Datei. Im parallelen Modus wird jeder Abschnitt von einem Thread gelesen;
+	 * die Zeilen sind daher in abschnittseigene Strukturen zu parsen, die anschliessend in der Reihenfolge
+	 * der Datei mittels mergeLineChunk() uebernommen werden. 
+	 */
+	public interface LineChunk {
+		public void parse(ByteLine line);
+	}
+
 	private Path sourceFilePath = null;
 	private String ignoreStartString = new String();
 	public static final String UTF8_BOM = "\uFEFF";
-	private boolean interrupt = false;
+	private static final byte UTF8_BOM_BYTES[] = UTF8_BOM.getBytes(StandardCharsets.UTF_8);
+	// Groesse der gemappten Fenster; Zeilen, die ueber das Fensterende hinausgehen, werden im naechsten Fenster gelesen
+	private static final int MAPPED_WINDOW_SIZE = 64 * 1024 * 1024;
+	// Fortschrittsereignisse werden hoechstens alle 1/PROGRESS_STEPS der Datei, jedoch nicht unter MIN_PROGRESS_BYTES gesendet
+	private static final long MIN_PROGRESS_BYTES = 64 * 1024;
+	private static final int PROGRESS_STEPS = 200;
+	// Mindestgroesse eines parallel gelesenen Abschnitts
+	private static final long PARALLEL_CHUNK_SIZE = 8 * 1024 * 1024;
+	private volatile boolean interrupt = false;
+	private boolean memoryMapped = false;
+	private long totalBytes = 0L, readedBytes = 0L, firedBytes = 0L, progressBytes = MIN_PROGRESS_BYTES;
+	private ParallelTaskExecutor executor = null;
 	private List<EventListener> listenerList = new ArrayList<EventListener>();
 	
 	LockFileReader() {}
@@ -67,6 +93,58 @@ public abstract class LockFileReader {
 
 	public abstract void parse(String line) throws SQLException; 
 
+	/**
+	 * Wird beim Lesen ueber eine gemappte Datei fuer jede Zeile aufgerufen. Leser, die
+	 * die Spalten direkt aus den Bytes lesen, ueberschreiben diese Methode; per Default 
+	 * wird die Zeile dekodiert und an parse(String) uebergeben.
+	 * 
+	 * @param line
+	 * @throws SQLException
+	 */
+	public void parse(ByteLine line) throws SQLException {
+		this.parse(line.toString());
+	}
+
+	/**
+	 * Liefert einen neuen, leeren Abschnitt, wenn der Leser das abschnittsweise (parallele) Lesen einer
+	 * gemappten Datei unterstuetzt. Per Default wird <code>null</code> geliefert und jede Zeile an parse() uebergeben.
+	 * 
+	 * @return chunk
+	 */
+	protected LineChunk createLineChunk() {
+		return null;
+	}
+
+	/**
+	 * Uebernimmt die Ergebnisse eines Abschnitts; wird in der Reihenfolge der Datei im lesenden Thread aufgerufen
+	 * 
+	 * @param chunk
+	 * @throws SQLException
+	 */
+	protected void mergeLineChunk(LineChunk chunk) throws SQLException {}
+
+	/**
+	 * Liefert die Anzahl der Threads, mit denen eine gemappte Datei abschnittsweise gelesen wird;
+	 * wird vor jedem Lesen abgefragt. Per Default wird sequentiell gelesen.
+	 * 
+	 * @return Anzahl der Threads
+	 */
+	protected int getNumberOfThreads() {
+		return 1;
+	}
+
+	/**
+	 * Legt fest, ob die Datei gemappt (FileChannel.map) und ohne zeilenweise Kopie gelesen wird
+	 * @param memoryMapped
+	 */
+	public void setMemoryMapped(boolean memoryMapped) {
+		this.memoryMapped = memoryMapped;
+	}
+
+	public boolean isMemoryMapped() {
+		return this.memoryMapped;
+	}
+
 	public void ignoreLinesWhichStartWith(String str) {
 		this.ignoreStartString = str;
 	}
@@ -79,6 +157,11 @@ public abstract class LockFileReader {
 			return;
 		
 		this.interrupt = false;
+		if (this.memoryMapped) {
+			this.readMemoryMapped();
+			return;
+		}
+
 		BufferedReader reader = null;
 		boolean isFirstLine = true;
 		try{
@@ -88,7 +171,8 @@ public abstract class LockFileReader {
 			inputStream.getChannel().lock(0, Long.MAX_VALUE, true);
 			reader = new BufferedReader(new InputStreamReader(inputStream, Charset.forName("UTF-8")), 1024*64);
 
-			long readedBytes = 0L;
+			long readedBytes = 0L, firedBytes = 0L;
+			long progressBytes = getProgressBytes(totalBytes);
 			String currentLine = null;
 			while (!this.interrupt && (currentLine = removeNonBMPCharacters(reader.readLine())) != null) {
 				readedBytes += currentLine.length();
@@ -101,7 +185,10 @@ public abstract class LockFileReader {
 				if (!currentLine.isBlank() && (this.ignoreStartString.isEmpty() || !currentLine.startsWith( this.ignoreStartString )))
 					this.parse(currentLine);
 
-				this.fireFileProgressChanged(sourceFile, FileProgressEventType.READ_LINE, readedBytes, totalBytes);
+				if (readedBytes - firedBytes >= progressBytes) {
+					this.fireFileProgressChanged(sourceFile, FileProgressEventType.READ_LINE, readedBytes, totalBytes);
+					firedBytes = readedBytes;
+				}
 			}
 			this.fireFileProgressChanged(sourceFile, FileProgressEventType.READ_LINE, totalBytes, totalBytes);
 		}
@@ -118,13 +205,187 @@ public abstract class LockFileReader {
 		}
 	}
 	
-	private String removeNonBMPCharacters(final String str) {
+	private void readMemoryMapped() throws IOException, SQLException {
+		File sourceFile = this.sourceFilePath.toFile();
+		long totalBytes = Files.size(this.sourceFilePath);
+		this.resetProgress(totalBytes);
+
+		try (FileChannel channel = FileChannel.open(this.sourceFilePath, StandardOpenOption.READ)) {
+			channel.lock(0, Long.MAX_VALUE, true);
+
+			LineChunk chunk = this.createLineChunk();
+			if (chunk != null && totalBytes > PARALLEL_CHUNK_SIZE && this.getNumberOfThreads() > 1)
+				this.readMemoryMappedParallel(sourceFile, channel, totalBytes);
+			else {
+				this.readMemoryMapped(sourceFile, channel, 0L, totalBytes, chunk);
+				if (chunk != null && !this.interrupt)
+					this.mergeLineChunk(chunk);
+			}
+			this.fireFileProgressChanged(sourceFile, FileProgressEventType.READ_LINE, totalBytes, totalBytes);
+		}
+	}
+
+	private void readMemoryMappedParallel(File sourceFile, FileChannel channel, long totalBytes) throws IOException, SQLException {
+		// Abschnittsgrenzen liegen jeweils hinter einem Zeilenende, sodass keine Zeile geteilt wird
+		List<Long> boundaries = new ArrayList<Long>();
+		boundaries.add(0L);
+		for (long position = PARALLEL_CHUNK_SIZE; position < totalBytes; position += PARALLEL_CHUNK_SIZE) {
+			long boundary = getNextLineStart(channel, Math.max(position, boundaries.get(boundaries.size() - 1)), totalBytes);
+			if (boundary > boundaries.get(boundaries.size() - 1) && boundary < totalBytes)
+				boundaries.add(boundary);
+		}
+		boundaries.add(totalBytes);
+
+		final int numberOfChunks = boundaries.size() - 1;
+		final LineChunk chunks[] = new LineChunk[numberOfChunks];
+		for (int i = 0; i < numberOfChunks; i++)
+			chunks[i] = this.createLineChunk();
+
+		try {
+			this.getExecutor().execute(numberOfChunks, (fromIndex, toIndex) -> {
+				for (int i = fromIndex; i < toIndex && !this.interrupt; i++) {
+					try {
+						this.readMemoryMapped(sourceFile, channel, boundaries.get(i), boundaries.get(i + 1), chunks[i]);
+					}
+					catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+					catch (SQLException e) {
+						// nur bei chunk == null moeglich
+						throw new IllegalStateException(e);
+					}
+				}
+				return !this.interrupt;
+			});
+		}
+		catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		// Uebernahme in der Reihenfolge der Datei
+		for (int i = 0; i < numberOfChunks && !this.interrupt; i++) {
+			this.mergeLineChunk(chunks[i]);
+			chunks[i] = null;
+		}
+	}
+
+	private void readMemoryMapped(File sourceFile, FileChannel channel, long from, long to, LineChunk chunk) throws IOException, SQLException {
+		byte ignoreBytes[] = this.ignoreStartString.getBytes(StandardCharsets.UTF_8);
+		ByteLine line = new ByteLine();
+
+		long position = from, reportedBytes = from;
+		int windowSize = MAPPED_WINDOW_SIZE;
+		while (!this.interrupt && position < to) {
+			int limit = (int)Math.min(windowSize, to - position);
+			boolean isLastWindow = position + limit == to;
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, limit);
+
+			int offset = position == 0 ? getBOMLength(buffer, limit) : 0;
+			int lineStart = offset;
+			while (!this.interrupt && lineStart < limit) {
+				int lineEnd = lineStart;
+				while (lineEnd < limit && buffer.get(lineEnd) != '\n' && buffer.get(lineEnd) != '\r')
+					lineEnd++;
+
+				// Zeile endet erst im naechsten Fenster
+				if (lineEnd == limit && !isLastWindow)
+					break;
+
+				line.set(buffer, lineStart, lineEnd);
+				if (!line.isBlank() && (ignoreBytes.length == 0 || !line.startsWith(ignoreBytes))) {
+					if (chunk != null)
+						chunk.parse(line);
+					else
+						this.parse(line);
+				}
+
+				lineStart = Math.min(lineEnd + 1, limit);
+
+				long readedBytes = position + lineStart;
+				if (readedBytes - reportedBytes >= MIN_PROGRESS_BYTES) {
+					this.updateProgress(sourceFile, readedBytes - reportedBytes);
+					reportedBytes = readedBytes;
+				}
+			}
+
+			if (lineStart == offset && !isLastWindow && !this.interrupt) {
+				// Zeile ist laenger als das Fenster
+				if (windowSize == Integer.MAX_VALUE)
+					throw new IOException("Error, line exceeds maximum mappable size of " + Integer.MAX_VALUE + " bytes in file " + sourceFile + "!");
+				windowSize = (int)Math.min(Integer.MAX_VALUE, 2L * windowSize);
+				continue;
+			}
+			position += lineStart;
+		}
+		this.updateProgress(sourceFile, position - reportedBytes);
+	}
+
+	private static long getNextLineStart(FileChannel channel, long position, long totalBytes) throws IOException {
+		while (position < totalBytes) {
+			int limit = (int)Math.min(MIN_PROGRESS_BYTES, totalBytes - position);
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, limit);
+			for (int i = 0; i < limit; i++) {
+				if (buffer.get(i) == '\n' || buffer.get(i) == '\r')
+					return position + i + 1;
+			}
+			position += limit;
+		}
+		return totalBytes;
+	}
+
+	private static int getBOMLength(MappedByteBuffer buffer, int limit) {
+		if (limit < UTF8_BOM_BYTES.length)
+			return 0;
+		for (int i = 0; i < UTF8_BOM_BYTES.length; i++) {
+			if (buffer.get(i) != UTF8_BOM_BYTES[i])
+				return 0;
+		}
+		return UTF8_BOM_BYTES.length;
+	}
+
+	private synchronized void resetProgress(long totalBytes) {
+		this.totalBytes    = totalBytes;
+		this.readedBytes   = 0L;
+		this.firedBytes    = 0L;
+		this.progressBytes = getProgressBytes(totalBytes);
+	}
+
+	// wird im parallelen Modus von mehreren Threads aufgerufen; die Ereignisse werden daher synchronisiert und mit steigendem Fortschritt gesendet
+	private synchronized void updateProgress(File sourceFile, long bytes) {
+		this.readedBytes += bytes;
+		if (this.readedBytes - this.firedBytes >= this.progressBytes) {
+			this.fireFileProgressChanged(sourceFile, FileProgressEventType.READ_LINE, this.readedBytes, this.totalBytes);
+			this.firedBytes = this.readedBytes;
+		}
+	}
+
+	private ParallelTaskExecutor getExecutor() {
+		if (this.executor == null)
+			this.executor = new ParallelTaskExecutor(this.getNumberOfThreads());
+		else
+			this.executor.setNumberOfThreads(this.getNumberOfThreads());
+		return this.executor;
+	}
+
+	private static long getProgressBytes(long totalBytes) {
+		return Math.max(MIN_PROGRESS_BYTES, totalBytes / PROGRESS_STEPS);
+	}
+
+	static String removeNonBMPCharacters(final String str) {
 		if (str == null || str.isBlank())
 			return str;
 		
-		final int len = str.length();		
+		final int len = str.length();
+		// Zeile unveraendert zurueckgeben, wenn keine zu entfernenden Zeichen enthalten sind
+		int firstOffset = 0;
+		while (firstOffset < len && !Character.isIdentifierIgnorable(str.codePointAt(firstOffset)))
+			firstOffset += Character.charCount(str.codePointAt(firstOffset));
+		if (firstOffset == len)
+			return str;
+
 		StringBuilder stringBuilder = new StringBuilder(len);
-		for (int offset = 0; offset < len;) {
+		stringBuilder.append(str, 0, firstOffset);
+		for (int offset = firstOffset; offset < len;) {
 		    int codePoint = str.codePointAt(offset);
 		    offset += Character.charCount(codePoint);
 		    if (!Character.isIdentifierIgnorable(codePoint))
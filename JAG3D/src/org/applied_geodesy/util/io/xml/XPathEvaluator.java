@@ -0,0 +1,283 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.util.io.xml;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Wertet XPath-Ausdruecke fuer ein Dokument aus. Jeder Ausdruck wird nur einmal kompiliert und
+ * anschliessend wiederverwendet. Variable Anteile (bspw. IDs) sind nicht in den Ausdruck
+ * einzusetzen, sondern als Variable (<code>$name</code>) zu referenzieren und ueber
+ * setVariable() zu setzen; sie werden erst bei der Auswertung aufgeloest.
+ *
+ * Einfache relative Pfade (bspw. <code>../Name</code> oder <code>./ns:Feature[@code="x"]/@value</code>)
+ * werden direkt im DOM aufgeloest, da die XPath-Implementierung des JDK bei jeder Auswertung
+ * das gesamte Dokument abbildet und die Laufzeit so mit der Dokumentgroesse waechst.
+ *
+ * Die Klasse ist nicht thread-sicher.
+ */
+public class XPathEvaluator {
+	private final XPath xpath;
+	private final NamespaceContext namespaceContext;
+	private final Map<String, XPathExpression> expressions = new HashMap<String, XPathExpression>();
+	private final Map<String, LocationPath> locationPaths = new HashMap<String, LocationPath>();
+	private final Map<QName, Object> variables = new HashMap<QName, Object>();
+
+	public XPathEvaluator(NamespaceContext namespaceContext) {
+		this.namespaceContext = namespaceContext;
+		this.xpath = XPathFactory.newInstance().newXPath();
+		if (namespaceContext != null)
+			this.xpath.setNamespaceContext(namespaceContext);
+		this.xpath.setXPathVariableResolver(variableName -> this.variables.get(variableName));
+	}
+
+	public void setVariable(String name, Object value) {
+		this.variables.put(new QName(name), value);
+	}
+
+	/**
+	 * Wertet den Ausdruck <code>xpathPattern</code> bzgl. <code>node</code> aus
+	 *
+	 * @param node
+	 * @param xpathPattern
+	 * @param type Rueckgabetyp nach XPathConstants, per Default NODESET
+	 * @return result oder null, wenn der Ausdruck fehlerhaft ist
+	 */
+	public Object evaluate(Node node, String xpathPattern, QName type) {
+		if (type == null)
+			type = XPathConstants.NODESET;
+
+		if (node != null && node.getNodeType() != Node.DOCUMENT_NODE) {
+			LocationPath locationPath = this.locationPaths.get(xpathPattern);
+			if (locationPath == null && !this.locationPaths.containsKey(xpathPattern)) {
+				locationPath = LocationPath.compile(xpathPattern, this.namespaceContext);
+				this.locationPaths.put(xpathPattern, locationPath);
+			}
+			if (locationPath != null)
+				return locationPath.evaluate(node, type);
+		}
+
+		try {
+			XPathExpression expression = this.expressions.get(xpathPattern);
+			if (expression == null) {
+				expression = this.xpath.compile(xpathPattern);
+				this.expressions.put(xpathPattern, expression);
+			}
+			return expression.evaluate(node, type);
+		} catch (XPathExpressionException e) {
+			e.printStackTrace();
+		}
+		return null;
+	}
+
+	/**
+	 * Relativer Pfad aus Kind-, Eltern- und abschliessendem Attributschritt, dessen Elementschritte
+	 * ueber Attributvergleiche der Form <code>[@name="value"]</code> eingeschraenkt sein duerfen.
+	 * Alle Knoten eines Zwischenergebnisses liegen in derselben Tiefe, sodass die Dokumentreihenfolge
+	 * beim schrittweisen Aufloesen erhalten bleibt.
+	 */
+	private static class LocationPath {
+		private final static String NAME = "[A-Za-z_][\\w.\\-]*";
+		private final static Pattern STEP_PATTERN = Pattern.compile("\\G(?:(\\.\\.|\\.)|(@)?(?:(" + NAME + "):)?(" + NAME + ")((?:\\[@" + NAME + "=(?:\"[^\"]*\"|'[^']*')\\])*))(/|\\z)");
+		private final static Pattern PREDICATE_PATTERN = Pattern.compile("\\[@(" + NAME + ")=(?:\"([^\"]*)\"|'([^']*)')\\]");
+		private final static Pattern NUMBER_PATTERN = Pattern.compile("-?(?:\\d+(?:\\.\\d*)?|\\.\\d+)");
+
+		private final List<Step> steps;
+
+		private LocationPath(List<Step> steps) {
+			this.steps = steps;
+		}
+
+		/**
+		 * Zerlegt den Ausdruck in einzelne Schritte
+		 * @param xpathPattern
+		 * @param namespaceContext
+		 * @return path oder null, wenn der Ausdruck nicht direkt aufgeloest werden kann
+		 */
+		static LocationPath compile(String xpathPattern, NamespaceContext namespaceContext) {
+			if (xpathPattern == null || xpathPattern.isEmpty() || xpathPattern.startsWith("/"))
+				return null;
+
+			List<Step> steps = new ArrayList<Step>();
+			Matcher matcher = STEP_PATTERN.matcher(xpathPattern);
+			int position = 0;
+			while (position < xpathPattern.length()) {
+				if (!matcher.find(position) || !steps.isEmpty() && steps.get(steps.size() - 1).attribute)
+					return null;
+
+				Step step = new Step();
+				if (matcher.group(1) != null) {
+					step.parent = matcher.group(1).equals("..");
+					step.self   = !step.parent;
+				}
+				else {
+					step.attribute = matcher.group(2) != null;
+					step.localName = matcher.group(4);
+					String prefix  = matcher.group(3);
+					if (prefix != null) {
+						if (step.attribute || namespaceContext == null)
+							return null;
+						step.namespaceURI = namespaceContext.getNamespaceURI(prefix);
+						if (step.namespaceURI == null || step.namespaceURI.isEmpty())
+							return null;
+					}
+					Matcher predicate = PREDICATE_PATTERN.matcher(matcher.group(5));
+					while (predicate.find()) {
+						step.predicateNames.add(predicate.group(1));
+						step.predicateValues.add(predicate.group(2) != null ? predicate.group(2) : predicate.group(3));
+					}
+					if (step.attribute && !step.predicateNames.isEmpty())
+						return null;
+				}
+				steps.add(step);
+				position = matcher.end();
+				if (matcher.group(6).isEmpty())
+					break;
+				else if (position == xpathPattern.length())
+					return null;
+			}
+			return steps.isEmpty() ? null : new LocationPath(steps);
+		}
+
+		Object evaluate(Node node, QName type) {
+			List<Node> nodes = new ArrayList<Node>(1);
+			nodes.add(node);
+
+			for (Step step : this.steps) {
+				List<Node> result = new ArrayList<Node>();
+				for (Node contextNode : nodes) {
+					if (step.self)
+						result.add(contextNode);
+					else if (step.parent) {
+						Node parent = contextNode.getNodeType() == Node.ATTRIBUTE_NODE ? ((Attr)contextNode).getOwnerElement() : contextNode.getParentNode();
+						if (parent != null && (result.isEmpty() || result.get(result.size() - 1) != parent))
+							result.add(parent);
+					}
+					else if (step.attribute) {
+						Node attribute = getAttribute(contextNode, step.localName);
+						if (attribute != null)
+							result.add(attribute);
+					}
+					else {
+						for (Node child = contextNode.getFirstChild(); child != null; child = child.getNextSibling()) {
+							if (step.matches(child))
+								result.add(child);
+						}
+					}
+				}
+				nodes = result;
+				if (nodes.isEmpty())
+					break;
+			}
+
+			if (XPathConstants.NODESET.equals(type))
+				return new NodeListImpl(nodes);
+			else if (XPathConstants.NODE.equals(type))
+				return nodes.isEmpty() ? null : nodes.get(0);
+			else if (XPathConstants.BOOLEAN.equals(type))
+				return !nodes.isEmpty();
+
+			String value = nodes.isEmpty() ? "" : getStringValue(nodes.get(0));
+			if (XPathConstants.NUMBER.equals(type)) {
+				value = value.trim();
+				return NUMBER_PATTERN.matcher(value).matches() ? Double.valueOf(value) : Double.NaN;
+			}
+			return value;
+		}
+
+		private static String getStringValue(Node node) {
+			String value = node.getNodeType() == Node.ATTRIBUTE_NODE ? node.getNodeValue() : node.getTextContent();
+			return value == null ? "" : value;
+		}
+
+		private static Node getAttribute(Node node, String name) {
+			if (node.getNodeType() != Node.ELEMENT_NODE || node.getAttributes() == null)
+				return null;
+			Node attribute = node.getAttributes().getNamedItemNS(null, name);
+			if (attribute == null && node.getLocalName() == null) // Dokument ohne Namensraeume
+				attribute = node.getAttributes().getNamedItem(name);
+			return attribute;
+		}
+
+		private static String getLocalName(Node node) {
+			return node.getLocalName() != null ? node.getLocalName() : node.getNodeName();
+		}
+
+		private static class Step {
+			private boolean self = false, parent = false, attribute = false;
+			private String namespaceURI = null, localName = null;
+			private final List<String> predicateNames  = new ArrayList<String>(1);
+			private final List<String> predicateValues = new ArrayList<String>(1);
+
+			private boolean matches(Node node) {
+				if (node.getNodeType() != Node.ELEMENT_NODE || !this.localName.equals(getLocalName(node)))
+					return false;
+
+				String namespaceURI = node.getNamespaceURI();
+				if (this.namespaceURI == null ? namespaceURI != null && !namespaceURI.isEmpty() : !this.namespaceURI.equals(namespaceURI))
+					return false;
+
+				for (int i = 0; i < this.predicateNames.size(); i++) {
+					Node attribute = getAttribute(node, this.predicateNames.get(i));
+					if (attribute == null || !this.predicateValues.get(i).equals(attribute.getNodeValue()))
+						return false;
+				}
+				return true;
+			}
+		}
+	}
+
+	private static class NodeListImpl implements NodeList {
+		private final List<Node> nodes;
+
+		private NodeListImpl(List<Node> nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		public Node item(int index) {
+			return index >= 0 && index < this.nodes.size() ? this.nodes.get(index) : null;
+		}
+
+		@Override
+		public int getLength() {
+			return this.nodes.size();
+		}
+	}
+}
@@ -29,16 +29,66 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.hsqldb.cmdline.SqlFile;
 import org.hsqldb.cmdline.SqlToolError;
 
 public abstract class DataBase {
+	/**
+	 * Schluessel eines vorbereiteten Statements im Cache. Statements werden je Thread vorgehalten, 
+	 * sodass sich nebenlaeufige Aufrufe nicht gegenseitig die Parameter ueberschreiben.
+	 */
+	private static class StatementKey {
+		private final Thread thread;
+		private final long threadId;
+		private final String sql;
+		private final String generatedKeyColumns;
+		
+		private StatementKey(String sql, String generatedKeyColumns[]) {
+			this.thread = Thread.currentThread();
+			this.threadId = this.thread.threadId();
+			this.sql = sql;
+			this.generatedKeyColumns = generatedKeyColumns == null ? null : String.join(",", generatedKeyColumns);
+		}
+		
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.threadId, this.sql, this.generatedKeyColumns);
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof StatementKey))
+				return false;
+			StatementKey other = (StatementKey)obj;
+			return this.threadId == other.threadId && this.sql.equals(other.sql) && Objects.equals(this.generatedKeyColumns, other.generatedKeyColumns);
+		}
+		
+		/**
+		 * Statements anderer Threads koennen noch ein offenes ResultSet besitzen und duerfen daher nur 
+		 * geschlossen werden, wenn der Thread beendet ist.
+		 * @return evictable
+		 */
+		private boolean isEvictable() {
+			return this.thread == Thread.currentThread() || !this.thread.isAlive();
+		}
+	}
+	
+	public final static int DEFAULT_STATEMENT_CACHE_SIZE = 250;
 	private final String dbDriver, username, password;
 	private Connection conn = null;
 	private boolean isOpen = false;
+	private int statementCacheSize = DEFAULT_STATEMENT_CACHE_SIZE;
+	private long statementCacheHits = 0, statementCacheMisses = 0, statementCacheEvictions = 0;
+	// LRU-Cache der vorbereiteten Statements (access-order); die am laengsten nicht genutzten Statements werden geschlossen
+	private final Map<StatementKey, PreparedStatement> statementCache = new LinkedHashMap<StatementKey, PreparedStatement>(16, 0.75f, true);
 
 	public DataBase(String dbDriver, String username, String password) {
 		this.dbDriver = dbDriver;
@@ -70,6 +120,7 @@ public abstract class DataBase {
 	}
 
 	public void close() {
+		this.clearStatementCache();
 		if (this.conn == null)
 			return;
 		try {
@@ -88,11 +139,127 @@ public abstract class DataBase {
 	
 	public abstract int getLastInsertId() throws SQLException;
 
+	/**
+	 * Liefert ein vorbereitetes Statement. Bereits vorbereitete Statements werden aus dem Cache 
+	 * entnommen, sodass die SQL-Anweisung nicht erneut uebersetzt werden muss. Gebundene Parameter 
+	 * und Batches werden hierbei zurueckgesetzt. Ein zuvor vom Statement erzeugtes ResultSet wird 
+	 * beim erneuten Ausfuehren geschlossen; der Aufrufer darf das Statement daher nicht schliessen 
+	 * und nicht verschachtelt mit derselben Anweisung verwenden.
+	 * 
+	 * @param sql
+	 * @return stmt
+	 * @throws SQLException
+	 */
 	public PreparedStatement getPreparedStatement(String sql) throws SQLException {
-		if (this.isOpen()) {
+		return this.getPreparedStatement(sql, null);
+	}
+	
+	public PreparedStatement getPreparedStatement(String sql, String generatedKeyColumns[]) throws SQLException {
+		if (!this.isOpen())
+			return null;
+
+		if (this.statementCacheSize <= 0)
+			return this.prepareStatement(sql, generatedKeyColumns);
+		
+		StatementKey key = new StatementKey(sql, generatedKeyColumns);
+		synchronized (this.statementCache) {
+			PreparedStatement stmt = this.statementCache.get(key);
+			if (stmt != null && !stmt.isClosed()) {
+				stmt.clearParameters();
+				stmt.clearBatch();
+				this.statementCacheHits++;
+				return stmt;
+			}
+			
+			stmt = this.prepareStatement(sql, generatedKeyColumns);
+			this.statementCache.put(key, stmt);
+			this.statementCacheMisses++;
+			this.evictStatements(key);
+			return stmt;
+		}
+	}
+	
+	private PreparedStatement prepareStatement(String sql, String generatedKeyColumns[]) throws SQLException {
+		if (generatedKeyColumns == null)
 			return this.conn.prepareStatement(sql);
+		return this.conn.prepareStatement(sql, generatedKeyColumns);
+	}
+	
+	/**
+	 * Legt die max. Anzahl an vorgehaltenen Statements fest. Ein Wert kleiner gleich Null deaktiviert den Cache.
+	 * @param statementCacheSize
+	 */
+	public void setStatementCacheSize(int statementCacheSize) {
+		synchronized (this.statementCache) {
+			this.statementCacheSize = statementCacheSize;
+			if (this.statementCacheSize <= 0)
+				this.clearStatementCache();
+			else
+				this.evictStatements(null);
+		}
+	}
+	
+	/**
+	 * Schliesst die am laengsten nicht genutzten Statements, bis die max. Anzahl eingehalten wird. Statements 
+	 * anderer, noch laufender Threads werden nicht geschlossen, sodass deren ResultSets gueltig bleiben; der Cache
+	 * kann die max. Anzahl somit voruebergehend ueberschreiten. Der Aufrufer haelt die Sperre des Caches.
+	 * @param retainedKey Schluessel des soeben gelieferten Statements, das nicht geschlossen werden darf, oder null
+	 */
+	private void evictStatements(StatementKey retainedKey) {
+		Iterator<Map.Entry<StatementKey, PreparedStatement>> iterator = this.statementCache.entrySet().iterator();
+		while (this.statementCache.size() > this.statementCacheSize && iterator.hasNext()) {
+			Map.Entry<StatementKey, PreparedStatement> eldest = iterator.next();
+			if (eldest.getKey().equals(retainedKey) || !eldest.getKey().isEvictable())
+				continue;
+			iterator.remove();
+			closeStatement(eldest.getValue());
+			this.statementCacheEvictions++;
+		}
+	}
+	
+	public int getStatementCacheSize() {
+		synchronized (this.statementCache) {
+			return this.statementCacheSize;
+		}
+	}
+	
+	public long getStatementCacheHits() {
+		synchronized (this.statementCache) {
+			return this.statementCacheHits;
+		}
+	}
+	
+	public long getStatementCacheMisses() {
+		synchronized (this.statementCache) {
+			return this.statementCacheMisses;
+		}
+	}
+	
+	public long getStatementCacheEvictions() {
+		synchronized (this.statementCache) {
+			return this.statementCacheEvictions;
+		}
+	}
+	
+	/**
+	 * Schliesst alle vorgehaltenen Statements
+	 */
+	public void clearStatementCache() {
+		synchronized (this.statementCache) {
+			for (PreparedStatement stmt : this.statementCache.values())
+				closeStatement(stmt);
+			this.statementCache.clear();
+		}
+	}
+	
+	private static void closeStatement(PreparedStatement stmt) {
+		try {
+			if (stmt != null && !stmt.isClosed())
+				stmt.close();
+		}
+		catch (SQLException e) {
+			e.printStackTrace();
 		}
-		return null;
 	}
 	
 	public Statement getStatement() throws SQLException {
@@ -156,6 +323,8 @@ public abstract class DataBase {
 	            sqlFile.addUserVars(sqlVarMap);
 	            sqlFile.execute();
 	            
+	            if (this.conn != sqlFile.getConnection())
+	            	this.clearStatementCache();
 	            this.conn = sqlFile.getConnection();
 	            sqlVarMap = sqlFile.getUserVars();
 			}
@@ -27,9 +27,9 @@ import org.applied_geodesy.version.VersionType;
 
 public class Version {
 	private final static Map<VersionType, Integer> versions = Map.of(
-			VersionType.ADJUSTMENT_CORE,   20260428,
-			VersionType.DATABASE,          20260428,
-			VersionType.USER_INTERFACE,    20260428
+			VersionType.ADJUSTMENT_CORE,   20261017,
+			VersionType.DATABASE,          20261017,
+			VersionType.USER_INTERFACE,    20261017
 	);
 	
 	private Version() {}